@@ -13,10 +13,11 @@ package org.kitodo.api.dataformat;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.kitodo.api.Metadata;
@@ -32,9 +33,12 @@ import org.kitodo.api.Metadata;
  */
 public abstract class Division<T extends Division<T>> {
     /**
-     * The children of this division, which form the structure tree.
+     * The children of this division, which form the structure tree. An array
+     * list of capacity zero does not allocate an array until the first child
+     * is added, so the many divisions without children, such as pages, stay
+     * small.
      */
-    private List<T> children = new LinkedList<>();
+    private List<T> children = new ArrayList<>(0);
 
     private List<URI> contentIds = new ArrayList<>(0);
 
@@ -44,9 +48,10 @@ public abstract class Division<T extends Division<T>> {
     private String label;
 
     /**
-     * The metadata for this division.
+     * The metadata for this division. Created when it is first accessed,
+     * because most pages do not have any metadata.
      */
-    private HashSet<Metadata> metadata = new HashSet<>();
+    private HashSet<Metadata> metadata;
 
     /**
      * Sequence number. The sequence number must be unique across all divisions.
@@ -104,7 +109,7 @@ public abstract class Division<T extends Division<T>> {
     protected Division(Division<T> source) {
         children = source.children;
         label = source.label;
-        metadata = source.metadata;
+        metadata = source.getMetadata();
         order = source.order;
         orderlabel = source.orderlabel;
         type = source.type;
@@ -165,9 +170,23 @@ public abstract class Division<T extends Division<T>> {
      * @return the metadata
      */
     public HashSet<Metadata> getMetadata() {
+        if (Objects.isNull(metadata)) {
+            metadata = new HashSet<>();
+        }
         return metadata;
     }
 
+    /**
+     * Returns whether this division has metadata. Unlike
+     * {@link #getMetadata()}, this does not create the metadata set of a
+     * division without metadata.
+     *
+     * @return whether there is metadata
+     */
+    public boolean hasMetadata() {
+        return Objects.nonNull(metadata) && !metadata.isEmpty();
+    }
+
     /**
      * Get order.
      *
@@ -222,7 +241,7 @@ public abstract class Division<T extends Division<T>> {
      *            type to set
      */
     public void setType(String type) {
-        this.type = type;
+        this.type = Objects.isNull(type) ? null : type.intern();
     }
 
     @Override
@@ -238,11 +257,15 @@ public abstract class Division<T extends Division<T>> {
         }
         Division<?> other = (Division<?>) compared;
         return Objects.equals(children, other.children) && Objects.equals(label, other.label)
-                && Objects.equals(metadata, other.metadata)
+                && Objects.equals(metadataOrEmpty(), other.metadataOrEmpty())
                 && order == other.order && Objects.equals(orderlabel, other.orderlabel)
                 && Objects.equals(type, other.type);
     }
 
+    private Set<Metadata> metadataOrEmpty() {
+        return Objects.isNull(metadata) ? Collections.emptySet() : metadata;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -53,7 +53,7 @@ public class MediaVariant {
      *            MIME type to set
      */
     public void setMimeType(String mimeType) {
-        this.mimeType = mimeType;
+        this.mimeType = Objects.isNull(mimeType) ? null : mimeType.intern();
     }
 
     /**
@@ -72,7 +72,7 @@ public class MediaVariant {
      *            use type to set
      */
     public void setUse(String use) {
-        this.use = use;
+        this.use = Objects.isNull(use) ? null : use.intern();
     }
 
     @Override
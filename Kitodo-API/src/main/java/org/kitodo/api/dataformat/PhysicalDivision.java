@@ -12,9 +12,9 @@
 package org.kitodo.api.dataformat;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -69,7 +69,7 @@ public class PhysicalDivision extends Division<PhysicalDivision> {
      * Creates a new PhysicalDivision.
      */
     public PhysicalDivision() {
-        logicalDivisions = new LinkedList<>();
+        logicalDivisions = new ArrayList<>(0);
     }
 
 
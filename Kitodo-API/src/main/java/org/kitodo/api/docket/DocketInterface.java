@@ -13,8 +13,10 @@ package org.kitodo.api.docket;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.Collection;
+import java.util.List;
 
 public interface DocketInterface {
 
@@ -40,6 +42,24 @@ public interface DocketInterface {
      */
     File generateMultipleDockets(Collection<DocketData> docketData, URI xslFileUri) throws IOException;
 
+    /**
+     * Generates multiple dockets and writes them to an output stream. The XML
+     * log of each process is created only when the transformation reads it,
+     * and the rendered PDF is written to the stream instead of a byte array.
+     * The XSLT processor still builds its input tree of all processes in
+     * memory, because the docket stylesheets are not written for streaming.
+     *
+     * @param docketData
+     *            - a List data shown in the dockets
+     * @param xslFileUri
+     *            - the uri to the schema xsl file
+     * @param outputStream
+     *            - the stream to write the dockets to. The stream is not
+     *            closed.
+     */
+    void generateMultipleDockets(Collection<DocketData> docketData, URI xslFileUri, OutputStream outputStream)
+            throws IOException;
+
     /**
      * Save XML log, which is used as input for docket XSLT transformation.
      *
@@ -47,4 +67,18 @@ public interface DocketInterface {
      * @param destination where to save the file
      */
     void exportXmlLog(DocketData docketData, String destination) throws IOException;
+
+    /**
+     * Prepares the given docket stylesheets for later dockets, for example by
+     * compiling them in advance, so that the first docket with them is not
+     * slowed down. Does nothing by default.
+     *
+     * @param xsltFiles
+     *            list of docket stylesheets
+     * @throws IOException
+     *             if a stylesheet cannot be prepared
+     */
+    default void prepareXsltFiles(List<File> xsltFiles) throws IOException {
+        // nothing to prepare by default
+    }
 }
@@ -31,6 +31,18 @@ public interface SchemaConverterInterface {
     DataRecord convert(DataRecord record, MetadataFormat targetMetadataFormat, FileFormat targetFileFormat,
                        List<File> mappingFiles) throws IOException, URISyntaxException;
 
+    /**
+     * Prepares the given mapping files for later conversions, for example by
+     * compiling them in advance, so that the first conversion with them is not
+     * slowed down. Does nothing by default.
+     *
+     * @param mappingFiles list of mapping files
+     * @throws IOException if a mapping file cannot be prepared
+     */
+    default void prepareMappingFiles(List<File> mappingFiles) throws IOException {
+        // nothing to prepare by default
+    }
+
     /**
      * Check and return whether the current SchemaConverter supports the given FileFormat as a target format or not.
      *
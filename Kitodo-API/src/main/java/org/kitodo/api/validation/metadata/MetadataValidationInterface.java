@@ -12,6 +12,7 @@
 package org.kitodo.api.validation.metadata;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale.LanguageRange;
 import java.util.Map;
@@ -48,6 +49,27 @@ public interface MetadataValidationInterface extends ValidationInterface {
     ValidationResult validate(URI metsFileUri, URI rulesetFileUri, List<LanguageRange> metadataLanguage,
             Map<String, String> translations);
 
+    /**
+     * Validates if several mets files are confirm to a rulesetFile. The
+     * ruleset file is loaded once for all mets files.
+     *
+     * @param metsFileUris
+     *            The uris to the mets files which should be validated.
+     * @param rulesetFileUri
+     *            The uri to the ruleset file to validate against.
+     * @param metadataLanguage
+     *            The list of languages preferred by the requesting user to
+     *            display the metadata labels
+     * @param translations
+     *            A map containing the validation error messages translated into
+     *            the requesting user’s language. The map must contain the same
+     *            entries as for the validation of a single mets file.
+     * @return A validation result for each mets file, in the order of the
+     *         given uris.
+     */
+    Map<URI, ValidationResult> validate(Collection<URI> metsFileUris, URI rulesetFileUri,
+            List<LanguageRange> metadataLanguage, Map<String, String> translations);
+
     /**
      * Validates if a workpiece is confirm to a ruleset.
      *
@@ -18,7 +18,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.stream.StreamSource;
 
 /**
  * Cache for JAXBContexts. Class contains cache map of already created
@@ -86,12 +86,29 @@ public class JAXBContextCache {
             }
         }
 
-        final Unmarshaller unmarshaller = getInstance().getJAXBContext(clazz).createUnmarshaller();
-        T unmarshalledFile = (T) unmarshaller.unmarshal(file);
+        T unmarshalledFile = JAXBMarshallerPool.unmarshal(clazz, new StreamSource(file));
         contextDescriptorObjectCache.put(contextDescriptor, unmarshalledFile);
         return unmarshalledFile;
     }
 
+    /**
+     * Returns whether an object unmarshalled from the current version of a
+     * file is cached, regardless of its class.
+     *
+     * @param file
+     *            the file
+     * @return whether the file does not need to be unmarshalled again
+     */
+    public static boolean isUnmarshalled(File file) {
+        for (ContextDescriptor contextDescriptor : contextDescriptorObjectCache.keySet()) {
+            if (contextDescriptor.fileName.equals(file.getName())
+                    && contextDescriptor.fileLastModified == file.lastModified()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Get the JAXBContext by class from cache.
      *
@@ -0,0 +1,133 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.utils;
+
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.Source;
+
+/**
+ * Pool of marshallers and unmarshallers for the JAXB contexts of the
+ * {@link JAXBContextCache}. Creating a marshaller or an unmarshaller is
+ * expensive, but they must not be used by several threads at the same time.
+ * Therefore, each one is lent to one thread for one call and is returned to
+ * the pool afterwards. The pool keeps only as many idle objects per class as
+ * have been used at the same time, up to a limit.
+ */
+public class JAXBMarshallerPool {
+
+    /**
+     * Maximum number of idle marshallers or unmarshallers kept per class.
+     */
+    static final int MAX_IDLE = 32;
+
+    private static final Map<Class<?>, Pool<Unmarshaller>> unmarshallers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Pool<Marshaller>> formattedMarshallers = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private JAXBMarshallerPool() {
+
+    }
+
+    /**
+     * Reads an object from an XML source, using a pooled unmarshaller.
+     *
+     * @param clazz
+     *            class of the object to read
+     * @param source
+     *            XML source to read from
+     * @param <T>
+     *            the generic class type
+     * @return the object read
+     * @throws JAXBException
+     *             if the unmarshaller cannot be created or if an error
+     *             occurs while reading
+     */
+    public static <T> T unmarshal(Class<T> clazz, Source source) throws JAXBException {
+        Pool<Unmarshaller> pool = unmarshallers.computeIfAbsent(clazz, key -> new Pool<>());
+        Unmarshaller unmarshaller = pool.borrow();
+        if (Objects.isNull(unmarshaller)) {
+            unmarshaller = JAXBContextCache.getJAXBContext(clazz).createUnmarshaller();
+        }
+        T object = clazz.cast(unmarshaller.unmarshal(source));
+        pool.giveBack(unmarshaller);
+        return object;
+    }
+
+    /**
+     * Writes an object as formatted XML to an output stream, using a pooled
+     * marshaller.
+     *
+     * @param object
+     *            object to write
+     * @param out
+     *            output stream to write to
+     * @throws JAXBException
+     *             if the marshaller cannot be created or if an error occurs
+     *             while writing
+     */
+    public static void marshalFormatted(Object object, OutputStream out) throws JAXBException {
+        Class<?> clazz = object.getClass();
+        Pool<Marshaller> pool = formattedMarshallers.computeIfAbsent(clazz, key -> new Pool<>());
+        Marshaller marshaller = pool.borrow();
+        if (Objects.isNull(marshaller)) {
+            marshaller = JAXBContextCache.getJAXBContext(clazz).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        }
+        marshaller.marshal(object, out);
+        pool.giveBack(marshaller);
+    }
+
+    /**
+     * Returns the number of idle unmarshallers for a class. Used in tests.
+     *
+     * @param clazz
+     *            class of the unmarshallers
+     * @return the number of idle unmarshallers
+     */
+    static int countIdleUnmarshallers(Class<?> clazz) {
+        Pool<Unmarshaller> pool = unmarshallers.get(clazz);
+        return Objects.isNull(pool) ? 0 : pool.idle.get();
+    }
+
+    private static class Pool<T> {
+        private final Queue<T> objects = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idle = new AtomicInteger();
+
+        private T borrow() {
+            T object = objects.poll();
+            if (Objects.nonNull(object)) {
+                idle.decrementAndGet();
+            }
+            return object;
+        }
+
+        private void giveBack(T object) {
+            if (idle.incrementAndGet() <= MAX_IDLE) {
+                objects.offer(object);
+            } else {
+                idle.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.utils;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * Cache for compiled XSLT stylesheets. Compiling a stylesheet takes much
+ * longer than applying it, and compiled stylesheets can be used by several
+ * threads at the same time, so each stylesheet file is compiled only once. If
+ * the file is changed, it is compiled again when it is requested next.
+ */
+public class XsltTemplatesCache {
+
+    private static final Map<String, CachedTemplates> templatesCache = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private XsltTemplatesCache() {
+
+    }
+
+    /**
+     * Returns the compiled stylesheet of a file from the cache, or compiles
+     * it, if it is not yet cached or the file has changed since.
+     *
+     * @param stylesheet
+     *            the stylesheet file
+     * @param transformerFactory
+     *            creates the transformer factory to compile the stylesheet
+     *            with. It is only called if the stylesheet must be compiled.
+     * @return the compiled stylesheet
+     * @throws TransformerConfigurationException
+     *             if the stylesheet cannot be compiled
+     */
+    public static Templates getTemplates(File stylesheet, Supplier<TransformerFactory> transformerFactory)
+            throws TransformerConfigurationException {
+        String key = stylesheet.getAbsolutePath();
+        long lastModified = stylesheet.lastModified();
+        CachedTemplates cached = templatesCache.get(key);
+        if (Objects.nonNull(cached) && cached.lastModified == lastModified) {
+            return cached.templates;
+        }
+        Templates templates = transformerFactory.get().newTemplates(new StreamSource(stylesheet));
+        if (Objects.isNull(templates)) {
+            throw new TransformerConfigurationException("Could not compile " + stylesheet);
+        }
+        templatesCache.put(key, new CachedTemplates(templates, lastModified));
+        return templates;
+    }
+
+    /**
+     * Returns whether the current version of a stylesheet file is compiled in
+     * the cache.
+     *
+     * @param stylesheet
+     *            the stylesheet file
+     * @return whether the stylesheet does not need to be compiled again
+     */
+    public static boolean isCached(File stylesheet) {
+        CachedTemplates cached = templatesCache.get(stylesheet.getAbsolutePath());
+        return Objects.nonNull(cached) && cached.lastModified == stylesheet.lastModified();
+    }
+
+    private static class CachedTemplates {
+        private final Templates templates;
+        private final long lastModified;
+
+        CachedTemplates(Templates templates, long lastModified) {
+            this.templates = templates;
+            this.lastModified = lastModified;
+        }
+    }
+}
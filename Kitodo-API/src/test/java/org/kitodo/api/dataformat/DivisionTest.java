@@ -11,7 +11,9 @@
 
 package org.kitodo.api.dataformat;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
@@ -64,4 +66,31 @@ public class DivisionTest {
         assertTrue(allChildren.contains("Child 2.1"));
         assertTrue(allChildren.contains("Child 2.1"));
     }
+
+    /**
+     * Tests that a division whose metadata were never accessed equals a
+     * division with empty metadata.
+     */
+    @Test
+    public void equalsWithoutMetadataTest() {
+        PhysicalDivision untouched = new PhysicalDivision();
+        untouched.setType(PhysicalDivision.TYPE_PAGE);
+        PhysicalDivision accessed = new PhysicalDivision();
+        accessed.setType(PhysicalDivision.TYPE_PAGE);
+        assertTrue(accessed.getMetadata().isEmpty());
+
+        assertEquals(untouched, accessed);
+        assertEquals(accessed, untouched);
+        assertEquals(untouched.hashCode(), accessed.hashCode());
+    }
+
+    /**
+     * Tests that the types of divisions are shared.
+     */
+    @Test
+    public void setTypeTest() {
+        PhysicalDivision physicalDivision = new PhysicalDivision();
+        physicalDivision.setType(new String("page"));
+        assertSame(PhysicalDivision.TYPE_PAGE, physicalDivision.getType());
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.jupiter.api.Test;
+
+class JAXBMarshallerPoolTest {
+
+    @XmlRootElement(name = "item")
+    static class Item {
+        public String name;
+    }
+
+    private static Item read(String xml) throws JAXBException {
+        return JAXBMarshallerPool.unmarshal(Item.class, new StreamSource(new StringReader(xml)));
+    }
+
+    @Test
+    void shouldReuseUnmarshaller() throws JAXBException {
+        assertEquals("a", read("<item><name>a</name></item>").name, "should read first object");
+        assertEquals("b", read("<item><name>b</name></item>").name, "should read second object");
+        assertEquals(1, JAXBMarshallerPool.countIdleUnmarshallers(Item.class),
+            "should keep one unmarshaller for sequential use");
+    }
+
+    @Test
+    void shouldWriteFormattedOutput() throws JAXBException {
+        Item item = new Item();
+        item.name = "c";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JAXBMarshallerPool.marshalFormatted(item, out);
+        String xml = out.toString(StandardCharsets.UTF_8);
+        assertTrue(xml.contains("\n    <name>c</name>"), "should write formatted output");
+        assertEquals("c", read(xml).name, "should read written object");
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class XsltTemplatesCacheTest {
+
+    private static final String STYLESHEET = "<xsl:stylesheet version=\"1.0\""
+            + " xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\"><xsl:output method=\"text\"/>"
+            + "<xsl:template match=\"/\">%s<xsl:value-of select=\"/a\"/></xsl:template></xsl:stylesheet>";
+
+    private final AtomicInteger compilations = new AtomicInteger();
+
+    private TransformerFactory createTransformerFactory() {
+        compilations.incrementAndGet();
+        return TransformerFactory.newInstance();
+    }
+
+    private static String transform(Templates templates) throws TransformerException {
+        StringWriter result = new StringWriter();
+        templates.newTransformer().transform(new StreamSource(new StringReader("<a>b</a>")),
+            new StreamResult(result));
+        return result.toString();
+    }
+
+    @Test
+    void shouldCompileStylesheetOnce(@TempDir Path folder) throws IOException, TransformerException {
+        File stylesheet = Files.writeString(folder.resolve("once.xsl"), String.format(STYLESHEET, "a="),
+            StandardCharsets.UTF_8).toFile();
+        Templates templates = XsltTemplatesCache.getTemplates(stylesheet, this::createTransformerFactory);
+        assertSame(templates, XsltTemplatesCache.getTemplates(stylesheet, this::createTransformerFactory),
+            "should return cached stylesheet");
+        assertEquals(1, compilations.get(), "should compile only once");
+        assertEquals("a=b", transform(templates), "should apply stylesheet");
+    }
+
+    @Test
+    void shouldCompileChangedStylesheetAgain(@TempDir Path folder) throws IOException, TransformerException {
+        File stylesheet = Files.writeString(folder.resolve("changed.xsl"), String.format(STYLESHEET, "a="),
+            StandardCharsets.UTF_8).toFile();
+        Templates templates = XsltTemplatesCache.getTemplates(stylesheet, this::createTransformerFactory);
+        Files.writeString(stylesheet.toPath(), String.format(STYLESHEET, "a:"), StandardCharsets.UTF_8);
+        stylesheet.setLastModified(stylesheet.lastModified() + 2000);
+        Templates changedTemplates = XsltTemplatesCache.getTemplates(stylesheet, this::createTransformerFactory);
+        assertNotSame(templates, changedTemplates, "should compile changed stylesheet");
+        assertEquals("a:b", transform(changedTemplates), "should apply changed stylesheet");
+    }
+}
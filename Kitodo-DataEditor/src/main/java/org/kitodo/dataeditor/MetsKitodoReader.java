@@ -16,18 +16,16 @@ import java.io.InputStream;
 import java.io.StringReader;
 import java.net.URI;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 import javax.xml.transform.TransformerException;
+import javax.xml.transform.stream.StreamSource;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.filemanagement.FileManagementInterface;
 import org.kitodo.dataformat.metskitodo.Mets;
 import org.kitodo.serviceloader.KitodoServiceLoader;
-import org.kitodo.utils.JAXBContextCache;
-import org.xml.sax.InputSource;
+import org.kitodo.utils.JAXBMarshallerPool;
 
 /**
  * This class provides methods for reading sources to Mets objects.
@@ -52,10 +50,8 @@ class MetsKitodoReader {
      * @return The Mets object in mets-kitodo format.
      */
     static Mets readStringToMets(String xmlString) throws JAXBException {
-        JAXBContext jaxbMetsContext = JAXBContextCache.getJAXBContext(Mets.class);
-        Unmarshaller jaxbUnmarshaller = jaxbMetsContext.createUnmarshaller();
         try (StringReader stringReader = new StringReader(xmlString)) {
-            return (Mets) jaxbUnmarshaller.unmarshal(new InputSource(stringReader));
+            return JAXBMarshallerPool.unmarshal(Mets.class, new StreamSource(stringReader));
         }
     }
 
@@ -70,10 +66,8 @@ class MetsKitodoReader {
         FileManagementInterface fileManagementModule = new KitodoServiceLoader<FileManagementInterface>(
                 FileManagementInterface.class).loadModule();
         if (fileManagementModule.fileExist(xmlFile)) {
-            JAXBContext jaxbMetsContext = JAXBContextCache.getJAXBContext(Mets.class);
-            Unmarshaller jaxbUnmarshaller = jaxbMetsContext.createUnmarshaller();
             try (InputStream inputStream = fileManagementModule.read(xmlFile)) {
-                return (Mets) jaxbUnmarshaller.unmarshal(inputStream);
+                return JAXBMarshallerPool.unmarshal(Mets.class, new StreamSource(inputStream));
             }
         } else {
             throw new IOException("File was not found: " + xmlFile.getPath());
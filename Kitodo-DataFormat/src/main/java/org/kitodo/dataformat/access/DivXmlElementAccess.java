@@ -261,18 +261,20 @@ public class DivXmlElementAccess extends LogicalDivision {
             .sorted(Comparator.comparing(PhysicalDivision::getOrder)).map(physicalDivisionIDs::get)
             .map(physicalDivisionId -> Pair.of(metsReferrerId, physicalDivisionId)).collect(Collectors.toList()));
 
-        Optional<MdSecType> optionalDmdSec = createMdSec(super.getMetadata(), MdSec.DMD_SEC);
-        if (optionalDmdSec.isPresent()) {
-            MdSecType dmdSec = optionalDmdSec.get();
-            String name = metsReferrerId + ':' + MdSec.DMD_SEC;
-            dmdSec.setID(KitodoUUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)));
-            mets.getDmdSec().add(dmdSec);
-            div.getDMDID().add(dmdSec);
-        }
-        Optional<AmdSecType> optionalAmdSec = createAmdSec(super.getMetadata(), metsReferrerId, div);
-        if (optionalAmdSec.isPresent()) {
-            AmdSecType admSec = optionalAmdSec.get();
-            mets.getAmdSec().add(admSec);
+        if (super.hasMetadata()) {
+            Optional<MdSecType> optionalDmdSec = createMdSec(super.getMetadata(), MdSec.DMD_SEC);
+            if (optionalDmdSec.isPresent()) {
+                MdSecType dmdSec = optionalDmdSec.get();
+                String name = metsReferrerId + ':' + MdSec.DMD_SEC;
+                dmdSec.setID(KitodoUUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)));
+                mets.getDmdSec().add(dmdSec);
+                div.getDMDID().add(dmdSec);
+            }
+            Optional<AmdSecType> optionalAmdSec = createAmdSec(super.getMetadata(), metsReferrerId, div);
+            if (optionalAmdSec.isPresent()) {
+                AmdSecType admSec = optionalAmdSec.get();
+                mets.getAmdSec().add(admSec);
+            }
         }
         if (Objects.nonNull(super.getLink())) {
             MptrXmlElementAccess.addMptrToDiv(super.getLink(), div);
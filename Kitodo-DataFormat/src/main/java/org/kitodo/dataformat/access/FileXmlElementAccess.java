@@ -113,7 +113,9 @@ public class FileXmlElementAccess {
         } else {
             this.physicalDivision = new PhysicalDivisionMetsReferrerStorage();
             this.physicalDivision.getMediaFiles().putAll(physicalDivision.getMediaFiles());
-            this.physicalDivision.getMetadata().addAll(physicalDivision.getMetadata());
+            if (physicalDivision.hasMetadata()) {
+                this.physicalDivision.getMetadata().addAll(physicalDivision.getMetadata());
+            }
             this.physicalDivision.setOrder(physicalDivision.getOrder());
             this.physicalDivision.setOrderlabel(physicalDivision.getOrderlabel());
             this.physicalDivision.setType(physicalDivision.getType());
@@ -163,6 +165,13 @@ public class FileXmlElementAccess {
             }
             div.getFptr().add(fptr);
         }
+        if (physicalDivision.hasMetadata()) {
+            addMdSecs(div, mets);
+        }
+        return div;
+    }
+
+    private void addMdSecs(DivType div, MetsType mets) {
         Optional<MdSecType> optionalDmdSec = DivXmlElementAccess.createMdSec(physicalDivision.getMetadata(), MdSec.DMD_SEC);
         String metsReferrerId = KitodoUUID.randomUUID();
         if (optionalDmdSec.isPresent()) {
@@ -178,7 +187,6 @@ public class FileXmlElementAccess {
             AmdSecType admSec = optionalAmdSec.get();
             mets.getAmdSec().add(admSec);
         }
-        return div;
     }
 
     private AreaType getAreaType(FileType fileId) {
@@ -28,13 +28,11 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.transform.stream.StreamSource;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
@@ -57,7 +55,7 @@ import org.kitodo.dataformat.metskitodo.MetsType.MetsHdr.MetsDocumentID;
 import org.kitodo.dataformat.metskitodo.MetsType.StructLink;
 import org.kitodo.dataformat.metskitodo.StructLinkType.SmLink;
 import org.kitodo.dataformat.metskitodo.StructMapType;
-import org.kitodo.utils.JAXBContextCache;
+import org.kitodo.utils.JAXBMarshallerPool;
 
 /**
  * The administrative structure of the product of an element that passes through
@@ -223,9 +221,7 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
     @Override
     public Workpiece read(InputStream in) throws IOException {
         try {
-            JAXBContext jc = JAXBContextCache.getJAXBContext(Mets.class);
-            Unmarshaller unmarshaller = jc.createUnmarshaller();
-            Mets mets = (Mets) unmarshaller.unmarshal(in);
+            Mets mets = JAXBMarshallerPool.unmarshal(Mets.class, new StreamSource(in));
             return new MetsXmlElementAccess(mets).workpiece;
         } catch (JAXBException e) {
             if (e.getCause() instanceof IOException) {
@@ -248,10 +244,7 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
     @Override
     public void save(Workpiece workpiece, OutputStream out) throws IOException {
         try {
-            JAXBContext context = JAXBContextCache.getJAXBContext(Mets.class);
-            Marshaller marshal = context.createMarshaller();
-            marshal.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshal.marshal(new MetsXmlElementAccess(workpiece).toMets(), out);
+            JAXBMarshallerPool.marshalFormatted(new MetsXmlElementAccess(workpiece).toMets(), out);
         } catch (JAXBException e) {
             if (e.getCause() instanceof IOException) {
                 throw (IOException) e.getCause();
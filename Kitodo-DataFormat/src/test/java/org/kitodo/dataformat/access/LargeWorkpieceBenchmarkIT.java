@@ -0,0 +1,231 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.dataformat.access;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.transform.stream.StreamSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.kitodo.api.MdSec;
+import org.kitodo.api.MetadataEntry;
+import org.kitodo.api.dataformat.LogicalDivision;
+import org.kitodo.api.dataformat.MediaVariant;
+import org.kitodo.api.dataformat.PhysicalDivision;
+import org.kitodo.api.dataformat.View;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.dataformat.metskitodo.Mets;
+import org.kitodo.utils.JAXBContextCache;
+import org.kitodo.utils.JAXBMarshallerPool;
+
+/**
+ * Measures reading, writing and the heap size of a generated workpiece of the
+ * size of a newspaper year. This is not a regular test, because timings and
+ * heap sizes depend on the machine. To run it, remove the annotation
+ * {@code @Disabled} or pass
+ * {@code -Djunit.jupiter.conditions.deactivate=org.junit.*DisabledCondition}
+ * to Maven, together with {@code -Dit.test=LargeWorkpieceBenchmarkIT}.
+ */
+@Disabled("benchmark, run manually")
+public class LargeWorkpieceBenchmarkIT {
+    private static final Logger logger = LogManager.getLogger(LargeWorkpieceBenchmarkIT.class);
+
+    private static final int NUMBER_OF_PAGES = 10_000;
+    private static final int PAGES_PER_ISSUE = 20;
+    private static final int ROUNDS = 5;
+    private static final int SMALL_FILE_ROUNDS = 2_000;
+
+    private static final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+            .getThreadMXBean();
+    private static final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    /**
+     * Compares reading METS with a new unmarshaller per call, as before, with
+     * reading it with a pooled unmarshaller, and measures reading and writing
+     * a large workpiece.
+     */
+    @Test
+    public void measureMetsReadAndWrite() throws Exception {
+        byte[] smallFile = toMets(createWorkpiece(10));
+        byte[] largeFile = toMets(createWorkpiece(NUMBER_OF_PAGES));
+
+        report("unmarshal 10 pages, new unmarshaller", SMALL_FILE_ROUNDS, () -> JAXBContextCache
+                .getJAXBContext(Mets.class).createUnmarshaller().unmarshal(source(smallFile)));
+        report("unmarshal 10 pages, pooled unmarshaller", SMALL_FILE_ROUNDS,
+            () -> JAXBMarshallerPool.unmarshal(Mets.class, source(smallFile)));
+        report("unmarshal 10,000 pages, new unmarshaller", ROUNDS, () -> JAXBContextCache
+                .getJAXBContext(Mets.class).createUnmarshaller().unmarshal(source(largeFile)));
+        report("unmarshal 10,000 pages, pooled unmarshaller", ROUNDS,
+            () -> JAXBMarshallerPool.unmarshal(Mets.class, source(largeFile)));
+
+        Workpiece workpiece = read(largeFile);
+        report("read 10,000 pages", ROUNDS, () -> read(largeFile));
+        report("save 10,000 pages", ROUNDS, () -> toMets(workpiece));
+        assertEquals(NUMBER_OF_PAGES, workpiece.getPhysicalStructure().getChildren().size(), "Pages are missing!");
+    }
+
+    /**
+     * Measures saving a large workpiece and reading it again, and checks that
+     * the pages without metadata are read back without metadata and the
+     * metadata of the issues is kept.
+     */
+    @Test
+    public void measureSaveRoundTrip() throws Exception {
+        Workpiece workpiece = createWorkpiece(NUMBER_OF_PAGES);
+        report("save and read 10,000 pages", ROUNDS, () -> read(toMets(workpiece)));
+
+        Workpiece roundTrip = read(toMets(workpiece));
+        List<PhysicalDivision> pages = roundTrip.getPhysicalStructure().getChildren();
+        assertEquals(NUMBER_OF_PAGES, pages.size(), "Pages are missing!");
+        assertTrue(pages.stream().noneMatch(PhysicalDivision::hasMetadata), "Pages have metadata!");
+        assertEquals(workpiece.getLogicalStructure().getChildren().get(0).getMetadata(),
+            roundTrip.getLogicalStructure().getChildren().get(0).getMetadata(), "Metadata of issue was lost!");
+    }
+
+    /**
+     * Measures the heap used by a large workpiece read from METS, averaged
+     * over several copies, and the time to compare two copies for unsaved
+     * changes, as the data editor does.
+     */
+    @Test
+    public void measureHeapOfLargeWorkpiece() throws Exception {
+        byte[] largeFile = toMets(createWorkpiece(NUMBER_OF_PAGES));
+        Workpiece[] copies = new Workpiece[ROUNDS];
+        copies[0] = read(largeFile);
+
+        long before = usedHeap();
+        for (int i = 1; i < copies.length; i++) {
+            copies[i] = read(largeFile);
+        }
+        long perCopy = (usedHeap() - before) / (copies.length - 1);
+        logger.info("heap of 10,000 pages: {} MB per copy", String.format("%.1f", perCopy / 1e6));
+
+        report("compare 10,000 pages for changes", ROUNDS, () -> assertEquals(copies[0], copies[1],
+            "Copies differ!"));
+        Reference.reachabilityFence(copies);
+    }
+
+    /**
+     * Creates a workpiece like a newspaper year: an issue every twenty pages,
+     * each page with an image, a derivative and a full text file.
+     */
+    static Workpiece createWorkpiece(int numberOfPages) throws Exception {
+        Workpiece workpiece = new Workpiece();
+        workpiece.setId("benchmark");
+        workpiece.getLogicalStructure().setType("NewspaperYear");
+        workpiece.getPhysicalStructure().setType("physSequence");
+        List<MediaVariant> mediaVariants = Arrays.asList(mediaVariant("LOCAL", "image/tiff"),
+            mediaVariant("MAX", "image/jpeg"), mediaVariant("FULLTEXT", "text/xml"));
+        LogicalDivision issue = null;
+        for (int order = 1; order <= numberOfPages; order++) {
+            if (order % PAGES_PER_ISSUE == 1) {
+                issue = new LogicalDivision();
+                issue.setType("NewspaperIssue");
+                issue.setLabel("Issue " + (order / PAGES_PER_ISSUE + 1));
+                issue.getMetadata().add(metadataEntry("TitleDocMain", issue.getLabel()));
+                issue.getMetadata().add(metadataEntry("PublicationDate", String.valueOf(order)));
+                workpiece.getLogicalStructure().getChildren().add(issue);
+            }
+            PhysicalDivision page = new PhysicalDivision();
+            page.setType("page");
+            page.setOrder(order);
+            page.setOrderlabel("uncounted");
+            for (MediaVariant mediaVariant : mediaVariants) {
+                page.getMediaFiles().put(mediaVariant, new URI(String.format("images/%s/%08d",
+                    mediaVariant.getUse().toLowerCase(), order)));
+            }
+            workpiece.getPhysicalStructure().getChildren().add(page);
+            View view = new View();
+            view.setPhysicalDivision(page);
+            issue.getViews().add(view);
+            page.getLogicalDivisions().add(issue);
+        }
+        return workpiece;
+    }
+
+    private static MediaVariant mediaVariant(String use, String mimeType) {
+        MediaVariant mediaVariant = new MediaVariant();
+        mediaVariant.setUse(use);
+        mediaVariant.setMimeType(mimeType);
+        return mediaVariant;
+    }
+
+    private static MetadataEntry metadataEntry(String key, String value) {
+        MetadataEntry metadataEntry = new MetadataEntry();
+        metadataEntry.setKey(key);
+        metadataEntry.setDomain(MdSec.DMD_SEC);
+        metadataEntry.setValue(value);
+        return metadataEntry;
+    }
+
+    private static byte[] toMets(Workpiece workpiece) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new MetsXmlElementAccess().save(workpiece, out);
+        return out.toByteArray();
+    }
+
+    private static Workpiece read(byte[] metsFile) throws IOException {
+        return new MetsXmlElementAccess().read(new ByteArrayInputStream(metsFile));
+    }
+
+    private static StreamSource source(byte[] metsFile) {
+        return new StreamSource(new ByteArrayInputStream(metsFile));
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Runs the action the given number of rounds to warm up and then again,
+     * and logs the average latency and the bytes allocated per round.
+     */
+    private static void report(String name, int rounds, Action action) throws Exception {
+        for (int i = 0; i < rounds; i++) {
+            action.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            action.run();
+        }
+        long nanos = (System.nanoTime() - start) / rounds;
+        long allocated = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / rounds;
+        logger.info("{}: {} ms, {} kB allocated", name, String.format("%.3f", nanos / 1e6),
+            String.format("%.1f", allocated / 1e3));
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void run() throws IOException, JAXBException;
+    }
+}
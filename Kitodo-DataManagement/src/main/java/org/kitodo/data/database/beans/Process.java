@@ -119,6 +119,24 @@ public class Process extends BaseTemplateBean {
     @Column(name = "ocrd_workflow_id")
     private String ocrdWorkflowId;
 
+    /**
+     * Counts of the tasks of this process and all its descendant processes by
+     * status. They are maintained by the process and task DAOs with native SQL
+     * and never written from the bean, use ProcessDAO.getTaskCounts() to read
+     * them.
+     */
+    @Column(name = "taskCountLocked", insertable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer taskCountLocked;
+
+    @Column(name = "taskCountOpen", insertable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer taskCountOpen;
+
+    @Column(name = "taskCountInWork", insertable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer taskCountInWork;
+
+    @Column(name = "taskCountDone", insertable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer taskCountDone;
+
     @Transient
     private User blockedUser;
 
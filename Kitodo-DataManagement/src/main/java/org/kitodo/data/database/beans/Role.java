@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -25,9 +26,13 @@ import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.kitodo.data.database.persistence.RoleDAO;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "role")
 public class Role extends BaseBean implements Comparable<Role> {
 
@@ -45,6 +50,7 @@ public class Role extends BaseBean implements Comparable<Role> {
             foreignKey = @ForeignKey(name = "FK_role_x_authority_role_id")) },
             inverseJoinColumns = {@JoinColumn(name = "authority_id",
                     foreignKey = @ForeignKey(name = "FK_role_x_authority_authority_id")) })
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<Authority> authorities;
 
     @ManyToOne
@@ -15,6 +15,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -26,11 +27,11 @@ import javax.persistence.PersistenceException;
 import org.hibernate.Hibernate;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.exception.SQLGrammarException;
 import org.hibernate.query.Query;
 import org.kitodo.config.ConfigMain;
 import org.kitodo.data.database.beans.BaseBean;
-import org.kitodo.data.database.beans.BaseIndexedBean;
 import org.kitodo.data.database.enums.IndexAction;
 import org.kitodo.data.database.exceptions.DAOException;
 
@@ -41,6 +42,8 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
 
     private static final Object lockObject = new Object();
 
+    private static final int DEFAULT_BATCH_SIZE = 50;
+
     /**
      * Retrieves a BaseBean identified by the given id from the database.
      *
@@ -333,6 +336,29 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Retrieves the objects of the class type specified by {@code cls} with
+     * the given ids in one query. The objects are returned in the order of the
+     * ids, ids without object are skipped.
+     *
+     * @param cls
+     *            the class to load
+     * @param ids
+     *            object ids
+     * @return list of found objects
+     */
+    List<T> retrieveObjectsByIds(Class<T> cls, List<Integer> ids) throws DAOException {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try (Session session = HibernateUtil.getSession()) {
+            return session.byMultipleIds(cls).withBatchSize(ids.size()).multiLoad(ids).stream()
+                    .filter(Objects::nonNull).collect(Collectors.toList());
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
     /**
      * Retrieve objects by given query for maximum number of objects.
      *
@@ -390,16 +416,30 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Mark given objects as indexed. Instead of loading and saving every object
+     * on its own, the index action is set by one HQL bulk update.
+     *
+     * @param baseBeans
+     *            objects to mark as indexed
+     */
     void storeAsIndexed(List<T> baseBeans) throws DAOException {
-        for (BaseBean baseBean : baseBeans) {
-            BaseIndexedBean entity = (BaseIndexedBean) getById(baseBean.getId());
-            entity.setIndexAction(IndexAction.DONE);
-            storeObject((T) entity);
+        List<Integer> ids = baseBeans.stream().map(BaseBean::getId).filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return;
         }
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("indexAction", IndexAction.DONE);
+        parameters.put("ids", ids);
+        executeBulkUpdate("UPDATE " + Hibernate.getClass(baseBeans.get(0)).getSimpleName()
+                + " SET indexAction = :indexAction WHERE id IN (:ids)", parameters);
     }
 
     /**
-     * Store given list of objects.
+     * Store given list of objects. The session is flushed and cleared after
+     * every JDBC batch, so that the statements are sent to the database in
+     * batches and the persistence context does not grow with the list.
      *
      * @param list
      *            of objects
@@ -407,16 +447,113 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
     void storeList(List<T> list) throws DAOException {
         try (Session session = HibernateUtil.getSession()) {
             Transaction transaction = session.beginTransaction();
-            for (Object obj : list) {
-                session.saveOrUpdate(obj);
-            }
-            session.flush();
+            storeList(session, list);
             transaction.commit();
         } catch (RuntimeException e) {
             throw new DAOException(e);
         }
     }
 
+    /**
+     * Store given list of objects in the transaction of the given session. The
+     * session is flushed and cleared after every JDBC batch, and flushed at
+     * the end.
+     *
+     * @param session
+     *            session with an active transaction
+     * @param list
+     *            of objects
+     */
+    static void storeList(Session session, List<?> list) {
+        int batchSize = getBatchSize(session);
+        int count = 0;
+        for (Object obj : list) {
+            session.saveOrUpdate(obj);
+            if (++count % batchSize == 0) {
+                session.flush();
+                session.clear();
+            }
+        }
+        session.flush();
+    }
+
+    /**
+     * Executes work in one database transaction. The session is flushed and
+     * the transaction is committed when the work is done. If the work fails,
+     * the transaction is rolled back, so that nothing of the work remains.
+     *
+     * @param work
+     *            work to execute
+     * @throws DAOException
+     *             if the work fails
+     */
+    static void executeInTransaction(TransactionalWork work) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                work.execute(session);
+                session.flush();
+                transaction.commit();
+            } catch (DAOException | RuntimeException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                throw e;
+            }
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Work executed in one database transaction.
+     */
+    @FunctionalInterface
+    interface TransactionalWork {
+        void execute(Session session) throws DAOException;
+    }
+
+    /**
+     * Execute given HQL update or delete statement as bulk operation. The
+     * statement is executed directly in the database, so the affected rows are
+     * neither loaded nor checked for dirtiness. Hibernate evicts the affected
+     * entity region from the second level cache.
+     *
+     * @param query
+     *            HQL update or delete statement
+     * @param parameters
+     *            for query
+     * @return number of affected rows
+     * @throws DAOException
+     *             if the statement could not be executed
+     */
+    int executeBulkUpdate(String query, Map<String, Object> parameters) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Transaction transaction = session.beginTransaction();
+            Query<?> bulkQuery = session.createQuery(query);
+            addParameters(bulkQuery, parameters);
+            int affectedRows = bulkQuery.executeUpdate();
+            transaction.commit();
+            return affectedRows;
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Get the configured JDBC batch size ("hibernate.jdbc.batch_size") or a
+     * default if batching is not configured.
+     *
+     * @param session
+     *            current session
+     * @return number of statements per batch
+     */
+    private static int getBatchSize(Session session) {
+        int batchSize = ((SessionFactoryImplementor) session.getSessionFactory()).getSessionFactoryOptions()
+                .getJdbcBatchSize();
+        return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
     /**
      * Evict object associated with the session.
      *
@@ -0,0 +1,369 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Read access to the statistics Hibernate collects about the second level
+ * cache and the executed queries. The statistics are collected only if
+ * {@code hibernate.generate_statistics} is set, or after they have been
+ * enabled at runtime. Counts which are not available are returned as -1.
+ */
+public class HibernateStatistics {
+    private static final Logger logger = LogManager.getLogger(HibernateStatistics.class);
+
+    private static final String CACHE_STATISTICS_MBEAN = "javax.cache:type=CacheStatistics,Cache=%s,*";
+    private static final String CACHE_EVICTIONS = "CacheEvictions";
+    private static final long NOT_AVAILABLE = -1;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private HibernateStatistics() {
+
+    }
+
+    /**
+     * Statistics of one region of the second level cache.
+     */
+    public static class Region {
+        private final String name;
+        private final long hitCount;
+        private final long missCount;
+        private final long putCount;
+        private final long evictionCount;
+        private final long elementCount;
+
+        private Region(CacheRegionStatistics statistics, long evictionCount) {
+            this.name = statistics.getRegionName();
+            this.hitCount = statistics.getHitCount();
+            this.missCount = statistics.getMissCount();
+            this.putCount = statistics.getPutCount();
+            this.evictionCount = evictionCount;
+            this.elementCount = Math.max(NOT_AVAILABLE, statistics.getElementCountInMemory());
+        }
+
+        /**
+         * Returns the name of the region. For entity regions, this is the
+         * name of the entity class.
+         *
+         * @return the name of the region
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns how often an object was found in the region.
+         *
+         * @return the number of hits
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * Returns how often an object was looked up in the region, but not
+         * found, so that it had to be read from the database.
+         *
+         * @return the number of misses
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * Returns how often an object was put into the region.
+         *
+         * @return the number of puts
+         */
+        public long getPutCount() {
+            return putCount;
+        }
+
+        /**
+         * Returns how often an object was removed from the region because the
+         * region was full.
+         *
+         * @return the number of evictions, or -1 if not available
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * Returns the number of objects held in memory.
+         *
+         * @return the number of objects, or -1 if not available
+         */
+        public long getElementCount() {
+            return elementCount;
+        }
+
+        /**
+         * Returns the share of lookups which were answered from the region.
+         *
+         * @return the hit ratio between 0 and 1, or 0 if there was no lookup
+         */
+        public double getHitRatio() {
+            long lookups = hitCount + missCount;
+            return lookups == 0 ? 0 : (double) hitCount / lookups;
+        }
+    }
+
+    /**
+     * Statistics of one HQL query.
+     */
+    public static class Query {
+        private final String query;
+        private final long executionCount;
+        private final long rowCount;
+        private final long averageTime;
+        private final long maximumTime;
+        private final long cacheHitCount;
+        private final long cacheMissCount;
+
+        private Query(String query, QueryStatistics statistics) {
+            this.query = query;
+            this.executionCount = statistics.getExecutionCount();
+            this.rowCount = statistics.getExecutionRowCount();
+            this.averageTime = statistics.getExecutionAvgTime();
+            this.maximumTime = statistics.getExecutionMaxTime();
+            this.cacheHitCount = statistics.getCacheHitCount();
+            this.cacheMissCount = statistics.getCacheMissCount();
+        }
+
+        /**
+         * Returns the HQL query.
+         *
+         * @return the query
+         */
+        public String getQuery() {
+            return query;
+        }
+
+        /**
+         * Returns how often the query was executed in the database.
+         *
+         * @return the number of executions
+         */
+        public long getExecutionCount() {
+            return executionCount;
+        }
+
+        /**
+         * Returns how many rows the query returned in total.
+         *
+         * @return the number of rows
+         */
+        public long getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Returns the average execution time of the query.
+         *
+         * @return the average time in milliseconds
+         */
+        public long getAverageTime() {
+            return averageTime;
+        }
+
+        /**
+         * Returns the longest execution time of the query.
+         *
+         * @return the maximum time in milliseconds
+         */
+        public long getMaximumTime() {
+            return maximumTime;
+        }
+
+        /**
+         * Returns how often the result of the query was found in the query
+         * cache.
+         *
+         * @return the number of hits
+         */
+        public long getCacheHitCount() {
+            return cacheHitCount;
+        }
+
+        /**
+         * Returns how often the result of the query was not found in the query
+         * cache.
+         *
+         * @return the number of misses
+         */
+        public long getCacheMissCount() {
+            return cacheMissCount;
+        }
+    }
+
+    private static Statistics getStatistics() {
+        return HibernateUtil.getSessionFactory().getStatistics();
+    }
+
+    /**
+     * Returns whether statistics are collected.
+     *
+     * @return whether statistics are collected
+     */
+    public static boolean isEnabled() {
+        return getStatistics().isStatisticsEnabled();
+    }
+
+    /**
+     * Turns collecting statistics on or off until the next restart.
+     *
+     * @param enabled
+     *            whether statistics are collected
+     */
+    public static void setEnabled(boolean enabled) {
+        getStatistics().setStatisticsEnabled(enabled);
+    }
+
+    /**
+     * Resets all statistics to zero.
+     */
+    public static void clear() {
+        getStatistics().clear();
+    }
+
+    /**
+     * Returns since when the statistics are collected.
+     *
+     * @return the time of the start or of the last reset
+     */
+    public static Date getStartTime() {
+        return new Date(getStatistics().getStartTime());
+    }
+
+    /**
+     * Returns how often an object was found in the second level cache.
+     *
+     * @return the number of hits in all regions
+     */
+    public static long getSecondLevelCacheHitCount() {
+        return getStatistics().getSecondLevelCacheHitCount();
+    }
+
+    /**
+     * Returns how often an object was not found in the second level cache.
+     *
+     * @return the number of misses in all regions
+     */
+    public static long getSecondLevelCacheMissCount() {
+        return getStatistics().getSecondLevelCacheMissCount();
+    }
+
+    /**
+     * Returns how often an entity was read from the database.
+     *
+     * @return the number of entity fetches
+     */
+    public static long getEntityFetchCount() {
+        return getStatistics().getEntityFetchCount();
+    }
+
+    /**
+     * Returns how often an HQL query was executed in the database.
+     *
+     * @return the number of query executions
+     */
+    public static long getQueryExecutionCount() {
+        return getStatistics().getQueryExecutionCount();
+    }
+
+    /**
+     * Returns how many JDBC statements were prepared. This is the closest
+     * measure of the load the application puts on the database.
+     *
+     * @return the number of prepared statements
+     */
+    public static long getPrepareStatementCount() {
+        return getStatistics().getPrepareStatementCount();
+    }
+
+    /**
+     * Returns the statistics of all regions of the second level cache,
+     * ordered by name.
+     *
+     * @return the statistics of the regions
+     */
+    public static List<Region> getRegions() {
+        Statistics statistics = getStatistics();
+        List<Region> regions = new ArrayList<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(regionName);
+            if (Objects.nonNull(regionStatistics)) {
+                regions.add(new Region(regionStatistics, getEvictionCount(regionName)));
+            }
+        }
+        regions.sort(Comparator.comparing(Region::getName));
+        return regions;
+    }
+
+    /**
+     * Returns the statistics of all executed HQL queries, the most frequently
+     * executed first.
+     *
+     * @return the statistics of the queries
+     */
+    public static List<Query> getQueries() {
+        Statistics statistics = getStatistics();
+        List<Query> queries = new ArrayList<>();
+        for (String query : statistics.getQueries()) {
+            queries.add(new Query(query, statistics.getQueryStatistics(query)));
+        }
+        queries.sort(Comparator.comparingLong(Query::getExecutionCount).reversed());
+        return queries;
+    }
+
+    /**
+     * Hibernate does not count evictions, but the cache provider does if its
+     * statistics are enabled. They are published as JCache management bean.
+     */
+    private static long getEvictionCount(String regionName) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            // the cache provider replaces characters not allowed in object names
+            String cacheName = regionName.replaceAll(",|:|=|\n", ".");
+            Set<ObjectName> names = server.queryNames(
+                new ObjectName(String.format(CACHE_STATISTICS_MBEAN, cacheName)), null);
+            long evictions = 0;
+            for (ObjectName name : names) {
+                evictions += ((Number) server.getAttribute(name, CACHE_EVICTIONS)).longValue();
+            }
+            return names.isEmpty() ? NOT_AVAILABLE : evictions;
+        } catch (JMException | RuntimeException e) {
+            logger.debug("Evictions of cache region {} are not available: {}", regionName, e.getMessage());
+            return NOT_AVAILABLE;
+        }
+    }
+}
@@ -64,7 +64,7 @@ public class HibernateUtil {
      *
      * @return SessionFactory
      */
-    private static SessionFactory getSessionFactory() {
+    static SessionFactory getSessionFactory() {
         if (Objects.isNull(sessionFactory)) {
             try {
                 registry = new StandardServiceRegistryBuilder().configure().build();
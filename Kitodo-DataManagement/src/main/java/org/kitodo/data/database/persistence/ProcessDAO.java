@@ -11,9 +11,14 @@
 
 package org.kitodo.data.database.persistence;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.database.exceptions.DAOException;
 
 public class ProcessDAO extends BaseDAO<Process> {
@@ -27,6 +32,19 @@ public class ProcessDAO extends BaseDAO<Process> {
         return process;
     }
 
+    /**
+     * Retrieves the processes with the given ids in one query.
+     *
+     * @param ids
+     *            ids of the processes to load
+     * @return the found processes in the order of the ids
+     * @throws DAOException
+     *             if the processes cannot be loaded
+     */
+    public List<Process> getByIds(List<Integer> ids) throws DAOException {
+        return retrieveObjectsByIds(Process.class, ids);
+    }
+
     @Override
     public List<Process> getAll() throws DAOException {
         return retrieveAllObjects(Process.class);
@@ -45,6 +63,25 @@ public class ProcessDAO extends BaseDAO<Process> {
             offset, size);
     }
 
+    /**
+     * Saves a process. The task status counters of the process and its
+     * ancestors are corrected by the change of its tasks.
+     *
+     * @param process
+     *            process to save
+     * @throws DAOException
+     *             if the process cannot be saved
+     */
+    @Override
+    public void save(Process process) throws DAOException {
+        executeInTransaction(session -> {
+            TaskCounter.Snapshot before = TaskCounter.readProcesses(session,
+                Collections.singletonList(process.getId()));
+            session.saveOrUpdate(process);
+            TaskCounter.updateProcesses(session, before, Collections.singletonList(process.getId()));
+        });
+    }
+
     /**
      * Save process with regard to its progress.
      *
@@ -62,7 +99,9 @@ public class ProcessDAO extends BaseDAO<Process> {
     }
 
     /**
-     * Save list of processes.
+     * Save list of processes. The processes are saved in one transaction, and
+     * the task status counters are corrected afterwards, as when saving the
+     * processes one by one.
      *
      * @param list
      *            of processes
@@ -71,11 +110,66 @@ public class ProcessDAO extends BaseDAO<Process> {
      *             procedure failure.
      */
     public void saveList(List<Process> list) throws DAOException {
-        storeList(list);
+        executeInTransaction(session -> {
+            TaskCounter.Snapshot before = TaskCounter.readProcesses(session, getIds(list));
+            storeList(session, list);
+            TaskCounter.updateProcesses(session, before, getIds(list));
+        });
     }
 
     @Override
     public void remove(Integer id) throws DAOException {
-        removeObject(Process.class, id);
+        executeInTransaction(session -> {
+            TaskCounter.Snapshot before = TaskCounter.readProcesses(session, Collections.singletonList(id));
+            session.delete(session.load(Process.class, id));
+            TaskCounter.remove(session, before);
+        });
+    }
+
+    @Override
+    public void remove(Process process) throws DAOException {
+        if (Objects.isNull(process.getId())) {
+            return;
+        }
+        executeInTransaction(session -> {
+            TaskCounter.Snapshot before = TaskCounter.readProcesses(session,
+                Collections.singletonList(process.getId()));
+            session.delete(session.merge(process));
+            TaskCounter.remove(session, before);
+        });
+    }
+
+    /**
+     * Returns the stored counts of the tasks of a process and all its
+     * descendant processes by status. They are read from the database, as the
+     * counters of a loaded process may be outdated.
+     *
+     * @param process
+     *            process whose task counts are returned
+     * @return a count for each task status
+     * @throws DAOException
+     *             if the counts cannot be read
+     */
+    public Map<TaskStatus, Integer> getTaskCounts(Process process) throws DAOException {
+        if (Objects.isNull(process.getId())) {
+            throw new DAOException("can not read task counts of process that has id of null");
+        }
+        return TaskCounter.getTotalCounts(process.getId());
+    }
+
+    /**
+     * Computes the task status counters of all processes from their tasks and
+     * corrects the stored counters that differ.
+     *
+     * @return ids of the processes whose counters were corrected
+     * @throws DAOException
+     *             if the counters cannot be read or written
+     */
+    public List<Integer> rebuildTaskCounts() throws DAOException {
+        return TaskCounter.rebuild();
+    }
+
+    private static List<Integer> getIds(List<Process> processes) {
+        return processes.stream().map(Process::getId).collect(Collectors.toList());
     }
 }
@@ -0,0 +1,500 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javax.persistence.PersistenceException;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.enums.TaskStatus;
+import org.kitodo.data.database.exceptions.DAOException;
+
+/**
+ * Maintains the task status counters of the processes. Every process stores
+ * how many tasks of each status it and all its descendant processes have, so
+ * that the progress of a process can be read without loading the tasks of its
+ * children. The counters are corrected in the transaction that saves or
+ * removes a process or tasks, by signed deltas: the status of each changed
+ * task before is subtracted, its status after is added, on its process and
+ * all ancestors of the process. If the transaction is rolled back, the
+ * counters are rolled back with it.
+ *
+ * <p>Only the rows of the changed tasks are locked before the change, so that
+ * their status before is exact. The rows of the processes are not locked
+ * before; they are changed at the end of the transaction by one UPDATE, which
+ * adds the deltas in the database, so that concurrent changes of tasks of
+ * the same process or of sibling processes do not overwrite each other. The
+ * ancestors of all changed processes are read by one recursive query.</p>
+ *
+ * <p>If a process is moved or removed, its total counts are read without a
+ * lock and moved or subtracted. Concurrent changes of tasks of its
+ * descendants in that moment may leave the counters of the former ancestors
+ * wrong; {@link #rebuild()} corrects them.</p>
+ *
+ * <p>The counters are written by native SQL only. They are mapped as neither
+ * insertable nor updatable, so that saving an outdated process bean does not
+ * overwrite them.</p>
+ */
+class TaskCounter {
+
+    private static final String COUNT_COLUMNS = "taskCountLocked, taskCountOpen, taskCountInWork, taskCountDone";
+
+    private static final int NUMBER_OF_STATUSES = TaskStatus.values().length;
+
+    // guards the recursive query of the ancestors against cycles
+    private static final int MAXIMUM_DEPTH = 100;
+
+    private static final int UPDATE_CHUNK_SIZE = 500;
+
+    /**
+     * The tasks and processes read before a change: the process and status of
+     * each task, and the parent and total counts of each process.
+     */
+    static class Snapshot {
+        private final Map<Integer, TaskState> tasks = new HashMap<>();
+        private final Map<Integer, ProcessState> processes = new HashMap<>();
+    }
+
+    private static class TaskState {
+        private final Integer processId;
+        private final int status;
+
+        private TaskState(Integer processId, int status) {
+            this.processId = processId;
+            this.status = status;
+        }
+    }
+
+    private static class ProcessState {
+        private Integer parentId;
+        private final int[] totalCounts = new int[NUMBER_OF_STATUSES];
+    }
+
+    private TaskCounter() {
+    }
+
+    /**
+     * Locks the rows of tasks for the transaction of the session and reads
+     * their processes and statuses. Must be called before the tasks are
+     * changed in the transaction.
+     *
+     * @param session
+     *            session with an active transaction
+     * @param taskIds
+     *            ids of the tasks, null values are ignored
+     * @return the snapshot of the tasks
+     */
+    static Snapshot readTasks(Session session, Collection<Integer> taskIds) {
+        Snapshot snapshot = new Snapshot();
+        Set<Integer> ids = getSortedIds(taskIds);
+        if (!ids.isEmpty()) {
+            snapshot.tasks.putAll(readTaskStates(session, "id IN (:ids)", ids, true));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Locks the rows of the tasks of processes for the transaction of the
+     * session and reads their statuses, and reads the parents and the stored
+     * total counts of the processes. Must be called before the processes or
+     * their tasks are changed in the transaction.
+     *
+     * @param session
+     *            session with an active transaction
+     * @param processIds
+     *            ids of the processes, null values are ignored
+     * @return the snapshot of the processes and their tasks
+     */
+    static Snapshot readProcesses(Session session, Collection<Integer> processIds) {
+        Snapshot snapshot = new Snapshot();
+        Set<Integer> ids = getSortedIds(processIds);
+        if (ids.isEmpty()) {
+            return snapshot;
+        }
+        snapshot.tasks.putAll(readTaskStates(session, "process_id IN (:ids)", ids, true));
+        NativeQuery<Object[]> query = session.createSQLQuery(
+            "SELECT id, parent_id AS parent, " + COUNT_COLUMNS + " FROM process WHERE id IN (:ids)");
+        query.addScalar("id", StandardBasicTypes.INTEGER);
+        query.addScalar("parent", StandardBasicTypes.INTEGER);
+        addCountScalars(query);
+        query.setParameterList("ids", ids);
+        for (Object[] row : query.list()) {
+            ProcessState state = new ProcessState();
+            state.parentId = (Integer) row[1];
+            for (int status = 0; status < NUMBER_OF_STATUSES; status++) {
+                state.totalCounts[status] = toInt(row[status + 2]);
+            }
+            snapshot.processes.put((Integer) row[0], state);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Corrects the counters after tasks or processes have been saved or
+     * removed in the transaction of the session. The tasks of the snapshot
+     * and the given tasks are read again. For each of them, the status before
+     * is subtracted from its process before and its ancestors, and the status
+     * after is added to its process after and its ancestors. A task of the
+     * snapshot that is not found any more has been removed. If a process of
+     * the snapshot has been moved to another parent, its total counts are
+     * moved from the former ancestors to the new ones.
+     *
+     * @param session
+     *            session with an active transaction
+     * @param before
+     *            snapshot read before the change
+     * @param taskIds
+     *            ids of further tasks, which may have been created in the
+     *            transaction, null values are ignored
+     */
+    static void update(Session session, Snapshot before, Collection<Integer> taskIds) {
+        session.flush();
+        Set<Integer> ids = getSortedIds(taskIds);
+        ids.addAll(before.tasks.keySet());
+        Map<Integer, int[]> ownChanges = new HashMap<>();
+        for (TaskState task : before.tasks.values()) {
+            addTask(ownChanges, task, -1);
+        }
+        if (!ids.isEmpty()) {
+            for (TaskState task : readTaskStates(session, "id IN (:ids)", ids, false).values()) {
+                addTask(ownChanges, task, 1);
+            }
+        }
+        Map<Integer, Integer> movedFrom = new HashMap<>();
+        for (Map.Entry<Integer, Integer> entry : getParentIds(session, before.processes.keySet()).entrySet()) {
+            Integer parentBefore = before.processes.get(entry.getKey()).parentId;
+            if (!Objects.equals(parentBefore, entry.getValue())) {
+                movedFrom.put(entry.getKey(), parentBefore);
+            }
+        }
+        Set<Integer> processIds = new HashSet<>(ownChanges.keySet());
+        processIds.addAll(movedFrom.keySet());
+        processIds.addAll(movedFrom.values());
+        Map<Integer, List<Integer>> lines = getLines(session, processIds);
+        Map<Integer, int[]> changes = new TreeMap<>();
+        ownChanges.forEach((processId, change) -> addToLine(changes, lines.get(processId), change, 1));
+        movedFrom.forEach((processId, parentBefore) -> {
+            int[] totalCounts = before.processes.get(processId).totalCounts;
+            addToLine(changes, lines.get(parentBefore), totalCounts, -1);
+            List<Integer> line = lines.get(processId);
+            if (Objects.nonNull(line)) {
+                addToLine(changes, line.subList(1, line.size()), totalCounts, 1);
+            }
+        });
+        add(session, changes);
+    }
+
+    /**
+     * Corrects the counters after processes have been saved in the
+     * transaction of the session. Like {@link #update(Session, Snapshot,
+     * Collection)}, with the tasks the processes have now, which includes the
+     * tasks created with them.
+     *
+     * @param session
+     *            session with an active transaction
+     * @param before
+     *            snapshot of the processes read before the change
+     * @param processIds
+     *            ids of the processes, null values are ignored
+     */
+    static void updateProcesses(Session session, Snapshot before, Collection<Integer> processIds) {
+        session.flush();
+        Set<Integer> ids = getSortedIds(processIds);
+        Set<Integer> taskIds = new HashSet<>();
+        if (!ids.isEmpty()) {
+            taskIds.addAll(readTaskStates(session, "process_id IN (:ids)", ids, false).keySet());
+        }
+        update(session, before, taskIds);
+    }
+
+    /**
+     * Subtracts the total counts of removed processes from their former
+     * ancestors.
+     *
+     * @param session
+     *            session with an active transaction
+     * @param before
+     *            snapshot of the processes read before they were removed
+     */
+    static void remove(Session session, Snapshot before) {
+        session.flush();
+        Set<Integer> parentIds = before.processes.values().stream().map(state -> state.parentId)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Integer, List<Integer>> lines = getLines(session, parentIds);
+        Map<Integer, int[]> changes = new TreeMap<>();
+        for (ProcessState state : before.processes.values()) {
+            addToLine(changes, lines.get(state.parentId), state.totalCounts, -1);
+        }
+        add(session, changes);
+    }
+
+    /**
+     * Returns the stored counts of the tasks of a process and all its
+     * descendant processes.
+     *
+     * @param processId
+     *            id of the process
+     * @return a count for each task status
+     */
+    static Map<TaskStatus, Integer> getTotalCounts(Integer processId) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            int[] totalCounts = readTotalCounts(session, processId);
+            Map<TaskStatus, Integer> counts = new HashMap<>();
+            for (TaskStatus status : TaskStatus.values()) {
+                counts.put(status, totalCounts[status.getValue()]);
+            }
+            return counts;
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Computes the counters of all processes from their tasks and corrects
+     * the stored counters that differ.
+     *
+     * @return ids of the processes whose counters were corrected
+     */
+    static List<Integer> rebuild() throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Map<Integer, Integer> parents = new HashMap<>();
+            Map<Integer, int[]> storedCounts = readStoredCounts(session, parents);
+            Map<Integer, int[]> totalCounts = computeTotalCounts(session, parents);
+            List<Integer> outdated = new ArrayList<>();
+            for (Map.Entry<Integer, int[]> entry : storedCounts.entrySet()) {
+                int[] counts = totalCounts.getOrDefault(entry.getKey(), new int[NUMBER_OF_STATUSES]);
+                if (!Arrays.equals(counts, entry.getValue())) {
+                    outdated.add(entry.getKey());
+                }
+            }
+            if (!outdated.isEmpty()) {
+                writeCounts(session, outdated, totalCounts);
+            }
+            return outdated;
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    private static Map<Integer, int[]> readStoredCounts(Session session, Map<Integer, Integer> parents) {
+        NativeQuery<Object[]> query = session.createSQLQuery(
+            "SELECT id, parent_id AS parent, " + COUNT_COLUMNS + " FROM process");
+        query.addScalar("id", StandardBasicTypes.INTEGER);
+        query.addScalar("parent", StandardBasicTypes.INTEGER);
+        addCountScalars(query);
+        Map<Integer, int[]> storedCounts = new HashMap<>();
+        for (Object[] row : query.list()) {
+            parents.put((Integer) row[0], (Integer) row[1]);
+            int[] counts = new int[NUMBER_OF_STATUSES];
+            for (int status = 0; status < NUMBER_OF_STATUSES; status++) {
+                counts[status] = toInt(row[status + 2]);
+            }
+            storedCounts.put((Integer) row[0], counts);
+        }
+        return storedCounts;
+    }
+
+    private static Map<Integer, int[]> computeTotalCounts(Session session, Map<Integer, Integer> parents) {
+        NativeQuery<Object[]> query = session.createSQLQuery("SELECT process_id AS process, processingStatus"
+                + " AS status, COUNT(*) AS count FROM task WHERE process_id IS NOT NULL"
+                + " GROUP BY process_id, processingStatus");
+        query.addScalar("process", StandardBasicTypes.INTEGER);
+        query.addScalar("status", StandardBasicTypes.INTEGER);
+        query.addScalar("count", StandardBasicTypes.INTEGER);
+        Map<Integer, int[]> totalCounts = new HashMap<>();
+        for (Object[] row : query.list()) {
+            int status = getStatusIndex(row[1]);
+            Set<Integer> visited = new HashSet<>();
+            for (Integer id = (Integer) row[0]; Objects.nonNull(id) && visited.add(id); id = parents.get(id)) {
+                totalCounts.computeIfAbsent(id, key -> new int[NUMBER_OF_STATUSES])[status] += (int) row[2];
+            }
+        }
+        return totalCounts;
+    }
+
+    private static void writeCounts(Session session, List<Integer> processIds, Map<Integer, int[]> totalCounts) {
+        Transaction transaction = session.beginTransaction();
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("UPDATE process SET"
+                    + " taskCountLocked = ?, taskCountOpen = ?, taskCountInWork = ?, taskCountDone = ?"
+                    + " WHERE id = ?")) {
+                for (Integer id : processIds) {
+                    int[] counts = totalCounts.getOrDefault(id, new int[NUMBER_OF_STATUSES]);
+                    for (int status = 0; status < NUMBER_OF_STATUSES; status++) {
+                        statement.setInt(status + 1, counts[status]);
+                    }
+                    statement.setInt(NUMBER_OF_STATUSES + 1, id);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+        transaction.commit();
+    }
+
+    private static Map<Integer, TaskState> readTaskStates(Session session, String condition, Set<Integer> ids,
+            boolean lock) {
+        NativeQuery<Object[]> query = session.createSQLQuery("SELECT id, process_id AS process, processingStatus"
+                + " AS status FROM task WHERE " + condition + " ORDER BY id" + (lock ? " FOR UPDATE" : ""));
+        query.addScalar("id", StandardBasicTypes.INTEGER);
+        query.addScalar("process", StandardBasicTypes.INTEGER);
+        query.addScalar("status", StandardBasicTypes.INTEGER);
+        query.setParameterList("ids", ids);
+        Map<Integer, TaskState> tasks = new HashMap<>();
+        for (Object[] row : query.list()) {
+            tasks.put((Integer) row[0], new TaskState((Integer) row[1], getStatusIndex(row[2])));
+        }
+        return tasks;
+    }
+
+    private static int[] readTotalCounts(Session session, Integer processId) {
+        NativeQuery<Object[]> query = session.createSQLQuery("SELECT " + COUNT_COLUMNS + " FROM process WHERE id = :id");
+        addCountScalars(query);
+        query.setParameter("id", processId);
+        int[] counts = new int[NUMBER_OF_STATUSES];
+        for (Object[] row : query.list()) {
+            for (int status = 0; status < NUMBER_OF_STATUSES; status++) {
+                counts[status] = toInt(row[status]);
+            }
+        }
+        return counts;
+    }
+
+    private static Map<Integer, Integer> getParentIds(Session session, Set<Integer> processIds) {
+        Map<Integer, Integer> parentIds = new HashMap<>();
+        if (processIds.isEmpty()) {
+            return parentIds;
+        }
+        NativeQuery<Object[]> query = session.createSQLQuery(
+            "SELECT id, parent_id AS parent FROM process WHERE id IN (:ids)");
+        query.addScalar("id", StandardBasicTypes.INTEGER);
+        query.addScalar("parent", StandardBasicTypes.INTEGER);
+        query.setParameterList("ids", processIds);
+        for (Object[] row : query.list()) {
+            parentIds.put((Integer) row[0], (Integer) row[1]);
+        }
+        return parentIds;
+    }
+
+    /**
+     * Reads the lines of processes by one recursive query: for each process,
+     * the process itself, its parent, the parent of its parent, and so on.
+     */
+    private static Map<Integer, List<Integer>> getLines(Session session, Set<Integer> processIds) {
+        Map<Integer, List<Integer>> lines = new HashMap<>();
+        Set<Integer> ids = getSortedIds(processIds);
+        if (ids.isEmpty()) {
+            return lines;
+        }
+        NativeQuery<Object[]> query = session.createSQLQuery("WITH RECURSIVE line (descendant, ancestor, parent,"
+                + " distance) AS (SELECT id, id, parent_id, 0 FROM process WHERE id IN (:ids) UNION ALL"
+                + " SELECT line.descendant, process.id, process.parent_id, line.distance + 1 FROM line"
+                + " JOIN process ON process.id = line.parent WHERE line.distance < :maximumDepth)"
+                + " SELECT descendant, ancestor FROM line ORDER BY descendant, distance");
+        query.addScalar("descendant", StandardBasicTypes.INTEGER);
+        query.addScalar("ancestor", StandardBasicTypes.INTEGER);
+        query.setParameterList("ids", ids);
+        query.setParameter("maximumDepth", MAXIMUM_DEPTH);
+        for (Object[] row : query.list()) {
+            List<Integer> line = lines.computeIfAbsent((Integer) row[0], descendant -> new ArrayList<>());
+            if (!line.contains((Integer) row[1])) {
+                line.add((Integer) row[1]);
+            }
+        }
+        return lines;
+    }
+
+    private static void addTask(Map<Integer, int[]> ownChanges, TaskState task, int sign) {
+        if (Objects.nonNull(task.processId)) {
+            ownChanges.computeIfAbsent(task.processId, processId -> new int[NUMBER_OF_STATUSES])[task.status] += sign;
+        }
+    }
+
+    private static void addToLine(Map<Integer, int[]> changes, List<Integer> line, int[] counts, int sign) {
+        if (Objects.isNull(line)) {
+            return;
+        }
+        for (Integer processId : line) {
+            int[] change = changes.computeIfAbsent(processId, id -> new int[NUMBER_OF_STATUSES]);
+            for (int status = 0; status < NUMBER_OF_STATUSES; status++) {
+                change[status] += sign * counts[status];
+            }
+        }
+    }
+
+    /**
+     * Adds the changes to the counters of the processes. The changes of up to
+     * {@value #UPDATE_CHUNK_SIZE} processes are added by one UPDATE, in the
+     * order of the process ids, so that concurrent transactions lock the rows
+     * in the same order. The changes are integers computed here, so they are
+     * written into the statement as literals.
+     */
+    private static void add(Session session, Map<Integer, int[]> changes) {
+        changes.values().removeIf(change -> Arrays.stream(change).allMatch(count -> count == 0));
+        List<Integer> changedIds = new ArrayList<>(changes.keySet());
+        for (int from = 0; from < changedIds.size(); from += UPDATE_CHUNK_SIZE) {
+            List<Integer> processIds = changedIds.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, changedIds.size()));
+            StringBuilder sql = new StringBuilder("UPDATE process SET");
+            String[] columns = COUNT_COLUMNS.split(", ");
+            for (int status = 0; status < NUMBER_OF_STATUSES; status++) {
+                sql.append(status == 0 ? " " : ", ").append(columns[status]).append(" = COALESCE(")
+                        .append(columns[status]).append(", 0) + CASE id");
+                for (Integer processId : processIds) {
+                    sql.append(" WHEN ").append(processId).append(" THEN ").append(changes.get(processId)[status]);
+                }
+                sql.append(" ELSE 0 END");
+            }
+            NativeQuery<?> query = session.createSQLQuery(sql.append(" WHERE id IN (:ids)").toString());
+            query.addSynchronizedEntityClass(Process.class);
+            query.setParameterList("ids", processIds);
+            query.executeUpdate();
+        }
+    }
+
+    private static Set<Integer> getSortedIds(Collection<Integer> ids) {
+        return ids.stream().filter(Objects::nonNull).collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static void addCountScalars(NativeQuery<?> query) {
+        query.addScalar("taskCountLocked", StandardBasicTypes.INTEGER);
+        query.addScalar("taskCountOpen", StandardBasicTypes.INTEGER);
+        query.addScalar("taskCountInWork", StandardBasicTypes.INTEGER);
+        query.addScalar("taskCountDone", StandardBasicTypes.INTEGER);
+    }
+
+    // tasks without status are counted as in work, as by the progress calculation from the task beans
+    private static int getStatusIndex(Object status) {
+        return Objects.isNull(status) ? TaskStatus.INWORK.getValue()
+                : TaskStatus.getStatusFromValue((int) status).getValue();
+    }
+
+    private static int toInt(Object count) {
+        return Objects.isNull(count) ? 0 : (int) count;
+    }
+}
@@ -11,18 +11,16 @@
 
 package org.kitodo.data.database.persistence;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-import javax.persistence.PersistenceException;
-
-import org.hibernate.Session;
-import org.hibernate.query.NativeQuery;
-import org.hibernate.type.StandardBasicTypes;
-import org.kitodo.data.database.beans.Process;
+import org.hibernate.query.Query;
 import org.kitodo.data.database.beans.Task;
+import org.kitodo.data.database.enums.IndexAction;
 import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.database.exceptions.DAOException;
 
@@ -58,13 +56,107 @@ public class TaskDAO extends BaseDAO<Task> {
             size);
     }
 
+    /**
+     * Saves a task. The task status counters of its process and the ancestors
+     * of the process are corrected by the change of the task.
+     *
+     * @param task
+     *            task to save
+     * @throws DAOException
+     *             if the task cannot be saved
+     */
+    @Override
+    public void save(Task task) throws DAOException {
+        executeInTransaction(session -> {
+            TaskCounter.Snapshot before = TaskCounter.readTasks(session, Collections.singletonList(task.getId()));
+            session.saveOrUpdate(task);
+            TaskCounter.update(session, before, Collections.singletonList(task.getId()));
+        });
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
-        removeObject(Task.class, id);
+        executeInTransaction(session -> {
+            TaskCounter.Snapshot before = TaskCounter.readTasks(session, Collections.singletonList(id));
+            session.delete(session.load(Task.class, id));
+            TaskCounter.update(session, before, Collections.emptyList());
+        });
+    }
+
+    @Override
+    public void remove(Task task) throws DAOException {
+        if (Objects.isNull(task.getId())) {
+            return;
+        }
+        executeInTransaction(session -> {
+            TaskCounter.Snapshot before = TaskCounter.readTasks(session, Collections.singletonList(task.getId()));
+            session.delete(session.merge(task));
+            TaskCounter.update(session, before, Collections.emptyList());
+        });
+    }
+
+    /**
+     * Updates a task. Like saving, this corrects the task status counters of
+     * its process and the ancestors of the process.
+     *
+     * @param task
+     *            task to update
+     * @throws DAOException
+     *             if the task cannot be updated
+     */
+    public void update(Task task) throws DAOException {
+        save(task);
+    }
+
+    /**
+     * Sets the processing status of tasks by one HQL bulk update, without
+     * loading and saving each task on its own. The tasks are marked to be
+     * indexed. The task status counters of their processes and the ancestors
+     * of the processes are corrected in the same transaction.
+     *
+     * @param taskIds
+     *            ids of the tasks
+     * @param status
+     *            new processing status
+     * @throws DAOException
+     *             if the tasks cannot be updated
+     */
+    public void updateProcessingStatus(Collection<Integer> taskIds, TaskStatus status) throws DAOException {
+        updateInBulk(taskIds, "processingStatus = :status", Collections.singletonMap("status", status));
     }
 
-    public void update(Task task) {
-        updateObject(task);
+    /**
+     * Locks tasks for a correction by one HQL bulk update. The tasks are set
+     * to locked, marked as correction and their processing end is removed,
+     * as the workflow does for the tasks between a task and its correction
+     * task. Like {@link #updateProcessingStatus(Collection, TaskStatus)},
+     * this corrects the task status counters in the same transaction.
+     *
+     * @param taskIds
+     *            ids of the tasks
+     * @throws DAOException
+     *             if the tasks cannot be updated
+     */
+    public void lockForCorrection(Collection<Integer> taskIds) throws DAOException {
+        updateInBulk(taskIds, "processingStatus = :status, correction = true, processingEnd = null",
+            Collections.singletonMap("status", TaskStatus.LOCKED));
+    }
+
+    private void updateInBulk(Collection<Integer> taskIds, String assignments, Map<String, Object> parameters)
+            throws DAOException {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        executeInTransaction(session -> {
+            Query<?> query = session.createQuery(
+                "UPDATE Task SET " + assignments + ", indexAction = :indexAction WHERE id IN (:ids)");
+            parameters.forEach(query::setParameter);
+            query.setParameter("indexAction", IndexAction.INDEX);
+            query.setParameterList("ids", taskIds);
+            TaskCounter.Snapshot before = TaskCounter.readTasks(session, taskIds);
+            query.executeUpdate();
+            TaskCounter.update(session, before, taskIds);
+        });
     }
 
     /**
@@ -139,58 +231,4 @@ public class TaskDAO extends BaseDAO<Task> {
         return getByQuery(
             "FROM Task WHERE process_id = :processId AND ordering < :ordering" + " ORDER BY ordering DESC", parameters);
     }
-
-    /**
-     * Counts how many tasks have a certain status for the provided process and all its ancestor processes.
-     * 
-     * <p>The counts are used to calculate the process progress status</p>
-     * 
-     * @param process the process to be queried for tasks and their status counts
-     * @return a count for each TaskStatus 
-     */
-    @SuppressWarnings("unchecked")
-    public Map<TaskStatus, Integer> countTaskStatusForProcessAndItsAncestors(Process process) throws DAOException {
-        if (Objects.isNull(process)) {
-            throw new DAOException("can not count task status for process that is null");
-        }
-        if (Objects.isNull(process.getId())) {
-            throw new DAOException("can not count task status for process that has id of null");
-        }
-        
-        // initialize counts
-        Map<TaskStatus, Integer> counts = new HashMap<>();
-        counts.put(TaskStatus.OPEN, 0);
-        counts.put(TaskStatus.INWORK, 0);
-        counts.put(TaskStatus.LOCKED, 0);
-        counts.put(TaskStatus.DONE, 0);
-
-        // perform query and read data
-        try (Session session = HibernateUtil.getSession()) {
-            // do not use hibernate query language, which does not support recursive queries, use native SQL instead
-            // do not use query parameter with recursive query, which works with MySQL and MariaDB but not h2 database
-            NativeQuery<Object[]> query = session.createSQLQuery(
-                "SELECT t.processingStatus as status, COUNT(*) as count FROM task t, ("
-                    + "    WITH RECURSIVE process_children(id) as ("
-                    + "        (SELECT id FROM process WHERE id = " + process.getId() + ")"
-                    + "        UNION ALL"
-                    + "        (SELECT p1.id from process as p1, process_children as p2 WHERE p2.id = p1.parent_id)"
-                    + "    ) SELECT id FROM process_children"
-                    + ") as p WHERE t.process_id = p.id GROUP BY t.processingStatus;"
-            );
-            query.addScalar("status", StandardBasicTypes.INTEGER);
-            query.addScalar("count", StandardBasicTypes.INTEGER);
-            
-            for (Object[] row : query.list()) {
-                TaskStatus status = TaskStatus.getStatusFromValue((int)row[0]);
-                Integer count = (int)row[1];
-                counts.put(status, count);
-            }
-
-            return counts;
-        } catch (PersistenceException e) {
-            // catch any exceptions that might be thrown by internals of database connector
-            // due to recursive query, which might not be supported by some databases
-            throw new DAOException(e);
-        }
-    }
 }
@@ -30,7 +30,7 @@ import org.kitodo.data.database.enums.CommentType;
 import org.kitodo.data.database.enums.CorrectionComments;
 import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.database.exceptions.DAOException;
-import org.kitodo.data.database.persistence.TaskDAO;
+import org.kitodo.data.database.persistence.ProcessDAO;
 
 /**
  * This class provides static methods that derive basic information from a process, 
@@ -161,11 +161,15 @@ public class ProcessConverter {
             // if children are of no concern, just use basic counting via beans
             return countTasksStatusOfProcessViaBeans(getListOfTasksForProgressCalculation(process, considerChildren));
         }
+        if (Objects.isNull(process.getId())) {
+            // a new process has no stored counters yet
+            return countTasksStatusOfProcessViaBeans(getListOfTasksForProgressCalculation(process, considerChildren));
+        }
         try {
-            // use custom SQL query to count task status including tasks of ancestor processes for performance
-            return new TaskDAO().countTaskStatusForProcessAndItsAncestors(process);
+            // read the counters maintained on saving processes and tasks, including the tasks of descendant processes
+            return new ProcessDAO().getTaskCounts(process);
         } catch (DAOException e) {
-            logger.warn("error counting task status via custom SQL query, continue with slow calculation", e);
+            logger.warn("error reading task status counters, continue with slow calculation", e);
             return countTasksStatusOfProcessViaBeans(getListOfTasksForProgressCalculation(process, considerChildren));
         }
     }
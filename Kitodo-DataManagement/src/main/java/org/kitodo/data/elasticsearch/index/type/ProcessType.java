@@ -20,9 +20,11 @@ import java.util.Objects;
 import org.kitodo.data.database.beans.Comment;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Property;
+import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.elasticsearch.index.converter.ProcessConverter;
 import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
+import org.kitodo.data.elasticsearch.index.type.enums.TaskTypeField;
 
 /**
  * Implementation of Process Type.
@@ -64,6 +66,7 @@ public class ProcessType extends BaseType<Process> {
         jsonObject.put(ProcessTypeField.HAS_CHILDREN.getKey(), !process.getChildren().isEmpty());
         jsonObject.put(ProcessTypeField.PARENT_ID.getKey(), processParentId);
         jsonObject.put(ProcessTypeField.TASKS.getKey(), addObjectRelation(process.getTasks(), true));
+        jsonObject.put(ProcessTypeField.TASK_DETAILS.getKey(), getTaskDetails(process));
         jsonObject.put(ProcessTypeField.METADATA.getKey(), process.getMetadata());
         jsonObject.put(ProcessTypeField.NUMBER_OF_METADATA.getKey(), process.getNumberOfMetadata());
         jsonObject.put(ProcessTypeField.NUMBER_OF_IMAGES.getKey(), process.getNumberOfImages());
@@ -118,7 +121,29 @@ public class ProcessType extends BaseType<Process> {
         );
     }
 
-    private List<Map<String, String>> getProperties(Process process) {
+    /**
+     * Returns title, ordering, status and type of all tasks of a process. They
+     * are indexed as nested objects, so that processes can be filtered by
+     * tasks matching several conditions without searching the tasks first.
+     *
+     * @param process the process being indexed
+     * @return the list of task details
+     */
+    private List<Map<String, Object>> getTaskDetails(Process process) {
+        List<Map<String, Object>> taskDetails = new ArrayList<>();
+        for (Task task : process.getTasks()) {
+            Map<String, Object> taskMap = new HashMap<>();
+            taskMap.put(TaskTypeField.TITLE.getKey(), preventNull(task.getTitle()));
+            taskMap.put(TaskTypeField.ORDERING.getKey(), task.getOrdering());
+            taskMap.put(TaskTypeField.PROCESSING_STATUS.getKey(),
+                Objects.nonNull(task.getProcessingStatus()) ? task.getProcessingStatus().getValue() : 0);
+            taskMap.put(TaskTypeField.TYPE_AUTOMATIC.getKey(), task.isTypeAutomatic());
+            taskDetails.add(taskMap);
+        }
+        return taskDetails;
+    }
+
+    static List<Map<String, String>> getProperties(Process process) {
         List<Property> properties = process.getProperties();
         List<Map<String, String>> propertiesForIndex = new ArrayList<>();
         for (Property property : properties) {
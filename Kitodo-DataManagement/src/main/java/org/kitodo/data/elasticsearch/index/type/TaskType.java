@@ -63,9 +63,7 @@ public class TaskType extends BaseType<Task> {
             jsonObject.put(TaskTypeField.PROCESSING_USER_SURNAME.getKey(), "");
             jsonObject.put(TaskTypeField.PROCESSING_USER_FULLNAME.getKey(), "");
         }
-        jsonObject.put(TaskTypeField.PROCESS_ID.getKey(), getId(task.getProcess()));
-        jsonObject.put(TaskTypeField.PROCESS_TITLE.getKey(), getTitle(task.getProcess()));
-        jsonObject.put(TaskTypeField.PROCESS_CREATION_DATE.getKey(), getFormattedDate(getProcessCreationDate(task)));
+        convertProcess(jsonObject, task);
         jsonObject.put(TaskTypeField.CLIENT_ID.getKey(), getClientId(task));
         jsonObject.put(TaskTypeField.PROJECT_ID.getKey(), getProjectId(task));
         jsonObject.put(TaskTypeField.PROJECT_TITLE.getKey(), getProjectTitle(task));
@@ -135,6 +133,48 @@ public class TaskType extends BaseType<Task> {
         return null;
     }
 
+    /**
+     * Adds the fields of the process of a task to json object for indexing.
+     *
+     * @param jsonObject the json object used for indexing
+     * @param task the task being indexed
+     */
+    private void convertProcess(Map<String, Object> jsonObject, Task task) {
+        jsonObject.put(TaskTypeField.PROCESS_ID.getKey(), getId(task.getProcess()));
+        jsonObject.put(TaskTypeField.PROCESS_TITLE.getKey(), getTitle(task.getProcess()));
+        jsonObject.put(TaskTypeField.PROCESS_CREATION_DATE.getKey(), getFormattedDate(getProcessCreationDate(task)));
+        jsonObject.put(TaskTypeField.PROCESS_BATCHES.getKey(), getProcessBatches(task));
+        jsonObject.put(TaskTypeField.PROCESS_PROPERTIES.getKey(), getProcessProperties(task));
+    }
+
+    /**
+     * Extracts the batches of the process of a task, so that tasks can be
+     * filtered by batch without searching the processes first.
+     *
+     * @param task the task
+     * @return the batch ids of the process, or an empty list
+     */
+    private List getProcessBatches(Task task) {
+        if (Objects.nonNull(task.getProcess())) {
+            return addObjectRelation(task.getProcess().getBatches());
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Extracts the properties of the process of a task, so that tasks can be
+     * filtered by process property without searching the processes first.
+     *
+     * @param task the task
+     * @return the properties of the process, or an empty list
+     */
+    private List<Map<String, String>> getProcessProperties(Task task) {
+        if (Objects.nonNull(task.getProcess())) {
+            return ProcessType.getProperties(task.getProcess());
+        }
+        return new ArrayList<>();
+    }
+
     /**
      * Extracts the project title from a task if it has a process.
      * 
@@ -37,6 +37,7 @@ public enum ProcessTypeField implements TypeInterface {
     HAS_CHILDREN("hasChildren"),
     PARENT_ID("parent.id"),
     TASKS("tasks"),
+    TASK_DETAILS("taskDetails"),
     PROPERTIES("properties"),
     TEMPLATES("templates"),
     WORKPIECES("workpieces"),
@@ -37,6 +37,8 @@ public enum TaskTypeField implements TypeInterface {
     PROCESS_ID("processForTask.id"),
     PROCESS_TITLE("processForTask.title"),
     PROCESS_CREATION_DATE("processForTask.creationDate"),
+    PROCESS_BATCHES("processForTask.batches"),
+    PROCESS_PROPERTIES("processForTask.properties"),
     CLIENT_ID("clientForTask"),
     PROJECT_ID("projectForTask.id"),
     PROJECT_TITLE("projectForTask.title"),
@@ -112,6 +112,7 @@ public class SearchRestClient extends KitodoRestClient {
         SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
         sourceBuilder.query(query);
         sourceBuilder.aggregation(aggregation);
+        sourceBuilder.size(0);
 
         SearchRequest searchRequest = new SearchRequest(this.indexBase + "_" + type);
         searchRequest.source(sourceBuilder);
@@ -199,6 +200,55 @@ public class SearchRestClient extends KitodoRestClient {
         }
     }
 
+    /**
+     * Get the next page of documents by query, sorted by given sort condition,
+     * following the document with the given sort values. In contrast to
+     * paging by offset, the cost of each request does not grow with the
+     * position of the page and the number of results is not limited by the
+     * maximum result window of the index.
+     *
+     * @param type
+     *            for which request is performed
+     * @param query
+     *            to find documents
+     * @param sort
+     *            unique sort condition, e.g. by id
+     * @param searchAfter
+     *            sort values of the last document of the previous page, or
+     *            null for the first page
+     * @param size
+     *            maximum number of documents of the page
+     * @param includes
+     *            source fields to return, or null for the whole source
+     * @return search hits of the page
+     */
+    SearchHits getDocumentsAfter(String type, QueryBuilder query, SortBuilder sort, Object[] searchAfter, int size,
+            String[] includes) throws CustomResponseException, DataException {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        sourceBuilder.query(query);
+        sourceBuilder.sort(sort);
+        sourceBuilder.size(size);
+        if (Objects.nonNull(searchAfter)) {
+            sourceBuilder.searchAfter(searchAfter);
+        }
+        if (Objects.nonNull(includes)) {
+            sourceBuilder.fetchSource(includes, null);
+        }
+
+        SearchRequest searchRequest = new SearchRequest(this.indexBase + "_" + type);
+        searchRequest.source(sourceBuilder);
+
+        try {
+            SearchResponse response = highLevelClient.search(searchRequest, RequestOptions.DEFAULT);
+            return response.getHits();
+        } catch (ResponseException e) {
+            handleResponseException(e);
+            return SearchHits.empty();
+        } catch (IOException e) {
+            throw new DataException(e);
+        }
+    }
+
     /**
      * Retrieves a map of document IDs to their corresponding base type for the given list of IDs.
      *
@@ -223,6 +223,39 @@ public class Searcher extends Index {
         return searchResults;
     }
 
+    /**
+     * Find the next page of documents by query and unique sort condition,
+     * beginning after the document with the given sort values. By passing the
+     * sort values of the last document of each page, all documents matching
+     * the query can be read page by page, no matter how many there are.
+     *
+     * @param query
+     *            as QueryBuilder
+     * @param sort
+     *            unique sort condition, e.g. by id
+     * @param searchAfter
+     *            sort values of the last document of the previous page, or
+     *            null for the first page
+     * @param size
+     *            maximum number of documents of the page
+     * @param includes
+     *            source fields to return, or null for the whole source
+     * @return list of JSON objects
+     */
+    public List<Map<String, Object>> findDocumentsAfter(QueryBuilder query, SortBuilder sort, Object[] searchAfter,
+            int size, String[] includes) throws CustomResponseException, DataException {
+        SearchRestClient restClient = initiateRestClient();
+        List<Map<String, Object>> searchResults = new ArrayList<>();
+
+        SearchHits hits = restClient.getDocumentsAfter(this.type, query, sort, searchAfter, size, includes);
+        for (SearchHit hit : hits.getHits()) {
+            Map<String, Object> result = hit.getSourceAsMap();
+            result.put("id", hit.getId());
+            searchResults.add(result);
+        }
+        return searchResults;
+    }
+
     private SearchRestClient initiateRestClient() {
         SearchRestClient restClient = SearchRestClient.getInstance();
         restClient.setIndexBase(index);
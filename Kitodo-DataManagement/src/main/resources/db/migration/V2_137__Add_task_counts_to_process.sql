@@ -0,0 +1,35 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+-- Add columns counting the tasks of a process and its descendants by status
+ALTER TABLE process ADD taskCountLocked INT DEFAULT 0;
+ALTER TABLE process ADD taskCountOpen INT DEFAULT 0;
+ALTER TABLE process ADD taskCountInWork INT DEFAULT 0;
+ALTER TABLE process ADD taskCountDone INT DEFAULT 0;
+
+-- Fill the counters from the tasks of each process and its descendants
+UPDATE process p JOIN (
+    SELECT a.ancestor_id AS id,
+        SUM(t.processingStatus = 0) AS locked,
+        SUM(t.processingStatus = 1) AS open,
+        SUM(t.processingStatus = 2 OR t.processingStatus IS NULL) AS inWork,
+        SUM(t.processingStatus = 3) AS done
+    FROM task t, (
+        WITH RECURSIVE process_ancestors(ancestor_id, id) AS (
+            (SELECT id, id FROM process)
+            UNION ALL
+            (SELECT a.ancestor_id, c.id FROM process AS c, process_ancestors AS a WHERE c.parent_id = a.id)
+        ) SELECT ancestor_id, id FROM process_ancestors
+    ) AS a
+    WHERE t.process_id = a.id
+    GROUP BY a.ancestor_id
+) AS c ON p.id = c.id
+SET p.taskCountLocked = c.locked, p.taskCountOpen = c.open, p.taskCountInWork = c.inWork, p.taskCountDone = c.done;
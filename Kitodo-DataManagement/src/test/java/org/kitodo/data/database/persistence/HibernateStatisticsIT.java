@@ -0,0 +1,52 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.kitodo.data.database.beans.Docket;
+import org.kitodo.data.database.enums.IndexAction;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class HibernateStatisticsIT {
+
+    private static final String DOCKET_REGION = Docket.class.getName();
+
+    @Test
+    public void shouldCountHitsOfReferenceDataRegion() throws DAOException {
+        Docket docket = new Docket();
+        docket.setTitle("cached_docket");
+        docket.setIndexAction(IndexAction.DONE);
+        DocketDAO docketDAO = new DocketDAO();
+        docketDAO.save(docket);
+
+        docketDAO.getById(docket.getId());
+
+        assertTrue(HibernateStatistics.isEnabled(), "Statistics are not enabled!");
+        HibernateStatistics.clear();
+        docketDAO.getById(docket.getId());
+
+        Optional<HibernateStatistics.Region> region = HibernateStatistics.getRegions().stream()
+                .filter(statistics -> DOCKET_REGION.equals(statistics.getName())).findAny();
+        assertTrue(region.isPresent(), "Region of dockets was not found!");
+        assertEquals(1, region.get().getHitCount(), "Docket was not read from the cache!");
+        assertEquals(0, region.get().getMissCount(), "Docket was looked up in the database!");
+        assertEquals(0, region.get().getEvictionCount(), "Evictions were not read from the cache provider!");
+        assertEquals(0, HibernateStatistics.getEntityFetchCount(), "Docket was read from the database!");
+
+        docketDAO.remove(docket);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Task;
+import org.kitodo.data.database.enums.TaskStatus;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class TaskDaoIT {
+
+    private final ProcessDAO processDAO = new ProcessDAO();
+    private final TaskDAO taskDAO = new TaskDAO();
+
+    private Process parent;
+    private Process child;
+    private Process otherParent;
+
+    @BeforeEach
+    public void insertProcesses() throws DAOException {
+        parent = createProcess("parent", null);
+        child = createProcess("child", parent);
+        otherParent = createProcess("other_parent", null);
+    }
+
+    @AfterEach
+    public void removeProcesses() throws DAOException {
+        processDAO.remove(child.getId());
+        processDAO.remove(parent.getId());
+        processDAO.remove(otherParent.getId());
+    }
+
+    @Test
+    public void shouldCountSavedTasks() throws DAOException {
+        createTask("first", child, TaskStatus.OPEN);
+        createTask("second", child, TaskStatus.LOCKED);
+        createTask("own", parent, TaskStatus.DONE);
+
+        assertCounts(child, 1, 1, 0, 0);
+        assertCounts(parent, 1, 1, 0, 1);
+        assertCounts(otherParent, 0, 0, 0, 0);
+    }
+
+    @Test
+    public void shouldCountStatusChange() throws DAOException {
+        Task task = createTask("task", child, TaskStatus.OPEN);
+
+        task.setProcessingStatus(TaskStatus.INWORK);
+        taskDAO.save(task);
+        assertCounts(child, 0, 0, 1, 0);
+        assertCounts(parent, 0, 0, 1, 0);
+
+        task.setProcessingStatus(TaskStatus.DONE);
+        taskDAO.update(task);
+        assertCounts(child, 0, 0, 0, 1);
+        assertCounts(parent, 0, 0, 0, 1);
+    }
+
+    @Test
+    public void shouldCountRemovedTasks() throws DAOException {
+        Task first = createTask("first", child, TaskStatus.OPEN);
+        Task second = createTask("second", child, TaskStatus.DONE);
+
+        taskDAO.remove(first.getId());
+        assertCounts(child, 0, 0, 0, 1);
+        assertCounts(parent, 0, 0, 0, 1);
+
+        taskDAO.remove(second);
+        assertCounts(child, 0, 0, 0, 0);
+        assertCounts(parent, 0, 0, 0, 0);
+    }
+
+    @Test
+    public void shouldMoveCountsWithReparentedProcess() throws DAOException {
+        createTask("task", child, TaskStatus.OPEN);
+
+        child.setParent(otherParent);
+        processDAO.save(child);
+        assertCounts(child, 0, 1, 0, 0);
+        assertCounts(parent, 0, 0, 0, 0);
+        assertCounts(otherParent, 0, 1, 0, 0);
+
+        child.setParent(parent);
+        processDAO.save(child);
+        assertCounts(parent, 0, 1, 0, 0);
+        assertCounts(otherParent, 0, 0, 0, 0);
+    }
+
+    @Test
+    public void shouldCountBulkStatusUpdate() throws DAOException {
+        Task first = createTask("first", child, TaskStatus.OPEN);
+        Task second = createTask("second", child, TaskStatus.LOCKED);
+        Task own = createTask("own", parent, TaskStatus.INWORK);
+
+        taskDAO.updateProcessingStatus(Arrays.asList(first.getId(), second.getId(), own.getId()), TaskStatus.DONE);
+        assertEquals(TaskStatus.DONE, taskDAO.getById(second.getId()).getProcessingStatus(), "Status was not updated!");
+        assertCounts(child, 0, 0, 0, 2);
+        assertCounts(parent, 0, 0, 0, 3);
+
+        taskDAO.lockForCorrection(Arrays.asList(first.getId(), own.getId()));
+        assertTrue(taskDAO.getById(first.getId()).isCorrection(), "Task was not marked as correction!");
+        assertCounts(child, 1, 0, 0, 1);
+        assertCounts(parent, 2, 0, 0, 1);
+    }
+
+    @Test
+    public void shouldCountConcurrentSaves() throws Exception {
+        final int numberOfTasks = 10;
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < numberOfTasks; i++) {
+            tasks.add(createTask("task_" + i, child, TaskStatus.OPEN));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Callable<Void>> saves = new ArrayList<>();
+            for (Task task : tasks) {
+                saves.add(() -> {
+                    task.setProcessingStatus(TaskStatus.DONE);
+                    taskDAO.save(task);
+                    return null;
+                });
+            }
+            for (Future<Void> save : executor.invokeAll(saves)) {
+                save.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertCounts(child, 0, 0, 0, numberOfTasks);
+        assertCounts(parent, 0, 0, 0, numberOfTasks);
+    }
+
+    @Test
+    public void shouldCountConcurrentSavesInSiblingProcesses() throws Exception {
+        Process sibling = createProcess("sibling", parent);
+        try {
+            List<Task> tasks = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                tasks.add(createTask("task_" + i, i % 2 == 0 ? child : sibling, TaskStatus.OPEN));
+            }
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Callable<Void>> saves = new ArrayList<>();
+                for (Task task : tasks) {
+                    saves.add(() -> {
+                        task.setProcessingStatus(TaskStatus.INWORK);
+                        taskDAO.save(task);
+                        return null;
+                    });
+                }
+                for (Future<Void> save : executor.invokeAll(saves)) {
+                    save.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            assertCounts(child, 0, 0, 5, 0);
+            assertCounts(sibling, 0, 0, 5, 0);
+            assertCounts(parent, 0, 0, 10, 0);
+        } finally {
+            processDAO.remove(sibling.getId());
+        }
+        assertCounts(parent, 0, 0, 5, 0);
+    }
+
+    @Test
+    public void shouldCountTasksSavedWithProcess() throws DAOException {
+        Process process = new Process();
+        process.setTitle("with_tasks");
+        process.setParent(parent);
+        for (TaskStatus status : Arrays.asList(TaskStatus.OPEN, TaskStatus.LOCKED, TaskStatus.LOCKED)) {
+            Task task = new Task();
+            task.setTitle(status.getTitle());
+            task.setProcessingStatus(status);
+            task.setProcess(process);
+            process.getTasks().add(task);
+        }
+        processDAO.save(process);
+        try {
+            assertCounts(process, 2, 1, 0, 0);
+            assertCounts(parent, 2, 1, 0, 0);
+        } finally {
+            processDAO.remove(process);
+        }
+        assertCounts(parent, 0, 0, 0, 0);
+    }
+
+    private Process createProcess(String title, Process parentProcess) throws DAOException {
+        Process process = new Process();
+        process.setTitle(title);
+        process.setParent(parentProcess);
+        processDAO.save(process);
+        return process;
+    }
+
+    private Task createTask(String title, Process process, TaskStatus status) throws DAOException {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setProcess(process);
+        task.setProcessingStatus(status);
+        taskDAO.save(task);
+        return task;
+    }
+
+    private void assertCounts(Process process, int locked, int open, int inWork, int done) throws DAOException {
+        Map<TaskStatus, Integer> counts = processDAO.getTaskCounts(process);
+        String title = process.getTitle();
+        assertEquals(locked, (int) counts.get(TaskStatus.LOCKED), "Wrong count of locked tasks of " + title + "!");
+        assertEquals(open, (int) counts.get(TaskStatus.OPEN), "Wrong count of open tasks of " + title + "!");
+        assertEquals(inWork, (int) counts.get(TaskStatus.INWORK), "Wrong count of tasks in work of " + title + "!");
+        assertEquals(done, (int) counts.get(TaskStatus.DONE), "Wrong count of done tasks of " + title + "!");
+    }
+}
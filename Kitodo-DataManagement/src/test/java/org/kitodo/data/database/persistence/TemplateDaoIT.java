@@ -0,0 +1,74 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.kitodo.data.database.beans.Template;
+import org.kitodo.data.database.enums.IndexAction;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class TemplateDaoIT {
+
+    private static final int NUMBER_OF_TEMPLATES = 120;
+
+    private final TemplateDAO templateDAO = new TemplateDAO();
+    private final List<Template> templates = getTemplates();
+
+    @AfterEach
+    public void removeTemplates() throws DAOException {
+        for (Template template : templates) {
+            if (Objects.nonNull(template.getId())) {
+                templateDAO.remove(template.getId());
+            }
+        }
+    }
+
+    @Test
+    public void runPersistenceSuitTest() throws DAOException {
+        templateDAO.saveList(templates);
+
+        assertEquals(NUMBER_OF_TEMPLATES, templateDAO.getAll().size(), "Objects were not saved or not found!");
+        assertEquals(NUMBER_OF_TEMPLATES, templateDAO.getAllNotIndexed(0, NUMBER_OF_TEMPLATES * 2).size(),
+            "Objects were saved as indexed!");
+
+        templateDAO.saveAsIndexed(templates.subList(0, 100));
+        assertEquals(NUMBER_OF_TEMPLATES - 100, templateDAO.getAllNotIndexed(0, NUMBER_OF_TEMPLATES * 2).size(),
+            "Objects were not saved as indexed!");
+        assertEquals(IndexAction.DONE, templateDAO.getById(templates.get(0).getId()).getIndexAction(),
+            "Object was not saved as indexed!");
+
+        for (Template template : templates) {
+            template.setTitle(template.getTitle() + "_renamed");
+        }
+        templateDAO.saveList(templates);
+        assertEquals("template_119_renamed", templateDAO.getById(templates.get(119).getId()).getTitle(),
+            "Object was not updated!");
+    }
+
+    private static List<Template> getTemplates() {
+        List<Template> newTemplates = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_TEMPLATES; i++) {
+            Template template = new Template();
+            template.setTitle("template_" + i);
+            template.setIndexAction(IndexAction.INDEX);
+            newTemplates.add(template);
+        }
+        return newTemplates;
+    }
+}
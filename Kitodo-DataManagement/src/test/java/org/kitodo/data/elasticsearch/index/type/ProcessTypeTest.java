@@ -159,6 +159,11 @@ public class ProcessTypeTest {
         assertEquals(1, TaskTypeField.ID.getIntValue(task), "Key tasks.id doesn't match to given value!");
         assertEquals("Task one", TaskTypeField.TITLE.getStringValue(task), "Key tasks.title doesn't match to given value!");
 
+        List<Map<String, Object>> taskDetails = ProcessTypeField.TASK_DETAILS.getJsonArray(actual);
+        assertEquals(2, taskDetails.size(), "Size taskDetails doesn't match to given value!");
+        assertEquals("Task one", TaskTypeField.TITLE.getStringValue(taskDetails.get(0)),
+            "Key taskDetails.title doesn't match to given value!");
+
         task = tasks.get(1);
         assertEquals(2, TaskTypeField.ID.getIntValue(task), "Key tasks.id doesn't match to given value!");
         assertEquals("Task two", TaskTypeField.TITLE.getStringValue(task), "Key tasks.title doesn't match to given value!");
@@ -240,7 +245,7 @@ public class ProcessTypeTest {
         Process process = prepareData().get(0);
         Map<String, Object> actual = processType.createDocument(process);
 
-        assertEquals(40, actual.keySet().size(), "Amount of keys is incorrect!");
+        assertEquals(41, actual.keySet().size(), "Amount of keys is incorrect!");
 
         List<Map<String, Object>> batches = ProcessTypeField.BATCHES.getJsonArray(actual);
         Map<String, Object> batch = batches.get(0);
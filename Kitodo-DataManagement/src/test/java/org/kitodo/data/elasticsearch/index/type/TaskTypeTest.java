@@ -139,6 +139,8 @@ public class TaskTypeTest {
         assertFalse(TaskTypeField.TYPE_IMAGES_READ.getBooleanValue(actual), "Key typeImagesRead doesn't match to given value!");
         assertEquals(1, TaskTypeField.PROCESS_ID.getIntValue(actual), "Key processForTask.id doesn't match to given value!");
         assertEquals("First", TaskTypeField.PROCESS_TITLE.getStringValue(actual), "Key processForTask.title doesn't match to given value!");
+        assertEquals(0, TaskTypeField.PROCESS_BATCHES.getJsonArray(actual).size(), "Size processForTask.batches doesn't match to given value!");
+        assertEquals(0, TaskTypeField.PROCESS_PROPERTIES.getJsonArray(actual).size(), "Size processForTask.properties doesn't match to given value!");
 
         List<Map<String, Object>> roles = TaskTypeField.ROLES.getJsonArray(actual);
         assertEquals(2, roles.size(), "Size roles doesn't match to given value!");
@@ -224,7 +226,7 @@ public class TaskTypeTest {
         Task task = prepareData().get(0);
         Map<String, Object> actual = taskType.createDocument(task);
 
-        assertEquals(30, actual.keySet().size(), "Amount of keys is incorrect!");
+        assertEquals(32, actual.keySet().size(), "Amount of keys is incorrect!");
 
         List<Map<String, Object>> roles = TaskTypeField.ROLES.getJsonArray(actual);
         Map<String, Object> role = roles.get(0);
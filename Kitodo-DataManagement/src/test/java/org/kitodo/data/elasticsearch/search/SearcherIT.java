@@ -13,6 +13,7 @@ package org.kitodo.data.elasticsearch.search;
 
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.Map;
 import java.util.Objects;
@@ -186,6 +187,27 @@ public class SearcherIT {
         await().untilAsserted(() -> assertEquals(3, getIdFromJSONObject(searcher.findDocuments(query, sort, 1, 2).get(1)).intValue(), WRONG_ID));
     }
 
+    @Test
+    public void shouldFindDocumentsAfterSortValues() {
+        SortBuilder sort = new FieldSortBuilder(TITLE).order(SortOrder.ASC);
+        String[] includes = {TITLE};
+
+        await().untilAsserted(() -> assertEquals(3,
+            getIdFromJSONObject(searcher.findDocumentsAfter(query, sort, null, 2, includes).get(1)).intValue(),
+            WRONG_ID));
+
+        // title is sorted by its lower case terms
+        Object[] searchAfter = {"batch2"};
+        await().untilAsserted(() -> assertEquals(2,
+            searcher.findDocumentsAfter(query, sort, searchAfter, 2, includes).size(), WRONG_SIZE));
+        await().untilAsserted(() -> assertEquals(4,
+            getIdFromJSONObject(searcher.findDocumentsAfter(query, sort, searchAfter, 2, includes).get(0)).intValue(),
+            WRONG_ID));
+        await().untilAsserted(() -> assertNull(
+            searcher.findDocumentsAfter(query, sort, searchAfter, 2, includes).get(0).get("amount"),
+            "Incorrect result - field not included was returned!"));
+    }
+
     private static IndexRestClient initializeIndexRestClient() {
         IndexRestClient restClient = IndexRestClient.getInstance();
         restClient.setIndexBase(testIndexName);
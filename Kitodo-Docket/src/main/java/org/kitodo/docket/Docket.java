@@ -14,8 +14,13 @@ package org.kitodo.docket;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import javax.xml.transform.TransformerConfigurationException;
 
 import org.kitodo.api.docket.DocketData;
 import org.kitodo.api.docket.DocketInterface;
@@ -38,12 +43,18 @@ public class Docket implements DocketInterface {
         File file = File.createTempFile("docket_multipage.pdf", ".tmp");
 
         try (FileOutputStream fileOutputStream = new FileOutputStream(file)) {
-            new ExportDocket(new File(xslFileUri)).startExport(docketData, fileOutputStream);
+            generateMultipleDockets(docketData, xslFileUri, fileOutputStream);
         }
 
         return file;
     }
 
+    @Override
+    public void generateMultipleDockets(Collection<DocketData> docketData, URI xslFileUri, OutputStream outputStream)
+            throws IOException {
+        new ExportDocket(new File(xslFileUri)).startExport(docketData, outputStream);
+    }
+
     @Override
     public void exportXmlLog(DocketData docketData, String destination) throws IOException {
         File file = new File(destination);
@@ -51,4 +62,23 @@ public class Docket implements DocketInterface {
             new ExportXmlLog(docketData).startExport(fileOutputStream);
         }
     }
+
+    @Override
+    public void prepareXsltFiles(List<File> xsltFiles) throws IOException {
+        IOException failure = null;
+        for (File xsltFile : xsltFiles) {
+            try {
+                ExportDocket.getTemplates(xsltFile);
+            } catch (TransformerConfigurationException e) {
+                if (Objects.isNull(failure)) {
+                    failure = new IOException("Could not compile " + xsltFile, e);
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (Objects.nonNull(failure)) {
+            throw failure;
+        }
+    }
 }
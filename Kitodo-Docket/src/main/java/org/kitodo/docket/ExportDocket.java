@@ -11,18 +11,19 @@
 
 package org.kitodo.docket;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 
 import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.sax.SAXResult;
-import javax.xml.transform.stream.StreamSource;
 
 import org.apache.fop.apps.FOPException;
 import org.apache.fop.apps.Fop;
@@ -30,6 +31,7 @@ import org.apache.fop.apps.FopFactory;
 import org.apache.fop.apps.FopFactoryBuilder;
 import org.apache.fop.apps.MimeConstants;
 import org.kitodo.api.docket.DocketData;
+import org.kitodo.utils.XsltTemplatesCache;
 
 /**
  * This class provides generating a run note based on the generated xml log.
@@ -38,6 +40,11 @@ import org.kitodo.api.docket.DocketData;
  */
 public class ExportDocket {
 
+    /**
+     * The FOP factory is thread-safe and expensive to create, so it is shared.
+     */
+    private static final FopFactory FOP_FACTORY = createFopFactory();
+
     File xsltFile;
 
     /**
@@ -60,19 +67,16 @@ public class ExportDocket {
      *             Throws IOException, when pdfGeneration fails
      */
     void startExport(DocketData docketData, OutputStream outputStream) throws IOException {
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        new ExportXmlLog(docketData).accept(out);
-
-        byte[] pdfBytes = generatePdfBytes(out);
-
-        outputStream.write(pdfBytes);
+        generatePdf(new ExportXmlLog(docketData).toSource(), outputStream);
         outputStream.flush();
         outputStream.close();
     }
 
     /**
      * This method exports the production metadata as run note to a given
-     * stream. the docket.xsl has to be in the config-folder.
+     * stream. the docket.xsl has to be in the config-folder. The processes
+     * are passed through the transformation one after the other, and the PDF
+     * is written to the stream while it is rendered.
      *
      * @param docketDataList
      *            the docketData to export for several processes
@@ -80,26 +84,15 @@ public class ExportDocket {
      *             Throws IOException, when pdfGeneration fails.
      */
     void startExport(Iterable<DocketData> docketDataList, OutputStream os) throws IOException {
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        new ExportXmlLog(docketDataList).accept(out);
-
-        byte[] pdfBytes = generatePdfBytes(out);
-
-        os.write(pdfBytes);
+        generatePdf(new ExportXmlLog(docketDataList).toSource(), os);
     }
 
-    private byte[] generatePdfBytes(ByteArrayOutputStream out) throws IOException {
-        // generate pdf file
-        StreamSource source = new StreamSource(new ByteArrayInputStream(out.toByteArray()));
-        StreamSource transformSource = new StreamSource(xsltFile);
-        FopFactoryBuilder builder = new FopFactoryBuilder(new File(".").toURI());
-        builder.setStrictFOValidation(false);
-        FopFactory fopFactory = builder.build();
-        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+    private void generatePdf(Source source, OutputStream outputStream) throws IOException {
+        BufferedOutputStream outStream = new BufferedOutputStream(outputStream);
         // transform xml
         try {
-            Transformer xslTransformer = TransformerFactory.newInstance().newTransformer(transformSource);
-            Fop fop = fopFactory.newFop(MimeConstants.MIME_PDF, outStream);
+            Transformer xslTransformer = getTemplates(xsltFile).newTransformer();
+            Fop fop = FOP_FACTORY.newFop(MimeConstants.MIME_PDF, outStream);
             Result res = new SAXResult(fop.getDefaultHandler());
             xslTransformer.transform(source, res);
         } catch (FOPException e) {
@@ -107,9 +100,25 @@ public class ExportDocket {
         } catch (TransformerException e) {
             throw new IOException("TransformerException occurred", e);
         }
+        outStream.flush();
+    }
 
-        // write the content to output stream
-        return outStream.toByteArray();
+    /**
+     * Returns the compiled docket stylesheet from the cache, or compiles it.
+     *
+     * @param xsltFile
+     *            XSLT file
+     * @return the compiled stylesheet
+     * @throws TransformerConfigurationException
+     *             if the stylesheet cannot be compiled
+     */
+    static Templates getTemplates(File xsltFile) throws TransformerConfigurationException {
+        return XsltTemplatesCache.getTemplates(xsltFile, TransformerFactory::newInstance);
     }
 
+    private static FopFactory createFopFactory() {
+        FopFactoryBuilder builder = new FopFactoryBuilder(new File(".").toURI());
+        builder.setStrictFOValidation(false);
+        return builder.build();
+    }
 }
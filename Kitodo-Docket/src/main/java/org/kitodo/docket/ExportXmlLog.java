@@ -17,7 +17,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -29,6 +29,14 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamResult;
+
 import org.apache.commons.configuration2.XMLConfiguration;
 import org.apache.commons.configuration2.builder.ConfigurationBuilderEvent;
 import org.apache.commons.configuration2.builder.ReloadingFileBasedConfigurationBuilder;
@@ -43,7 +51,9 @@ import org.jdom2.Namespace;
 import org.jdom2.filter.Filters;
 import org.jdom2.input.SAXBuilder;
 import org.jdom2.output.Format;
+import org.jdom2.output.SAXOutputter;
 import org.jdom2.output.XMLOutputter;
+import org.jdom2.transform.JDOMSource;
 import org.jdom2.xpath.XPathExpression;
 import org.jdom2.xpath.XPathFactory;
 import org.kitodo.api.docket.DocketData;
@@ -51,6 +61,11 @@ import org.kitodo.api.docket.Property;
 import org.kitodo.config.KitodoConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.AttributesImpl;
 
 /**
  * This class provides xml logfile generation. After the generation the file
@@ -69,7 +84,17 @@ public class ExportXmlLog implements Consumer<OutputStream> {
     private static final String PROPERTY_IDENTIFIER = "propertyIdentifier";
     private static final String VALUE = "value";
 
-    List<DocketData> docketData;
+    private static final String XSI = "http://www.w3.org/2001/XMLSchema-instance";
+
+    Collection<DocketData> docketData;
+
+    /**
+     * Namespaces and METS fields configured in kitodo_exportXml.xml. They are
+     * read once per export instead of once per process.
+     */
+    private Namespace[] namespaces;
+    private Map<String, String> metsFields;
+    private Map<String, String> anchorFields;
 
     /**
      * Makes the class polymorphic.
@@ -78,7 +103,7 @@ public class ExportXmlLog implements Consumer<OutputStream> {
      *            docket data
      */
     ExportXmlLog(Iterable<DocketData> docketData) {
-        this.docketData = docketData instanceof List ? (List<DocketData>) docketData
+        this.docketData = docketData instanceof Collection ? (Collection<DocketData>) docketData
                 : StreamSupport.stream(docketData.spliterator(), false).collect(Collectors.toList());
     }
 
@@ -89,7 +114,7 @@ public class ExportXmlLog implements Consumer<OutputStream> {
      *            docket data
      */
     ExportXmlLog(DocketData docketData) {
-        this.docketData = Arrays.asList(docketData);
+        this.docketData = Collections.singletonList(docketData);
     }
 
     @Override
@@ -115,7 +140,7 @@ public class ExportXmlLog implements Consumer<OutputStream> {
      */
     void startExport(OutputStream os) throws IOException {
         try {
-            Document doc = createDocument(docketData.get(0), true);
+            Document doc = createDocument(docketData.iterator().next(), true);
 
             XMLOutputter outp = new XMLOutputter();
             outp.setFormat(Format.getPrettyFormat());
@@ -138,29 +163,11 @@ public class ExportXmlLog implements Consumer<OutputStream> {
      */
 
     void startMultipleExport(OutputStream outputStream) {
-        Document answer = new Document();
-        Element root = new Element("processes");
-        answer.setRootElement(root);
-        Namespace xmlns = Namespace.getNamespace(NAMESPACE);
-
-        Namespace xsi = Namespace.getNamespace("xsi", "http://www.w3.org/2001/XMLSchema-instance");
-        root.addNamespaceDeclaration(xsi);
-        root.setNamespace(xmlns);
-        Attribute attSchema = new Attribute("schemaLocation", NAMESPACE + " XML-logfile.xsd",
-                xsi);
-        root.setAttribute(attSchema);
-        for (DocketData docketData : this.docketData) {
-            Document doc = createDocument(docketData, false);
-            Element processRoot = doc.getRootElement();
-            processRoot.detach();
-            root.addContent(processRoot);
-        }
-
-        XMLOutputter outp = new XMLOutputter(Format.getPrettyFormat());
-
         try {
-            outp.output(answer, outputStream);
-        } catch (IOException e) {
+            Transformer serializer = TransformerFactory.newInstance().newTransformer();
+            serializer.setOutputProperty(OutputKeys.INDENT, "yes");
+            serializer.transform(toSource(), new StreamResult(outputStream));
+        } catch (TransformerException e) {
             logger.error("Generating XML Output failed.", e);
         } finally {
             if (outputStream != null) {
@@ -174,6 +181,21 @@ public class ExportXmlLog implements Consumer<OutputStream> {
 
     }
 
+    /**
+     * Returns the production metadata as source for an XSLT transformation.
+     * For several processes, the XML is not built as a whole. Instead, the
+     * element of each process is created when the transformation reads it,
+     * and passed on as SAX events.
+     *
+     * @return the XML log as source
+     */
+    Source toSource() {
+        if (docketData.size() == 1) {
+            return new JDOMSource(createDocument(docketData.iterator().next(), true));
+        }
+        return new SAXSource(new ProcessesReader(), new InputSource());
+    }
+
     /**
      * This method creates a new xml document with process metadata.
      *
@@ -326,7 +348,7 @@ public class ExportXmlLog implements Consumer<OutputStream> {
     private void processNamespaceDeclaration(boolean addNamespace, Element processElm) {
         if (addNamespace) {
 
-            Namespace xsi = Namespace.getNamespace("xsi", "http://www.w3.org/2001/XMLSchema-instance");
+            Namespace xsi = Namespace.getNamespace("xsi", XSI);
             processElm.addNamespaceDeclaration(xsi);
             Attribute attSchema = new Attribute("schemaLocation", NAMESPACE + " XML-logfile.xsd",
                     xsi);
@@ -357,17 +379,9 @@ public class ExportXmlLog implements Consumer<OutputStream> {
     private List<Element> createMetadataElements(Namespace xmlns, DocketData docketData) {
         List<Element> metadataElements = new ArrayList<>();
         try {
-            HashMap<String, String> names = getNamespacesFromConfig();
-            Namespace[] namespaces = new Namespace[names.size()];
-            int index = 0;
-            for (Iterator<Entry<String, String>> entries = names.entrySet().iterator(); entries.hasNext(); index++) {
-                Entry<String, String> entry = entries.next();
-                namespaces[index] = Namespace.getNamespace(entry.getKey(), entry.getValue());
-            }
-
-            prepareMetadataElements(metadataElements, false, docketData, namespaces, xmlns);
+            prepareMetadataElements(metadataElements, false, docketData, getNamespaces(), xmlns);
             if (Objects.nonNull(docketData.getParent())) {
-                prepareMetadataElements(metadataElements, true, docketData.getParent(), namespaces, xmlns);
+                prepareMetadataElements(metadataElements, true, docketData.getParent(), getNamespaces(), xmlns);
             }
 
         } catch (IOException | JDOMException | IllegalArgumentException e) {
@@ -376,6 +390,19 @@ public class ExportXmlLog implements Consumer<OutputStream> {
         return metadataElements;
     }
 
+    private Namespace[] getNamespaces() {
+        if (Objects.isNull(namespaces)) {
+            HashMap<String, String> names = getNamespacesFromConfig();
+            namespaces = new Namespace[names.size()];
+            int index = 0;
+            for (Iterator<Entry<String, String>> entries = names.entrySet().iterator(); entries.hasNext(); index++) {
+                Entry<String, String> entry = entries.next();
+                namespaces[index] = Namespace.getNamespace(entry.getKey(), entry.getValue());
+            }
+        }
+        return namespaces;
+    }
+
     private HashMap<String, String> getNamespacesFromConfig() {
         return getXmlPathFromConfig("namespace");
     }
@@ -413,7 +440,7 @@ public class ExportXmlLog implements Consumer<OutputStream> {
     private void prepareMetadataElements(List<Element> metadataElements, boolean useAnchor, DocketData docketData,
             Namespace[] namespaces, Namespace xmlns)
             throws IOException, JDOMException {
-        HashMap<String, String> fields = getMetsFieldsFromConfig(useAnchor);
+        Map<String, String> fields = getMetsFieldsFromConfig(useAnchor);
         try (InputStream in = docketData.metadataFile().toURL().openStream()) {
             Document metsDoc = new SAXBuilder().build(in);
             prepareMetadataElements(metadataElements, fields, metsDoc, namespaces, xmlns);
@@ -439,14 +466,17 @@ public class ExportXmlLog implements Consumer<OutputStream> {
         }
     }
 
-    private HashMap<String, String> getMetsFieldsFromConfig(boolean useAnchor) {
-        String xmlpath = "mets." + PROPERTY;
+    private Map<String, String> getMetsFieldsFromConfig(boolean useAnchor) {
         if (useAnchor) {
-            xmlpath = "anchor." + PROPERTY;
+            if (Objects.isNull(anchorFields)) {
+                anchorFields = getXmlPathFromConfig("anchor." + PROPERTY);
+            }
+            return anchorFields;
         }
-
-        HashMap<String, String> fields = getXmlPathFromConfig(xmlpath);
-        return fields;
+        if (Objects.isNull(metsFields)) {
+            metsFields = getXmlPathFromConfig("mets." + PROPERTY);
+        }
+        return metsFields;
     }
 
     /**
@@ -475,4 +505,40 @@ public class ExportXmlLog implements Consumer<OutputStream> {
         return in;
     }
 
+    /**
+     * Emits the XML log of several processes as SAX events. The root element
+     * is written directly, and the element of each process is only created
+     * from its docket data when it is its turn, and discarded afterwards.
+     */
+    private class ProcessesReader extends SAXOutputter implements XMLReader {
+        private static final String PROCESSES = "processes";
+
+        @Override
+        public void parse(InputSource input) throws SAXException {
+            ContentHandler handler = getContentHandler();
+            handler.startDocument();
+            handler.startPrefixMapping("", NAMESPACE);
+            handler.startPrefixMapping("xsi", XSI);
+            AttributesImpl attributes = new AttributesImpl();
+            attributes.addAttribute(XSI, "schemaLocation", "xsi:schemaLocation", "CDATA",
+                NAMESPACE + " XML-logfile.xsd");
+            handler.startElement(NAMESPACE, PROCESSES, PROCESSES, attributes);
+            try {
+                for (DocketData processDocketData : docketData) {
+                    outputFragment(createDocument(processDocketData, false).detachRootElement());
+                }
+            } catch (JDOMException e) {
+                throw new SAXException(e);
+            }
+            handler.endElement(NAMESPACE, PROCESSES, PROCESSES);
+            handler.endPrefixMapping("xsi");
+            handler.endPrefixMapping("");
+            handler.endDocument();
+        }
+
+        @Override
+        public void parse(String systemId) throws SAXException {
+            parse(new InputSource(systemId));
+        }
+    }
 }
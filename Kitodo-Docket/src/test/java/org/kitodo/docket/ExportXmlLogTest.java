@@ -11,11 +11,13 @@
 
 package org.kitodo.docket;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.kitodo.api.docket.DocketData;
@@ -42,4 +44,24 @@ public class ExportXmlLogTest extends ExportXmlLog {
             assertTrue(buffer.toString().contains("findMeInOutput"), "Output should contain test string");
         }
     }
+
+    /**
+     * Tests if ExportXmlLog streams several processes into one document.
+     */
+    @Test
+    public void shouldExportXmlLogOfSeveralProcesses() throws IOException {
+        DocketData first = getDocketData();
+        first.setProcessId("firstProcess");
+        DocketData second = getDocketData();
+        second.setProcessId("secondProcess");
+        try (ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
+            new ExportXmlLog(Arrays.asList(first, second)).startMultipleExport(buffer);
+            String output = buffer.toString();
+            assertTrue(output.contains("<processes"), "Output should contain the root element");
+            assertTrue(output.contains("processID=\"firstProcess\""), "Output should contain the first process");
+            assertTrue(output.contains("processID=\"secondProcess\""), "Output should contain the second process");
+            assertEquals(2, output.split("findMeInOutput", -1).length - 1,
+                "Output should contain the metadata of both processes");
+        }
+    }
 }
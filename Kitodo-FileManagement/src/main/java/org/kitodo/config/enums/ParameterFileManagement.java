@@ -20,7 +20,16 @@ public enum ParameterFileManagement implements ParameterInterface {
      */
     DIRECTORY_SUFFIX("DIRECTORY_SUFFIX"),
     CREATE_SOURCE_FOLDER("createSourceFolder"),
-    FILE_MAX_WAIT_MILLISECONDS("file.maxWaitMilliseconds");
+    FILE_MAX_WAIT_MILLISECONDS("file.maxWaitMilliseconds"),
+    /**
+     * Whether process directories and symbolic links are created and removed
+     * by Java instead of by the configured scripts.
+     */
+    NATIVE_OPERATIONS("file.nativeOperations"),
+    /**
+     * POSIX permissions of process directories created by Java.
+     */
+    DIRECTORY_PERMISSIONS("file.directoryPermissions");
 
     private String name;
 
@@ -47,8 +47,12 @@ public class FileManagement implements FileManagementInterface {
 
     private static final String IMAGES_DIRECTORY_NAME = "images";
 
-    private final CommandInterface commandService = new KitodoServiceLoader<CommandInterface>(CommandInterface.class)
-            .loadModule();
+    private static final String DEFAULT_DIRECTORY_PERMISSIONS = "rwxrwxr-x";
+
+    /**
+     * The command module. It is only loaded if a script has to be run.
+     */
+    private CommandInterface commandService;
 
     @Override
     public URI create(URI parentFolderUri, String name, boolean file) throws IOException {
@@ -274,57 +278,13 @@ public class FileManagement implements FileManagementInterface {
 
     @Override
     public Integer getNumberOfFiles(FilenameFilter filter, URI directory) {
-        int count = 0;
         directory = fileMapper.mapUriToKitodoDataDirectoryUri(directory);
-        if (filter == null) {
-            count += iterateOverDirectories(directory);
-        } else {
-            count += iterateOverSpecificDirectories(filter, directory);
-        }
-        return count;
-    }
-
-    /**
-     * Iterate over children directories of directory.
-     *
-     * @param directory
-     *            as URI
-     * @return amount of files
-     */
-    private Integer iterateOverDirectories(URI directory) {
-        int count = 0;
-        if (isDirectory(directory)) {
-            List<URI> children = getSubUris(null, directory);
-            for (URI child : children) {
-                child = fileMapper.mapUriToKitodoDataDirectoryUri(child);
-                if (isDirectory(child)) {
-                    count += getNumberOfFiles(null, child);
-                } else {
-                    count += 1;
-                }
-            }
-        }
-        return count;
-    }
-
-    /**
-     * Iterate over children specific directories of directory.
-     *
-     * @param directory
-     *            as URI
-     * @return amount of specific (eg. image) files
-     */
-    private Integer iterateOverSpecificDirectories(FilenameFilter filter, URI directory) {
-        int count = 0;
-        if (isDirectory(directory)) {
-            count = getSubUris(filter, directory).size();
-            List<URI> children = getSubUris(null, directory);
-            for (URI child : children) {
-                child = fileMapper.mapUriToKitodoDataDirectoryUri(child);
-                count += getNumberOfFiles(filter, child);
-            }
+        try {
+            return NativeFileOperations.countFiles(Paths.get(directory), filter);
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+            return 0;
         }
-        return count;
     }
 
     @Override
@@ -333,7 +293,7 @@ public class FileManagement implements FileManagementInterface {
             directory = fileMapper.mapUriToKitodoDataDirectoryUri(directory);
         }
         if (isDirectory(directory)) {
-            return FileUtils.sizeOfDirectory(new File(directory));
+            return NativeFileOperations.sizeOfDirectory(Paths.get(directory));
         } else {
             throw new IOException("Given URI doesn't point to the directory!");
         }
@@ -390,10 +350,17 @@ public class FileManagement implements FileManagementInterface {
     @Override
     public URI createProcessLocation(String processId) throws IOException {
         File processRootDirectory = new File(KitodoConfig.getKitodoDataDirectory() + File.separator + processId);
-        String scriptCreateDirMeta = KitodoConfig.getParameter("script_createDirMeta");
-        String command = scriptCreateDirMeta + ' ' + processRootDirectory.getPath();
-        if (!processRootDirectory.exists() && !commandService.runCommand(command).isSuccessful()) {
-            throw new IOException("Could not create processRoot directory.");
+        if (!processRootDirectory.exists()) {
+            if (useNativeOperations()) {
+                NativeFileOperations.createDirectory(processRootDirectory.toPath(), KitodoConfig
+                        .getParameter(ParameterFileManagement.DIRECTORY_PERMISSIONS, DEFAULT_DIRECTORY_PERMISSIONS));
+            } else {
+                String scriptCreateDirMeta = KitodoConfig.getParameter("script_createDirMeta");
+                String command = scriptCreateDirMeta + ' ' + processRootDirectory.getPath();
+                if (!getCommandService().runCommand(command).isSuccessful()) {
+                    throw new IOException("Could not create processRoot directory.");
+                }
+            }
         }
         return fileMapper.unmapUriFromKitodoDataDirectoryUri(Paths.get(processRootDirectory.getPath()).toUri());
     }
@@ -507,6 +474,10 @@ public class FileManagement implements FileManagementInterface {
         if (userHome.exists()) {
             return false;
         }
+        if (useNativeOperations()) {
+            return NativeFileOperations.createSymbolicLink(imagePath.getAbsoluteFile().toPath(),
+                userHome.getAbsoluteFile().toPath());
+        }
 
         String command = KitodoConfig.getParameter("script_createSymLink");
         CommandService commandService = new CommandService();
@@ -534,6 +505,10 @@ public class FileManagement implements FileManagementInterface {
     @Override
     public boolean deleteSymLink(URI homeUri) {
         File homeFile = new File(fileMapper.mapUriToKitodoDataDirectoryUri(homeUri));
+        if (useNativeOperations()) {
+            return NativeFileOperations.deleteSymbolicLink(
+                Paths.get(URLDecoder.decode(homeFile.getAbsolutePath(), StandardCharsets.UTF_8)));
+        }
 
         String command = KitodoConfig.getParameter("script_deleteSymLink");
         CommandService commandService = new CommandService();
@@ -550,6 +525,23 @@ public class FileManagement implements FileManagementInterface {
         }
     }
 
+    /**
+     * Returns whether process directories and symbolic links are created and
+     * removed by Java instead of by the configured scripts.
+     *
+     * @return whether to use native file operations
+     */
+    private boolean useNativeOperations() {
+        return KitodoConfig.getBooleanParameter(ParameterFileManagement.NATIVE_OPERATIONS, false);
+    }
+
+    private CommandInterface getCommandService() {
+        if (Objects.isNull(commandService)) {
+            commandService = new KitodoServiceLoader<CommandInterface>(CommandInterface.class).loadModule();
+        }
+        return commandService;
+    }
+
     private String getDecodedPath(URI uri) {
         uri = fileMapper.mapUriToKitodoDataDirectoryUri(uri);
         String uriToDecode = new File(uri).getPath();
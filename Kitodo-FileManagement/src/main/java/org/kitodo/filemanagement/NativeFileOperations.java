@@ -0,0 +1,204 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.filemanagement;
+
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * File system operations implemented with {@code java.nio.file}. These can be
+ * used instead of the configured shell scripts, if no ownership changes are
+ * needed, and they are used to count and measure directory trees in one pass.
+ */
+class NativeFileOperations {
+
+    private static final Logger logger = LogManager.getLogger(NativeFileOperations.class);
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private NativeFileOperations() {
+    }
+
+    /**
+     * Creates a directory and sets its POSIX permissions, if the file system
+     * supports them. The permissions are set explicitly after creation, so
+     * that they do not depend on the umask of the servlet container.
+     *
+     * @param directory
+     *            directory to create
+     * @param permissions
+     *            POSIX permissions in the form {@code rwxrwxr-x}
+     * @throws IOException
+     *             if the directory cannot be created
+     */
+    static void createDirectory(Path directory, String permissions) throws IOException {
+        Files.createDirectory(directory);
+        if (Objects.nonNull(Files.getFileAttributeView(directory, PosixFileAttributeView.class))) {
+            Set<PosixFilePermission> posixFilePermissions = PosixFilePermissions.fromString(permissions);
+            Files.setPosixFilePermissions(directory, posixFilePermissions);
+        }
+    }
+
+    /**
+     * Creates a symbolic link.
+     *
+     * @param target
+     *            the file or directory the link points to
+     * @param link
+     *            the link to create
+     * @return whether the link was created
+     */
+    static boolean createSymbolicLink(Path target, Path link) {
+        try {
+            Files.createSymbolicLink(link, target);
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.error("Could not create symbolic link {} to {}: {}", link, target, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Removes a symbolic link. The file or directory it points to is not
+     * touched. A directory at the given location is never removed.
+     *
+     * @param link
+     *            the link to remove
+     * @return whether the link was removed
+     */
+    static boolean deleteSymbolicLink(Path link) {
+        if (Files.isDirectory(link, LinkOption.NOFOLLOW_LINKS)) {
+            logger.error("Refusing to delete {}: Not a symbolic link, but a directory", link);
+            return false;
+        }
+        try {
+            Files.delete(link);
+            return true;
+        } catch (IOException e) {
+            logger.error("Could not delete symbolic link {}: {}", link, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Counts the files below a directory in a single walk. Symbolic links to
+     * directories are followed. Without a filter, all files that are not
+     * directories are counted. With a filter, all files and directories
+     * accepted by the filter are counted.
+     *
+     * @param directory
+     *            directory to count the files of
+     * @param filter
+     *            filter for the files to count, may be {@code null}
+     * @return the number of files
+     * @throws IOException
+     *             if the directory cannot be walked
+     */
+    static int countFiles(Path directory, FilenameFilter filter) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        FileCounter fileCounter = new FileCounter(directory, filter);
+        Files.walkFileTree(directory, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, fileCounter);
+        return fileCounter.count;
+    }
+
+    /**
+     * Sums up the sizes of the regular files below a directory in a single
+     * walk, using the attributes read during the walk. Symbolic links are not
+     * followed.
+     *
+     * @param directory
+     *            directory to measure
+     * @return the size of the files in bytes
+     * @throws IOException
+     *             if the directory cannot be walked
+     */
+    static long sizeOfDirectory(Path directory) throws IOException {
+        long[] size = new long[1];
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (attributes.isRegularFile()) {
+                    size[0] += attributes.size();
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exception) {
+                logger.warn("Cannot determine size of {}: {}", file, exception.getMessage());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return size[0];
+    }
+
+    private static class FileCounter extends SimpleFileVisitor<Path> {
+        private final Path root;
+        private final FilenameFilter filter;
+        private int count = 0;
+
+        private FileCounter(Path root, FilenameFilter filter) {
+            this.root = root;
+            this.filter = filter;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+            if (Objects.nonNull(filter) && !directory.equals(root) && isAccepted(directory)) {
+                count++;
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+            if (Objects.isNull(filter) || isAccepted(file)) {
+                count++;
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException exception) {
+            if (exception instanceof FileSystemLoopException) {
+                logger.warn("Not counting files in {} twice: {}", file, exception.getMessage());
+            } else {
+                logger.warn("Cannot count {}: {}", file, exception.getMessage());
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        private boolean isAccepted(Path file) {
+            return filter.accept(file.getParent().toFile(), file.getFileName().toString());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.filemanagement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kitodo.api.filemanagement.filters.FileNameEndsWithFilter;
+
+public class NativeFileOperationsTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("nativeFileOperations");
+        Files.createDirectories(directory.resolve("images/test_tif"));
+        Files.write(directory.resolve("images/test_tif/00000001.tif"), new byte[3]);
+        Files.write(directory.resolve("images/test_tif/00000002.tif"), new byte[4]);
+        Files.write(directory.resolve("meta.xml"), new byte[5]);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(directory.toFile());
+    }
+
+    @Test
+    public void shouldCountFiles() throws IOException {
+        assertEquals(3, NativeFileOperations.countFiles(directory, null), "Wrong number of files!");
+        assertEquals(3, NativeFileOperations.countFiles(directory, new FileNameEndsWithFilter("tif")),
+            "Wrong number of files and directories ending in 'tif'!");
+        assertEquals(0, NativeFileOperations.countFiles(directory.resolve("meta.xml"), null),
+            "A file should not contain files!");
+    }
+
+    @Test
+    public void shouldGetSizeOfDirectory() throws IOException {
+        assertEquals(12, NativeFileOperations.sizeOfDirectory(directory), "Wrong size of directory!");
+    }
+
+    @Test
+    public void shouldCreateDirectoryWithPermissions() throws IOException {
+        assumeFalse(SystemUtils.IS_OS_WINDOWS);
+        Path processDirectory = directory.resolve("1");
+        NativeFileOperations.createDirectory(processDirectory, "rwxrwxr-x");
+        assertTrue(Files.isDirectory(processDirectory), "Directory was not created!");
+        assertEquals("rwxrwxr-x", PosixFilePermissions.toString(Files.getPosixFilePermissions(processDirectory)),
+            "Directory has wrong permissions!");
+    }
+
+    @Test
+    public void shouldCreateAndDeleteSymbolicLink() throws IOException {
+        assumeFalse(SystemUtils.IS_OS_WINDOWS);
+        Path images = directory.resolve("images");
+        Path link = directory.resolve("link");
+        assertTrue(NativeFileOperations.createSymbolicLink(images, link), "Link was not created!");
+        assertTrue(Files.isSymbolicLink(link), "Link is not a symbolic link!");
+        assertEquals(2, NativeFileOperations.countFiles(link, null), "Files were not found through the link!");
+        assertFalse(NativeFileOperations.createSymbolicLink(images, link), "Existing link was created again!");
+
+        assertTrue(NativeFileOperations.deleteSymbolicLink(link), "Link was not deleted!");
+        assertFalse(Files.exists(link), "Link still exists!");
+        assertTrue(Files.isDirectory(images), "Link target was deleted!");
+        assertFalse(NativeFileOperations.deleteSymbolicLink(images), "Directory was deleted!");
+    }
+}
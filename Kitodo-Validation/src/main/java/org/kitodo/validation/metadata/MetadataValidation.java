@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale.LanguageRange;
@@ -94,24 +95,48 @@ public class MetadataValidation implements MetadataValidationInterface {
      */
     private static final String MESSAGE_VALUE_TOO_RARE = "metadataNotEnoughElements";
 
+    /**
+     * Module to read METS files. Loaded on first use.
+     */
+    private MetsXmlElementAccessInterface metsXmlElementAccess;
+
+    /**
+     * Module to access the METS files. Loaded on first use.
+     */
+    private FileManagementInterface fileManagement;
+
     @Override
     public ValidationResult validate(URI metsFileUri, URI rulesetFileUri, List<LanguageRange> metadataLanguage,
             Map<String, String> translations) {
+        return validate(Collections.singletonList(metsFileUri), rulesetFileUri, metadataLanguage, translations)
+                .get(metsFileUri);
+    }
+
+    @Override
+    public Map<URI, ValidationResult> validate(Collection<URI> metsFileUris, URI rulesetFileUri,
+            List<LanguageRange> metadataLanguage, Map<String, String> translations) {
         try {
-            FileManagementInterface fileManagement = getFileManagement();
-            Workpiece workpiece;
-            try (InputStream inputStream = fileManagement.read(metsFileUri)) {
-                workpiece = createMetsXmlElementAccess().read(inputStream);
-            }
             RulesetManagementInterface ruleset = getRulesetManagement();
             ruleset.load(new File(rulesetFileUri.getPath()));
 
-            return validate(workpiece, ruleset, metadataLanguage, translations, true);
+            Map<URI, ValidationResult> results = new LinkedHashMap<>();
+            for (URI metsFileUri : metsFileUris) {
+                Workpiece workpiece;
+                try (InputStream inputStream = getFileManagement().read(metsFileUri)) {
+                    workpiece = getMetsXmlElementAccess().read(inputStream);
+                }
+                results.put(metsFileUri, validate(workpiece, ruleset, metadataLanguage, translations, true));
+            }
+            return results;
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * {@inheritDoc} The views on the divisions are created once per division
+     * type, and the rules of the divisions are checked in parallel.
+     */
     @Override
     public ValidationResult validate(Workpiece workpiece, RulesetManagementInterface ruleset,
             List<LanguageRange> metadataLanguage, Map<String, String> translations, boolean checkMedia) {
@@ -123,15 +148,21 @@ public class MetadataValidation implements MetadataValidationInterface {
             results.add(checkForUnlinkedMedia(workpiece, translations));
         }
 
+        Map<String, StructuralElementViewInterface> divisionViews = new HashMap<>();
+        List<DivisionToCheck> divisions = new ArrayList<>();
         for (LogicalDivision logicalDivision : workpiece.getAllLogicalDivisions()) {
-            results.addAll(checkMetadataRules(logicalDivision.toString(), logicalDivision.getType(),
-                getMetadata(logicalDivision), ruleset, metadataLanguage, translations));
+            divisions.add(new DivisionToCheck(logicalDivision.toString(), getMetadata(logicalDivision),
+                    divisionViews.computeIfAbsent(logicalDivision.getType(),
+                        type -> ruleset.getStructuralElementView(type, null, metadataLanguage))));
         }
-
         for (PhysicalDivision physicalDivision : workpiece.getAllPhysicalDivisions()) {
-            results.addAll(checkMetadataRules(physicalDivision.toString(), physicalDivision.getType(), getMetadata(physicalDivision),
-                    ruleset, metadataLanguage, translations));
+            divisions.add(new DivisionToCheck(physicalDivision.toString(), getMetadata(physicalDivision),
+                    divisionViews.computeIfAbsent(physicalDivision.getType(),
+                        type -> ruleset.getStructuralElementView(type, null, metadataLanguage))));
         }
+        results.addAll(divisions.parallelStream()
+                .flatMap(division -> checkMetadataRules(division, translations).stream())
+                .collect(Collectors.toList()));
 
         return merge(results);
     }
@@ -164,19 +195,13 @@ public class MetadataValidation implements MetadataValidationInterface {
         return metadata;
     }
 
-    private Collection<ValidationResult> checkMetadataRules(String elementString,
-                                                            String type,
-                                                            Collection<Metadata> metadata,
-                                                            RulesetManagementInterface ruleset,
-                                                            List<LanguageRange> metadataLanguage,
-                                                            Map<String, String> translations) {
+    private static Collection<ValidationResult> checkMetadataRules(DivisionToCheck division,
+            Map<String, String> translations) {
         Collection<ValidationResult> results = new ArrayList<>();
-        StructuralElementViewInterface divisionView = ruleset.getStructuralElementView(type, null,
-                metadataLanguage);
-        results.add(checkForMandatoryQuantitiesOfTheMetadataRecursive(metadata,
-                divisionView, elementString.concat(": "), translations));
-        results.add(checkForDetailsInTheMetadata(metadata,
-                divisionView, elementString.concat(": "), translations));
+        String location = division.elementString.concat(": ");
+        results.add(checkForMandatoryQuantitiesOfTheMetadataRecursive(division.metadata, division.view, location,
+            translations));
+        results.add(checkForDetailsInTheMetadata(division.metadata, division.view, location, translations));
         return results;
     }
 
@@ -378,21 +403,31 @@ public class MetadataValidation implements MetadataValidationInterface {
     // helper methods
 
     /**
-     * Creates a new METS XML element access to read the METS file.
+     * Returns the METS XML element access to read the METS files. The module
+     * is loaded on first use.
      *
-     * @return a new METS XML element access
+     * @return the METS XML element access
      */
-    private static MetsXmlElementAccessInterface createMetsXmlElementAccess() {
-        return new KitodoServiceLoader<MetsXmlElementAccessInterface>(MetsXmlElementAccessInterface.class).loadModule();
+    private synchronized MetsXmlElementAccessInterface getMetsXmlElementAccess() {
+        if (Objects.isNull(metsXmlElementAccess)) {
+            metsXmlElementAccess = new KitodoServiceLoader<MetsXmlElementAccessInterface>(
+                    MetsXmlElementAccessInterface.class).loadModule();
+        }
+        return metsXmlElementAccess;
     }
 
     /**
-     * Returns a file management to read the METS file.
+     * Returns the file management to read the METS files. The module is loaded
+     * on first use.
      *
-     * @return a file management
+     * @return the file management
      */
-    private static FileManagementInterface getFileManagement() {
-        return new KitodoServiceLoader<FileManagementInterface>(FileManagementInterface.class).loadModule();
+    private synchronized FileManagementInterface getFileManagement() {
+        if (Objects.isNull(fileManagement)) {
+            fileManagement = new KitodoServiceLoader<FileManagementInterface>(FileManagementInterface.class)
+                    .loadModule();
+        }
+        return fileManagement;
     }
 
     /**
@@ -451,4 +486,20 @@ public class MetadataValidation implements MetadataValidationInterface {
 
         return new ValidationResult(error ? State.ERROR : warning ? State.WARNING : State.SUCCESS, messages);
     }
+
+    /**
+     * A division whose metadata is to be checked against the rules of its
+     * type.
+     */
+    private static class DivisionToCheck {
+        private final String elementString;
+        private final Collection<Metadata> metadata;
+        private final StructuralElementViewInterface view;
+
+        DivisionToCheck(String elementString, Collection<Metadata> metadata, StructuralElementViewInterface view) {
+            this.elementString = elementString;
+            this.metadata = metadata;
+            this.view = view;
+        }
+    }
 }
@@ -13,11 +13,10 @@ package org.kitodo.xmlschemaconverter;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InvalidClassException;
 import java.io.StringReader;
 import java.io.StringWriter;
-import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.util.List;
 import java.util.Objects;
 import java.util.UnknownFormatConversionException;
@@ -26,7 +25,9 @@ import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.Result;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.sax.SAXResult;
@@ -44,6 +45,7 @@ import org.kitodo.api.schemaconverter.FileFormat;
 import org.kitodo.api.schemaconverter.MetadataFormat;
 import org.kitodo.api.schemaconverter.SchemaConverterInterface;
 import org.kitodo.exceptions.ConfigException;
+import org.kitodo.utils.XsltTemplatesCache;
 import org.xml.sax.InputSource;
 
 public class XMLSchemaConverter implements SchemaConverterInterface {
@@ -74,9 +76,7 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
                 throw new ConfigException("No mapping files found!");
             } else {
                 for (File mappingFile : mappingFiles) {
-                    try (InputStream fileStream = Files.newInputStream(mappingFile.toPath())) {
-                        xmlString = transformXmlByXslt(xmlString, fileStream);
-                    }
+                    xmlString = transformXmlByXslt(xmlString, getTemplates(mappingFile));
                 }
             }
             conversionResult = xmlString;
@@ -92,6 +92,37 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
         }
     }
 
+    /**
+     * Compiles the given mapping files in advance. The compiled mapping files
+     * are kept in a cache, which is used by the conversions.
+     *
+     * @param mappingFiles list of mapping files
+     * @throws IOException if a mapping file cannot be read
+     */
+    @Override
+    public void prepareMappingFiles(List<File> mappingFiles) throws IOException {
+        for (File mappingFile : mappingFiles) {
+            getTemplates(mappingFile);
+        }
+    }
+
+    private static Templates getTemplates(File mappingFile) throws IOException {
+        if (!mappingFile.isFile()) {
+            throw new NoSuchFileException(mappingFile.getPath());
+        }
+        try {
+            return XsltTemplatesCache.getTemplates(mappingFile, XMLSchemaConverter::createTransformerFactory);
+        } catch (TransformerConfigurationException e) {
+            throw new ConfigException("Error in transforming the response to internal format: " + e.getMessage(), e);
+        }
+    }
+
+    private static TransformerFactory createTransformerFactory() {
+        TransformerFactory transformerFactory = new TransformerFactoryImpl();
+        transformerFactory.setURIResolver((href, base) -> new StreamSource(href.replace("http:", "https:")));
+        return transformerFactory;
+    }
+
     @Override
     public boolean supportsTargetFileFormat(FileFormat format) {
         return supportedTargetFileFormat.equals(format);
@@ -102,7 +133,7 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
         return supportedSourceFileFormat.equals(format);
     }
 
-    private String transformXmlByXslt(String xmlString, InputStream stylesheetFile) {
+    private String transformXmlByXslt(String xmlString, Templates stylesheet) {
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
         try {
             factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
@@ -112,10 +143,8 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
         factory.setNamespaceAware(true);
         try {
             StringWriter stringWriter = new StringWriter();
-            TransformerFactory transformerFactory = new TransformerFactoryImpl();
-            transformerFactory.setURIResolver((href, base) -> new StreamSource(href.replace("http:", "https:")));
             System.setProperty("http.agent", "Chrome");
-            Transformer xsltTransformer = transformerFactory.newTransformer(new StreamSource(stylesheetFile));
+            Transformer xsltTransformer = stylesheet.newTransformer();
             TransformerHandler handler
                     = ((SAXTransformerFactory) SAXTransformerFactory.newInstance()).newTransformerHandler();
             handler.setResult(new StreamResult(stringWriter));
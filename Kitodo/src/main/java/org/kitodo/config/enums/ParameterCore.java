@@ -311,6 +311,12 @@ public enum ParameterCore implements ParameterInterface {
      */
     METS_EDITOR_MAX_UPLOADED_MEDIA(new Parameter<UndefinedParameter>("metsEditor.maxUploadedMedia")),
 
+    /**
+     * Number of media rendered at once in the structured gallery of the mets
+     * editor. Further media are rendered when the user scrolls down.
+     */
+    METS_EDITOR_GALLERY_WINDOW_SIZE(new Parameter<>("metsEditor.galleryWindowSize", 200)),
+
     /**
      * Comma-separated list of Strings which may be enclosed in double quotes.
      * Separators available for double page pagination modes.
@@ -391,6 +397,40 @@ public enum ParameterCore implements ParameterInterface {
      */
     MINIMAL_NUMBER_OF_PAGES(new Parameter<UndefinedParameter>("numberOfPages.minimum")),
 
+    /**
+     * Whether the newspaper processes generator creates the issue processes in
+     * bulk: issue processes are indexed once per year instead of one by one,
+     * and their METS files are written in parallel. Boolean, defaults to
+     * {@code false}.
+     */
+    NEWSPAPER_BULK_GENERATION(new Parameter<>("newspaperProcesses.bulkGeneration", false)),
+
+    /**
+     * Number of threads writing the METS files of newspaper issue processes in
+     * bulk generation. Integer, defaults to {@code 4}.
+     */
+    NEWSPAPER_METS_WRITER_THREADS(new Parameter<>("newspaperProcesses.metsWriterThreads", 4)),
+
+    /**
+     * Number of threads migrating the hierarchies of legacy processes, each
+     * one a parent with its children at a time. Integer, defaults to
+     * {@code 4}.
+     */
+    HIERARCHY_MIGRATION_THREADS(new Parameter<>("hierarchyMigration.threads", 4)),
+
+    /**
+     * Number of threads executing a Kitodo script in the task manager, each
+     * one on a process at a time. Integer, defaults to {@code 4}.
+     */
+    KITODO_SCRIPT_THREADS(new Parameter<>("kitodoScript.threads", 4)),
+
+    /**
+     * Number of processes a Kitodo script in the task manager is executed on
+     * before the changed processes are indexed. Integer, defaults to
+     * {@code 100}.
+     */
+    KITODO_SCRIPT_CHUNK_SIZE(new Parameter<>("kitodoScript.chunkSize", 100)),
+
     /*
      * Batch processing
      */
@@ -411,6 +451,25 @@ public enum ParameterCore implements ParameterInterface {
      */
     BATCHES_LOG_CHANGES(new Parameter<>("batches.logChangesToWikiField", false)),
 
+    /**
+     * Number of processes of a batch from which on the docket of the batch is
+     * generated in the task manager and written to the user's home directory,
+     * instead of being downloaded directly. Integer, defaults to {@code 100}.
+     */
+    BATCH_DOCKET_BACKGROUND_THRESHOLD(new Parameter<>("batches.docketBackgroundThreshold", 100)),
+
+    /*
+     * Search result export
+     */
+
+    /**
+     * Number of processes in the process list from which on the search result
+     * is exported as Excel or PDF file in the task manager and written to the
+     * user's home directory, instead of being downloaded directly. Integer,
+     * defaults to {@code 10000}.
+     */
+    SEARCH_RESULT_BACKGROUND_THRESHOLD(new Parameter<>("searchResult.backgroundThreshold", 10000)),
+
     /*
      * Task manager
      */
@@ -421,6 +480,36 @@ public enum ParameterCore implements ParameterInterface {
      */
     TASK_MANAGER_AUTORUN_LIMIT(new Parameter<UndefinedParameter>("taskManager.autoRunLimit")),
 
+    /**
+     * Maximum number of export tasks run in parallel. Integer, defaults to -1,
+     * which means that only the overall limit applies.
+     */
+    TASK_MANAGER_LIMIT_EXPORT(new Parameter<>("taskManager.limit.export", -1)),
+
+    /**
+     * Maximum number of image generation tasks run in parallel. Integer,
+     * defaults to -1, which means that only the overall limit applies.
+     */
+    TASK_MANAGER_LIMIT_IMAGE(new Parameter<>("taskManager.limit.image", -1)),
+
+    /**
+     * Maximum number of import tasks run in parallel. Integer, defaults to -1,
+     * which means that only the overall limit applies.
+     */
+    TASK_MANAGER_LIMIT_IMPORT(new Parameter<>("taskManager.limit.import", -1)),
+
+    /**
+     * Maximum number of indexing tasks run in parallel. Integer, defaults to
+     * 1.
+     */
+    TASK_MANAGER_LIMIT_INDEX(new Parameter<>("taskManager.limit.index", 1)),
+
+    /**
+     * Maximum number of migration tasks run in parallel. Integer, defaults to
+     * 1.
+     */
+    TASK_MANAGER_LIMIT_MIGRATION(new Parameter<>("taskManager.limit.migration", 1)),
+
     /**
      * Sets the time interval between two inspections of the task list. Long,
      * defaults to 2000 ms.
@@ -469,6 +558,19 @@ public enum ParameterCore implements ParameterInterface {
      */
     TASK_MANAGER_SHOW_SAMPLE_TASK(new Parameter<>("taskManager.showSampleTask", false)),
 
+    /*
+     * Startup
+     */
+
+    /**
+     * If this is set to true, the modules, the rulesets and the XSLT
+     * stylesheets are loaded in the background after the application has
+     * started, so that the first users do not have to wait for them. Until
+     * this is done, the readiness check at "/ready" answers with "503 Service
+     * Unavailable". Boolean, defaults to {@code true}.
+     */
+    WARM_UP(new Parameter<>("warmUp", true)),
+
     /*
      * Export to presentation module
      */
@@ -501,6 +603,26 @@ public enum ParameterCore implements ParameterInterface {
      */
     EXPORT_WITHOUT_TIME_LIMIT(new Parameter<>("exportWithoutTimeLimit", true)),
 
+    /**
+     * Number of files copied at the same time during an export to the DMS.
+     * Integer, defaults to {@code 4}.
+     */
+    EXPORT_COPY_THREADS(new Parameter<>("exportDms.copyThreads", 4)),
+
+    /**
+     * Whether during an export to the DMS the files are hard-linked instead of
+     * copied, if the export folder is on the same file system as the process
+     * folders. Boolean, defaults to {@code false}.
+     */
+    EXPORT_LINK_FILES(new Parameter<>("exportDms.linkFiles", false)),
+
+    /**
+     * Message digest algorithm used to compute checksums of the exported files,
+     * e.g. {@code SHA-256}. If set, a file manifest-<i>algorithm</i>.txt is
+     * written to the export folder. String, defaults to empty (no checksums).
+     */
+    EXPORT_CHECKSUM_ALGORITHM(new Parameter<>("exportDms.checksumAlgorithm", "")),
+
     /*
      * REMOTE SERVICES
      *
@@ -528,6 +650,19 @@ public enum ParameterCore implements ParameterInterface {
 
     LDAP_USE_SIMPLE_AUTH(new Parameter<UndefinedParameter>("useSimpleAuthentification")),
 
+    /**
+     * Integer, defaults to {@code 60}. Seconds for which attributes read from
+     * LDAP, such as the users' home directories, are cached. {@code 0}
+     * disables the cache.
+     */
+    LDAP_CACHE_TIME_TO_LIVE(new Parameter<>("ldap_cacheTimeToLive", 60)),
+
+    /**
+     * Integer, defaults to {@code 4}. Number of idle StartTLS connections kept
+     * open per LDAP server.
+     */
+    LDAP_TLS_POOL_SIZE(new Parameter<>("ldap_tlsPoolSize", 4)),
+
     /*
      * Authority control configuration
      */
@@ -667,7 +802,26 @@ public enum ParameterCore implements ParameterInterface {
      * Optional parameter controlling whether the import of all elements from an uploaded EAD XML file should be
      * canceled when an exception occurs or not. Defaults to 'false'.
      */
-    STOP_EAD_COLLECTION_IMPORT_ON_EXCEPTION(new Parameter<>("stopEadCollectionImportOnException", false));
+    STOP_EAD_COLLECTION_IMPORT_ON_EXCEPTION(new Parameter<>("stopEadCollectionImportOnException", false)),
+
+    /*
+     * Optional parameter controlling how many processes are created at the same time when importing the elements of
+     * an uploaded EAD XML file in the background. Defaults to 4.
+     */
+    EAD_IMPORT_THREADS(new Parameter<>("eadImportThreads", 4)),
+
+    /*
+     * Optional parameter controlling for how many seconds the values offered in
+     * the drop-downs and suggestions of the search filters are cached before
+     * they are read again. Defaults to 300.
+     */
+    FILTER_VOCABULARY_TIME_TO_LIVE(new Parameter<>("filterVocabularyTimeToLive", 300)),
+
+    /*
+     * Optional parameter limiting the number of values of a single filter
+     * vocabulary kept in the cache. Defaults to 10000.
+     */
+    FILTER_VOCABULARY_MAX_SIZE(new Parameter<>("filterVocabularyMaxSize", 10000));
 
     private final Parameter<?> parameter;
 
@@ -226,8 +226,10 @@ public class ExportDms extends ExportMets {
         String processTitle = Helper.getNormalizedTitle(process.getTitle());
         URI exportFolder = new File(hotfolder.getPath(), processTitle).toURI();
 
-        // delete old export folder
-        if (!fileService.delete(exportFolder)) {
+        // delete old export folder, unless the copying of a restarted export was interrupted
+        boolean resume = exportDmsTask instanceof ExportDmsTask && ((ExportDmsTask) exportDmsTask).isRestarted()
+                && ExportFileCopier.isIncomplete(exportFolder);
+        if (!resume && !fileService.delete(exportFolder)) {
             String message = Helper.getTranslation(ERROR_EXPORT, processTitle);
             String description = Helper.getTranslation(EXPORT_DIR_DELETE, exportFolder.getPath());
             Helper.setErrorMessage(message, description);
@@ -386,7 +388,8 @@ public class ExportDms extends ExportMets {
     }
 
     /**
-     * Download image.
+     * Download image. Copies the images of the process into a folder of the
+     * user's home directory with the export file copier, as the export does.
      *
      * @param process
      *            object
@@ -396,9 +399,12 @@ public class ExportDms extends ExportMets {
      *            String
      * @param ordnerEndung
      *            String
+     * @throws InterruptedException
+     *             if the user clicked stop on the thread running the export DMS
+     *             task
      */
     public void imageDownload(Process process, URI userHome, String atsPpnBand, final String ordnerEndung)
-            throws IOException {
+            throws IOException, InterruptedException {
         // determine the source folder
         URI tifOrdner = processService.getImagesTifDirectory(true, process.getId(),
             process.getTitle(), process.getProcessBaseUri());
@@ -412,6 +418,14 @@ public class ExportDms extends ExportMets {
                 fileService.createDirectory(userHome, atsPpnBand + ordnerEndung);
             }
 
+            ExportFileCopier copier = createFileCopier();
+            for (URI image : fileService.getSubUris(tifOrdner)) {
+                if (!fileService.isDirectory(image)) {
+                    copier.add(new File(ConfigCore.getKitodoDataDirectory().concat(image.getPath())).toURI(), zielTif);
+                }
+            }
+            copier.copy(exportDmsTask, zielTif);
+
             if (Objects.nonNull(exportDmsTask)) {
                 exportDmsTask.setWorkDetail(null);
             }
@@ -440,25 +454,22 @@ public class ExportDms extends ExportMets {
         if (!uriToDestination.endsWith("/")) {
             uriToDestination = uriToDestination.concat("/");
         }
+        ExportFileCopier copier = createFileCopier();
         for (Subfolder processDir : processDirs) {
             URI dstDir = new URI(uriToDestination
                     + variableReplacer.replace(processDir.getFolder().getRelativePath()));
             fileService.createDirectories(dstDir);
 
-            Collection<URI> srcs = processDir.listContents().values();
-            int progress = 0;
-            for (URI src : srcs) {
-                if (Objects.nonNull(exportDmsTask)) {
-                    exportDmsTask.setWorkDetail(fileService.getFileName(src));
-                }
-                fileService.copyFileToDirectory(src, dstDir);
-                if (Objects.nonNull(exportDmsTask)) {
-                    exportDmsTask.setProgress((int) ((progress++ + 1) * 98d / processDirs.size() / srcs.size() + 1));
-                    if (exportDmsTask.isInterrupted()) {
-                        throw new InterruptedException();
-                    }
-                }
+            for (URI src : processDir.listContents().values()) {
+                copier.add(src, dstDir);
             }
         }
+        copier.copy(exportDmsTask, destination);
+    }
+
+    private static ExportFileCopier createFileCopier() {
+        return new ExportFileCopier(ConfigCore.getIntParameterOrDefaultValue(ParameterCore.EXPORT_COPY_THREADS),
+                ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.EXPORT_LINK_FILES),
+                ConfigCore.getParameterOrDefaultValue(ParameterCore.EXPORT_CHECKSUM_ALGORITHM));
     }
 }
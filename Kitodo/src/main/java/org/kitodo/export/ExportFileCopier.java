@@ -0,0 +1,330 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.export;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.production.helper.tasks.EmptyTask;
+
+/**
+ * Copies the files of an export with a bounded number of threads. The files
+ * are copied by the operating system with {@link FileChannel#transferTo}, or
+ * hard-linked if requested and possible. Optionally, a checksum of every file
+ * is computed while copying. Target files that already have the size and
+ * modification time of their source are skipped, so that an interrupted
+ * export can be resumed. While copying, a marker file in the export
+ * directory tells that the export is incomplete; only then may a restarted
+ * export resume in the existing directory.
+ */
+public class ExportFileCopier {
+
+    private static final Logger logger = LogManager.getLogger(ExportFileCopier.class);
+
+    /**
+     * Name of the marker file, which exists in the export directory while
+     * the files are copied.
+     */
+    static final String INCOMPLETE_MARKER = ".incomplete";
+
+    private final int threads;
+    private final boolean linkFiles;
+    private final String checksumAlgorithm;
+
+    /**
+     * Pairs of source file and target file to copy.
+     */
+    private final List<Pair<Path, Path>> files = new ArrayList<>();
+
+    /**
+     * Checksums of the target files, if a checksum algorithm is set.
+     */
+    private final Map<Path, String> checksums = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new export file copier.
+     *
+     * @param threads
+     *            maximum number of files copied at the same time
+     * @param linkFiles
+     *            whether to create hard links instead of copies if source and
+     *            target are on the same file system
+     * @param checksumAlgorithm
+     *            name of the message digest algorithm for the checksums, e.g.
+     *            “SHA-256”, or empty to not compute checksums
+     * @throws IllegalArgumentException
+     *             if the checksum algorithm is not available
+     */
+    public ExportFileCopier(int threads, boolean linkFiles, String checksumAlgorithm) {
+        this.threads = Math.max(1, threads);
+        this.linkFiles = linkFiles;
+        this.checksumAlgorithm = Objects.isNull(checksumAlgorithm) || checksumAlgorithm.isEmpty() ? null
+                : checksumAlgorithm;
+        if (Objects.nonNull(this.checksumAlgorithm)) {
+            createMessageDigest();
+        }
+    }
+
+    /**
+     * Adds a file to be copied into the given target directory.
+     *
+     * @param source
+     *            URI of the file to copy
+     * @param targetDirectory
+     *            URI of the directory to copy the file to
+     */
+    public void add(URI source, URI targetDirectory) {
+        Path sourcePath = Paths.get(source);
+        files.add(Pair.of(sourcePath, Paths.get(targetDirectory).resolve(sourcePath.getFileName().toString())));
+    }
+
+    /**
+     * Returns the number of files to copy.
+     *
+     * @return the number of files
+     */
+    public int size() {
+        return files.size();
+    }
+
+    /**
+     * Returns whether copying the files of an export into the given export
+     * directory was started, but did not complete.
+     *
+     * @param exportDirectory
+     *            export directory to check
+     * @return whether the export directory holds an incomplete export
+     */
+    public static boolean isIncomplete(URI exportDirectory) {
+        return Files.exists(Paths.get(exportDirectory).resolve(INCOMPLETE_MARKER));
+    }
+
+    /**
+     * Copies all added files into the export directory. Files in the export
+     * directory which are not among the added files, for example files left
+     * from an interrupted export whose source has since been removed, are
+     * deleted. Afterwards, the manifest is written. If a task is given, its
+     * progress is advanced from 1 to 99 percent as the files are copied, and
+     * the copying is canceled if the task is interrupted. Until all of this
+     * has succeeded, the export directory is marked as incomplete.
+     *
+     * @param task
+     *            task to report the progress to, may be null
+     * @param exportDirectory
+     *            directory the files are copied into, possibly into
+     *            subdirectories
+     * @throws IOException
+     *             if a file cannot be copied
+     * @throws InterruptedException
+     *             if the task was interrupted
+     */
+    public void copy(EmptyTask task, URI exportDirectory) throws IOException, InterruptedException {
+        Path marker = Paths.get(exportDirectory).resolve(INCOMPLETE_MARKER);
+        if (!Files.exists(marker)) {
+            Files.createFile(marker);
+        }
+        deleteFilesNotAdded(Paths.get(exportDirectory), marker);
+        copyFiles(task);
+        writeManifest(exportDirectory);
+        Files.delete(marker);
+    }
+
+    private void deleteFilesNotAdded(Path exportDirectory, Path marker) throws IOException {
+        Set<Path> targets = files.stream().map(file -> file.getRight().toAbsolutePath().normalize())
+                .collect(Collectors.toSet());
+        List<Path> filesNotAdded;
+        try (Stream<Path> stream = Files.walk(exportDirectory)) {
+            filesNotAdded = stream.filter(Files::isRegularFile).filter(path -> !path.equals(marker))
+                    .filter(path -> !targets.contains(path.toAbsolutePath().normalize()))
+                    .collect(Collectors.toList());
+        }
+        for (Path fileNotAdded : filesNotAdded) {
+            logger.debug("Deleting {}, it is not part of the export", fileNotAdded);
+            Files.delete(fileNotAdded);
+        }
+    }
+
+    private void copyFiles(EmptyTask task) throws IOException, InterruptedException {
+        if (files.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, files.size()), runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletionService<Path> completionService = new ExecutorCompletionService<>(executor);
+            for (Pair<Path, Path> file : files) {
+                completionService.submit(() -> copyFile(file.getLeft(), file.getRight()));
+            }
+            for (int copied = 1; copied <= files.size(); copied++) {
+                Path target = completionService.take().get();
+                if (Objects.nonNull(task)) {
+                    task.setWorkDetail(target.getFileName().toString());
+                    task.setProgress((int) (copied * 98d / files.size() + 1));
+                    if (task.isInterrupted()) {
+                        throw new InterruptedException();
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the checksums of the copied files. The map is empty if no
+     * checksum algorithm is set.
+     *
+     * @return map of target file to hexadecimal checksum
+     */
+    public Map<Path, String> getChecksums() {
+        return checksums;
+    }
+
+    /**
+     * Writes the checksums of all copied files to a manifest file named
+     * “manifest-<i>algorithm</i>.txt” in the given directory. Each line holds
+     * the checksum and the path of the file relative to that directory, as in
+     * a BagIt manifest. Does nothing if no checksum algorithm is set.
+     */
+    private void writeManifest(URI baseDirectory) throws IOException {
+        if (Objects.isNull(checksumAlgorithm)) {
+            return;
+        }
+        Path basePath = Paths.get(baseDirectory);
+        Map<String, String> lines = new TreeMap<>();
+        for (Map.Entry<Path, String> entry : checksums.entrySet()) {
+            lines.put(basePath.relativize(entry.getKey()).toString().replace('\\', '/'), entry.getValue());
+        }
+        String algorithm = checksumAlgorithm.toLowerCase().replace("-", "");
+        try (OutputStream out = Files.newOutputStream(basePath.resolve("manifest-" + algorithm + ".txt"))) {
+            for (Map.Entry<String, String> line : lines.entrySet()) {
+                out.write((line.getValue() + "  " + line.getKey() + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private Path copyFile(Path source, Path target) throws IOException {
+        if (isUpToDate(source, target)) {
+            logger.debug("Skipping {}, it is up to date", target);
+            if (Objects.nonNull(checksumAlgorithm)) {
+                checksums.put(target, computeChecksum(target));
+            }
+            return target;
+        }
+        if (!(linkFiles && createLink(source, target))) {
+            if (Objects.nonNull(checksumAlgorithm)) {
+                copyWithChecksum(source, target);
+            } else {
+                transfer(source, target);
+            }
+        } else if (Objects.nonNull(checksumAlgorithm)) {
+            checksums.put(target, computeChecksum(target));
+        }
+        Files.setLastModifiedTime(target, Files.getLastModifiedTime(source));
+        return target;
+    }
+
+    private static boolean isUpToDate(Path source, Path target) throws IOException {
+        return Files.isRegularFile(target) && Files.size(target) == Files.size(source)
+                && Files.getLastModifiedTime(target).equals(Files.getLastModifiedTime(source));
+    }
+
+    private static boolean createLink(Path source, Path target) throws IOException {
+        if (!Files.getFileStore(source).equals(Files.getFileStore(target.getParent()))) {
+            return false;
+        }
+        try {
+            Files.deleteIfExists(target);
+            Files.createLink(target, source);
+            return true;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            logger.debug("Cannot link {} to {}, copying instead: {}", target, source, e.getMessage());
+            return false;
+        }
+    }
+
+    private static void transfer(Path source, Path target) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    private void copyWithChecksum(Path source, Path target) throws IOException {
+        MessageDigest messageDigest = createMessageDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(source), messageDigest);
+                OutputStream out = Files.newOutputStream(target)) {
+            in.transferTo(out);
+        }
+        checksums.put(target, Hex.encodeHexString(messageDigest.digest()));
+    }
+
+    private String computeChecksum(Path file) throws IOException {
+        MessageDigest messageDigest = createMessageDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), messageDigest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return Hex.encodeHexString(messageDigest.digest());
+    }
+
+    private MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(checksumAlgorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+}
@@ -12,14 +12,15 @@
 package org.kitodo.export;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Paths;
-import java.util.Objects;
 
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 
@@ -29,6 +30,8 @@ import org.apache.commons.io.FilenameUtils;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Ruleset;
+import org.kitodo.utils.XsltTemplatesCache;
 
 public class XsltHelper {
 
@@ -48,13 +51,7 @@ public class XsltHelper {
     static ByteArrayOutputStream transformXmlByXslt(StreamSource source, URI xslFile)
             throws TransformerException, IOException {
 
-        String xsltPath = xslFile.getPath();
-        StreamSource xsltSource = new StreamSource(xsltPath);
-        TransformerFactory factory = new TransformerFactoryImpl();
-        Transformer transformer = factory.newTransformer(xsltSource);
-        if (Objects.isNull(transformer)) {
-            throw new IllegalArgumentException("Could not create XSLT transformer. Check " + xsltPath + " for errors.");
-        }
+        Transformer transformer = getTemplates(new File(xslFile.getPath())).newTransformer();
         try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
             StreamResult streamResult = new StreamResult(outputStream);
             transformer.transform(source, streamResult);
@@ -63,9 +60,36 @@ public class XsltHelper {
     }
 
     static URI getXsltFileFromConfig(Process process) {
+        return getXsltFile(process.getRuleset());
+    }
+
+    /**
+     * Compiles the export stylesheet of a ruleset in advance, if there is one.
+     * The compiled stylesheet is kept in a cache, which is used by the
+     * exports.
+     *
+     * @param ruleset
+     *            ruleset whose export stylesheet is to be compiled
+     * @return whether the ruleset has an export stylesheet
+     * @throws TransformerException
+     *             if the stylesheet cannot be compiled
+     */
+    public static boolean prepareXsltFile(Ruleset ruleset) throws TransformerException {
+        File xsltFile = Paths.get(getXsltFile(ruleset)).toFile();
+        if (!xsltFile.isFile()) {
+            return false;
+        }
+        getTemplates(xsltFile);
+        return true;
+    }
+
+    private static Templates getTemplates(File xsltFile) throws TransformerConfigurationException {
+        return XsltTemplatesCache.getTemplates(xsltFile, TransformerFactoryImpl::new);
+    }
+
+    private static URI getXsltFile(Ruleset ruleset) {
         String path = ConfigCore.getParameter(ParameterCore.DIR_XSLT);
-        String file = process.getRuleset().getFile().replaceFirst("\\.[Xx][Mm][Ll]$", ".xsl");
+        String file = ruleset.getFile().replaceFirst("\\.[Xx][Mm][Ll]$", ".xsl");
         return Paths.get(FilenameUtils.concat(path, file)).toUri();
     }
-
 }
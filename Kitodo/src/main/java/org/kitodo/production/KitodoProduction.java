@@ -59,6 +59,8 @@ public class KitodoProduction implements ServletContextListener, HttpSessionList
         manifest.ifPresent(version::setupFromManifest);
         instance.complete(this);
         startActiveMQ();
+        checkIndexMapping();
+        WarmUp.start();
     }
 
     private static final Optional<Manifest> retrieveManifestFileAsStream(ServletContext context) {
@@ -86,6 +88,18 @@ public class KitodoProduction implements ServletContextListener, HttpSessionList
         }
     }
 
+    /**
+     * Checks in the background whether the index was created with the mapping
+     * of this version. If not, an error is logged and the indexing page asks
+     * to create the mapping again and to index all objects.
+     */
+    private void checkIndexMapping() {
+        Thread checkMapping = new Thread(() -> ServiceManager.getIndexingService().checkMapping());
+        checkMapping.setName("IndexMappingCheck");
+        checkMapping.setDaemon(true);
+        checkMapping.start();
+    }
+
     /**
      * Returns the application’s main class.
      * 
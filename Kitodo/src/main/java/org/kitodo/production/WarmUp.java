@@ -0,0 +1,197 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.api.docket.DocketInterface;
+import org.kitodo.api.schemaconverter.SchemaConverterInterface;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Docket;
+import org.kitodo.data.database.beans.MappingFile;
+import org.kitodo.data.database.beans.Ruleset;
+import org.kitodo.export.XsltHelper;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.serviceloader.KitodoServiceLoader;
+
+/**
+ * Loads everything in the background after the application has started, that
+ * would otherwise be loaded when the first user needs it: the modules, the
+ * JAXB context of the METS files, the active rulesets and the XSLT
+ * stylesheets for the import, the export and the dockets. The time taken by each step is
+ * logged. Until the warm-up has finished, the application does not report
+ * itself as ready.
+ */
+public class WarmUp implements Runnable {
+    private static final Logger logger = LogManager.getLogger(WarmUp.class);
+
+    private static volatile boolean ready = false;
+
+    /**
+     * Step of the warm-up.
+     */
+    @FunctionalInterface
+    private interface Step {
+        void run() throws Exception;
+    }
+
+    /**
+     * Returns whether the warm-up has finished, or was not started at all.
+     *
+     * @return whether the application is ready
+     */
+    public static boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Starts the warm-up in the background, if it is switched on. Otherwise,
+     * the application is ready at once.
+     */
+    static void start() {
+        if (!ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.WARM_UP)) {
+            ready = true;
+            return;
+        }
+        Thread warmUp = new Thread(new WarmUp());
+        warmUp.setName(WarmUp.class.getSimpleName());
+        warmUp.setDaemon(true);
+        warmUp.start();
+    }
+
+    @Override
+    public void run() {
+        final long begin = System.nanoTime();
+        try {
+            runStep("loading modules", this::loadModules);
+            runStep("creating METS context", this::createMetsContext);
+            runStep("opening active rulesets", this::openActiveRulesets);
+            runStep("compiling export stylesheets", this::compileExportStylesheets);
+            runStep("compiling docket stylesheets", this::compileDocketStylesheets);
+            runStep("compiling mapping files", this::compileMappingFiles);
+        } finally {
+            ready = true;
+            logger.info("Warm-up finished after {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+        }
+    }
+
+    private void runStep(String name, Step step) {
+        final long begin = System.nanoTime();
+        try {
+            step.run();
+            logger.info("Warm-up: {} took {} ms", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+        } catch (Exception e) {
+            logger.warn("Warm-up: {} failed after {} ms: {}", name,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin), e.getMessage(), e);
+        }
+    }
+
+    private void loadModules() {
+        ServiceManager.getFileService();
+        ServiceManager.getImageService();
+        ServiceManager.getMetsService();
+        ServiceManager.getRulesetManagementService();
+        ServiceManager.getCommandService();
+        ServiceManager.getMetadataValidationService();
+        ServiceManager.getLongTermPreservationValidationService();
+        ServiceManager.getFileStructureValidationService();
+    }
+
+    private void createMetsContext() throws Exception {
+        ServiceManager.getMetsService().save(new Workpiece(), OutputStream.nullOutputStream());
+    }
+
+    private void openActiveRulesets() throws Exception {
+        for (Ruleset ruleset : getActiveRulesets()) {
+            try {
+                ServiceManager.getRulesetService().openRuleset(ruleset);
+            } catch (IOException e) {
+                logger.warn("Warm-up: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void compileExportStylesheets() throws Exception {
+        for (Ruleset ruleset : getActiveRulesets()) {
+            XsltHelper.prepareXsltFile(ruleset);
+        }
+    }
+
+    private List<Ruleset> getActiveRulesets() throws Exception {
+        List<Ruleset> activeRulesets = new ArrayList<>();
+        Set<String> files = new HashSet<>();
+        for (Ruleset ruleset : ServiceManager.getRulesetService().getAll()) {
+            if (!Boolean.FALSE.equals(ruleset.isActive()) && Objects.nonNull(ruleset.getFile())
+                    && files.add(ruleset.getFile())) {
+                activeRulesets.add(ruleset);
+            }
+        }
+        return activeRulesets;
+    }
+
+    private void compileDocketStylesheets() throws Exception {
+        URI xsltDirectory = Paths.get(ConfigCore.getParameter(ParameterCore.DIR_XSLT)).toUri();
+        Set<String> fileNames = new TreeSet<>(Arrays.asList("docket.xsl", "docket_multipage.xsl"));
+        for (Docket docket : ServiceManager.getDocketService().getAll()) {
+            if (Objects.nonNull(docket.getFile())) {
+                fileNames.add(docket.getFile().trim());
+            }
+        }
+        List<File> docketFiles = new ArrayList<>();
+        for (String fileName : fileNames) {
+            File file = Paths.get(xsltDirectory.resolve(new URI(fileName))).toFile();
+            if (file.isFile()) {
+                docketFiles.add(file);
+            }
+        }
+        new KitodoServiceLoader<DocketInterface>(DocketInterface.class).loadModule().prepareXsltFiles(docketFiles);
+    }
+
+    private void compileMappingFiles() throws Exception {
+        URI xsltDirectory = Paths.get(ConfigCore.getParameter(ParameterCore.DIR_XSLT)).toUri();
+        List<File> mappingFiles = new ArrayList<>();
+        for (MappingFile mappingFile : ServiceManager.getMappingFileService().getAll()) {
+            if (Objects.isNull(mappingFile.getFile())) {
+                continue;
+            }
+            File file = Paths.get(xsltDirectory.resolve(new URI(mappingFile.getFile().trim()))).toFile();
+            if (file.isFile()) {
+                mappingFiles.add(file);
+            } else {
+                logger.warn("Warm-up: mapping file {} not found", file);
+            }
+        }
+        if (mappingFiles.isEmpty()) {
+            return;
+        }
+        for (SchemaConverterInterface converter : new KitodoServiceLoader<>(SchemaConverterInterface.class)
+                .loadModules()) {
+            converter.prepareMappingFiles(mappingFiles);
+        }
+    }
+}
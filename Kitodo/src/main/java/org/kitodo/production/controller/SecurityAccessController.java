@@ -717,13 +717,15 @@ public class SecurityAccessController {
      * Check if current user has authority to view system page. It returns true if
      * user has at least one of below given authorities.
      *
-     * @return true if user has authority to 'viewIndex', 'viewTaskManager', 'viewTerms' or 'viewMigration'.
+     * @return true if user has authority to 'viewIndex', 'viewTaskManager', 'viewTerms', 'viewMigration' or
+     *         'viewDatabaseStatistic'.
      */
     public boolean hasAuthorityToViewSystemPage() {
         return securityAccessService.hasAuthorityToViewIndexPage()
                 || securityAccessService.hasAuthorityToViewTaskManagerPage()
                 || securityAccessService.hasAuthorityToViewTermsPage()
-                || securityAccessService.hasAuthorityToViewMigrationPage();
+                || securityAccessService.hasAuthorityToViewMigrationPage()
+                || securityAccessService.hasAuthorityToViewDatabaseStatistic();
     }
 
     /**
@@ -22,16 +22,20 @@ import java.util.stream.Collectors;
 
 import javax.faces.context.FacesContext;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.enums.FilterPart;
 import org.kitodo.production.enums.FilterString;
 import org.kitodo.production.forms.CurrentTaskForm;
 import org.kitodo.production.forms.ProcessForm;
 import org.kitodo.production.forms.UserForm;
 import org.kitodo.production.services.ServiceManager;
-import org.kitodo.production.services.data.FilterService;
+import org.kitodo.production.services.data.FilterVocabularyService.Vocabulary;
 
 public class FilterMenu {
 
+    private static final Logger logger = LogManager.getLogger(FilterMenu.class);
     private static final int MAX_SUGGESTIONS = 100;
     private static final List<FilterString> processCategories = Arrays.asList(
             FilterString.TASK,
@@ -206,7 +210,6 @@ public class FilterMenu {
         if (Objects.isNull(category)) {
             return suggestions;
         }
-        FilterService filterService = ServiceManager.getFilterService();
         switch (category) {
             case TASK:
             case TASKINWORK:
@@ -214,13 +217,13 @@ public class FilterMenu {
             case TASKOPEN:
             case TASKDONE:
             case TASKDONETITLE:
-                suggestions.addAll(createStringSuggestionsMatchingInput(input, filterService.initStepTitles(), FilterPart.VALUE));
+                suggestions.addAll(createVocabularySuggestions(input, Vocabulary.TASK_TITLES));
                 break;
             case PROJECT:
-                suggestions.addAll(createStringSuggestionsMatchingInput(input, filterService.initProjects(), FilterPart.VALUE));
+                suggestions.addAll(createVocabularySuggestions(input, Vocabulary.PROJECTS));
                 break;
             case PROPERTY:
-                suggestions.addAll(createStringSuggestionsMatchingInput(input, initProcessPropertyTitles(), FilterPart.VALUE));
+                suggestions.addAll(createProcessPropertySuggestions(input));
                 break;
             default:
                 // Do nothing
@@ -230,13 +233,34 @@ public class FilterMenu {
     }
 
     /**
-     * Get list of process properties and format them with a trailing colon.
+     * Get suggestions for the values of a filter vocabulary starting with the
+     * given input.
      *
-     * @return List of formatted process property keys
+     * @param input the value typed so far
+     * @param vocabulary the vocabulary to search
+     * @return List of suggestions
      */
-    private List<String> initProcessPropertyTitles() {
-        return ServiceManager.getFilterService().initProcessPropertyTitles().stream()
-                .map(propertyTitle -> propertyTitle + ":")
+    private List<Suggestion> createVocabularySuggestions(String input, Vocabulary vocabulary) {
+        try {
+            return ServiceManager.getFilterVocabularyService().findByPrefix(vocabulary, input, MAX_SUGGESTIONS).stream()
+                    .map(suggestion -> new Suggestion(input, suggestion, FilterPart.VALUE))
+                    .collect(Collectors.toList());
+        } catch (DataException e) {
+            logger.error(e.getMessage(), e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Get suggestions for process properties and format them with a trailing colon.
+     *
+     * @param input the value typed so far
+     * @return List of suggestions for process property keys
+     */
+    private List<Suggestion> createProcessPropertySuggestions(String input) {
+        String title = input.endsWith(":") ? input.substring(0, input.length() - 1) : input;
+        return createVocabularySuggestions(title, Vocabulary.PROCESS_PROPERTY_TITLES).stream()
+                .map(suggestion -> new Suggestion(input, suggestion.getSuggestion() + ":", FilterPart.VALUE))
                 .collect(Collectors.toList());
     }
 
@@ -245,18 +269,17 @@ public class FilterMenu {
         if (Objects.isNull(category)) {
             return suggestions;
         }
-        FilterService filterService = ServiceManager.getFilterService();
         switch (category) {
             case TASK:
             case TASKINWORK:
             case TASKOPEN:
-                suggestions.addAll(createStringSuggestionsMatchingInput(input, filterService.initStepTitles(), FilterPart.VALUE));
+                suggestions.addAll(createVocabularySuggestions(input, Vocabulary.TASK_TITLES));
                 break;
             case PROJECT:
-                suggestions.addAll(createStringSuggestionsMatchingInput(input, filterService.initProjects(), FilterPart.VALUE));
+                suggestions.addAll(createVocabularySuggestions(input, Vocabulary.PROJECTS));
                 break;
             case PROPERTY:
-                suggestions.addAll(createStringSuggestionsMatchingInput(input, initProcessPropertyTitles(), FilterPart.VALUE));
+                suggestions.addAll(createProcessPropertySuggestions(input));
                 break;
             default:
                 // Do nothing
@@ -12,6 +12,7 @@
 package org.kitodo.production.forms;
 
 import java.io.IOException;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.LinkedList;
@@ -37,6 +38,8 @@ import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.batch.BatchProcessHelper;
+import org.kitodo.production.helper.tasks.DocketGenerationTask;
+import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.model.LazyDTOModel;
 import org.kitodo.production.services.ServiceManager;
 import org.opensearch.index.query.BoolQueryBuilder;
@@ -248,7 +251,13 @@ public class BatchForm extends BaseForm {
             Helper.setErrorMessage(NO_BATCH_SELECTED);
         } else if (this.selectedBatches.size() == 1) {
             try {
-                ServiceManager.getProcessService().downloadDocket(selectedBatches.get(0).getProcesses());
+                Batch batch = selectedBatches.get(0);
+                if (batch.getProcesses().size() >= ConfigCore
+                        .getIntParameterOrDefaultValue(ParameterCore.BATCH_DOCKET_BACKGROUND_THRESHOLD)) {
+                    generateDocketInBackground(batch);
+                } else {
+                    ServiceManager.getProcessService().downloadDocket(batch.getProcesses());
+                }
             } catch (IOException e) {
                 Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
             }
@@ -257,6 +266,14 @@ public class BatchForm extends BaseForm {
         }
     }
 
+    private void generateDocketInBackground(Batch batch) throws IOException {
+        String fileName = "batch_" + batch.getId() + "_docket.pdf";
+        URI destination = ServiceManager.getUserService()
+                .getHomeDirectory(ServiceManager.getUserService().getCurrentUser()).resolve(fileName);
+        TaskManager.addTask(new DocketGenerationTask(fileName, batch.getProcesses(), destination));
+        Helper.setMessage("docketGenerationStarted", fileName);
+    }
+
     /**
      * The method is called if the user clicks the action link to
      * delete batches. It runs the deletion of the batches.
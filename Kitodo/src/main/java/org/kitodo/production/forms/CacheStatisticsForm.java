@@ -0,0 +1,138 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.forms;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Named;
+
+import org.kitodo.data.database.persistence.HibernateStatistics;
+
+/**
+ * Shows the hit, miss and eviction counts of the second level cache regions
+ * and the execution counts of the database queries, so that the sizes of the
+ * cache regions can be tuned and the database load they save can be
+ * measured.
+ */
+@Named("CacheStatisticsForm")
+@RequestScoped
+public class CacheStatisticsForm {
+
+    private List<HibernateStatistics.Region> regions;
+    private List<HibernateStatistics.Query> queries;
+
+    /**
+     * Returns whether statistics are collected.
+     *
+     * @return whether statistics are collected
+     */
+    public boolean isStatisticsEnabled() {
+        return HibernateStatistics.isEnabled();
+    }
+
+    /**
+     * Turns collecting statistics on or off.
+     */
+    public void toggleStatistics() {
+        HibernateStatistics.setEnabled(!HibernateStatistics.isEnabled());
+    }
+
+    /**
+     * Resets all statistics to zero.
+     */
+    public void resetStatistics() {
+        HibernateStatistics.clear();
+        regions = null;
+        queries = null;
+    }
+
+    /**
+     * Returns since when the statistics are collected.
+     *
+     * @return the time of the start or of the last reset
+     */
+    public Date getStartTime() {
+        return HibernateStatistics.getStartTime();
+    }
+
+    /**
+     * Returns how often an object was found in the second level cache.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return HibernateStatistics.getSecondLevelCacheHitCount();
+    }
+
+    /**
+     * Returns how often an object was not found in the second level cache.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return HibernateStatistics.getSecondLevelCacheMissCount();
+    }
+
+    /**
+     * Returns how often an entity was read from the database.
+     *
+     * @return the number of entity fetches
+     */
+    public long getEntityFetchCount() {
+        return HibernateStatistics.getEntityFetchCount();
+    }
+
+    /**
+     * Returns how often a query was executed in the database.
+     *
+     * @return the number of query executions
+     */
+    public long getQueryExecutionCount() {
+        return HibernateStatistics.getQueryExecutionCount();
+    }
+
+    /**
+     * Returns how many SQL statements were sent to the database.
+     *
+     * @return the number of prepared statements
+     */
+    public long getStatementCount() {
+        return HibernateStatistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Returns the statistics of the cache regions.
+     *
+     * @return the statistics of the cache regions
+     */
+    public List<HibernateStatistics.Region> getRegions() {
+        if (Objects.isNull(regions)) {
+            regions = HibernateStatistics.getRegions();
+        }
+        return regions;
+    }
+
+    /**
+     * Returns the statistics of the executed queries.
+     *
+     * @return the statistics of the queries
+     */
+    public List<HibernateStatistics.Query> getQueries() {
+        if (Objects.isNull(queries)) {
+            queries = HibernateStatistics.getQueries();
+        }
+        return queries;
+    }
+}
@@ -275,6 +275,15 @@ public class IndexingForm {
         return ServiceManager.getIndexingService().isMappingEmpty();
     }
 
+    /**
+     * Check if the mapping of the index is outdated and must be created again.
+     *
+     * @return true if mapping is outdated, otherwise false
+     */
+    public boolean isMappingOutdated() {
+        return ServiceManager.getIndexingService().isMappingOutdated();
+    }
+
     /**
      * Tests and returns whether the Elastic Search index has been created or not.
      *
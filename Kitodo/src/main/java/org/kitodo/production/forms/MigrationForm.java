@@ -54,6 +54,7 @@ import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.tasks.HierarchyMigrationTask;
 import org.kitodo.production.helper.tasks.MigrationTask;
+import org.kitodo.production.helper.tasks.TaskCountVerificationTask;
 import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.migration.NewspaperProcessesMigrator;
 import org.kitodo.production.migration.TasksToWorkflowConverter;
@@ -161,6 +162,15 @@ public class MigrationForm extends BaseForm {
         projectListRendered = false;
     }
 
+    /**
+     * Starts a task that rebuilds the task status counters of all processes.
+     * This is done when the user clicks the button to verify the task
+     * counters.
+     */
+    public void verifyTaskCounts() {
+        TaskManager.addTask(new TaskCountVerificationTask());
+    }
+
     /**
      * Method for migrating the metadata. This is done when the user clicks the
      * button to migrate metadata under the projects selection.
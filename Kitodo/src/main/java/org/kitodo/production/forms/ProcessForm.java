@@ -60,9 +60,11 @@ import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.filters.FilterMenu;
 import org.kitodo.production.helper.CustomListColumnInitializer;
 import org.kitodo.production.helper.Helper;
+import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.process.ProcessValidator;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.command.KitodoScriptService;
+import org.kitodo.production.services.command.KitodoScriptTask;
 import org.kitodo.production.services.data.ImportService;
 import org.kitodo.production.services.data.ProcessService;
 import org.kitodo.production.services.file.FileService;
@@ -429,14 +431,26 @@ public class ProcessForm extends TemplateBaseForm {
      * Set up processing status selection.
      */
     public void setTaskStatusUpForSelection() {
-        workflowControllerService.setTaskStatusUpForProcesses(getSelectedProcesses());
+        try {
+            ServiceManager.getProcessService().forEachChunk(getSelectedProcessIds(),
+                workflowControllerService::setTaskStatusUpForProcesses);
+        } catch (DAOException e) {
+            Helper.setErrorMessage(ERROR_LOADING_MANY, new Object[] {ObjectType.PROCESS.getTranslationPlural() },
+                logger, e);
+        }
     }
 
     /**
      * Set down processing status selection.
      */
     public void setTaskStatusDownForSelection() {
-        workflowControllerService.setTaskStatusDownForProcesses(getSelectedProcesses());
+        try {
+            ServiceManager.getProcessService().forEachChunk(getSelectedProcessIds(),
+                workflowControllerService::setTaskStatusDownForProcesses);
+        } catch (DAOException e) {
+            Helper.setErrorMessage(ERROR_LOADING_MANY, new Object[] {ObjectType.PROCESS.getTranslationPlural() },
+                logger, e);
+        }
     }
 
     /**
@@ -531,14 +545,21 @@ public class ProcessForm extends TemplateBaseForm {
      * Execute Kitodo script for selected processes.
      */
     public void executeKitodoScriptSelection() {
-        executeKitodoScriptForProcesses(getSelectedProcesses(), this.kitodoScriptSelection);
+        if (ServiceManager.getKitodoScriptService().isProcessAction(this.kitodoScriptSelection)) {
+            List<Integer> processIds = getSelectedProcessIds();
+            TaskManager.addTask(new KitodoScriptTask(processIds, this.kitodoScriptSelection));
+            Helper.setMessage(Helper.getTranslation("kitodoScript.executesInTaskManager",
+                String.valueOf(processIds.size())));
+        } else {
+            executeKitodoScriptForProcesses(getSelectedProcessIds(), this.kitodoScriptSelection);
+        }
     }
 
-    private void executeKitodoScriptForProcesses(List<Process> processes, String kitodoScript) {
+    private void executeKitodoScriptForProcesses(List<Integer> processIds, String kitodoScript) {
         KitodoScriptService service = ServiceManager.getKitodoScriptService();
         try {
-            service.execute(processes, kitodoScript);
-        } catch (DataException | IOException | InvalidImagesException e) {
+            service.executeForProcessIds(processIds, kitodoScript);
+        } catch (DAOException | DataException | IOException | InvalidImagesException e) {
             Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
         } catch (MediaNotFoundException e) {
             Helper.setWarnMessage(e.getMessage());
@@ -1089,8 +1110,8 @@ public class ProcessForm extends TemplateBaseForm {
      * Rename media files of all selected processes.
      */
     public void renameMedia() {
-        List<Process> processes = getSelectedProcesses();
-        errorMessage = ServiceManager.getFileService().tooManyProcessesSelectedForMediaRenaming(processes.size());
+        errorMessage = ServiceManager.getFileService()
+                .tooManyProcessesSelectedForMediaRenaming(getSelectedProcessIds().size());
         if (StringUtils.isBlank(errorMessage)) {
             PrimeFaces.current().executeScript("PF('renameMediaConfirmDialog').show();");
         } else {
@@ -1103,7 +1124,7 @@ public class ProcessForm extends TemplateBaseForm {
      * Start renaming media files of selected processes.
      */
     public void startRenaming() {
-        ServiceManager.getFileService().renameMedia(getSelectedProcesses());
+        ServiceManager.getFileService().renameMedia(getSelectedProcessIds());
         PrimeFaces.current().executeScript("PF('notifications').renderMessage({'summary':'"
                 + Helper.getTranslation("renamingMediaFilesOfSelectedProcessesStarted")
                 + "','severity':'info'})");
@@ -1116,7 +1137,7 @@ public class ProcessForm extends TemplateBaseForm {
      */
     public String getMediaRenamingConfirmMessage() {
         return Helper.getTranslation("renameMediaForProcessesConfirmMessage",
-                String.valueOf(getSelectedProcesses().size()));
+                String.valueOf(getSelectedProcessIds().size()));
     }
 
     /**
@@ -1168,10 +1189,11 @@ public class ProcessForm extends TemplateBaseForm {
     public void startSettingImportConfigurations(int importConfigurationId) {
         PrimeFaces.current().executeScript("PF('selectImportConfigurationDialog').hide();");
         try {
+            List<Integer> processIds = getSelectedProcessIds();
             String configName = ServiceManager.getProcessService().setImportConfigurationForMultipleProcesses(
-                    getSelectedProcesses(), importConfigurationId);
+                    processIds, importConfigurationId);
             settingImportConfigurationResultMessage = Helper.getTranslation("setImportConfigurationSuccessfulDescription",
-                    configName, String.valueOf(selectedProcessesOrProcessDTOs.size()));
+                    configName, String.valueOf(processIds.size()));
             importConfigurationsSetSuccessfully = true;
         } catch (DAOException e) {
             settingImportConfigurationResultMessage = e.getLocalizedMessage();
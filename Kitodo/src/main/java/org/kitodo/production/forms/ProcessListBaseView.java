@@ -15,21 +15,24 @@ import com.itextpdf.text.DocumentException;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.kitodo.api.dataformat.PhysicalDivision;
-import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.export.ExportDms;
 import org.kitodo.production.dto.ProcessDTO;
@@ -37,11 +40,14 @@ import org.kitodo.production.enums.ChartMode;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.WebDav;
+import org.kitodo.production.helper.tasks.SearchResultExportTask;
+import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.model.LazyProcessDTOModel;
-import org.kitodo.production.process.ProcessMetadataStatistic;
+import org.kitodo.production.model.LazyProcessMetadataStatisticModel;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.ProcessService;
-import org.kitodo.production.services.dataformat.MetsService;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
 import org.primefaces.PrimeFaces;
 import org.primefaces.component.datatable.DataTable;
 import org.primefaces.event.data.PageEvent;
@@ -51,11 +57,13 @@ import org.primefaces.model.charts.pie.PieChartModel;
 public class ProcessListBaseView extends BaseForm {
 
     private static final Logger logger = LogManager.getLogger(ProcessListBaseView.class);
+    private static final DateTimeFormatter EXPORT_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
     private ChartMode chartMode;
     private HorizontalBarChartModel stackedBarModel;
     private PieChartModel pieModel;
     private Map<String,Integer> statisticResult;
-    private List<ProcessMetadataStatistic> processMetadataStatistics = new ArrayList<>();
+    private LazyProcessMetadataStatisticModel processMetadataStatistics;
+    private int numberOfGlobalProcessMetadataStatistics;
     private int numberOfGlobalImages;
     private int numberOfGlobalStructuralElements;
     private int numberOfGlobalMetadata;
@@ -115,39 +123,47 @@ public class ProcessListBaseView extends BaseForm {
 
     /**
      * Returns the list of the processes currently selected in the user interface.
-     * Converts ProcessDTO instances to Process instances in case of displaying search results.
+     * The processes are loaded from the database in chunks by their ids.
      *
      * @return value of selectedProcesses
      */
     @SuppressWarnings("unchecked")
     public List<Process> getSelectedProcesses() {
-        List<Process> selectedProcesses = new ArrayList<>();
-        ProcessService processService = ServiceManager.getProcessService();
+        if (!allSelected && !selectedProcessesOrProcessDTOs.isEmpty()
+                && selectedProcessesOrProcessDTOs.get(0) instanceof Process) {
+            // list contains Process instances
+            return (List<Process>) selectedProcessesOrProcessDTOs;
+        }
+        try {
+            return ServiceManager.getProcessService().getByIds(getSelectedProcessIds());
+        } catch (DAOException e) {
+            Helper.setErrorMessage(ERROR_LOADING_MANY, new Object[] {ObjectType.PROCESS.getTranslationPlural() },
+                logger, e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Returns the ids of the processes currently selected in the user
+     * interface. If all processes are selected, only the ids of the processes
+     * matching the filter are read from the index, leaving out the excluded
+     * processes.
+     *
+     * @return ids of the selected processes
+     */
+    public List<Integer> getSelectedProcessIds() {
+        List<Integer> selectedIds = new ArrayList<>();
         if (allSelected) {
-            try {
-                this.selectedProcessesOrProcessDTOs = processService.findByQuery(processService.getQueryForFilter(
-                                this.isShowClosedProcesses(), isShowInactiveProjects(), getFilter())
-                        .mustNot(processService.createSetQueryForIds(new ArrayList<>(excludedProcessIds))), false);
-            } catch (DataException e) {
-                logger.error(e.getMessage());
+            for (Map<String, Object> document : findSelectedProcessDocuments()) {
+                selectedIds.add(getId(document));
             }
-        }
-        if (!selectedProcessesOrProcessDTOs.isEmpty()) {
-            if (selectedProcessesOrProcessDTOs.get(0) instanceof ProcessDTO) {
-                // list contains ProcessDTO instances
-                try {
-                    selectedProcesses = ServiceManager.getProcessService()
-                            .convertDtosToBeans((List<ProcessDTO>) selectedProcessesOrProcessDTOs);
-                } catch (DAOException e) {
-                    Helper.setErrorMessage(ERROR_LOADING_MANY,
-                            new Object[]{ObjectType.PROCESS.getTranslationPlural()}, logger, e);
-                }
-            } else if (selectedProcessesOrProcessDTOs.get(0) instanceof Process) {
-                // list contains Process instances
-                selectedProcesses = (List<Process>) selectedProcessesOrProcessDTOs;
+        } else {
+            for (Object selected : selectedProcessesOrProcessDTOs) {
+                selectedIds.add(selected instanceof ProcessDTO ? ((ProcessDTO) selected).getId()
+                        : ((Process) selected).getId());
             }
         }
-        return selectedProcesses;
+        return selectedIds;
     }
 
     /**
@@ -164,7 +180,11 @@ public class ProcessListBaseView extends BaseForm {
      */
     public void showDurationOfTasks() {
         chartMode = ChartMode.BAR;
-        stackedBarModel = ServiceManager.getProcessService().getBarChartModel(getSelectedProcesses());
+        Map<Integer, String> processTitles = new LinkedHashMap<>();
+        for (Map<String, Object> document : findSelectedProcessDocuments(ProcessTypeField.TITLE.getKey())) {
+            processTitles.put(getId(document), String.valueOf(document.get(ProcessTypeField.TITLE.getKey())));
+        }
+        stackedBarModel = ServiceManager.getProcessService().getBarChartModel(processTitles);
         PrimeFaces.current().executeScript("PF('statisticsDialog').show();");
         PrimeFaces.current().ajax().update("statisticsDialog");
     }
@@ -174,45 +194,77 @@ public class ProcessListBaseView extends BaseForm {
      */
     public void showStateOfVolume() {
         chartMode = ChartMode.PIE;
-        statisticResult = ServiceManager.getProcessService().getProcessTaskStates(getSelectedProcesses());
+        statisticResult = ServiceManager.getProcessService().getProcessTaskStates(getSelectedProcessIds());
         pieModel = ServiceManager.getProcessService().getPieChardModel(statisticResult);
         PrimeFaces.current().executeScript("PF('statisticsDialog').show();");
         PrimeFaces.current().ajax().update("statisticsDialog");
     }
 
     /**
-     * Shows the number of images, metadata and structuralElements.
+     * Shows the number of images, metadata and structuralElements. The numbers
+     * are read from the process index, where they are stored when the process
+     * is indexed, so the metadata files need not be parsed. The totals are
+     * summed up by aggregations in the index, and the table only reads the
+     * page of processes it shows.
      */
     public void showProcessMetadataStatistic() {
         chartMode = ChartMode.METADATA_STATISTIC;
-        processMetadataStatistics = new ArrayList<>();
         resetGlobalStatisticValues();
-        Workpiece workpiece;
-        for (Process selectedProcess : getSelectedProcesses()) {
-            try {
-                URI metadataFilePath = ServiceManager.getFileService().getMetadataFilePath(selectedProcess);
-                workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFilePath);
-            } catch (IOException e) {
-                Helper.setErrorMessage(ERROR_LOADING_ONE,
-                        new Object[] {ObjectType.PROCESS.getTranslationSingular(), selectedProcess.getId() }, logger, e);
-                return;
-            }
-            int numberOfProcessImages = (int) Workpiece.treeStream(workpiece.getPhysicalStructure())
-                    .filter(physicalDivision -> Objects.equals(physicalDivision.getType(), PhysicalDivision.TYPE_PAGE)).count();
-            this.numberOfGlobalImages += numberOfProcessImages;
-            int numberOfProcessStructuralElements = (int) Workpiece.treeStream(workpiece.getLogicalStructure()).count();
-            this.numberOfGlobalStructuralElements += numberOfProcessStructuralElements;
-            int numberOfProcessMetadata = Math
-                    .toIntExact(MetsService.countLogicalMetadata(workpiece));
-            this.numberOfGlobalMetadata += numberOfProcessMetadata;
-
-            processMetadataStatistics.add(new ProcessMetadataStatistic(selectedProcess.getTitle(),
-                    numberOfProcessImages, numberOfProcessStructuralElements, numberOfProcessMetadata));
+        ProcessService processService = ServiceManager.getProcessService();
+        QueryBuilder query = getSelectedProcessQuery();
+        try {
+            Map<ProcessTypeField, Integer> sums = processService.sumMetadataStatistic(query);
+            numberOfGlobalImages = sums.get(ProcessTypeField.NUMBER_OF_IMAGES);
+            numberOfGlobalStructuralElements = sums.get(ProcessTypeField.NUMBER_OF_STRUCTURES);
+            numberOfGlobalMetadata = sums.get(ProcessTypeField.NUMBER_OF_METADATA);
+            numberOfGlobalProcessMetadataStatistics = Math.toIntExact(processService.countDocuments(query));
+        } catch (DataException e) {
+            Helper.setErrorMessage(ERROR_LOADING_MANY, new Object[] {ObjectType.PROCESS.getTranslationPlural() },
+                logger, e);
+            return;
         }
+        processMetadataStatistics = new LazyProcessMetadataStatisticModel(query,
+                numberOfGlobalProcessMetadataStatistics);
         PrimeFaces.current().executeScript("PF('statisticsDialog').show();");
         PrimeFaces.current().ajax().update("statisticsDialog");
     }
 
+    /**
+     * Reads the given index fields of the processes currently selected in the
+     * user interface, without loading them from the database.
+     */
+    private List<Map<String, Object>> findSelectedProcessDocuments(String... includes) {
+        try {
+            return ServiceManager.getProcessService().findAllDocumentsByQuery(getSelectedProcessQuery(), includes);
+        } catch (DataException e) {
+            Helper.setErrorMessage(ERROR_LOADING_MANY, new Object[] {ObjectType.PROCESS.getTranslationPlural() },
+                logger, e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Returns an index query for the processes currently selected in the user
+     * interface. If all processes are selected, this is the query of the
+     * filter, leaving out the excluded processes.
+     */
+    private QueryBuilder getSelectedProcessQuery() {
+        ProcessService processService = ServiceManager.getProcessService();
+        if (allSelected) {
+            return processService.getQueryForFilter(this.isShowClosedProcesses(), isShowInactiveProjects(),
+                getFilter()).mustNot(processService.createSetQueryForIds(new ArrayList<>(excludedProcessIds)));
+        }
+        List<Integer> selectedIds = getSelectedProcessIds();
+        if (selectedIds.isEmpty()) {
+            return QueryBuilders.boolQuery().mustNot(QueryBuilders.matchAllQuery());
+        }
+        return processService.createSetQueryForIds(selectedIds);
+    }
+
+    private static Integer getId(Map<String, Object> document) {
+        return Integer.valueOf(document.get(ProcessTypeField.ID.getKey()).toString());
+    }
+
     /**
      * Return whether to display bar model or not.
      *
@@ -272,7 +324,7 @@ public class ProcessListBaseView extends BaseForm {
      *
      * @return process metadata statistics
      */
-    public List<ProcessMetadataStatistic> getProcessMetadataStatistics() {
+    public LazyProcessMetadataStatisticModel getProcessMetadataStatistics() {
         return processMetadataStatistics;
     }
 
@@ -353,39 +405,76 @@ public class ProcessListBaseView extends BaseForm {
      * Export DMS for selected processes.
      */
     public void exportDMSForSelection() {
-        exportDMSForProcesses(getSelectedProcesses());
+        try {
+            ServiceManager.getProcessService().forEachChunk(getSelectedProcessIds(), this::exportDMSForProcesses);
+        } catch (DAOException e) {
+            Helper.setErrorMessage(ERROR_LOADING_MANY, new Object[] {ObjectType.PROCESS.getTranslationPlural() },
+                logger, e);
+        }
     }
 
     /**
-     * Generate result set.
+     * Generate result set. Large results are exported in the task manager
+     * and written to the user's home directory.
      */
     public void generateResult() {
         try {
-            ServiceManager.getProcessService().generateResult(this.filter, this.isShowClosedProcesses(),
-                    this.isShowInactiveProjects());
-        } catch (IOException e) {
+            if (isResultExportedInBackground()) {
+                exportResultInBackground("xlsx", false);
+            } else {
+                ServiceManager.getProcessService().generateResult(this.filter, this.isShowClosedProcesses(),
+                        this.isShowInactiveProjects());
+            }
+        } catch (IOException | DataException e) {
             Helper.setErrorMessage(ERROR_CREATING, new Object[] {Helper.getTranslation("resultSet") }, logger, e);
         }
     }
 
     /**
-     * Generate result as PDF.
+     * Generate result as PDF. Large results are exported in the task manager
+     * and written to the user's home directory.
      */
     public void generateResultAsPdf() {
         try {
-            ServiceManager.getProcessService().generateResultAsPdf(this.filter, this.isShowClosedProcesses(),
-                    this.isShowInactiveProjects());
-        } catch (IOException | DocumentException e) {
+            if (isResultExportedInBackground()) {
+                exportResultInBackground("pdf", true);
+            } else {
+                ServiceManager.getProcessService().generateResultAsPdf(this.filter, this.isShowClosedProcesses(),
+                        this.isShowInactiveProjects());
+            }
+        } catch (IOException | DocumentException | DataException e) {
             Helper.setErrorMessage(ERROR_CREATING, new Object[] {Helper.getTranslation("resultPDF") }, logger, e);
         }
     }
 
+    private boolean isResultExportedInBackground() throws DataException {
+        ProcessService processService = ServiceManager.getProcessService();
+        return processService.countDocuments(processService.getQueryForFilter(this.isShowClosedProcesses(),
+            this.isShowInactiveProjects(), this.filter)) >= ConfigCore
+                    .getIntParameterOrDefaultValue(ParameterCore.SEARCH_RESULT_BACKGROUND_THRESHOLD);
+    }
+
+    /**
+     * Starts the export in the task manager. The file name contains the time
+     * of the export, so that several exports of the same or of different
+     * users never overwrite each other's result.
+     */
+    private void exportResultInBackground(String extension, boolean pdf) throws IOException {
+        String fileName = "search_" + LocalDateTime.now().format(EXPORT_TIME_FORMATTER) + "." + extension;
+        User user = ServiceManager.getUserService().getAuthenticatedUser();
+        URI destination = ServiceManager.getUserService().getHomeDirectory(user).resolve(fileName);
+        TaskManager.addTask(new SearchResultExportTask(fileName, this.filter, this.isShowClosedProcesses(),
+                this.isShowInactiveProjects(), pdf, destination, user,
+                ServiceManager.getUserService().getSessionClientOfAuthenticatedUser()));
+        Helper.setMessage("searchResultExportStarted", fileName);
+    }
+
     /**
      * Download to home for selected processes.
      */
     public void downloadToHomeForSelection() {
         try {
-            ProcessService.downloadToHome(this.getSelectedProcesses());
+            ServiceManager.getProcessService().forEachChunk(getSelectedProcessIds(), ProcessService::downloadToHome);
             Helper.setMessage("createdInUserHomeAll");
         } catch (DAOException e) {
             Helper.setErrorMessage("Error downloading processes to home directory!");
@@ -396,8 +485,13 @@ public class ProcessListBaseView extends BaseForm {
      * Upload selected processes from home.
      */
     public void uploadFromHomeForSelection() {
-        ProcessService.uploadFromHome(this.getSelectedProcesses());
-        Helper.setMessage("directoryRemovedSelected");
+        try {
+            ServiceManager.getProcessService().forEachChunk(getSelectedProcessIds(), ProcessService::uploadFromHome);
+            Helper.setMessage("directoryRemovedSelected");
+        } catch (DAOException e) {
+            Helper.setErrorMessage(ERROR_LOADING_MANY, new Object[] {ObjectType.PROCESS.getTranslationPlural() },
+                logger, e);
+        }
     }
 
     /**
@@ -414,6 +508,7 @@ public class ProcessListBaseView extends BaseForm {
         this.numberOfGlobalStructuralElements = 0;
         this.numberOfGlobalImages = 0;
         this.numberOfGlobalMetadata = 0;
+        this.numberOfGlobalProcessMetadataStatistics = 0;
     }
 
     private void exportDMSForProcesses(List<Process> processes) {
@@ -659,6 +754,6 @@ public class ProcessListBaseView extends BaseForm {
      * @return the number of global process metadata statistics
      */
     public int getNumberOfGlobalProcessMetadataStatistics() {
-        return processMetadataStatistics.size();
+        return numberOfGlobalProcessMetadataStatistics;
     }
 }
@@ -200,14 +200,26 @@ public class SearchResultForm extends ProcessListBaseView {
      * Set up processing status selection.
      */
     public void setTaskStatusUpForSelection() {
-        this.workflowControllerService.setTaskStatusUpForProcesses(this.getSelectedProcesses());
+        try {
+            ServiceManager.getProcessService().forEachChunk(this.getSelectedProcessIds(),
+                this.workflowControllerService::setTaskStatusUpForProcesses);
+        } catch (DAOException e) {
+            Helper.setErrorMessage(ERROR_LOADING_MANY, new Object[] {ObjectType.PROCESS.getTranslationPlural() },
+                logger, e);
+        }
     }
 
     /**
      * Set down processing status selection.
      */
     public void setTaskStatusDownForSelection() {
-        this.workflowControllerService.setTaskStatusDownForProcesses(this.getSelectedProcesses());
+        try {
+            ServiceManager.getProcessService().forEachChunk(this.getSelectedProcessIds(),
+                this.workflowControllerService::setTaskStatusDownForProcesses);
+        } catch (DAOException e) {
+            Helper.setErrorMessage(ERROR_LOADING_MANY, new Object[] {ObjectType.PROCESS.getTranslationPlural() },
+                logger, e);
+        }
     }
 
     /**
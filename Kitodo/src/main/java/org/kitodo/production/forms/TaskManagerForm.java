@@ -70,6 +70,10 @@ public class TaskManagerForm {
         task.interrupt(Behaviour.PREPARE_FOR_RESTART);
     }
 
+    public void retryTask() {
+        TaskManager.retry(task);
+    }
+
     public void removeTask() {
         task.interrupt(Behaviour.DELETE_IMMEDIATELY);
     }
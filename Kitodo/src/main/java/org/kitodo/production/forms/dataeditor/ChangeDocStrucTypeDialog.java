@@ -59,7 +59,8 @@ public class ChangeDocStrucTypeDialog {
     public void editDocStruc() {
         LogicalDivision selectedStructure = getSelectedLogicalStructure();
         selectedStructure.setType(docStructType);
-        dataEditor.refreshStructurePanel();
+        dataEditor.getStructurePanel().updateLogicalNodeLabel(selectedStructure);
+        dataEditor.getGalleryPanel().updateStripeLabel(selectedStructure);
     }
 
     /**
@@ -304,7 +304,7 @@ public class DataEditorForm implements MetadataTreeTableInterface, RulesetSetupI
                 errorMessage = Helper.getTranslation("metadataConfusion", String.valueOf(process.getId()),
                         workpiece.getId());
             }
-            selectedMedia = new LinkedList<>();
+            selectedMedia = new MediaSelection();
             unsavedUploadedMedia = new ArrayList<>();
             init();
             if (Objects.isNull(errorMessage) || errorMessage.isEmpty()) {
@@ -855,7 +855,7 @@ public class DataEditorForm implements MetadataTreeTableInterface, RulesetSetupI
     }
 
     void setSelectedMedia(List<Pair<PhysicalDivision, LogicalDivision>> media) {
-        this.selectedMedia = media;
+        this.selectedMedia = new MediaSelection(media);
     }
 
     /**
@@ -943,12 +943,9 @@ public class DataEditorForm implements MetadataTreeTableInterface, RulesetSetupI
             // update gallery
             galleryPanel.updateSelection(selectedPhysicalDivision.get(), null);
             // update logical tree
-            for (GalleryMediaContent galleryMediaContent : galleryPanel.getMedias()) {
-                if (Objects.nonNull(galleryMediaContent.getView())
-                        && Objects.equals(selectedPhysicalDivision.get(), galleryMediaContent.getView().getPhysicalDivision())) {
-                    structurePanel.updateLogicalNodeSelection(galleryMediaContent, null);
-                    break;
-                }
+            GalleryMediaContent galleryMediaContent = galleryPanel.getMediaContentOfMedias(selectedPhysicalDivision.get());
+            if (Objects.nonNull(galleryMediaContent)) {
+                structurePanel.updateLogicalNodeSelection(galleryMediaContent, null);
             }
         }
     }
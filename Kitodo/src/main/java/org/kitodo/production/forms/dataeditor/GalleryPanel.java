@@ -12,10 +12,12 @@
 package org.kitodo.production.forms.dataeditor;
 
 import java.net.URI;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale.LanguageRange;
@@ -23,6 +25,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -40,6 +44,8 @@ import org.kitodo.api.dataformat.LogicalDivision;
 import org.kitodo.api.dataformat.MediaVariant;
 import org.kitodo.api.dataformat.PhysicalDivision;
 import org.kitodo.api.dataformat.View;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
@@ -63,6 +69,8 @@ public class GalleryPanel {
 
     private static final FileService fileService = ServiceManager.getFileService();
 
+    private static final String UNKNOWN_TREE_NODE_ID = "unknown";
+
     // Structured media
     private static final Pattern DRAG_STRIPE_IMAGE = Pattern.compile(
             "imagePreviewForm:structuredPages:(\\d+):structureElementDataList:(\\d+):structuredPagePanel");
@@ -88,17 +96,74 @@ public class GalleryPanel {
     private static final Pattern DROP_UNSTRUCTURED_MEDIA_LAST_AREA = Pattern.compile(
             "imagePreviewForm:unstructuredMediaList:(\\d+):unstructuredPageLastDropArea");
 
+    // client IDs of the stripes, to update them after drag and drop
+    private static final String STRUCTURE_ELEMENT_DATA_LIST_ID = "imagePreviewForm:structuredPages:%d:structureElementDataList";
+
+    private static final String UNSTRUCTURED_MEDIA_LIST_ID = "imagePreviewForm:unstructuredMediaList";
+
     private final DataEditorForm dataEditor;
     private final MediaPartialsPanel mediaPartialsPanel;
     private GalleryViewMode galleryViewMode = GalleryViewMode.LIST;
     private List<GalleryMediaContent> medias = Collections.emptyList();
 
+    /**
+     * Physical divisions of the medias in display order, and their positions
+     * by identity.
+     */
+    private List<PhysicalDivision> mediaDivisions = Collections.emptyList();
+    private Map<PhysicalDivision, Integer> mediaIndexes = new IdentityHashMap<>();
+
+    /**
+     * Media contents by the identity of their physical divisions. A media
+     * content is only created when it is accessed, that is, when its
+     * thumbnail is rendered. They are kept when the stripes are updated, so
+     * that only the media contents of new physical divisions have to be
+     * created.
+     */
+    private Map<PhysicalDivision, GalleryMediaContent> mediaContents = new IdentityHashMap<>();
+
+    /**
+     * Logical tree node ids of the medias by the identity of their physical
+     * divisions. They are set on the media contents when these are created.
+     */
+    private Map<PhysicalDivision, String> logicalTreeNodeIds = new IdentityHashMap<>();
+
     private Map<MediaContentType, Map<GalleryViewMode, MediaVariant>> mediaContentTypeVariants = new HashMap<>();
 
     private Map<MediaContentType, Subfolder> mediaContentTypePreviewFolder = new HashMap<>();
 
     private List<GalleryStripe> stripes;
 
+    /**
+     * Stripes by the identity of their structures.
+     */
+    private Map<LogicalDivision, GalleryStripe> stripesByStructure = new IdentityHashMap<>();
+
+    /**
+     * The stripe each media is shown in first, by the identity of its
+     * physical division.
+     */
+    private Map<PhysicalDivision, GalleryStripe> stripesOfMedia = new IdentityHashMap<>();
+
+    /**
+     * Number of medias rendered in the structured view. The stripes are
+     * rendered in display order until this number of medias is reached, the
+     * further ones are rendered when the user scrolls down.
+     */
+    private int renderedMediaLimit;
+
+    /**
+     * Number of rendered medias per stripe index, and number of rendered
+     * stripes, computed from the limit.
+     */
+    private int[] renderedMediaCounts = new int[0];
+    private int renderedStripesCount;
+
+    /**
+     * Number of medias rendered in the thumbnail list of the detail view.
+     */
+    private int renderedPreviewMediaLimit;
+
     private String cachingUUID = "";
 
     private static final Comparator<Pair<View, LogicalDivision>> IMAGE_ORDER_COMPARATOR = Comparator.comparing(
@@ -155,7 +220,8 @@ public class GalleryPanel {
     }
 
     /**
-     * Get the list of image file paths for the current process.
+     * Get the list of image file paths for the current process. The media
+     * contents are created when they are accessed.
      *
      * @return List of fullsize PNG images
      */
@@ -163,6 +229,50 @@ public class GalleryPanel {
         return medias;
     }
 
+    /**
+     * Returns the medias rendered in the thumbnail list of the detail view.
+     * These are the first medias, up to the limit of rendered medias.
+     *
+     * @return the rendered medias
+     */
+    public List<GalleryMediaContent> getRenderedPreviewMedias() {
+        return medias.subList(0, Math.min(renderedPreviewMediaLimit, medias.size()));
+    }
+
+    /**
+     * Raises the limit of medias rendered in the thumbnail list of the detail
+     * view by the configured window size. This method is called via
+     * remoteCommand when the user scrolls to the end of the thumbnail list.
+     */
+    public void showMorePreviewMedia() {
+        if (renderedPreviewMediaLimit < medias.size()) {
+            renderedPreviewMediaLimit += getWindowSize();
+        }
+        PrimeFaces.current().ajax().addCallbackParam("allMediaRendered",
+            renderedPreviewMediaLimit >= medias.size());
+    }
+
+    /**
+     * Raises the limit of medias rendered in the thumbnail list of the detail
+     * view so that the media of the given physical division is rendered.
+     */
+    private void ensurePreviewRendered(PhysicalDivision physicalDivision) {
+        Integer index = mediaIndexes.get(physicalDivision);
+        if (Objects.nonNull(index) && index >= renderedPreviewMediaLimit) {
+            renderedPreviewMediaLimit = index + 1;
+            if (Objects.nonNull(FacesContext.getCurrentInstance())) {
+                PrimeFaces.current().ajax().update("imagePreviewForm:thumbnailWrapper");
+            }
+        }
+    }
+
+    private void ensureLastSelectionPreviewRendered() {
+        Pair<PhysicalDivision, LogicalDivision> lastSelection = getLastSelection();
+        if (GalleryViewMode.PREVIEW.equals(galleryViewMode) && Objects.nonNull(lastSelection)) {
+            ensurePreviewRendered(lastSelection.getKey());
+        }
+    }
+
     List<LanguageRange> getPriorityList() {
         return dataEditor.getPriorityList();
     }
@@ -197,40 +307,58 @@ public class GalleryPanel {
         }
 
         GalleryStripe toStripe = stripes.get(toStripeIndex);
+        Set<Integer> changedStripes = new TreeSet<>();
+        changedStripes.add(toStripeIndex);
 
         // move views
-        List<Pair<View, LogicalDivision>> viewsToBeMoved = new ArrayList<>();
-        for (Pair<PhysicalDivision, LogicalDivision> selectedElement : dataEditor.getSelectedMedia()) {
-            for (View view : selectedElement.getValue().getViews()) {
-                if (Objects.equals(view.getPhysicalDivision(), selectedElement.getKey())) {
-                    viewsToBeMoved.add(new ImmutablePair<>(view, selectedElement.getValue()));
-                }
-            }
-        }
-
-        viewsToBeMoved.sort(IMAGE_ORDER_COMPARATOR);
-
+        List<Pair<View, LogicalDivision>> viewsToBeMoved = getViewsToBeMoved(changedStripes);
         int toMediaIndex = getMediaIndex(dropId);
         try {
             updateData(toStripe, viewsToBeMoved, toMediaIndex);
         } catch (Exception e) {
             PrimeFaces.current().executeScript("$('#loadingScreen').hide();");
             PrimeFaces.current().executeScript("PF('corruptDataWarning').show();");
+            changedStripes = null;
         }
         dataEditor.getStructurePanel().show();
         dataEditor.getPaginationPanel().show();
+        int[] renderedMediaCountsBefore = renderedMediaCounts;
+        int renderedStripesCountBefore = renderedStripesCount;
         this.updateStripes();
         dataEditor.getSelectedMedia().clear();
+        updateChangedStripes(changedStripes, renderedMediaCountsBefore, renderedStripesCountBefore);
 
         // mark previously selected thumbnail in new stripe as selected
-        List<View> movedViews = viewsToBeMoved.stream().map(Pair::getKey).collect(Collectors.toList());
-        for (GalleryMediaContent toStripeMedia : toStripe.getMedias()) {
-            if (movedViews.contains(toStripeMedia.getView())) {
-                select(toStripeMedia, toStripe, "multi");
+        List<PhysicalDivision> movedPhysicalDivisions = viewsToBeMoved.stream()
+                .map(pair -> pair.getKey().getPhysicalDivision()).collect(Collectors.toList());
+        for (PhysicalDivision physicalDivision : toStripe.getPhysicalDivisions()) {
+            if (movedPhysicalDivisions.contains(physicalDivision)) {
+                select(getMediaContent(physicalDivision), toStripe, "multi");
             }
         }
     }
 
+    /**
+     * Returns the views of the selected medias in image order, and adds the
+     * stripes they are moved from to the changed stripes.
+     */
+    private List<Pair<View, LogicalDivision>> getViewsToBeMoved(Set<Integer> changedStripes) {
+        List<Pair<View, LogicalDivision>> viewsToBeMoved = new ArrayList<>();
+        for (Pair<PhysicalDivision, LogicalDivision> selectedElement : dataEditor.getSelectedMedia()) {
+            for (View view : selectedElement.getValue().getViews()) {
+                if (Objects.equals(view.getPhysicalDivision(), selectedElement.getKey())) {
+                    viewsToBeMoved.add(new ImmutablePair<>(view, selectedElement.getValue()));
+                }
+            }
+            GalleryStripe fromStripe = stripesByStructure.get(selectedElement.getValue());
+            if (Objects.nonNull(fromStripe)) {
+                changedStripes.add(fromStripe.getIndex());
+            }
+        }
+        viewsToBeMoved.sort(IMAGE_ORDER_COMPARATOR);
+        return viewsToBeMoved;
+    }
+
     /**
      * Check if audio media view waveform is activated in project.
      */
@@ -301,6 +429,39 @@ public class GalleryPanel {
         }
     }
 
+    /**
+     * Updates only the stripes whose medias were changed by drag and drop,
+     * and those in which a different number of medias is rendered now. If the
+     * rendered stripes have changed, or the stripes are not known, all stripes
+     * are updated.
+     */
+    private void updateChangedStripes(Set<Integer> changedStripes, int[] renderedMediaCountsBefore,
+            int renderedStripesCountBefore) {
+        if (Objects.isNull(FacesContext.getCurrentInstance())) {
+            return;
+        }
+        if (Objects.isNull(changedStripes) || !GalleryViewMode.LIST.equals(galleryViewMode)
+                || renderedStripesCount != renderedStripesCountBefore
+                || renderedMediaCounts.length != renderedMediaCountsBefore.length) {
+            PrimeFaces.current().ajax().update("@(.pageList)");
+            return;
+        }
+        for (int i = 0; i < renderedMediaCounts.length; i++) {
+            if (renderedMediaCounts[i] != renderedMediaCountsBefore[i]) {
+                changedStripes.add(i);
+            }
+        }
+        List<String> clientIds = new ArrayList<>();
+        for (int stripeIndex : changedStripes) {
+            if (stripeIndex == 0) {
+                clientIds.add(UNSTRUCTURED_MEDIA_LIST_ID);
+            } else if (stripeIndex < renderedStripesCount) {
+                clientIds.add(String.format(STRUCTURE_ELEMENT_DATA_LIST_ID, stripeIndex));
+            }
+        }
+        PrimeFaces.current().ajax().update(clientIds);
+    }
+
     private void updateData(GalleryStripe toStripe, List<Pair<View, LogicalDivision>> viewsToBeMoved, int toMediaIndex) {
         dataEditor.getStructurePanel().changeLogicalOrderFields(toStripe.getStructure(), viewsToBeMoved, toMediaIndex);
         dataEditor.getStructurePanel().reorderPhysicalDivisions(toStripe.getStructure(), viewsToBeMoved, toMediaIndex);
@@ -316,6 +477,7 @@ public class GalleryPanel {
      */
     public void setGalleryViewMode(String galleryViewMode) {
         this.galleryViewMode = GalleryViewMode.valueOf(galleryViewMode.toUpperCase());
+        ensureLastSelectionPreviewRendered();
     }
 
     /**
@@ -325,6 +487,7 @@ public class GalleryPanel {
     public void setGalleryViewMode() {
         Map<String, String> params = FacesContext.getCurrentInstance().getExternalContext().getRequestParameterMap();
         this.galleryViewMode = GalleryViewMode.valueOf(params.get("galleryViewMode").toUpperCase());
+        ensureLastSelectionPreviewRendered();
     }
 
     /**
@@ -339,27 +502,24 @@ public class GalleryPanel {
 
             // Update structured view
             if (this.galleryViewMode.equals(GalleryViewMode.LIST)) {
-                for (GalleryStripe galleryStripe : getStripes()) {
-                    if (Objects.isNull(structuralElement) || Objects.equals(structuralElement, galleryStripe.getStructure())) {
-                        for (GalleryMediaContent galleryMediaContent : galleryStripe.getMedias()) {
-                            if (Objects.equals(physicalDivision, galleryMediaContent.getView().getPhysicalDivision())) {
-                                dataEditor.getSelectedMedia().clear();
-                                dataEditor.getSelectedMedia().add(new ImmutablePair<>(physicalDivision, galleryStripe.getStructure()));
-                                break;
-                            }
-                        }
-                    }
+                Pair<Integer, Integer> indices = Objects.isNull(structuralElement)
+                        ? getLastIndices(physicalDivision)
+                        : getIndices(physicalDivision, structuralElement);
+                if (Objects.nonNull(indices)) {
+                    GalleryStripe galleryStripe = stripes.get(indices.getKey());
+                    dataEditor.getSelectedMedia().clear();
+                    dataEditor.getSelectedMedia().add(new ImmutablePair<>(physicalDivision, galleryStripe.getStructure()));
+                    ensureRendered(galleryStripe, indices.getValue());
                 }
             }
             // Update unstructured view
             else {
-                for (GalleryMediaContent galleryMediaContent : getMedias()) {
-                    if (Objects.equals(physicalDivision, galleryMediaContent.getView().getPhysicalDivision())) {
-                        dataEditor.getSelectedMedia().clear();
-                        dataEditor.getSelectedMedia().add(new ImmutablePair<>(
-                                physicalDivision, getLogicalStructureOfMedia(galleryMediaContent).getStructure()));
-                        break;
-                    }
+                GalleryMediaContent galleryMediaContent = getGalleryMediaContent(physicalDivision);
+                if (Objects.nonNull(galleryMediaContent)) {
+                    dataEditor.getSelectedMedia().clear();
+                    dataEditor.getSelectedMedia().add(new ImmutablePair<>(
+                            physicalDivision, getLogicalStructureOfMedia(galleryMediaContent).getStructure()));
+                    ensurePreviewRendered(physicalDivision);
                 }
             }
         }
@@ -380,8 +540,10 @@ public class GalleryPanel {
         initMediaContentType(physicalDivisions, project.getVideoPreview(), project.getVideoMediaView(),
                 MediaContentType.VIDEO);
 
-        medias = new ArrayList<>(physicalDivisions.size());
+        mediaContents = new IdentityHashMap<>();
         stripes = new ArrayList<>();
+        renderedMediaLimit = getWindowSize();
+        renderedPreviewMediaLimit = getWindowSize();
         dataEditor.getMediaProvider().resetMediaResolverForProcess(process.getId());
         cachingUUID = UUID.randomUUID().toString();
 
@@ -409,20 +571,65 @@ public class GalleryPanel {
     }
 
     /**
-     * Recreate media list from workpiece, which provides medias in correct order after drag and drop.
+     * Recreate media list from workpiece, which provides medias in correct order after drag and drop. The media
+     * contents of physical divisions already shown are reused, the others are only created when accessed.
      */
     private void updateMedia() {
-        List<PhysicalDivision> physicalDivisions = dataEditor.getWorkpiece()
-                .getAllPhysicalDivisionChildrenSortedFilteredByPageAndTrack();
-        medias = new ArrayList<>(physicalDivisions.size());
+        mediaDivisions = dataEditor.getWorkpiece().getAllPhysicalDivisionChildrenSortedFilteredByPageAndTrack();
+        mediaIndexes = new IdentityHashMap<>();
+        for (int i = 0; i < mediaDivisions.size(); i++) {
+            mediaIndexes.putIfAbsent(mediaDivisions.get(i), i);
+        }
+        medias = getMediaContents(mediaDivisions);
+        Map<PhysicalDivision, GalleryMediaContent> previousMediaContents = mediaContents;
+        mediaContents = new IdentityHashMap<>();
         dataEditor.getMediaProvider().resetMediaResolverForProcess(dataEditor.getProcess().getId());
-        for (PhysicalDivision physicalDivision : physicalDivisions) {
+        for (Entry<PhysicalDivision, GalleryMediaContent> entry : previousMediaContents.entrySet()) {
+            if (mediaIndexes.containsKey(entry.getKey())) {
+                mediaContents.put(entry.getKey(), entry.getValue());
+                dataEditor.getMediaProvider().addMediaContent(dataEditor.getProcess().getId(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns a list of the media contents of the given physical divisions.
+     * The media contents are created when they are accessed.
+     *
+     * @param physicalDivisions
+     *            physical divisions of the medias
+     * @return list of the media contents
+     */
+    List<GalleryMediaContent> getMediaContents(List<PhysicalDivision> physicalDivisions) {
+        return new AbstractList<>() {
+            @Override
+            public GalleryMediaContent get(int index) {
+                return getMediaContent(physicalDivisions.get(index));
+            }
+
+            @Override
+            public int size() {
+                return physicalDivisions.size();
+            }
+        };
+    }
+
+    /**
+     * Returns the media content of a physical division, creating it if it is
+     * accessed for the first time.
+     */
+    private GalleryMediaContent getMediaContent(PhysicalDivision physicalDivision) {
+        GalleryMediaContent galleryMediaContent = mediaContents.get(physicalDivision);
+        if (Objects.isNull(galleryMediaContent)) {
             View wholeMediaUnitView = new View();
             wholeMediaUnitView.setPhysicalDivision(physicalDivision);
-            GalleryMediaContent galleryMediaContent = createGalleryMediaContent(wholeMediaUnitView, null, null);
-            medias.add(galleryMediaContent);
+            galleryMediaContent = createGalleryMediaContent(wholeMediaUnitView, null, null);
+            galleryMediaContent.setLogicalTreeNodeId(
+                logicalTreeNodeIds.getOrDefault(physicalDivision, UNKNOWN_TREE_NODE_ID));
+            mediaContents.put(physicalDivision, galleryMediaContent);
             dataEditor.getMediaProvider().addMediaContent(dataEditor.getProcess().getId(), galleryMediaContent);
         }
+        return galleryMediaContent;
     }
 
     /**
@@ -434,7 +641,127 @@ public class GalleryPanel {
     public void updateStripes() {
         updateMedia();
         stripes = new ArrayList<>();
+        stripesByStructure = new IdentityHashMap<>();
+        stripesOfMedia = new IdentityHashMap<>();
+        logicalTreeNodeIds = new IdentityHashMap<>();
         addStripesRecursive(dataEditor.getWorkpiece().getLogicalStructure());
+        for (Entry<PhysicalDivision, GalleryMediaContent> entry : mediaContents.entrySet()) {
+            entry.getValue().setLogicalTreeNodeId(logicalTreeNodeIds.getOrDefault(entry.getKey(), UNKNOWN_TREE_NODE_ID));
+        }
+        computeRenderedMedia();
+    }
+
+    /**
+     * Updates the label of the stripe of a structure, after its type has been
+     * changed, without recreating the stripes.
+     *
+     * @param structure
+     *            structure whose type was changed
+     */
+    void updateStripeLabel(LogicalDivision structure) {
+        GalleryStripe stripe = stripesByStructure.get(structure);
+        if (Objects.nonNull(stripe)) {
+            stripe.updateLabel(this);
+        }
+    }
+
+    /**
+     * Returns the stripes rendered in the structured view. These are the
+     * first stripes, up to the one in which the limit of rendered medias is
+     * reached. The stripe of the unstructured medias is always included.
+     *
+     * @return the rendered stripes
+     */
+    public List<GalleryStripe> getRenderedStripes() {
+        return stripes.subList(0, Math.min(renderedStripesCount, stripes.size()));
+    }
+
+    /**
+     * Returns the rendered medias of a stripe. These are the first medias of
+     * the stripe, up to the limit of rendered medias.
+     *
+     * @param stripe
+     *            stripe whose rendered medias are returned
+     * @return the rendered medias
+     */
+    public List<GalleryMediaContent> getRenderedMedias(GalleryStripe stripe) {
+        int count = stripe.getIndex() < renderedMediaCounts.length ? renderedMediaCounts[stripe.getIndex()] : 0;
+        return stripe.getMedias().subList(0, Math.min(count, stripe.getMedias().size()));
+    }
+
+    /**
+     * Returns whether all medias of the structured view are rendered.
+     *
+     * @return whether all medias are rendered
+     */
+    public boolean isAllMediaRendered() {
+        if (renderedStripesCount < stripes.size()) {
+            return false;
+        }
+        for (GalleryStripe stripe : stripes) {
+            if (renderedMediaCounts[stripe.getIndex()] < stripe.getMedias().size()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Raises the limit of rendered medias by the configured window size. This
+     * method is called via remoteCommand when the user scrolls to the end of
+     * the structured view.
+     */
+    public void showMoreMedia() {
+        if (!isAllMediaRendered()) {
+            renderedMediaLimit += getWindowSize();
+            computeRenderedMedia();
+        }
+        PrimeFaces.current().ajax().addCallbackParam("allMediaRendered", isAllMediaRendered());
+    }
+
+    /**
+     * Raises the limit of rendered medias so that the media at the given
+     * position in a stripe is rendered, for example when it is selected in the
+     * structure tree.
+     */
+    private void ensureRendered(GalleryStripe stripe, int mediaIndex) {
+        if (mediaIndex < renderedMediaCounts[stripe.getIndex()]) {
+            return;
+        }
+        int mediasBefore = 0;
+        for (int i = 1; i < stripes.size() && (stripe.getIndex() == 0 || i < stripe.getIndex()); i++) {
+            mediasBefore += stripes.get(i).getMedias().size();
+        }
+        renderedMediaLimit = Math.max(renderedMediaLimit, mediasBefore + mediaIndex + 1);
+        computeRenderedMedia();
+        if (Objects.nonNull(FacesContext.getCurrentInstance())) {
+            PrimeFaces.current().ajax().update("@(.pageList)");
+        }
+    }
+
+    /**
+     * Distributes the limit of rendered medias over the stripes in display
+     * order. Stripe 0, the unstructured medias, is displayed last.
+     */
+    private void computeRenderedMedia() {
+        if (renderedMediaLimit <= 0) {
+            renderedMediaLimit = getWindowSize();
+        }
+        renderedMediaCounts = new int[stripes.size()];
+        renderedStripesCount = Math.min(1, stripes.size());
+        int remaining = renderedMediaLimit;
+        for (int i = 1; i < stripes.size() && remaining > 0; i++) {
+            renderedMediaCounts[i] = Math.min(remaining, stripes.get(i).getMedias().size());
+            remaining -= renderedMediaCounts[i];
+            renderedStripesCount = i + 1;
+        }
+        if (renderedStripesCount == stripes.size() && !stripes.isEmpty()) {
+            renderedMediaCounts[0] = Math.min(Math.max(remaining, 0), stripes.get(0).getMedias().size());
+        }
+    }
+
+    private static int getWindowSize() {
+        return Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.METS_EDITOR_GALLERY_WINDOW_SIZE));
     }
 
     private static MediaVariant getMediaVariant(Folder folderSettings, List<PhysicalDivision> physicalDivisions) {
@@ -467,8 +794,9 @@ public class GalleryPanel {
 
     private void addStripesRecursive(LogicalDivision structure, List<Integer> treeNodeIdList) {
         String stripeTreeNodeId = treeNodeIdList.stream().map(String::valueOf).collect(Collectors.joining("_"));
-        GalleryStripe galleryStripe = new GalleryStripe(this, structure, stripeTreeNodeId);
+        GalleryStripe galleryStripe = new GalleryStripe(this, structure, stripeTreeNodeId, stripes.size());
         stripes.add(galleryStripe);
+        stripesByStructure.putIfAbsent(structure, galleryStripe);
 
         int siblingWithViewsIdx = 0;
         int siblingWithoutViewsIdx = 0;
@@ -489,18 +817,15 @@ public class GalleryPanel {
                 siblingWithViewsIdx += 1;
                 siblingWithoutViewsIdx += 1;
             } else {
-                for (GalleryMediaContent galleryMediaContent : medias) {
-                    if (Objects.equals(view.getPhysicalDivision(),
-                            galleryMediaContent.getView().getPhysicalDivision())) {
-                        galleryStripe.getMedias().add(galleryMediaContent);
-                        List<Integer> viewTreeNodeIdList = new ArrayList<>(treeNodeIdList);
-                        viewTreeNodeIdList.add(siblingWithViewsIdx);
-                        String viewTreeNodeId = viewTreeNodeIdList.stream().map(String::valueOf).collect(Collectors.joining("_"));
-                        galleryMediaContent.setLogicalTreeNodeId(viewTreeNodeId);
-                        dataEditor.getMediaProvider().addMediaContent(dataEditor.getProcess().getId(), galleryMediaContent);
-                        siblingWithViewsIdx += 1;
-                        break;
-                    }
+                PhysicalDivision physicalDivision = view.getPhysicalDivision();
+                if (mediaIndexes.containsKey(physicalDivision)) {
+                    galleryStripe.addMedia(physicalDivision);
+                    stripesOfMedia.putIfAbsent(physicalDivision, galleryStripe);
+                    List<Integer> viewTreeNodeIdList = new ArrayList<>(treeNodeIdList);
+                    viewTreeNodeIdList.add(siblingWithViewsIdx);
+                    String viewTreeNodeId = viewTreeNodeIdList.stream().map(String::valueOf).collect(Collectors.joining("_"));
+                    logicalTreeNodeIds.put(physicalDivision, viewTreeNodeId);
+                    siblingWithViewsIdx += 1;
                 }
             }
         }
@@ -556,7 +881,7 @@ public class GalleryPanel {
             canonical = dataEditor.getStructurePanel().findCanonicalIdForView(view);
         }
 
-        String treeNodeId = "unknown";
+        String treeNodeId = UNKNOWN_TREE_NODE_ID;
         if (Objects.nonNull(stripeTreeNodeId) && Objects.nonNull(index)) {
             treeNodeId = stripeTreeNodeId + "_" + index;
         }
@@ -578,11 +903,14 @@ public class GalleryPanel {
      * @return GalleryStripe representing the logical structure element to which the Media is assigned
      */
     GalleryStripe getLogicalStructureOfMedia(GalleryMediaContent galleryMediaContent) {
+        PhysicalDivision physicalDivision = galleryMediaContent.getView().getPhysicalDivision();
+        GalleryStripe stripe = stripesOfMedia.get(physicalDivision);
+        if (Objects.nonNull(stripe)) {
+            return stripe;
+        }
         for (GalleryStripe galleryStripe : stripes) {
-            for (GalleryMediaContent mediaContent : galleryStripe.getMedias()) {
-                if (galleryMediaContent.getId().equals(mediaContent.getId())) {
-                    return galleryStripe;
-                }
+            if (galleryStripe.getPhysicalDivisions().contains(physicalDivision)) {
+                return galleryStripe;
             }
         }
         return null;
@@ -590,11 +918,7 @@ public class GalleryPanel {
 
     GalleryMediaContent getGalleryMediaContent(View view) {
         if (Objects.nonNull(view)) {
-            for (GalleryMediaContent galleryMediaContent : this.medias) {
-                if (galleryMediaContent.getView().getPhysicalDivision().equals(view.getPhysicalDivision())) {
-                    return galleryMediaContent;
-                }
-            }
+            return getMediaContentOfMedias(view.getPhysicalDivision());
         }
         return null;
     }
@@ -605,16 +929,35 @@ public class GalleryPanel {
      * @return GalleryMediaContent
      */
     public GalleryMediaContent getGalleryMediaContent(PhysicalDivision physicalDivision) {
+        if (stripesOfMedia.containsKey(physicalDivision)) {
+            return getMediaContent(physicalDivision);
+        }
         for (GalleryStripe galleryStripe : stripes) {
-            for (GalleryMediaContent media : galleryStripe.getMedias()) {
-                if (Objects.equals(media.getView().getPhysicalDivision(), physicalDivision)) {
-                    return media;
-                }
+            int index = galleryStripe.getPhysicalDivisions().indexOf(physicalDivision);
+            if (index >= 0) {
+                return getMediaContent(galleryStripe.getPhysicalDivisions().get(index));
             }
         }
         return null;
     }
 
+    /**
+     * Returns the media content of a physical division shown in the gallery,
+     * creating it if it is accessed for the first time.
+     *
+     * @param physicalDivision
+     *            physical division whose media content is returned
+     * @return the media content, or null if the physical division is not
+     *         shown in the gallery
+     */
+    GalleryMediaContent getMediaContentOfMedias(PhysicalDivision physicalDivision) {
+        if (mediaIndexes.containsKey(physicalDivision)) {
+            return getMediaContent(physicalDivision);
+        }
+        int index = mediaDivisions.indexOf(physicalDivision);
+        return index >= 0 ? getMediaContent(mediaDivisions.get(index)) : null;
+    }
+
     /**
      * Get a List of all PhysicalDivisions and the LogicalDivisions they are
      * assigned to which are displayed between two selected PhysicalDivisions.
@@ -725,26 +1068,26 @@ public class GalleryPanel {
         if (galleryStripes.size() == 1) {
             for (int i = firstIndex; i <= lastIndex; i++) {
                 mediaWithinRange.add(
-                        new ImmutablePair<>(firstStripe.getMedias().get(i).getView().getPhysicalDivision(), firstStripe.getStructure()));
+                        new ImmutablePair<>(firstStripe.getPhysicalDivisions().get(i), firstStripe.getStructure()));
             }
         } else {
 
-            for (int i = firstIndex; i <= firstStripe.getMedias().size() - 1; i++) {
+            for (int i = firstIndex; i <= firstStripe.getPhysicalDivisions().size() - 1; i++) {
                 mediaWithinRange.add(
-                        new ImmutablePair<>(firstStripe.getMedias().get(i).getView().getPhysicalDivision(), firstStripe.getStructure()));
+                        new ImmutablePair<>(firstStripe.getPhysicalDivisions().get(i), firstStripe.getStructure()));
             }
 
             for (int i = 1; i <= galleryStripes.size() - 2; i++) {
                 GalleryStripe galleryStripe = galleryStripes.get(i);
-                for (GalleryMediaContent media : galleryStripe.getMedias()) {
-                    mediaWithinRange.add(new ImmutablePair<>(media.getView().getPhysicalDivision(), galleryStripe.getStructure()));
+                for (PhysicalDivision physicalDivision : galleryStripe.getPhysicalDivisions()) {
+                    mediaWithinRange.add(new ImmutablePair<>(physicalDivision, galleryStripe.getStructure()));
                 }
             }
 
             GalleryStripe lastStripe = galleryStripes.get(galleryStripes.size() - 1);
             for (int i = 0; i <= lastIndex; i++) {
                 mediaWithinRange.add(
-                        new ImmutablePair<>(lastStripe.getMedias().get(i).getView().getPhysicalDivision(), lastStripe.getStructure()));
+                        new ImmutablePair<>(lastStripe.getPhysicalDivisions().get(i), lastStripe.getStructure()));
             }
         }
         return mediaWithinRange;
@@ -758,44 +1101,63 @@ public class GalleryPanel {
         if (galleryStripes.size() == 1) {
             for (int i = firstIndex; i >= lastIndex; i--) {
                 mediaWithinRange.add(
-                        new ImmutablePair<>(firstStripe.getMedias().get(i).getView().getPhysicalDivision(), firstStripe.getStructure()));
+                        new ImmutablePair<>(firstStripe.getPhysicalDivisions().get(i), firstStripe.getStructure()));
             }
         } else {
             for (int i = firstIndex; i >= 0; i--) {
                 mediaWithinRange.add(
-                        new ImmutablePair<>(firstStripe.getMedias().get(i).getView().getPhysicalDivision(), firstStripe.getStructure()));
+                        new ImmutablePair<>(firstStripe.getPhysicalDivisions().get(i), firstStripe.getStructure()));
             }
 
             for (int i = 1; i <= galleryStripes.size() - 2; i++) {
                 GalleryStripe galleryStripe = galleryStripes.get(i);
-                for (int j = galleryStripe.getMedias().size() - 1; j >= 0; j--) {
+                for (int j = galleryStripe.getPhysicalDivisions().size() - 1; j >= 0; j--) {
                     mediaWithinRange.add(new ImmutablePair<>(
-                            galleryStripe.getMedias().get(j).getView().getPhysicalDivision(), galleryStripe.getStructure()));
+                            galleryStripe.getPhysicalDivisions().get(j), galleryStripe.getStructure()));
                 }
             }
 
             GalleryStripe lastStripe = galleryStripes.get(galleryStripes.size() - 1);
-            for (int i = lastStripe.getMedias().size() - 1; i >= lastIndex; i--) {
+            for (int i = lastStripe.getPhysicalDivisions().size() - 1; i >= lastIndex; i--) {
                 mediaWithinRange.add(
-                        new ImmutablePair<>(lastStripe.getMedias().get(i).getView().getPhysicalDivision(), lastStripe.getStructure()));
+                        new ImmutablePair<>(lastStripe.getPhysicalDivisions().get(i), lastStripe.getStructure()));
             }
         }
         return mediaWithinRange;
     }
 
     private Pair<Integer, Integer> getIndices(PhysicalDivision physicalDivision, LogicalDivision structuralElement) {
+        GalleryStripe stripe = stripesByStructure.get(structuralElement);
+        if (Objects.nonNull(stripe) && stripe.indexOf(physicalDivision) >= 0) {
+            return new ImmutablePair<>(stripe.getIndex(), stripe.indexOf(physicalDivision));
+        }
         for (GalleryStripe galleryStripe : stripes) {
             if (Objects.equals(galleryStripe.getStructure(), structuralElement)) {
-                for (GalleryMediaContent media : galleryStripe.getMedias()) {
-                    if (Objects.equals(media.getView().getPhysicalDivision(), physicalDivision)) {
-                        return new ImmutablePair<>(stripes.indexOf(galleryStripe), galleryStripe.getMedias().indexOf(media));
-                    }
+                int mediaIndex = galleryStripe.getPhysicalDivisions().indexOf(physicalDivision);
+                if (mediaIndex >= 0) {
+                    return new ImmutablePair<>(galleryStripe.getIndex(), mediaIndex);
                 }
             }
         }
         return null;
     }
 
+    private Pair<Integer, Integer> getLastIndices(PhysicalDivision physicalDivision) {
+        for (int i = stripes.size() - 1; i >= 0; i--) {
+            int mediaIndex = stripes.get(i).indexOf(physicalDivision);
+            if (mediaIndex >= 0) {
+                return new ImmutablePair<>(i, mediaIndex);
+            }
+        }
+        for (int i = stripes.size() - 1; i >= 0; i--) {
+            int mediaIndex = stripes.get(i).getPhysicalDivisions().indexOf(physicalDivision);
+            if (mediaIndex >= 0) {
+                return new ImmutablePair<>(i, mediaIndex);
+            }
+        }
+        return null;
+    }
+
     /**
      * Check whether the passed GalleryMediaContent is selected.
      * @param galleryMediaContent the GalleryMediaContent to be checked
@@ -1060,12 +1422,11 @@ public class GalleryPanel {
             return false;
         }
 
-        List<GalleryMediaContent> medias = getMedias();
-        if (medias.isEmpty()) {
+        if (mediaDivisions.isEmpty()) {
             return false;
         }
 
-        PhysicalDivision firstPhysicalDivision = medias.get(0).getView().getPhysicalDivision();
+        PhysicalDivision firstPhysicalDivision = mediaDivisions.get(0);
         if (Objects.isNull(firstPhysicalDivision)) {
             return false;
         }
@@ -1084,12 +1445,11 @@ public class GalleryPanel {
             return false;
         }
 
-        List<GalleryMediaContent> medias = getMedias();
-        if (medias.isEmpty()) {
+        if (mediaDivisions.isEmpty()) {
             return false;
         }
 
-        PhysicalDivision lastPhysicalDivision = medias.get(medias.size() - 1).getView().getPhysicalDivision();
+        PhysicalDivision lastPhysicalDivision = mediaDivisions.get(mediaDivisions.size() - 1);
         if (Objects.isNull(lastPhysicalDivision)) {
             return false;
         }
@@ -12,11 +12,14 @@
 package org.kitodo.production.forms.dataeditor;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
 import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterface;
 import org.kitodo.api.dataformat.LogicalDivision;
+import org.kitodo.api.dataformat.PhysicalDivision;
 
 /**
  * One media stripe in the structured gallery view.
@@ -25,12 +28,29 @@ public class GalleryStripe {
     /**
      * Label of the stripe.
      */
-    private final String label;
+    private String label;
 
     /**
-     * Medias in this stripe.
+     * Physical divisions of the medias in this stripe.
      */
-    private final List<GalleryMediaContent> medias = new ArrayList<>();
+    private final List<PhysicalDivision> physicalDivisions = new ArrayList<>();
+
+    /**
+     * Medias in this stripe. Their media contents are created by the gallery
+     * panel when they are accessed, that is, when they are rendered.
+     */
+    private final List<GalleryMediaContent> medias;
+
+    /**
+     * Positions of the medias in this stripe by the identity of their physical
+     * divisions.
+     */
+    private final Map<PhysicalDivision, Integer> mediaIndexes = new IdentityHashMap<>();
+
+    /**
+     * Position of this stripe in the list of stripes of the gallery.
+     */
+    private final int index;
 
     /**
      * Structure this gallery stripe is related to.
@@ -58,11 +78,17 @@ public class GalleryStripe {
      *            gallery panel this gallery stripe belongs to
      * @param structure
      *            structure this gallery stripe is related to
+     * @param logicalTreeNodeId
+     *            id of the corresponding node in the logical structure tree
+     * @param index
+     *            position of this stripe in the list of stripes of the gallery
      */
-    GalleryStripe(GalleryPanel panel, LogicalDivision structure, String logicalTreeNodeId) {
+    GalleryStripe(GalleryPanel panel, LogicalDivision structure, String logicalTreeNodeId, int index) {
         this.structure = structure;
+        this.index = index;
         this.logicalTreeNodeId = logicalTreeNodeId;
         this.label = getLabel(panel, structure);
+        this.medias = panel.getMediaContents(physicalDivisions);
     }
 
     /**
@@ -90,6 +116,17 @@ public class GalleryStripe {
         return divisionView.getLabel();
     }
 
+    /**
+     * Reads the label of the stripe again, after the type of its structure
+     * has been changed.
+     *
+     * @param panel
+     *            panel providing the ruleset and its configuration settings
+     */
+    void updateLabel(GalleryPanel panel) {
+        this.label = getLabel(panel, structure);
+    }
+
     /**
      * Returns the medias of the stripe.
      *
@@ -99,6 +136,50 @@ public class GalleryStripe {
         return medias;
     }
 
+    /**
+     * Returns the physical divisions of the medias of the stripe. Unlike
+     * {@link #getMedias()}, this does not create media contents.
+     *
+     * @return the physical divisions
+     */
+    List<PhysicalDivision> getPhysicalDivisions() {
+        return physicalDivisions;
+    }
+
+    /**
+     * Adds the media of a physical division to the end of the stripe.
+     *
+     * @param physicalDivision
+     *            physical division of the media to add
+     */
+    void addMedia(PhysicalDivision physicalDivision) {
+        mediaIndexes.putIfAbsent(physicalDivision, physicalDivisions.size());
+        physicalDivisions.add(physicalDivision);
+    }
+
+    /**
+     * Returns the position of the media of a physical division in this
+     * stripe.
+     *
+     * @param physicalDivision
+     *            physical division whose media is searched
+     * @return the position, or -1 if the physical division is not in this
+     *         stripe
+     */
+    int indexOf(PhysicalDivision physicalDivision) {
+        return mediaIndexes.getOrDefault(physicalDivision, -1);
+    }
+
+    /**
+     * Returns the position of this stripe in the list of stripes of the
+     * gallery.
+     *
+     * @return the index
+     */
+    public int getIndex() {
+        return index;
+    }
+
     /**
      * Returns the structure of the stripe.
      *
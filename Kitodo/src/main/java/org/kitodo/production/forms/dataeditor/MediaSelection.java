@@ -0,0 +1,197 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.forms.dataeditor;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.kitodo.api.dataformat.LogicalDivision;
+import org.kitodo.api.dataformat.PhysicalDivision;
+
+/**
+ * The media selected in the metadata editor. Each entry is a pair of a
+ * physical division and the logical division in which it was selected. The
+ * selection keeps its order, but additionally counts its entries by the
+ * identity of their divisions, so that checking whether a thumbnail is
+ * selected, which happens for every thumbnail of the gallery, does not have to
+ * compare the divisions with all selected ones. All lookups, that is
+ * {@code contains}, {@code indexOf}, {@code lastIndexOf} and
+ * {@code remove(Object)}, compare the divisions by identity.
+ */
+class MediaSelection extends AbstractList<Pair<PhysicalDivision, LogicalDivision>> implements Serializable {
+
+    private final List<Pair<PhysicalDivision, LogicalDivision>> entries = new ArrayList<>();
+
+    private final Map<PhysicalDivision, Map<LogicalDivision, Integer>> counts = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty media selection.
+     */
+    MediaSelection() {
+    }
+
+    /**
+     * Creates a media selection holding the given media.
+     *
+     * @param media
+     *            media to select
+     */
+    MediaSelection(Collection<? extends Pair<PhysicalDivision, LogicalDivision>> media) {
+        addAll(media);
+    }
+
+    @Override
+    public Pair<PhysicalDivision, LogicalDivision> get(int index) {
+        return entries.get(index);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public Pair<PhysicalDivision, LogicalDivision> set(int index, Pair<PhysicalDivision, LogicalDivision> element) {
+        Pair<PhysicalDivision, LogicalDivision> previous = entries.set(index, element);
+        uncount(previous);
+        count(element);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Pair<PhysicalDivision, LogicalDivision> element) {
+        entries.add(index, element);
+        count(element);
+        modCount++;
+    }
+
+    @Override
+    public Pair<PhysicalDivision, LogicalDivision> remove(int index) {
+        Pair<PhysicalDivision, LogicalDivision> removed = entries.remove(index);
+        uncount(removed);
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes the first entry with the divisions of the given pair. The
+     * divisions are compared by identity.
+     *
+     * @param object
+     *            pair of divisions to remove
+     * @return whether an entry was removed
+     */
+    @Override
+    public boolean remove(Object object) {
+        int index = indexOf(object);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        counts.clear();
+        modCount++;
+    }
+
+    /**
+     * Returns whether a pair of divisions is selected. The divisions are
+     * compared by identity.
+     *
+     * @param object
+     *            pair of divisions to check
+     * @return whether the pair is selected
+     */
+    @Override
+    public boolean contains(Object object) {
+        if (!(object instanceof Pair)) {
+            return false;
+        }
+        Pair<?, ?> pair = (Pair<?, ?>) object;
+        Map<LogicalDivision, Integer> logicalDivisions = counts.get(pair.getKey());
+        return Objects.nonNull(logicalDivisions) && logicalDivisions.containsKey(pair.getValue());
+    }
+
+    /**
+     * Returns the position of the first entry with the divisions of the given
+     * pair. The divisions are compared by identity.
+     *
+     * @param object
+     *            pair of divisions to look for
+     * @return the position, or -1 if the pair is not selected
+     */
+    @Override
+    public int indexOf(Object object) {
+        if (!contains(object)) {
+            return -1;
+        }
+        Pair<?, ?> pair = (Pair<?, ?>) object;
+        for (int index = 0; index < entries.size(); index++) {
+            if (isSame(entries.get(index), pair)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position of the last entry with the divisions of the given
+     * pair. The divisions are compared by identity.
+     *
+     * @param object
+     *            pair of divisions to look for
+     * @return the position, or -1 if the pair is not selected
+     */
+    @Override
+    public int lastIndexOf(Object object) {
+        if (!contains(object)) {
+            return -1;
+        }
+        Pair<?, ?> pair = (Pair<?, ?>) object;
+        for (int index = entries.size() - 1; index >= 0; index--) {
+            if (isSame(entries.get(index), pair)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isSame(Pair<PhysicalDivision, LogicalDivision> entry, Pair<?, ?> pair) {
+        return entry.getKey() == pair.getKey() && entry.getValue() == pair.getValue();
+    }
+
+    private void count(Pair<PhysicalDivision, LogicalDivision> element) {
+        counts.computeIfAbsent(element.getKey(), physicalDivision -> new IdentityHashMap<>())
+                .merge(element.getValue(), 1, Integer::sum);
+    }
+
+    private void uncount(Pair<PhysicalDivision, LogicalDivision> element) {
+        Map<LogicalDivision, Integer> logicalDivisions = counts.get(element.getKey());
+        if (Objects.nonNull(logicalDivisions)) {
+            logicalDivisions.computeIfPresent(element.getValue(), (logicalDivision, count) -> count > 1 ? count - 1 : null);
+            if (logicalDivisions.isEmpty()) {
+                counts.remove(element.getKey());
+            }
+        }
+    }
+}
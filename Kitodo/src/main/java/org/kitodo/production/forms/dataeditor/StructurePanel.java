@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -49,6 +50,7 @@ import org.kitodo.production.helper.Helper;
 import org.kitodo.production.metadata.MetadataEditor;
 import org.kitodo.production.model.Subfolder;
 import org.kitodo.production.services.ServiceManager;
+import org.primefaces.PrimeFaces;
 import org.primefaces.event.NodeCollapseEvent;
 import org.primefaces.event.NodeExpandEvent;
 import org.primefaces.event.NodeSelectEvent;
@@ -95,14 +97,34 @@ public class StructurePanel implements Serializable {
     private DefaultTreeNode physicalTree = null;
 
     /**
-     * HashMap containing the current expansion states of all TreeNodes in the logical structure tree.
+     * Tree nodes of the logical structure tree by the identity of the logical
+     * divisions they show. Divisions are compared by identity, because their
+     * equals() and hashCode() methods descend into all children.
      */
-    private HashMap<LogicalDivision, Boolean> previousExpansionStatesLogicalTree;
+    private Map<LogicalDivision, DefaultTreeNode> logicalTreeNodes = new IdentityHashMap<>();
 
     /**
-     * HashMap containing the current expansion states of all TreeNodes in the physical structure tree.
+     * Tree nodes of the physical structure tree by the identity of the
+     * physical divisions they show.
      */
-    private HashMap<PhysicalDivision, Boolean> previousExpansionStatesPhysicalTree;
+    private Map<PhysicalDivision, DefaultTreeNode> physicalTreeNodes = new IdentityHashMap<>();
+
+    /**
+     * Logical structures of the parent processes by process ID, so that the
+     * METS files of the parent processes are not read again on every update
+     * of the tree.
+     */
+    private Map<Integer, LogicalDivision> parentLogicalStructures = new HashMap<>();
+
+    /**
+     * Map containing the current expansion states of all TreeNodes in the logical structure tree.
+     */
+    private Map<LogicalDivision, Boolean> previousExpansionStatesLogicalTree;
+
+    /**
+     * Map containing the current expansion states of all TreeNodes in the physical structure tree.
+     */
+    private Map<PhysicalDivision, Boolean> previousExpansionStatesPhysicalTree;
 
     /**
      * HashMap acting as cache for faster retrieval of Subfolders.
@@ -169,6 +191,9 @@ public class StructurePanel implements Serializable {
         previouslySelectedLogicalNode = null;
         previouslySelectedPhysicalNode = null;
         structure = null;
+        logicalTreeNodes = new IdentityHashMap<>();
+        physicalTreeNodes = new IdentityHashMap<>();
+        parentLogicalStructures = new HashMap<>();
         subfoldersCache = new HashMap<>();
         severalAssignments = new LinkedList<>();
     }
@@ -215,10 +240,63 @@ public class StructurePanel implements Serializable {
         parent.getViews().sort(Comparator.comparingInt(v -> v.getPhysicalDivision().getOrder()));
 
         parent.getChildren().remove(selectedStructure);
-        show();
+        if (!removeLogicalTreeNode(selectedStructure, parent)) {
+            show();
+        }
         dataEditor.getGalleryPanel().updateStripes();
     }
 
+    /**
+     * Removes the tree node of a deleted logical division from the logical
+     * structure tree without building the tree again, and selects the root
+     * node as {@code show()} does. This is not possible if the tree shows
+     * media, because the media of the deleted division move to its parent.
+     *
+     * @return whether the tree node was removed
+     */
+    private boolean removeLogicalTreeNode(LogicalDivision logicalDivision, LogicalDivision parent) {
+        DefaultTreeNode treeNode = logicalTreeNodes.get(logicalDivision);
+        DefaultTreeNode parentTreeNode = logicalTreeNodes.get(parent);
+        if (logicalStructureTreeContainsMedia() || Objects.isNull(treeNode) || Objects.isNull(parentTreeNode)) {
+            return false;
+        }
+        parentTreeNode.getChildren().remove(treeNode);
+        removeLogicalTreeNodesRecursive(treeNode);
+        updateLogicalNodeLabel(parent);
+        selectedLogicalNode = logicalTree.getChildren().get(logicalTree.getChildCount() - 1);
+        previouslySelectedLogicalNode = selectedLogicalNode;
+        return true;
+    }
+
+    private void removeLogicalTreeNodesRecursive(TreeNode treeNode) {
+        LogicalDivision logicalDivision = getTreeNodeStructuralElement(treeNode);
+        if (Objects.nonNull(logicalDivision)) {
+            logicalTreeNodes.remove(logicalDivision);
+        }
+        for (TreeNode child : treeNode.getChildren()) {
+            removeLogicalTreeNodesRecursive(child);
+        }
+    }
+
+    /**
+     * Updates the label of the tree node of a logical division without
+     * building the tree again, for example after its type has been changed.
+     * Linked divisions and divisions not shown in the tree cause the tree to
+     * be built again.
+     *
+     * @param logicalDivision
+     *            logical division whose label is updated
+     */
+    void updateLogicalNodeLabel(LogicalDivision logicalDivision) {
+        DefaultTreeNode treeNode = logicalTreeNodes.get(logicalDivision);
+        if (Objects.isNull(treeNode) || Objects.nonNull(logicalDivision.getLink())) {
+            show(true);
+            return;
+        }
+        treeNode.setData(buildStructureTreeNode(logicalDivision, Collections.emptyMap(), new HashMap<>()));
+        dataEditor.checkForChanges();
+    }
+
     private void getAllSubViews(LogicalDivision selectedStructure, Collection<View> views) {
         if (Objects.nonNull(selectedStructure.getViews())) {
             views.addAll(selectedStructure.getViews());
@@ -357,12 +435,17 @@ public class StructurePanel implements Serializable {
      *          PhysicalDivision to be selected in physical structure tree
      */
     void selectPhysicalDivision(PhysicalDivision physicalDivision) {
-        TreeNode matchingTreeNode = getMatchingTreeNode(getPhysicalTree(), physicalDivision);
+        TreeNode matchingTreeNode = physicalTreeNodes.get(physicalDivision);
+        if (Objects.isNull(matchingTreeNode)) {
+            matchingTreeNode = getMatchingTreeNode(getPhysicalTree(), physicalDivision);
+        }
         if (Objects.nonNull(matchingTreeNode)) {
             updatePhysicalNodeSelection(matchingTreeNode);
             matchingTreeNode.setSelected(true);
-            previouslySelectedPhysicalNode.setSelected(false);
-            show(true);
+            if (Objects.nonNull(previouslySelectedPhysicalNode) && previouslySelectedPhysicalNode != matchingTreeNode) {
+                previouslySelectedPhysicalNode.setSelected(false);
+            }
+            previouslySelectedPhysicalNode = matchingTreeNode;
         }
     }
 
@@ -522,10 +605,12 @@ public class StructurePanel implements Serializable {
         this.structure = dataEditor.getWorkpiece().getLogicalStructure();
 
         this.previousExpansionStatesLogicalTree = getLogicalTreeNodeExpansionStates(this.logicalTree);
+        this.logicalTreeNodes = new IdentityHashMap<>();
         this.logicalTree = buildStructureTree();
         updateLogicalNodeExpansionStates(this.logicalTree, this.previousExpansionStatesLogicalTree);
 
         this.previousExpansionStatesPhysicalTree = getPhysicalTreeNodeExpansionStates(this.physicalTree);
+        this.physicalTreeNodes = new IdentityHashMap<>();
         this.physicalTree = buildMediaTree(dataEditor.getWorkpiece().getPhysicalStructure());
         updatePhysicalNodeExpansionStates(this.physicalTree, this.previousExpansionStatesPhysicalTree);
 
@@ -658,6 +743,7 @@ public class StructurePanel implements Serializable {
          * framework. So you do not have to add the result anywhere.
          */
         DefaultTreeNode parent = new DefaultTreeNode(STRUCTURE_NODE_TYPE, node, result);
+        logicalTreeNodes.put(structure, parent);
         if (logicalNodeStateUnknown(this.previousExpansionStatesLogicalTree, parent)) {
             parent.setExpanded(true);
         }
@@ -851,9 +937,8 @@ public class StructurePanel implements Serializable {
         }
         // Process parent link of the parent recursively
         addParentLinksRecursive(parent, tree);
-        URI uri = ServiceManager.getProcessService().getMetadataFileUri(parent);
         try {
-            LogicalDivision logicalStructure = ServiceManager.getMetsService().loadWorkpiece(uri).getLogicalStructure();
+            LogicalDivision logicalStructure = getParentLogicalStructure(parent);
             List<LogicalDivision> logicalDivisionList
                     = MetadataEditor.determineLogicalDivisionPathToChild(logicalStructure, child.getId());
             DefaultTreeNode parentNode = tree;
@@ -890,6 +975,16 @@ public class StructurePanel implements Serializable {
         }
     }
 
+    private LogicalDivision getParentLogicalStructure(Process parent) throws IOException {
+        LogicalDivision logicalStructure = parentLogicalStructures.get(parent.getId());
+        if (Objects.isNull(logicalStructure)) {
+            URI uri = ServiceManager.getProcessService().getMetadataFileUri(parent);
+            logicalStructure = ServiceManager.getMetsService().loadWorkpiece(uri).getLogicalStructure();
+            parentLogicalStructures.put(parent.getId(), logicalStructure);
+        }
+        return logicalStructure;
+    }
+
     /**
      * Builds the parent link tree in a temporary primefaces tree in order to determine how many
      * nodes are added to the tree. The number of nodes influences the order of nodes in the logical
@@ -928,6 +1023,7 @@ public class StructurePanel implements Serializable {
         DefaultTreeNode treeNode = addTreeNode(Objects.equals(physicalDivision.getType(), PhysicalDivision.TYPE_PAGE)
                         ? divisionView.getLabel().concat(" " + physicalDivision.getOrderlabel()) : divisionView.getLabel(),
                 false, false, physicalDivision, parentTreeNode);
+        physicalTreeNodes.put(physicalDivision, treeNode);
 
         if (PhysicalDivision.TYPE_TRACK.equals(physicalDivision.getType())) {
             treeNode.setType(MEDIA_PARTIAL_NODE_TYPE);
@@ -1009,7 +1105,15 @@ public class StructurePanel implements Serializable {
 
     void updatePhysicalNodeSelection(GalleryMediaContent galleryMediaContent) {
         if (Objects.nonNull(physicalTree)) {
-            TreeNode selectedTreeNode = updatePhysicalNodeSelectionRecursive(galleryMediaContent, physicalTree);
+            TreeNode selectedTreeNode = null;
+            if (Objects.nonNull(galleryMediaContent) && Objects.nonNull(galleryMediaContent.getView())) {
+                selectedTreeNode = physicalTreeNodes.get(galleryMediaContent.getView().getPhysicalDivision());
+            }
+            if (Objects.nonNull(selectedTreeNode) && selectedTreeNode.getChildCount() < 1) {
+                selectedTreeNode.setSelected(true);
+            } else {
+                selectedTreeNode = updatePhysicalNodeSelectionRecursive(galleryMediaContent, physicalTree);
+            }
             updatePhysicalNodeSelection(selectedTreeNode);
         }
     }
@@ -1031,7 +1135,7 @@ public class StructurePanel implements Serializable {
             if (Objects.nonNull(structure)) {
                 TreeNode selectedTreeNode;
                 if (!this.logicalStructureTreeContainsMedia()) {
-                    selectedTreeNode = updateLogicalNodeSelectionRecursive(structure, logicalTree);
+                    selectedTreeNode = selectLogicalTreeNode(structure);
                 } else {
                     selectedTreeNode = updatePhysSelectionInLogTreeRecursive(galleryMediaContent.getView().getPhysicalDivision(), structure,
                             logicalTree);
@@ -1053,7 +1157,7 @@ public class StructurePanel implements Serializable {
             selectedLogicalNode.setSelected(false);
         }
         if (Objects.nonNull(logicalTree)) {
-            TreeNode selectedTreeNode = updateLogicalNodeSelectionRecursive(logicalDivision, logicalTree);
+            TreeNode selectedTreeNode = selectLogicalTreeNode(logicalDivision);
             if (Objects.nonNull(selectedTreeNode)) {
                 setSelectedLogicalNode(selectedTreeNode);
                 try {
@@ -1067,6 +1171,15 @@ public class StructurePanel implements Serializable {
         }
     }
 
+    private TreeNode selectLogicalTreeNode(LogicalDivision logicalDivision) {
+        TreeNode treeNode = logicalTreeNodes.get(logicalDivision);
+        if (Objects.isNull(treeNode)) {
+            return updateLogicalNodeSelectionRecursive(logicalDivision, logicalTree);
+        }
+        treeNode.setSelected(true);
+        return treeNode;
+    }
+
     /**
      * Update the node selection in logical tree.
      * @param structure the LogicalDivision to be selected as a TreeNode
@@ -1206,7 +1319,7 @@ public class StructurePanel implements Serializable {
             StructureTreeNode dragNode = (StructureTreeNode) dragNodeObject;
             if (dropNode.isLinked()) {
                 Helper.setErrorMessage("dataEditor.dragNDropLinkError");
-                show();
+                showAndRenderTrees();
             }
             else if (dragNode.getDataObject() instanceof LogicalDivision
                     && dropNode.getDataObject() instanceof LogicalDivision) {
@@ -1220,13 +1333,26 @@ public class StructurePanel implements Serializable {
             } else {
                 Helper.setErrorMessage(
                     Helper.getTranslation("dataEditor.dragNDropError", dragNode.getLabel(), dropNode.getLabel()));
-                show();
+                showAndRenderTrees();
             }
         } catch (Exception exception) {
             logger.error(exception.getLocalizedMessage());
         }
     }
 
+    /**
+     * Builds the structure trees again and renders them. The dragdrop events
+     * of the trees do not render the trees, because after a successful move
+     * in the separate logical tree or in the physical tree, the tree that
+     * PrimeFaces already rearranged in the browser is kept. Only reverted
+     * moves, page moves and moves in the logical tree showing media build
+     * and render the trees again.
+     */
+    private void showAndRenderTrees() {
+        show();
+        PrimeFaces.current().ajax().update("logicalTree", "physicalTree");
+    }
+
     /**
      * Determine the LogicalDivision to which the given View is assigned.
      *
@@ -1268,7 +1394,7 @@ public class StructurePanel implements Serializable {
                 // FIXME waiting for PrimeFaces' tree drop index bug to be fixed.
                 // Until fixed dropping nodes onto other nodes will produce random drop indices.
                 preserveLogicalAndPhysical();
-                show();
+                showAndRenderTrees();
                 expandNode(event.getDropNode());
                 dataEditor.getGalleryPanel().updateStripes();
                 dataEditor.getPaginationPanel().show();
@@ -1281,7 +1407,7 @@ public class StructurePanel implements Serializable {
             Helper.setErrorMessage(
                 Helper.getTranslation("dataEditor.dragNDropError", dragNode.getLabel(), dropNode.getLabel()));
         }
-        show();
+        showAndRenderTrees();
     }
 
     /**
@@ -1459,6 +1585,7 @@ public class StructurePanel implements Serializable {
                 dropStructure.getType(), dataEditor.getAcquisitionStage(), dataEditor.getPriorityList());
 
         LinkedList<LogicalDivision> dragParents;
+        boolean moved = false;
         if (divisionView.getAllowedSubstructuralElements().containsKey(dragStructure.getType())
                 || Objects.nonNull(dragStructure.getLink())) {
             dragParents = MetadataEditor.getAncestorsOfLogicalDivision(dragStructure,
@@ -1470,6 +1597,7 @@ public class StructurePanel implements Serializable {
                         preserveLogicalAndPhysical();
                     } else {
                         preserveLogical();
+                        moved = true;
                     }
                     this.dataEditor.getGalleryPanel().updateStripes();
                     this.dataEditor.getPaginationPanel().show();
@@ -1485,7 +1613,10 @@ public class StructurePanel implements Serializable {
             Helper.setErrorMessage(Helper.getTranslation("dataEditor.forbiddenChildElement",
                 dragNode.getLabel(), dropNode.getLabel()));
         }
-        show();
+        // the tree already shows the moved node, it only has to be built again to revert a forbidden move
+        if (!moved) {
+            showAndRenderTrees();
+        }
     }
 
     private void checkPhysicalDragDrop(StructureTreeNode dragNode, StructureTreeNode dropNode) {
@@ -1496,6 +1627,7 @@ public class StructurePanel implements Serializable {
                 dropUnit.getType(), dataEditor.getAcquisitionStage(), dataEditor.getPriorityList());
 
         LinkedList<PhysicalDivision> dragParents;
+        boolean moved = false;
         if (divisionView.getAllowedSubstructuralElements().containsKey(dragUnit.getType())) {
             dragParents = MetadataEditor.getAncestorsOfPhysicalDivision(dragUnit, dataEditor.getWorkpiece().getPhysicalStructure());
             if (dragParents.isEmpty()) {
@@ -1505,6 +1637,7 @@ public class StructurePanel implements Serializable {
                 PhysicalDivision parentUnit = dragParents.get(dragParents.size() - 1);
                 if (parentUnit.getChildren().contains(dragUnit)) {
                     preservePhysical();
+                    moved = true;
                 } else {
                     Helper.setErrorMessage(Helper.getTranslation("dataEditor.childNotContainedError",
                         dragUnit.getType()));
@@ -1514,7 +1647,9 @@ public class StructurePanel implements Serializable {
             Helper.setErrorMessage(Helper.getTranslation("dataEditor.forbiddenChildElement",
                 dragNode.getLabel(), dropNode.getLabel()));
         }
-        show();
+        if (!moved) {
+            showAndRenderTrees();
+        }
     }
 
     private void preserveLogicalAndPhysical() throws UnknownTreeNodeDataException {
@@ -1595,63 +1730,63 @@ public class StructurePanel implements Serializable {
         }
     }
 
-    private HashMap<LogicalDivision, Boolean> getLogicalTreeNodeExpansionStates(DefaultTreeNode tree) {
+    private Map<LogicalDivision, Boolean> getLogicalTreeNodeExpansionStates(DefaultTreeNode tree) {
         if (Objects.nonNull(tree) && tree.getChildCount() == 1) {
             TreeNode treeRoot = tree.getChildren().get(0);
             LogicalDivision structuralElement = getTreeNodeStructuralElement(treeRoot);
             if (Objects.nonNull(structuralElement)) {
-                return getLogicalTreeNodeExpansionStatesRecursively(treeRoot, new HashMap<>());
+                return getLogicalTreeNodeExpansionStatesRecursively(treeRoot, new IdentityHashMap<>());
             }
         }
-        return new HashMap<>();
+        return new IdentityHashMap<>();
     }
 
-    private HashMap<LogicalDivision, Boolean> getLogicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
-            HashMap<LogicalDivision, Boolean> expansionStates) {
+    private Map<LogicalDivision, Boolean> getLogicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
+            Map<LogicalDivision, Boolean> expansionStates) {
         if (Objects.nonNull(treeNode)) {
             LogicalDivision structureData = getTreeNodeStructuralElement(treeNode);
             if (Objects.nonNull(structureData)) {
                 expansionStates.put(structureData, treeNode.isExpanded());
                 for (TreeNode childNode : treeNode.getChildren()) {
-                    expansionStates.putAll(getLogicalTreeNodeExpansionStatesRecursively(childNode, expansionStates));
+                    getLogicalTreeNodeExpansionStatesRecursively(childNode, expansionStates);
                 }
             }
         }
         return expansionStates;
     }
 
-    private HashMap<PhysicalDivision, Boolean> getPhysicalTreeNodeExpansionStates(DefaultTreeNode tree) {
+    private Map<PhysicalDivision, Boolean> getPhysicalTreeNodeExpansionStates(DefaultTreeNode tree) {
         if (Objects.nonNull(tree) && tree.getChildCount() == 1) {
             TreeNode treeRoot = tree.getChildren().get(0);
             PhysicalDivision physicalDivision = getTreeNodePhysicalDivision(treeRoot);
             if (Objects.nonNull(physicalDivision)) {
-                return getPhysicalTreeNodeExpansionStatesRecursively(treeRoot, new HashMap<>());
+                return getPhysicalTreeNodeExpansionStatesRecursively(treeRoot, new IdentityHashMap<>());
             }
         }
-        return new HashMap<>();
+        return new IdentityHashMap<>();
     }
 
-    private HashMap<PhysicalDivision, Boolean> getPhysicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
-            HashMap<PhysicalDivision, Boolean> expansionStates) {
+    private Map<PhysicalDivision, Boolean> getPhysicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
+            Map<PhysicalDivision, Boolean> expansionStates) {
         if (Objects.nonNull(treeNode)) {
             PhysicalDivision physicalDivision = getTreeNodePhysicalDivision(treeNode);
             if (Objects.nonNull(physicalDivision)) {
                 expansionStates.put(physicalDivision, treeNode.isExpanded());
                 for (TreeNode childNode : treeNode.getChildren()) {
-                    expansionStates.putAll(getPhysicalTreeNodeExpansionStatesRecursively(childNode, expansionStates));
+                    getPhysicalTreeNodeExpansionStatesRecursively(childNode, expansionStates);
                 }
             }
         }
         return expansionStates;
     }
 
-    private void updateLogicalNodeExpansionStates(DefaultTreeNode tree, HashMap<LogicalDivision, Boolean> expansionStates) {
+    private void updateLogicalNodeExpansionStates(DefaultTreeNode tree, Map<LogicalDivision, Boolean> expansionStates) {
         if (Objects.nonNull(tree) && Objects.nonNull(expansionStates) && !expansionStates.isEmpty()) {
             updateNodeExpansionStatesRecursively(tree, expansionStates);
         }
     }
 
-    private void updateNodeExpansionStatesRecursively(TreeNode treeNode, HashMap<LogicalDivision, Boolean> expansionStates) {
+    private void updateNodeExpansionStatesRecursively(TreeNode treeNode, Map<LogicalDivision, Boolean> expansionStates) {
         LogicalDivision element = getTreeNodeStructuralElement(treeNode);
         if (Objects.nonNull(element) && expansionStates.containsKey(element)) {
             treeNode.setExpanded(expansionStates.get(element));
@@ -1661,13 +1796,13 @@ public class StructurePanel implements Serializable {
         }
     }
 
-    private void updatePhysicalNodeExpansionStates(DefaultTreeNode tree, HashMap<PhysicalDivision, Boolean> expansionStates) {
+    private void updatePhysicalNodeExpansionStates(DefaultTreeNode tree, Map<PhysicalDivision, Boolean> expansionStates) {
         if (Objects.nonNull(tree) && Objects.nonNull(expansionStates) && !expansionStates.isEmpty()) {
             updatePhysicalNodeExpansionStatesRecursively(tree, expansionStates);
         }
     }
 
-    private void updatePhysicalNodeExpansionStatesRecursively(TreeNode treeNode, HashMap<PhysicalDivision, Boolean> expansionStates) {
+    private void updatePhysicalNodeExpansionStatesRecursively(TreeNode treeNode, Map<PhysicalDivision, Boolean> expansionStates) {
         PhysicalDivision physicalDivision = getTreeNodePhysicalDivision(treeNode);
         if (Objects.nonNull(physicalDivision) && expansionStates.containsKey(physicalDivision)) {
             treeNode.setExpanded(expansionStates.get(physicalDivision));
@@ -1677,12 +1812,12 @@ public class StructurePanel implements Serializable {
         }
     }
 
-    private boolean logicalNodeStateUnknown(HashMap<LogicalDivision, Boolean> expansionStates, TreeNode treeNode) {
+    private boolean logicalNodeStateUnknown(Map<LogicalDivision, Boolean> expansionStates, TreeNode treeNode) {
         LogicalDivision element = getTreeNodeStructuralElement(treeNode);
         return !Objects.nonNull(expansionStates) || (Objects.nonNull(element) && !expansionStates.containsKey(element));
     }
 
-    private boolean physicalNodeStateUnknown(HashMap<PhysicalDivision, Boolean> expanionStates, TreeNode treeNode) {
+    private boolean physicalNodeStateUnknown(Map<PhysicalDivision, Boolean> expanionStates, TreeNode treeNode) {
         PhysicalDivision physicalDivision = getTreeNodePhysicalDivision(treeNode);
         return Objects.isNull(expanionStates) || (Objects.nonNull(physicalDivision) && !expanionStates.containsKey(physicalDivision));
     }
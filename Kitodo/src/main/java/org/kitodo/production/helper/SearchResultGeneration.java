@@ -11,8 +11,20 @@
 
 package org.kitodo.production.helper;
 
-import java.util.ArrayList;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -21,11 +33,9 @@ import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
 import org.kitodo.data.exceptions.DataException;
-import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.services.ServiceManager;
 import org.opensearch.index.query.BoolQueryBuilder;
-import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.search.sort.SortOrder;
 
 public class SearchResultGeneration {
@@ -35,6 +45,20 @@ public class SearchResultGeneration {
     private boolean showInactiveProjects;
     private static final Logger logger = LogManager.getLogger(SearchResultGeneration.class);
 
+    /**
+     * Number of processes read from the index per request.
+     */
+    private static final int PAGE_SIZE = 1000;
+
+    /**
+     * Index fields of the processes shown in the search result. Only these are
+     * read from the index.
+     */
+    private static final String[] RESULT_FIELDS = {ProcessTypeField.TITLE.getKey(), ProcessTypeField.ID.getKey(),
+        ProcessTypeField.CREATION_DATE.getKey(), ProcessTypeField.NUMBER_OF_IMAGES.getKey(),
+        ProcessTypeField.NUMBER_OF_STRUCTURES.getKey(), ProcessTypeField.NUMBER_OF_METADATA.getKey(),
+        ProcessTypeField.PROJECT_TITLE.getKey(), ProcessTypeField.SORT_HELPER_STATUS.getKey() };
+
     /**
      * Constructor.
      *
@@ -52,24 +76,69 @@ public class SearchResultGeneration {
     }
 
     /**
-     * Get result.
+     * Get result. The rows are written to the streaming workbook page by page
+     * as they are read from the index, so only the rows of the current window
+     * are held in memory.
      *
-     * @return HSSFWorkbook
+     * @return SXSSFWorkbook
+     * @throws DataException
+     *             if a page of the result could not be read from the index.
+     *             The workbook is discarded in this case, so that no
+     *             incomplete result is handed out.
      */
-    public SXSSFWorkbook getResult() {
+    public SXSSFWorkbook getResult() throws DataException {
         return getWorkbook();
     }
 
-    private List<ProcessDTO> getResultsWithFilter() {
-        List<ProcessDTO> processDTOS = new ArrayList<>();
-        try {
-            processDTOS = ServiceManager.getProcessService().findByQuery(getQueryForFilter(ObjectType.PROCESS),
-                ServiceManager.getProcessService().sortById(SortOrder.ASC), true);
-        } catch (DataException e) {
-            logger.error(e.getMessage(), e);
+    /**
+     * Write result as PDF to the given output stream. The result table is
+     * added to the document page by page as the rows are read from the index.
+     *
+     * @param out
+     *            output stream to write the PDF to
+     * @throws DocumentException
+     *             if the PDF document could not be written
+     * @throws DataException
+     *             if a page of the result could not be read from the index.
+     *             What was written to the output stream up to then is
+     *             incomplete and must be discarded by the caller.
+     */
+    public void writeResultAsPdf(OutputStream out) throws DocumentException, DataException {
+        Document document = new Document();
+        Rectangle rectangle = new Rectangle(PageSize.A3.getHeight(), PageSize.A3.getWidth());
+        PdfWriter.getInstance(document, out);
+        document.setPageSize(rectangle);
+        document.open();
+        document.add(new Paragraph(Objects.toString(this.filter, "")));
+
+        PdfPTable table = new PdfPTable(8);
+        table.setSpacingBefore(20);
+        table.setWidths(new int[] {4, 1, 2, 1, 1, 1, 2, 2 });
+        table.setComplete(false);
+        table.addCell(Objects.toString(this.filter, ""));
+        for (int i = 1; i < 8; i++) {
+            table.addCell("");
+        }
+        for (String header : getRowHeader()) {
+            table.addCell(header);
         }
 
-        return processDTOS;
+        BoolQueryBuilder query = getQueryForFilter(ObjectType.PROCESS);
+        List<Map<String, Object>> page = Collections.emptyList();
+        do {
+            page = getNextPage(query, page);
+            for (Map<String, Object> process : page) {
+                for (Object value : getRowValues(process)) {
+                    table.addCell(Objects.toString(value, ""));
+                }
+            }
+            // flush the rows of this page to the document to free memory
+            document.add(table);
+        } while (page.size() == PAGE_SIZE);
+
+        table.setComplete(true);
+        document.add(table);
+        document.close();
     }
 
     /**
@@ -96,7 +165,7 @@ public class SearchResultGeneration {
         return query;
     }
 
-    private SXSSFWorkbook getWorkbook() {
+    private SXSSFWorkbook getWorkbook() throws DataException {
         SXSSFWorkbook workbook = new SXSSFWorkbook();
         Sheet sheet = workbook.createSheet("Search results");
 
@@ -108,68 +177,80 @@ public class SearchResultGeneration {
 
         setRowHeader(sheet);
 
-        insertRowData(sheet);
+        try {
+            insertRowData(sheet);
+        } catch (DataException e) {
+            workbook.dispose();
+            throw e;
+        }
 
         return workbook;
     }
 
-    private void insertRowData(Sheet sheet) {
+    private void insertRowData(Sheet sheet) throws DataException {
         int rowCounter = 2;
-        long numberOfProcessedProcesses = 0;
-        int elasticsearchLimit = 9999;
-        try {
-            Long numberOfExpectedProcesses = ServiceManager.getProcessService()
-                    .count(getQueryForFilter(ObjectType.PROCESS));
-            if (numberOfExpectedProcesses > elasticsearchLimit) {
-                List<ProcessDTO> processDTOS;
-                int queriedIds = 0;
-                while (numberOfProcessedProcesses < numberOfExpectedProcesses) {
-                    RangeQueryBuilder rangeQueryBuilder = new RangeQueryBuilder(ProcessTypeField.ID.toString());
-                    rangeQueryBuilder.gte(queriedIds).lt(queriedIds + elasticsearchLimit);
-                    BoolQueryBuilder queryForFilter = getQueryForFilter(ObjectType.PROCESS);
-                    queryForFilter.must(rangeQueryBuilder);
-                    processDTOS = ServiceManager.getProcessService().findByQuery(queryForFilter,
-                        ServiceManager.getProcessService().sortById(SortOrder.ASC), true);
-                    queriedIds += elasticsearchLimit;
-                    for (ProcessDTO processDTO : processDTOS) {
-                        prepareRow(rowCounter, sheet, processDTO);
-                        rowCounter++;
-                    }
-                    numberOfProcessedProcesses += processDTOS.size();
-                }
-            } else {
-                List<ProcessDTO> resultsWithFilter = getResultsWithFilter();
-                for (ProcessDTO processDTO : resultsWithFilter) {
-                    prepareRow(rowCounter, sheet, processDTO);
-                    rowCounter++;
-                }
+        BoolQueryBuilder query = getQueryForFilter(ObjectType.PROCESS);
+        List<Map<String, Object>> page = Collections.emptyList();
+        do {
+            page = getNextPage(query, page);
+            for (Map<String, Object> document : page) {
+                prepareRow(rowCounter, sheet, document);
+                rowCounter++;
             }
-        } catch (DataException e) {
-            logger.error(e.getMessage(), e);
-        }
+        } while (page.size() == PAGE_SIZE);
+    }
+
+    /**
+     * Reads the page of processes following the given page from the index,
+     * using search after on the process id.
+     */
+    private List<Map<String, Object>> getNextPage(BoolQueryBuilder query, List<Map<String, Object>> previousPage)
+            throws DataException {
+        Object[] searchAfter = previousPage.isEmpty() ? null
+                : new Object[] {getId(previousPage.get(previousPage.size() - 1)) };
+        return ServiceManager.getProcessService().findDocumentsAfter(query,
+            ServiceManager.getProcessService().sortById(SortOrder.ASC), searchAfter, PAGE_SIZE, RESULT_FIELDS);
     }
 
     private void setRowHeader(Sheet sheet) {
         Row rowHeader = sheet.createRow(1);
-        rowHeader.createCell(0).setCellValue(Helper.getTranslation("title"));
-        rowHeader.createCell(1).setCellValue(Helper.getTranslation("ID"));
-        rowHeader.createCell(2).setCellValue(Helper.getTranslation("Datum"));
-        rowHeader.createCell(3).setCellValue(Helper.getTranslation("CountImages"));
-        rowHeader.createCell(4).setCellValue(Helper.getTranslation("CountStructuralElements"));
-        rowHeader.createCell(5).setCellValue(Helper.getTranslation("CountMetadata"));
-        rowHeader.createCell(6).setCellValue(Helper.getTranslation("Project"));
-        rowHeader.createCell(7).setCellValue(Helper.getTranslation("Status"));
+        List<String> rowHeaders = getRowHeader();
+        for (int i = 0; i < rowHeaders.size(); i++) {
+            rowHeader.createCell(i).setCellValue(rowHeaders.get(i));
+        }
+    }
+
+    private List<String> getRowHeader() {
+        return Arrays.asList(Helper.getTranslation("title"), Helper.getTranslation("ID"),
+            Helper.getTranslation("Datum"), Helper.getTranslation("CountImages"),
+            Helper.getTranslation("CountStructuralElements"), Helper.getTranslation("CountMetadata"),
+            Helper.getTranslation("Project"), Helper.getTranslation("Status"));
     }
 
-    private void prepareRow(int rowCounter, Sheet sheet, ProcessDTO processDTO) {
+    private void prepareRow(int rowCounter, Sheet sheet, Map<String, Object> document) {
         Row row = sheet.createRow(rowCounter);
-        row.createCell(0).setCellValue(processDTO.getTitle());
-        row.createCell(1).setCellValue(processDTO.getId());
-        row.createCell(2).setCellValue(processDTO.getCreationDate());
-        row.createCell(3).setCellValue(processDTO.getNumberOfImages());
-        row.createCell(4).setCellValue(processDTO.getNumberOfStructures());
-        row.createCell(5).setCellValue(processDTO.getNumberOfMetadata());
-        row.createCell(6).setCellValue(processDTO.getProject().getTitle());
-        row.createCell(7).setCellValue(processDTO.getSortHelperStatus());
+        List<Object> values = getRowValues(document);
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value instanceof Number) {
+                row.createCell(i).setCellValue(((Number) value).doubleValue());
+            } else {
+                row.createCell(i).setCellValue(Objects.toString(value, null));
+            }
+        }
+    }
+
+    private List<Object> getRowValues(Map<String, Object> document) {
+        return Arrays.asList(document.get(ProcessTypeField.TITLE.getKey()), getId(document),
+            document.get(ProcessTypeField.CREATION_DATE.getKey()),
+            document.get(ProcessTypeField.NUMBER_OF_IMAGES.getKey()),
+            document.get(ProcessTypeField.NUMBER_OF_STRUCTURES.getKey()),
+            document.get(ProcessTypeField.NUMBER_OF_METADATA.getKey()),
+            document.get(ProcessTypeField.PROJECT_TITLE.getKey()),
+            document.get(ProcessTypeField.SORT_HELPER_STATUS.getKey()));
+    }
+
+    private Integer getId(Map<String, Object> document) {
+        return Integer.valueOf(document.get(ProcessTypeField.ID.getKey()).toString());
     }
 }
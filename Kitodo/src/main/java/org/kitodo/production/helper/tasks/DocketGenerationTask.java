@@ -0,0 +1,96 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.production.services.ServiceManager;
+
+/**
+ * Generates the docket of many processes in the task manager and writes it to
+ * a file, for batches too large to generate their docket during a request.
+ */
+public class DocketGenerationTask extends EmptyTask {
+
+    /**
+     * IDs of the processes. The processes are loaded again in the thread of
+     * the task.
+     */
+    private final List<Integer> processIds;
+
+    /**
+     * File to write the docket to.
+     */
+    private final URI destination;
+
+    /**
+     * Creates a new docket generation task.
+     *
+     * @param name
+     *            name shown in the task manager
+     * @param processes
+     *            processes to generate the docket for
+     * @param destination
+     *            file to write the docket to
+     */
+    public DocketGenerationTask(String name, List<Process> processes, URI destination) {
+        super(name);
+        this.processIds = processes.stream().map(Process::getId).collect(Collectors.toList());
+        this.destination = destination;
+    }
+
+    /**
+     * Clone constructor. Provides the ability to restart the task if it was
+     * previously interrupted.
+     *
+     * @param source
+     *            terminated thread
+     */
+    private DocketGenerationTask(DocketGenerationTask source) {
+        super(source);
+        this.processIds = source.processIds;
+        this.destination = source.destination;
+    }
+
+    @Override
+    public void run() {
+        try {
+            List<Process> processes = ServiceManager.getProcessService().getByIds(processIds);
+            ServiceManager.getProcessService().writeDocket(processes, destination, this);
+            setProgress(100);
+        } catch (DAOException | IOException | RuntimeException e) {
+            setException(e);
+        }
+    }
+
+    /**
+     * Calls the clone constructor to create a not yet executed instance of
+     * this thread object. This is necessary for threads that have terminated
+     * in order to render possible to restart them.
+     *
+     * @return a not-yet-executed replacement of this thread
+     */
+    @Override
+    public DocketGenerationTask replace() {
+        return new DocketGenerationTask(this);
+    }
+
+    @Override
+    public TaskType getTaskType() {
+        return TaskType.EXPORT;
+    }
+}
@@ -20,6 +20,8 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.production.helper.Helper;
+import org.kitodo.production.security.SecurityUserDetails;
+import org.kitodo.production.services.ServiceManager;
 import org.kitodo.utils.Guard;
 
 /**
@@ -95,6 +97,13 @@ public class EmptyTask extends Thread {
      */
     private Exception exception = null;
 
+    /**
+     * The field owner holds the login of the user who created the task, or
+     * null if the task was not created by a user. It is used to share the
+     * task manager fairly among the users.
+     */
+    private final String owner;
+
     /**
      * The field passedAway will be initialised with a time stamp as the thread
      * dies to be able to remove it a defined timespan after it died.
@@ -108,6 +117,12 @@ public class EmptyTask extends Thread {
      */
     private int progress = 0;
 
+    /**
+     * The field priority holds the priority of the task if it was set
+     * explicitly. Otherwise, the default priority of the task type applies.
+     */
+    private TaskPriority priority = null;
+
     /**
      * Default constructor. Creates an empty thread.
      *
@@ -117,6 +132,8 @@ public class EmptyTask extends Thread {
     public EmptyTask(String nameDetail) {
         setDaemon(true);
         setNameDetail(nameDetail);
+        SecurityUserDetails user = ServiceManager.getSecurityAccessService().getAuthenticatedSecurityUserDetails();
+        this.owner = Objects.nonNull(user) ? user.getLogin() : null;
     }
 
     /**
@@ -134,6 +151,8 @@ public class EmptyTask extends Thread {
         this.exception = master.exception;
         this.passedAway = master.passedAway;
         this.progress = master.progress;
+        this.owner = master.owner;
+        this.priority = master.priority;
     }
 
     /**
@@ -198,6 +217,15 @@ public class EmptyTask extends Thread {
         return Duration.of(elapsed, ChronoUnit.NANOS);
     }
 
+    /**
+     * Forgets the exception copied from the task this one replaces. May be
+     * called by copy constructors of tasks whose replacement only repeats the
+     * part of the work that failed.
+     */
+    protected void clearException() {
+        this.exception = null;
+    }
+
     /**
      * Provides access to the exception that
      * occurred if the thread died abnormally. If no exception has occurred yet
@@ -209,6 +237,38 @@ public class EmptyTask extends Thread {
         return exception;
     }
 
+    /**
+     * Returns the login of the user who created the task. If the task was not
+     * created by a user, null is returned.
+     *
+     * @return the login of the owner, or null
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Returns the priority of the task. Unless set explicitly, this is the
+     * default priority of the task type.
+     *
+     * @return the priority of the task
+     */
+    public TaskPriority getTaskPriority() {
+        return Objects.nonNull(priority) ? priority : getTaskType().getDefaultPriority();
+    }
+
+    /**
+     * Returns the type of the task. The type determines the default priority
+     * of the task and which limit of concurrently running tasks applies. Every
+     * subclass that belongs to one of the task types should override this
+     * method.
+     *
+     * @return the type of the task
+     */
+    public TaskType getTaskType() {
+        return TaskType.OTHER;
+    }
+
     /**
      * Returns the progress of the task in percent,
      * i.e. in a range from 0 to 100.
@@ -336,6 +396,18 @@ public class EmptyTask extends Thread {
         interrupt();
     }
 
+    /**
+     * Returns whether the retry button shall be shown as read-only property
+     * "retryable". Tasks that can repeat the part of their work that failed
+     * override this and return a replacement doing only that part from
+     * {@link #replace()}.
+     *
+     * @return whether the retry button shall show
+     */
+    public boolean isRetryable() {
+        return false;
+    }
+
     /**
      * Returns wether the start button shall be shown
      * as read-only property "startable". A thread can be started as long as it
@@ -456,6 +528,19 @@ public class EmptyTask extends Thread {
         super.setName(composer.toString());
     }
 
+    /**
+     * May be used to give the task a priority different from the default
+     * priority of its type. Has an effect only while the task is waiting to
+     * be started.
+     *
+     * @param priority
+     *            the priority of the task, or null to use the default
+     *            priority
+     */
+    public void setTaskPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
     /**
      * May be used to set the task’s progress in
      * percent (i.e., from 0 to 100).
@@ -510,8 +595,9 @@ public class EmptyTask extends Thread {
      * result is that two threads are running concurrently: the current thread
      * which returns from the call to the start method, and the other thread
      * which executes its run method. In addition, this method override ensures
-     * that the thread is properly registered in the task manager and that its
-     * uncaught exception handler has been properly set.
+     * that the thread is properly registered in the task manager, that its
+     * uncaught exception handler has been properly set and that the task
+     * manager is woken up as soon as the thread terminates.
      *
      * @see java.lang.Thread#start()
      */
@@ -520,5 +606,6 @@ public class EmptyTask extends Thread {
         TaskManager.addTaskIfMissing(this);
         setUncaughtExceptionHandler(CATCH_ALL);
         super.start();
+        TaskManager.wakeUpWhenTerminated(this);
     }
 }
@@ -36,6 +36,7 @@ public class ExportDmsTask extends EmptyTask {
 
     private final ExportDms exportDms;
     private final Process process;
+    private final boolean restarted;
 
     /**
      * ExportDmsTask constructor. Creates a ExportDmsTask.
@@ -49,6 +50,7 @@ public class ExportDmsTask extends EmptyTask {
         super(process.getTitle());
         this.exportDms = exportDms;
         this.process = process;
+        this.restarted = false;
     }
 
     /**
@@ -62,6 +64,7 @@ public class ExportDmsTask extends EmptyTask {
         super(source);
         this.exportDms = source.exportDms;
         this.process = source.process;
+        this.restarted = true;
     }
 
     /**
@@ -96,6 +99,19 @@ public class ExportDmsTask extends EmptyTask {
         }
     }
 
+    /**
+     * Returns whether this task is the restart of a previous export task. If
+     * the previous task was interrupted while copying the files, which the
+     * export folder is marked for by the {@code ExportFileCopier}, the files
+     * already copied are kept and only the missing files are copied.
+     * Otherwise, the export folder is replaced as in a new export.
+     *
+     * @return whether this task is a restart
+     */
+    public boolean isRestarted() {
+        return restarted;
+    }
+
     /**
      * Calls the clone constructor to create a not yet executed instance of this
      * thread object. This is necessary for threads that have terminated in
@@ -108,4 +124,9 @@ public class ExportDmsTask extends EmptyTask {
     public ExportDmsTask replace() {
         return new ExportDmsTask(this);
     }
+
+    @Override
+    public TaskType getTaskType() {
+        return TaskType.EXPORT;
+    }
 }
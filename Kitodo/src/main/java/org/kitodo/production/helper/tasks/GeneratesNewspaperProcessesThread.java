@@ -71,7 +71,8 @@ public class GeneratesNewspaperProcessesThread extends EmptyTask {
     }
 
     /**
-     * Generates the processes.
+     * Generates the processes. If the thread is restarted after it failed or
+     * was interrupted, the generator continues with the step it stopped at.
      */
     @Override
     public void run() {
@@ -89,6 +90,13 @@ public class GeneratesNewspaperProcessesThread extends EmptyTask {
         } catch (ConfigurationException | DAOException | DataException | DoctypeMissingException | IOException
                  | ProcessGenerationException | CommandException | CustomResponseException e) {
             setException(e);
+        } finally {
+            generator.shutDownMetsWriter();
         }
     }
+
+    @Override
+    public TaskType getTaskType() {
+        return TaskType.IMPORT;
+    }
 }
@@ -11,16 +11,32 @@
 
 package org.kitodo.production.helper.tasks;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
@@ -30,6 +46,8 @@ import org.kitodo.api.MetadataEntry;
 import org.kitodo.api.dataformat.LogicalDivision;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.dataformat.mets.LinkedMetsResource;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
 import org.kitodo.data.database.exceptions.DAOException;
@@ -65,9 +83,86 @@ public class HierarchyMigrationTask extends EmptyTask {
     private static final MetsService metsService = ServiceManager.getMetsService();
 
     /**
-     * Service to generate processes.
+     * Name of the journal file in the metadata directory, followed by the
+     * sorted IDs of the projects to migrate. Before and after each step that
+     * changes data, an entry is appended to it, so that a migration of the
+     * same projects started again after a crash continues where it stopped.
      */
-    private final ProcessGenerator processGenerator = new ProcessGenerator();
+    private static final String JOURNAL_FILE_PREFIX = "hierarchyMigration_";
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /**
+     * If the project IDs are longer than this, the journal file is named by
+     * their hash code. The header of the journal tells the projects anyway.
+     */
+    private static final int MAXIMUM_JOURNAL_KEY_LENGTH = 100;
+
+    /**
+     * Name of the copy of a child's metadata file, which is kept until the
+     * child is completely migrated. The conversion of the child's metadata
+     * file always reads this copy, so that it can be repeated after a crash.
+     */
+    private static final String UNLINKED_FILE_NAME = "meta_unlinked.bak";
+
+    /**
+     * Title given to a new parent process until it gets its real title, to
+     * find it again if the migration crashed before its ID was recorded.
+     */
+    private static final String PROVISIONAL_TITLE_PREFIX = "hierarchyMigration_";
+
+    private static final String JOURNAL_SEPARATOR = "\t";
+
+    /**
+     * Entry types of the journal. The fields of each entry are noted in
+     * brackets.
+     */
+    private enum Entry {
+        /**
+         * Header of the journal [sorted project IDs, separated by commas].
+         */
+        PROJECTS,
+
+        /**
+         * A process has been examined [process ID, parent record ID or
+         * empty].
+         */
+        EXAMINED,
+
+        /**
+         * A parent process is going to be created [parent record ID].
+         */
+        CREATING,
+
+        /**
+         * The parent process has been saved in the database for the first
+         * time [parent record ID, parent process ID].
+         */
+        PARENT,
+
+        /**
+         * The parent process is complete [parent record ID].
+         */
+        CREATED,
+
+        /**
+         * The metadata file of a child has been converted [child process ID,
+         * current number or empty].
+         */
+        CONVERTED,
+
+        /**
+         * A child has been linked in the METS file of its parent and in the
+         * database [parent record ID, child process ID].
+         */
+        LINKED,
+
+        /**
+         * The anchor file of a linked child has been renamed, the child is
+         * completely migrated [child process ID].
+         */
+        RENAMED
+    }
 
     /**
      * Service to read and write Process objects in the database or search
@@ -86,8 +181,35 @@ public class HierarchyMigrationTask extends EmptyTask {
      * the parent process. Therefore, the sequential numbers of the already
      * linked children must be stored temporarily during the migration in order
      * to be able to determine the correct insertion position of another link.
+     * The maps and sets of the migration state are guarded by this task and
+     * restored from the journal.
+     */
+    private final Map<String, List<Integer>> parentProcesses = new HashMap<>();
+
+    /**
+     * Parent processes whose creation has started, but is not complete. Key
+     * is the identifier, the value is the process ID, or null if the process
+     * may not have been saved yet.
      */
-    private Map<String, List<Integer>> parentProcesses = new HashMap<>();
+    private final Map<String, Integer> pendingParents = new HashMap<>();
+
+    /**
+     * Results of examined processes: the identifier of the parent, or an
+     * empty string if the process has no parent to migrate.
+     */
+    private final Map<Integer, String> examinedProcesses = new HashMap<>();
+
+    /**
+     * Current numbers of children whose metadata file has been converted, but
+     * who are not completely migrated yet.
+     */
+    private final Map<Integer, Integer> convertedProcesses = new HashMap<>();
+
+    /**
+     * IDs of child processes which are linked in their parent, but whose
+     * anchor file has not been renamed yet.
+     */
+    private final Set<Integer> linkedProcesses = new HashSet<>();
 
     /**
      * List of all processes to migrate.
@@ -100,9 +222,27 @@ public class HierarchyMigrationTask extends EmptyTask {
     private Collection<Project> projects;
 
     /**
-     * The progress, for the progress bar.
+     * The journal file. Null if the migration is not run as a task, then no
+     * journal is written.
+     */
+    private Path journal;
+
+    /**
+     * The open journal file, to which entries are appended. Appended entries
+     * are forced to the storage by {@link #forceJournal()}.
      */
-    private int progress = 0;
+    private FileChannel journalChannel;
+
+    /**
+     * Number of processes examined or migrated, for the progress bar.
+     */
+    private final AtomicInteger progress = new AtomicInteger();
+
+    /**
+     * Set when the task has been interrupted or a group failed, so that the
+     * workers do not start further groups.
+     */
+    private volatile boolean stopped;
 
     public HierarchyMigrationTask(Collection<Project> projects) {
         super(projects.stream().map(Project::getTitle).collect(Collectors.joining(", ")));
@@ -120,7 +260,6 @@ public class HierarchyMigrationTask extends EmptyTask {
         super(source);
         this.processesList = source.processesList;
         this.projects = source.projects;
-        this.progress = source.progress;
     }
 
     /**
@@ -135,60 +274,430 @@ public class HierarchyMigrationTask extends EmptyTask {
 
     /**
      * The {@code run()} method is called when the thread starts. It initializes
-     * the process list (if this has not already been done), processes it and
-     * updates the progress display in the screen output.
+     * the process list (if this has not already been done), groups the
+     * processes by their parent and migrates the groups in parallel. The
+     * processes of one parent are migrated by one worker, so that the METS
+     * file of the parent is written once per group. Each step is recorded in
+     * a journal file, so that a migration started again after a crash
+     * continues where it stopped, without examining the processes again.
      */
     @Override
     public void run() {
+        stopped = false;
+        ExecutorService workers = Executors.newFixedThreadPool(
+            Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.HIERARCHY_MIGRATION_THREADS)));
         try {
+            journal = getJournalPath(projects);
+            readJournal();
+            openJournal();
             if (Objects.isNull(processesList)) {
                 processesList = projects.parallelStream().flatMap(project -> project.getProcesses().parallelStream())
                         .map(Process::getId).collect(Collectors.toList());
             }
-            while (progress < processesList.size()) {
-                Process process = processService.getById(processesList.get(progress));
-                if (fileService.processOwnsAnchorXML(process) && !fileService.processOwnsYearXML(process)) {
-                    setWorkDetail(process.getTitle());
-                    migrate(process);
-                }
-                super.setProgress(100 * ++progress / processesList.size());
-                if (Thread.currentThread().isInterrupted()) {
-                    return;
-                }
+            progress.set(0);
+            Map<String, List<Integer>> groups = groupByParent(workers);
+            if (stopped) {
+                return;
+            }
+            List<Future<Void>> migrations = new ArrayList<>();
+            for (Map.Entry<String, List<Integer>> group : groups.entrySet()) {
+                migrations.add(workers.submit(() -> {
+                    if (!stopped) {
+                        migrateGroup(group.getKey(), group.getValue());
+                    }
+                    return null;
+                }));
+            }
+            awaitAll(migrations);
+            if (!stopped) {
+                closeJournal();
+                Files.deleteIfExists(journal);
+                super.setProgress(100);
             }
         } catch (IOException | DAOException | ProcessGenerationException | CommandException e) {
             setException(e);
+        } finally {
+            workers.shutdown();
+            try {
+                closeJournal();
+            } catch (IOException e) {
+                logger.warn("Cannot close journal {}: {}", journal, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the path of the journal file for a migration of the given
+     * projects.
+     *
+     * @param projects
+     *            projects to migrate
+     * @return the path of the journal file
+     */
+    static Path getJournalPath(Collection<Project> projects) {
+        String projectIds = getProjectIds(projects);
+        String key = projectIds.length() <= MAXIMUM_JOURNAL_KEY_LENGTH ? projectIds.replace(',', '_')
+                : Integer.toHexString(projectIds.hashCode());
+        return new File(ConfigCore.getKitodoDataDirectory(), JOURNAL_FILE_PREFIX + key + JOURNAL_FILE_SUFFIX).toPath();
+    }
+
+    private static String getProjectIds(Collection<Project> projects) {
+        return projects.stream().map(Project::getId).sorted().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Examines the processes to migrate in parallel. Processes with an anchor
+     * file are converted to the internal format and grouped by the identifier
+     * of their parent, in the order of the process list. Processes examined
+     * before a crash are not examined again.
+     */
+    private Map<String, List<Integer>> groupByParent(ExecutorService workers)
+            throws IOException, DAOException, ProcessGenerationException, CommandException {
+
+        List<Future<String>> parentIds = new ArrayList<>(processesList.size());
+        for (Integer processId : processesList) {
+            parentIds.add(workers.submit(() -> examine(processId)));
+        }
+        awaitAll(parentIds);
+        Map<String, List<Integer>> groupedProcesses = new LinkedHashMap<>();
+        for (int index = 0; index < processesList.size(); index++) {
+            String parentId = getResult(parentIds.get(index));
+            if (!parentId.isEmpty()) {
+                groupedProcesses.computeIfAbsent(parentId, key -> new ArrayList<>()).add(processesList.get(index));
+            }
+        }
+        return groupedProcesses;
+    }
+
+    private String examine(Integer processId) throws IOException, DAOException {
+        if (stopped) {
+            return "";
         }
+        String parentId = getExamined(processId);
+        if (Objects.isNull(parentId)) {
+            parentId = "";
+            Process process = processService.getById(processId);
+            if (fileService.processOwnsAnchorXML(process) && !fileService.processOwnsYearXML(process)) {
+                setWorkDetail(process.getTitle());
+                migrateMetadataFiles(process);
+                parentId = getParentRecordId(process).orElse("");
+                if (parentId.isEmpty()) {
+                    logger.warn("Process {} (ID {}): Parent has no identifier! Cannot create parent process.",
+                        process.getTitle(), process.getId());
+                }
+            }
+            record(Entry.EXAMINED, processId, parentId);
+        }
+        updateProgress();
+        return parentId;
+    }
+
+    private synchronized String getExamined(Integer processId) {
+        return examinedProcesses.get(processId);
     }
 
     /**
-     * This function does the actual work and migrates exactly one process.
+     * Waits until all futures are done. If the task is interrupted meanwhile,
+     * the workers are stopped after their current process or group, and it
+     * is still waited for them, so that no group is left half migrated. If a
+     * future failed, its exception is thrown.
+     */
+    private <T> void awaitAll(List<Future<T>> futures)
+            throws IOException, DAOException, ProcessGenerationException, CommandException {
+
+        boolean interrupted = false;
+        Exception failure = null;
+        for (Future<T> future : futures) {
+            while (!future.isDone()) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    stopped = true;
+                } catch (ExecutionException e) {
+                    break;
+                }
+            }
+            try {
+                getResult(future);
+            } catch (IOException | DAOException | ProcessGenerationException | CommandException e) {
+                stopped = true;
+                if (Objects.isNull(failure)) {
+                    failure = e;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        rethrow(failure);
+    }
+
+    private static <T> T getResult(Future<T> future)
+            throws IOException, DAOException, ProcessGenerationException, CommandException {
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            rethrow(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static void rethrow(Throwable failure)
+            throws IOException, DAOException, ProcessGenerationException, CommandException {
+
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof DAOException) {
+            throw (DAOException) failure;
+        } else if (failure instanceof ProcessGenerationException) {
+            throw (ProcessGenerationException) failure;
+        } else if (failure instanceof CommandException) {
+            throw (CommandException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+    }
+
+    private void updateProgress() {
+        if (Objects.isNull(processesList)) {
+            return;
+        }
+        int total = 2 * processesList.size();
+        super.setProgress(total == 0 ? 100 : 100 * progress.incrementAndGet() / total);
+    }
+
+    /**
+     * This function migrates exactly one process. If the parent process has
+     * not been created yet, it is created.
      *
      * @param process
      *            process to migrate
      */
     void migrate(Process process) throws IOException, ProcessGenerationException, DAOException, CommandException {
-        logger.info("Starting to convert process {} (ID {})...", process.getTitle(), process.getId());
-        long begin = System.nanoTime();
         migrateMetadataFiles(process);
         Optional<String> parentId = getParentRecordId(process);
         if (parentId.isPresent()) {
-            if (parentProcesses.containsKey(parentId.get())) {
-                linkProcessInParent(process, parentProcesses.get(parentId.get()));
-            } else {
-                parentProcesses.put(parentId.get(), createParentProcess(process));
-            }
-            renameAnchorFile(process);
+            migrateGroup(parentId.get(), Collections.singletonList(process.getId()));
         } else {
             logger.warn("Process {} (ID {}): Parent has no identifier! Cannot create parent process.",
                 process.getTitle(), process.getId());
         }
+    }
+
+    /**
+     * This function does the actual work and migrates the processes of one
+     * parent, whose metadata files have already been converted. If the parent
+     * process has not been created yet, it is created from the first process.
+     * The other processes are linked in the parent with one write of its METS
+     * file and one database transaction. Children which had been linked
+     * before a crash are only finished.
+     *
+     * @param parentRecordId
+     *            identifier of the parent
+     * @param processIds
+     *            IDs of the processes to migrate
+     */
+    private void migrateGroup(String parentRecordId, List<Integer> processIds)
+            throws IOException, ProcessGenerationException, DAOException, CommandException {
+
+        final long begin = System.nanoTime();
+        List<Process> children = new ArrayList<>();
+        for (Integer processId : processIds) {
+            Process process = processService.getById(processId);
+            if (isLinked(processId)) {
+                finishChild(process);
+            } else if (fileService.processOwnsAnchorXML(process)) {
+                children.add(process);
+            }
+        }
+        if (children.isEmpty()) {
+            return;
+        }
+        logger.info("Starting to convert {} processes of parent {}...", children.size(), parentRecordId);
+        List<Integer> parentData = getParentData(parentRecordId);
+        if (Objects.isNull(parentData)) {
+            Process firstChild = children.remove(0);
+            setWorkDetail(firstChild.getTitle());
+            parentData = createParentProcess(parentRecordId, firstChild);
+            forceJournal();
+            finishChild(firstChild);
+            updateProgress();
+        }
+        if (!children.isEmpty()) {
+            setWorkDetail(children.get(0).getTitle());
+            linkProcessesInParent(parentRecordId, children, parentData);
+            forceJournal();
+            for (Process child : children) {
+                finishChild(child);
+                updateProgress();
+            }
+        }
+        forceJournal();
         if (logger.isTraceEnabled()) {
-            logger.trace("Converting {} took {} ms.", process.getTitle(),
+            logger.trace("Converting the processes of {} took {} ms.", parentRecordId,
                 TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
         }
     }
 
+    private synchronized boolean isLinked(Integer processId) {
+        return linkedProcesses.contains(processId);
+    }
+
+    private synchronized List<Integer> getParentData(String parentRecordId) {
+        List<Integer> parentData = parentProcesses.get(parentRecordId);
+        return Objects.isNull(parentData) ? null : new ArrayList<>(parentData);
+    }
+
+    /**
+     * Finishes a child that has been linked in its parent: its anchor file is
+     * renamed, which marks it as migrated, and the copy of its metadata file
+     * is deleted.
+     */
+    private void finishChild(Process child) throws IOException {
+        if (fileService.processOwnsAnchorXML(child)) {
+            renameAnchorFile(child);
+        }
+        fileService.delete(getUnlinkedFilePath(child));
+        record(Entry.RENAMED, child.getId());
+    }
+
+    /**
+     * Reads the journal of an earlier migration, if there is one, and
+     * restores the state of the migration from it.
+     */
+    private synchronized void readJournal() throws IOException {
+        parentProcesses.clear();
+        pendingParents.clear();
+        examinedProcesses.clear();
+        convertedProcesses.clear();
+        linkedProcesses.clear();
+        if (!Files.isRegularFile(journal)) {
+            return;
+        }
+        List<String> lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+        String header = Entry.PROJECTS.name() + JOURNAL_SEPARATOR + getProjectIds(projects);
+        if (lines.isEmpty() || !header.equals(lines.get(0))) {
+            logger.warn("Journal {} does not belong to a migration of projects {}, starting anew", journal,
+                getProjectIds(projects));
+            Files.delete(journal);
+            return;
+        }
+        for (String line : lines.subList(1, lines.size())) {
+            String[] fields = line.split(JOURNAL_SEPARATOR, -1);
+            try {
+                replay(Entry.valueOf(fields[0]), fields);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                // the last line may be incomplete if the application stopped while writing it
+                logger.warn("Ignoring incomplete journal entry \"{}\"", line);
+            }
+        }
+        logger.info("Resuming hierarchy migration with {} processes examined and {} parent processes created",
+            examinedProcesses.size(), parentProcesses.size());
+    }
+
+    /**
+     * Opens the journal for appending. A new journal starts with a header
+     * naming the projects, which is forced to the storage.
+     */
+    private synchronized void openJournal() throws IOException {
+        boolean newJournal = !Files.isRegularFile(journal);
+        journalChannel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+        if (newJournal) {
+            write(Entry.PROJECTS.name() + JOURNAL_SEPARATOR + getProjectIds(projects));
+            forceJournal();
+        }
+    }
+
+    private synchronized void closeJournal() throws IOException {
+        if (Objects.nonNull(journalChannel)) {
+            journalChannel.close();
+            journalChannel = null;
+        }
+    }
+
+    /**
+     * Applies one journal entry to the state of the migration. Must be called
+     * while holding the lock of this task.
+     */
+    private void replay(Entry entry, String[] fields) {
+        switch (entry) {
+            case EXAMINED:
+                examinedProcesses.put(Integer.valueOf(fields[1]), fields[2]);
+                break;
+            case CREATING:
+                pendingParents.put(fields[1], null);
+                break;
+            case PARENT:
+                pendingParents.put(fields[1], Integer.valueOf(fields[2]));
+                break;
+            case CREATED:
+                parentProcesses.put(fields[1], new ArrayList<>(Collections.singletonList(
+                    pendingParents.remove(fields[1]))));
+                break;
+            case CONVERTED:
+                convertedProcesses.put(Integer.valueOf(fields[1]),
+                    fields[2].isEmpty() ? null : Integer.valueOf(fields[2]));
+                break;
+            case LINKED:
+                addCurrentNo(parentProcesses.get(fields[1]), convertedProcesses.get(Integer.valueOf(fields[2])));
+                linkedProcesses.add(Integer.valueOf(fields[2]));
+                break;
+            case RENAMED:
+                linkedProcesses.remove(Integer.valueOf(fields[1]));
+                convertedProcesses.remove(Integer.valueOf(fields[1]));
+                break;
+            default:
+                throw new IllegalArgumentException(entry.name());
+        }
+    }
+
+    /**
+     * Applies an entry to the state of the migration and appends it to the
+     * journal. The entry is not forced to the storage; this is done by
+     * {@link #forceJournal()} before steps that rely on it, and at the end of
+     * each group. Entries lost in a crash only cause steps to be repeated,
+     * which are written so that they can be repeated.
+     *
+     * @param entry
+     *            type of the entry
+     * @param fields
+     *            fields of the entry
+     */
+    private synchronized void record(Entry entry, Object... fields) throws IOException {
+        String[] line = new String[fields.length + 1];
+        line[0] = entry.name();
+        for (int index = 0; index < fields.length; index++) {
+            line[index + 1] = Objects.toString(fields[index], "");
+        }
+        replay(entry, line);
+        write(String.join(JOURNAL_SEPARATOR, line));
+    }
+
+    private synchronized void write(String line) throws IOException {
+        if (Objects.isNull(journalChannel)) {
+            return;
+        }
+        ByteBuffer bytes = ByteBuffer.wrap((line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            journalChannel.write(bytes);
+        }
+    }
+
+    /**
+     * Forces the entries appended to the journal to the storage.
+     */
+    private synchronized void forceJournal() throws IOException {
+        if (Objects.nonNull(journalChannel)) {
+            journalChannel.force(false);
+        }
+    }
+
     /**
      * The metadata file and the anchor file are converted to the new internal
      * format using XSLT.
@@ -221,30 +730,66 @@ public class HierarchyMigrationTask extends EmptyTask {
      * Creates a new parent process. The process is created in the database, the
      * process folder is created on the file system and the METS file is
      * written. The METS file of the child process is migrated and a link
-     * between the processes is written in the database.
+     * between the processes is written in the database. If the creation of
+     * the parent process had started before a crash, the parent process
+     * already saved is completed.
      *
+     * @param parentRecordId
+     *            identifier of the parent
      * @param childProcess
      *            process to migrate
      * @return a data object with the ID of the created parent process and the
      *         current number of the child process
      */
-    private List<Integer> createParentProcess(Process childProcess)
+    private List<Integer> createParentProcess(String parentRecordId, Process childProcess)
             throws ProcessGenerationException, IOException, CommandException, DAOException {
 
-        processGenerator.generateProcess(childProcess.getTemplate().getId(), childProcess.getProject().getId());
-        Process parentProcess = processGenerator.getGeneratedProcess();
-        processService.saveToDatabase(parentProcess);
+        Process parentProcess = getPendingParent(parentRecordId);
+        if (Objects.isNull(parentProcess)) {
+            record(Entry.CREATING, parentRecordId);
+            forceJournal();
+            ProcessGenerator processGenerator = new ProcessGenerator();
+            processGenerator.generateProcess(childProcess.getTemplate().getId(), childProcess.getProject().getId());
+            parentProcess = processGenerator.getGeneratedProcess();
+            parentProcess.setTitle(PROVISIONAL_TITLE_PREFIX + parentRecordId);
+            processService.saveToDatabase(parentProcess);
+        }
+        record(Entry.PARENT, parentRecordId, parentProcess.getId());
         fileService.createProcessLocation(parentProcess);
-        createParentMetsFile(childProcess);
+        createParentMetsFile(childProcess, parentProcess);
         checkTaskAndId(parentProcess);
         processService.saveToDatabase(parentProcess);
-        parentProcess = ServiceManager.getProcessService().getById(parentProcess.getId());
-        ArrayList<Integer> parentData = new ArrayList<>();
-        parentData.add(parentProcess.getId());
-        URI metadataFilePath = fileService.getMetadataFilePath(childProcess);
-        parentData.add(convertChildMetsFile(metadataFilePath));
-        linkParentProcessWithChildProcess(parentProcess, childProcess);
-        return parentData;
+        parentProcess = processService.getById(parentProcess.getId());
+        convertChildMetsFile(childProcess);
+        linkParentProcessWithChildProcesses(parentProcess, Collections.singletonList(childProcess));
+        record(Entry.CREATED, parentRecordId);
+        record(Entry.LINKED, parentRecordId, childProcess.getId());
+        return getParentData(parentRecordId);
+    }
+
+    /**
+     * Returns the parent process whose creation had started before a crash.
+     * If the crash happened before its ID was recorded, the process is
+     * searched by its provisional title.
+     *
+     * @param parentRecordId
+     *            identifier of the parent
+     * @return the parent process, or null if its creation has not started
+     */
+    private Process getPendingParent(String parentRecordId) throws DAOException {
+        Integer parentId;
+        synchronized (this) {
+            if (!pendingParents.containsKey(parentRecordId)) {
+                return null;
+            }
+            parentId = pendingParents.get(parentRecordId);
+        }
+        if (Objects.nonNull(parentId)) {
+            return processService.getById(parentId);
+        }
+        List<Process> provisionalParents = processService.getByQuery("FROM Process WHERE title = :title",
+            Collections.singletonMap("title", PROVISIONAL_TITLE_PREFIX + parentRecordId));
+        return provisionalParents.isEmpty() ? null : provisionalParents.get(0);
     }
 
     private void checkTaskAndId(Process parentProcess) throws IOException {
@@ -278,21 +823,25 @@ public class HierarchyMigrationTask extends EmptyTask {
     }
 
     /**
-     * Links parent process and child process in the database. The processes are
-     * saved.
+     * Links parent process and child processes in the database. The processes
+     * are saved in one transaction.
      *
      * @param parentProcess
      *            parent process to link
-     * @param childProcess
-     *            child process to link
+     * @param childProcesses
+     *            child processes to link
      */
-    private static void linkParentProcessWithChildProcess(Process parentProcess, Process childProcess)
+    private static void linkParentProcessWithChildProcesses(Process parentProcess, List<Process> childProcesses)
             throws DAOException {
 
-        parentProcess.getChildren().add(childProcess);
-        childProcess.setParent(parentProcess);
-        processService.saveToDatabase(childProcess);
-        processService.saveToDatabase(parentProcess);
+        List<Process> processes = new ArrayList<>(childProcesses.size() + 1);
+        for (Process childProcess : childProcesses) {
+            parentProcess.getChildren().add(childProcess);
+            childProcess.setParent(parentProcess);
+            processes.add(childProcess);
+        }
+        processes.add(parentProcess);
+        processService.saveList(processes);
     }
 
     /**
@@ -301,8 +850,10 @@ public class HierarchyMigrationTask extends EmptyTask {
      *
      * @param process
      *            process to migrate
+     * @param parentProcess
+     *            the created parent process
      */
-    private void createParentMetsFile(Process process) throws IOException {
+    private static void createParentMetsFile(Process process, Process parentProcess) throws IOException {
         URI metadataFileUri = fileService.getMetadataFilePath(process);
         URI anchorFileUri = fileService.createAnchorFile(metadataFileUri);
         Workpiece workpiece = metsService.loadWorkpiece(anchorFileUri);
@@ -311,24 +862,45 @@ public class HierarchyMigrationTask extends EmptyTask {
         LinkedMetsResource link = firstChild.getLink();
         link.setLoctype("Kitodo.Production");
         link.setUri(processService.getProcessURI(process));
-        URI parentMetadataFileUri = fileService.getMetadataFilePath(processGenerator.getGeneratedProcess(), false,
-            false);
+        URI parentMetadataFileUri = fileService.getMetadataFilePath(parentProcess, false, false);
         metsService.saveWorkpiece(workpiece, parentMetadataFileUri);
     }
 
     /**
-     * Changes the METS file of the child process.
+     * Changes the METS file of the child process. The METS file is converted
+     * from a copy of the original file, which is made before the first
+     * conversion, so that a conversion interrupted by a crash can be
+     * repeated. If the conversion has been recorded in the journal, it is
+     * not repeated.
      *
-     * @param metadataFilePath
-     *            URI of the metadata file
+     * @param childProcess
+     *            child process to convert
      * @return the current number, may be {@code null}
      */
-    private static Integer convertChildMetsFile(URI metadataFilePath) throws IOException {
-        Workpiece workpiece = metsService.loadWorkpiece(metadataFilePath);
+    private Integer convertChildMetsFile(Process childProcess) throws IOException {
+        synchronized (this) {
+            if (convertedProcesses.containsKey(childProcess.getId())) {
+                return convertedProcesses.get(childProcess.getId());
+            }
+        }
+        URI metadataFilePath = fileService.getMetadataFilePath(childProcess);
+        URI unlinkedFilePath = getUnlinkedFilePath(childProcess);
+        if (!fileService.fileExist(unlinkedFilePath)) {
+            URI temporaryFilePath = metadataFilePath.resolve(UNLINKED_FILE_NAME + ".tmp");
+            fileService.copyFile(metadataFilePath, temporaryFilePath);
+            fileService.renameFile(temporaryFilePath, UNLINKED_FILE_NAME);
+        }
+        Workpiece workpiece = metsService.loadWorkpiece(unlinkedFilePath);
         LogicalDivision childStructureRoot = workpiece.getLogicalStructure().getChildren().get(0);
         workpiece.setLogicalStructure(childStructureRoot);
         metsService.saveWorkpiece(workpiece, metadataFilePath);
-        return getCurrentNoSorting(childStructureRoot);
+        Integer currentNo = getCurrentNoSorting(childStructureRoot);
+        record(Entry.CONVERTED, childProcess.getId(), currentNo);
+        return currentNo;
+    }
+
+    private static URI getUnlinkedFilePath(Process process) throws IOException {
+        return fileService.getMetadataFilePath(process).resolve(UNLINKED_FILE_NAME);
     }
 
     /**
@@ -355,25 +927,65 @@ public class HierarchyMigrationTask extends EmptyTask {
     }
 
     /**
-     * Links a child process in an existing parent process.
+     * Links child processes in an existing parent process. The METS file of
+     * the parent process is written once for all of them. A child that is
+     * already linked in the METS file, because the migration crashed after
+     * writing it, is not linked a second time.
      *
-     * @param childProcess
-     *            child process to link
+     * @param parentRecordId
+     *            identifier of the parent
+     * @param childProcesses
+     *            child processes to link
      * @param parentData
      *            a data object with the ID of the parent process and the
      *            current numbers of the child processes already linked with the
-     *            parent
+     *            parent, to which the current numbers of the linked child
+     *            processes are added
      */
-    private static void linkProcessInParent(Process childProcess, List<Integer> parentData)
-            throws IOException, DAOException {
+    private void linkProcessesInParent(String parentRecordId, List<Process> childProcesses,
+            List<Integer> parentData) throws IOException, DAOException {
 
-        URI metadataFilePath = fileService.getMetadataFilePath(childProcess);
-        Integer currentNo = convertChildMetsFile(metadataFilePath);
         Process parentProcess = processService.getById(parentData.get(0));
+        URI parentMetadataFileUri = processService.getMetadataFileUri(parentProcess);
+        Workpiece parentWorkpiece = metsService.loadWorkpiece(parentMetadataFileUri);
+        for (Process childProcess : childProcesses) {
+            Integer currentNo = convertChildMetsFile(childProcess);
+            int insertionPosition = addCurrentNo(parentData, currentNo);
+            if (!isLinkedIn(parentWorkpiece, childProcess)) {
+                MetadataEditor.addLink(parentWorkpiece.getLogicalStructure(), insertionPosition,
+                    childProcess.getId());
+            }
+        }
+        fileService.createBackupFile(parentProcess);
+        metsService.saveWorkpiece(parentWorkpiece, parentMetadataFileUri);
+        linkParentProcessWithChildProcesses(parentProcess, childProcesses);
+        for (Process childProcess : childProcesses) {
+            record(Entry.LINKED, parentRecordId, childProcess.getId());
+        }
+    }
+
+    private static boolean isLinkedIn(Workpiece parentWorkpiece, Process childProcess) {
+        URI childUri = processService.getProcessURI(childProcess);
+        return parentWorkpiece.getLogicalStructure().getChildren().stream().map(LogicalDivision::getLink)
+                .filter(Objects::nonNull).anyMatch(link -> childUri.equals(link.getUri()));
+    }
+
+    /**
+     * Adds the current number of a child to the current numbers of the
+     * children of a parent, at the position where the child is linked.
+     *
+     * @param parentData
+     *            a data object with the ID of the parent process and the
+     *            current numbers of the child processes already linked
+     * @param currentNo
+     *            the current number of the child process to link, may be
+     *            {@code null}
+     * @return the insertion position of the link
+     */
+    private static int addCurrentNo(List<Integer> parentData, Integer currentNo) {
         int insertionPosition = calculateInsertionPosition(parentData, currentNo);
-        MetadataEditor.addLink(parentProcess, Integer.toString(insertionPosition), childProcess.getId());
         parentData.add(insertionPosition + 1, currentNo);
-        linkParentProcessWithChildProcess(parentProcess, childProcess);
+        return insertionPosition;
     }
 
     /**
@@ -413,4 +1025,9 @@ public class HierarchyMigrationTask extends EmptyTask {
         URI anchorFile = fileService.createAnchorFile(fileService.getMetadataFilePath(process));
         fileService.renameFile(anchorFile, "meta_anchor.migrated");
     }
+
+    @Override
+    public TaskType getTaskType() {
+        return TaskType.MIGRATION;
+    }
 }
@@ -100,4 +100,9 @@ public class MigrationTask extends EmptyTask {
             super.setException(exception);
         }
     }
+
+    @Override
+    public TaskType getTaskType() {
+        return TaskType.MIGRATION;
+    }
 }
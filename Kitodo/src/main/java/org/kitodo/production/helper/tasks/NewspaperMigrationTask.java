@@ -168,4 +168,9 @@ public class NewspaperMigrationTask extends EmptyTask {
             setException(e);
         }
     }
+
+    @Override
+    public TaskType getTaskType() {
+        return TaskType.MIGRATION;
+    }
 }
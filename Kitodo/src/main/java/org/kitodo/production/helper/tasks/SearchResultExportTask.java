@@ -0,0 +1,185 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import com.itextpdf.text.DocumentException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.kitodo.data.database.beans.Client;
+import org.kitodo.data.database.beans.User;
+import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.helper.SearchResultGeneration;
+import org.kitodo.production.security.SecurityUserDetails;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Exports the search result of the process list as Excel or PDF file in the
+ * task manager and writes it to a file, for results too large to be exported
+ * during a request. The file is written under a unique temporary name and
+ * only renamed to its final name if the export was complete, so that an
+ * aborted export never leaves a truncated result in the user's home directory
+ * and concurrent exports never write to the same file.
+ */
+public class SearchResultExportTask extends EmptyTask {
+    private static final Logger logger = LogManager.getLogger(SearchResultExportTask.class);
+
+    private final String filter;
+    private final boolean showClosedProcesses;
+    private final boolean showInactiveProjects;
+    private final boolean pdf;
+
+    /**
+     * File to write the result to.
+     */
+    private final URI destination;
+
+    /**
+     * User who started the export. The search is restricted to the projects
+     * and the client of this user, as it is in the process list.
+     */
+    private final User user;
+    private final Client client;
+
+    /**
+     * Creates a new search result export task.
+     *
+     * @param name
+     *            name shown in the task manager
+     * @param filter
+     *            filter of the process list
+     * @param showClosedProcesses
+     *            whether closed processes are exported
+     * @param showInactiveProjects
+     *            whether processes of inactive projects are exported
+     * @param pdf
+     *            whether a PDF file is written, otherwise an Excel file
+     * @param destination
+     *            file to write the result to
+     * @param user
+     *            user who started the export
+     * @param client
+     *            session client of the user
+     */
+    public SearchResultExportTask(String name, String filter, boolean showClosedProcesses,
+            boolean showInactiveProjects, boolean pdf, URI destination, User user, Client client) {
+        super(name);
+        this.filter = filter;
+        this.showClosedProcesses = showClosedProcesses;
+        this.showInactiveProjects = showInactiveProjects;
+        this.pdf = pdf;
+        this.destination = destination;
+        this.user = user;
+        this.client = client;
+    }
+
+    /**
+     * Clone constructor. Provides the ability to restart the task if it was
+     * previously interrupted.
+     *
+     * @param source
+     *            terminated thread
+     */
+    private SearchResultExportTask(SearchResultExportTask source) {
+        super(source);
+        this.filter = source.filter;
+        this.showClosedProcesses = source.showClosedProcesses;
+        this.showInactiveProjects = source.showInactiveProjects;
+        this.pdf = source.pdf;
+        this.destination = source.destination;
+        this.user = source.user;
+        this.client = source.client;
+    }
+
+    @Override
+    public void run() {
+        Path target = Paths.get(destination);
+        Path partial = null;
+        try {
+            partial = Files.createTempFile(target.getParent(), target.getFileName() + ".", ".part");
+            setAuthenticatedUser();
+            SearchResultGeneration searchResultGeneration = new SearchResultGeneration(filter,
+                    showClosedProcesses, showInactiveProjects);
+            try (OutputStream out = Files.newOutputStream(partial)) {
+                if (pdf) {
+                    searchResultGeneration.writeResultAsPdf(out);
+                } else {
+                    writeWorkbook(searchResultGeneration, out);
+                }
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+            setProgress(100);
+        } catch (DataException | DocumentException | IOException | RuntimeException e) {
+            setException(e);
+            deleteIncompleteExport(partial);
+        }
+    }
+
+    private static void deleteIncompleteExport(Path partial) {
+        if (Objects.isNull(partial)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(partial);
+        } catch (IOException e) {
+            logger.warn("Could not delete incomplete export {}", partial, e);
+        }
+    }
+
+    private static void writeWorkbook(SearchResultGeneration searchResultGeneration, OutputStream out)
+            throws DataException, IOException {
+        SXSSFWorkbook workbook = searchResultGeneration.getResult();
+        try {
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void setAuthenticatedUser() {
+        SecurityUserDetails securityUserDetails = new SecurityUserDetails(user);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(securityUserDetails, null,
+                securityUserDetails.getAuthorities());
+        securityUserDetails.setSessionClient(client);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    /**
+     * Calls the clone constructor to create a not yet executed instance of
+     * this thread object. This is necessary for threads that have terminated
+     * in order to render possible to restart them.
+     *
+     * @return a not-yet-executed replacement of this thread
+     */
+    @Override
+    public SearchResultExportTask replace() {
+        return new SearchResultExportTask(this);
+    }
+
+    @Override
+    public TaskType getTaskType() {
+        return TaskType.EXPORT;
+    }
+}
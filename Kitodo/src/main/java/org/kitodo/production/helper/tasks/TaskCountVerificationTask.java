@@ -0,0 +1,111 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.commons.collections4.ListUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.production.helper.Helper;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.ProcessService;
+
+/**
+ * Rebuilds the task status counters of all processes from their tasks, and
+ * indexes the processes whose counters were wrong again, so that the index
+ * shows their correct progress.
+ */
+public class TaskCountVerificationTask extends EmptyTask {
+    private static final Logger logger = LogManager.getLogger(TaskCountVerificationTask.class);
+
+    private static final int INDEX_CHUNK_SIZE = 200;
+
+    private final ProcessService processService = ServiceManager.getProcessService();
+
+    /**
+     * Ids of the processes whose counters were corrected and which are still
+     * to be indexed. Null until the counters have been rebuilt.
+     */
+    private List<Integer> correctedProcessIds;
+
+    /**
+     * Number of corrected processes already indexed.
+     */
+    private int indexed = 0;
+
+    /**
+     * Creates a new task count verification task.
+     */
+    public TaskCountVerificationTask() {
+        super("");
+    }
+
+    /**
+     * Clone constructor. Provides the ability to restart the task if it was
+     * previously interrupted.
+     *
+     * @param source
+     *            terminated thread
+     */
+    private TaskCountVerificationTask(TaskCountVerificationTask source) {
+        super(source);
+        this.correctedProcessIds = source.correctedProcessIds;
+        this.indexed = source.indexed;
+    }
+
+    @Override
+    public void run() {
+        try {
+            if (Objects.isNull(correctedProcessIds)) {
+                correctedProcessIds = processService.rebuildTaskCounts();
+                logger.info("Corrected task counters of {} processes", correctedProcessIds.size());
+            }
+            setProgress(10);
+            List<Integer> remaining = correctedProcessIds.subList(indexed, correctedProcessIds.size());
+            for (List<Integer> chunk : ListUtils.partition(remaining, INDEX_CHUNK_SIZE)) {
+                processService.addAllObjectsToIndex(processService.getByIds(chunk));
+                indexed += chunk.size();
+                setWorkDetail(indexed + " / " + correctedProcessIds.size());
+                setProgress(10 + 90 * indexed / correctedProcessIds.size());
+                if (isInterrupted()) {
+                    return;
+                }
+            }
+            setProgress(100);
+        } catch (DAOException | CustomResponseException | IOException e) {
+            Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
+            super.setException(e);
+        }
+    }
+
+    /**
+     * Calls the clone constructor to create a not yet executed instance of
+     * this thread object. This is necessary for threads that have terminated
+     * in order to render possible to restart them.
+     *
+     * @return a not-yet-executed replacement of this thread
+     */
+    @Override
+    public TaskCountVerificationTask replace() {
+        return new TaskCountVerificationTask(this);
+    }
+
+    @Override
+    public TaskType getTaskType() {
+        return TaskType.INDEX;
+    }
+}
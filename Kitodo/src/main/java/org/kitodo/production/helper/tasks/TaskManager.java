@@ -18,9 +18,12 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -52,6 +55,24 @@ public class TaskManager {
      */
     private final ScheduledExecutorService taskSitter;
 
+    /**
+     * The field terminationWatcher holds the threads waiting for the
+     * termination of running tasks in order to wake up the TaskSitter. There
+     * is at most one such thread per running task.
+     */
+    private final ExecutorService terminationWatcher = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The field wakeUpPending is set while a run of the TaskSitter requested by
+     * {@link #wakeUp()} has not yet started, so that several requests in a row
+     * result in only one run.
+     */
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean(false);
+
     /**
      * The field taskList holds the list of threads managed by the task manager.
      */
@@ -60,7 +81,9 @@ public class TaskManager {
     /**
      * TaskManager is a singleton so its constructor is private. It will be
      * called once and just once by the synchronized function singleton() and
-     * set up a housekeeping thread.
+     * set up a housekeeping thread. Besides running periodically to expire old
+     * tasks, the TaskSitter is woken up whenever a task is added or a task
+     * terminates, so that waiting tasks start without delay.
      */
     private TaskManager() {
         taskSitter = Executors.newSingleThreadScheduledExecutor();
@@ -79,6 +102,47 @@ public class TaskManager {
         synchronized (tasks) {
             tasks.addLast(task);
         }
+        wakeUp();
+    }
+
+    /**
+     * Requests the TaskSitter to run as soon as possible. The TaskSitter runs
+     * on the housekeeping thread, so it never runs twice at the same time.
+     */
+    static void wakeUp() {
+        TaskManager taskManager = singleton();
+        if (taskManager.wakeUpPending.compareAndSet(false, true)) {
+            try {
+                taskManager.taskSitter.execute(() -> {
+                    taskManager.wakeUpPending.set(false);
+                    new TaskSitter().run();
+                });
+            } catch (RejectedExecutionException e) {
+                logger.debug("Task manager is shut down: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Wakes up the TaskSitter as soon as the given task has terminated, so
+     * that the next waiting task can be started.
+     *
+     * @param task
+     *            task that has been started
+     */
+    static void wakeUpWhenTerminated(EmptyTask task) {
+        try {
+            singleton().terminationWatcher.execute(() -> {
+                try {
+                    task.join();
+                    wakeUp();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Task manager is shut down: {}", e.getMessage());
+        }
     }
 
     /**
@@ -188,6 +252,20 @@ public class TaskManager {
         }
     }
 
+    /**
+     * Restarts a terminated task that can repeat the part of its work that
+     * failed. The replacement takes the place of the task in the list.
+     *
+     * @param task
+     *            task to restart
+     */
+    public static void retry(EmptyTask task) {
+        if (task.isRetryable()) {
+            task.interrupt(EmptyTask.Behaviour.PREPARE_FOR_RESTART);
+            wakeUp();
+        }
+    }
+
     /**
      * Can be called to move a task by one backwards on
      * the queue.
@@ -226,6 +304,7 @@ public class TaskManager {
     public static void shutdownNow() {
         stopAndDeleteAllTasks();
         singleton().taskSitter.shutdownNow();
+        singleton().terminationWatcher.shutdownNow();
     }
 
     /**
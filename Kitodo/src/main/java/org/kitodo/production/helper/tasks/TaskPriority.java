@@ -0,0 +1,33 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+/**
+ * TaskPriority defines the priority classes of tasks in the task manager. If
+ * there is clearance to start new tasks, waiting tasks of a higher priority
+ * are always started before tasks of a lower priority. Their meanings are the
+ * following:
+ *
+ * <dl>
+ * <dt>{@code HIGH}</dt>
+ * <dd>Short tasks a user is waiting for, such as exports.</dd>
+ * <dt>{@code NORMAL}</dt>
+ * <dd>The default priority.</dd>
+ * <dt>{@code LOW}</dt>
+ * <dd>Long-running mass operations, such as image generation or migrations.
+ * Tasks of low priority never occupy the last slot of the task manager, so
+ * that there is always room for a task of higher priority.</dd>
+ * </dl>
+ */
+public enum TaskPriority {
+    HIGH, NORMAL, LOW
+}
@@ -0,0 +1,120 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The class TaskScheduler decides which of the waiting tasks the TaskSitter
+ * starts next. A task is only started if the limit for its type has not been
+ * reached. Among the tasks that may start, the one with the highest priority
+ * is chosen. If several tasks have the same priority, the one whose user has
+ * the fewest tasks running is chosen, so that one user cannot occupy the task
+ * manager with a long queue of tasks. If this is also equal, the order of the
+ * task list decides, which the user can change in the task manager.
+ */
+class TaskScheduler {
+
+    /**
+     * Key used for tasks that were not started by a user.
+     */
+    private static final String NO_OWNER = "";
+
+    private final int autoRunLimit;
+    private final Map<TaskType, Integer> runningPerType = new EnumMap<>(TaskType.class);
+    private final Map<String, Integer> runningPerOwner = new HashMap<>();
+    private int runningLowPriority = 0;
+
+    /**
+     * Creates a new task scheduler.
+     *
+     * @param autoRunLimit
+     *            the number of tasks the task manager runs at most
+     * @param runningTasks
+     *            the tasks currently running
+     */
+    TaskScheduler(int autoRunLimit, Collection<EmptyTask> runningTasks) {
+        this.autoRunLimit = autoRunLimit;
+        for (EmptyTask runningTask : runningTasks) {
+            count(runningTask);
+        }
+    }
+
+    /**
+     * Selects the tasks to start from the waiting tasks.
+     *
+     * @param waitingTasks
+     *            tasks waiting to be started, in the order of the task list
+     * @param clearance
+     *            the number of tasks that may be started
+     * @return the tasks to start, in the order they were selected
+     */
+    List<EmptyTask> select(List<EmptyTask> waitingTasks, int clearance) {
+        Map<TaskType, Integer> limits = new EnumMap<>(TaskType.class);
+        for (TaskType type : TaskType.values()) {
+            limits.put(type, type.getLimit());
+        }
+        List<EmptyTask> candidates = new LinkedList<>(waitingTasks);
+        List<EmptyTask> selected = new ArrayList<>();
+        while (selected.size() < clearance) {
+            EmptyTask next = null;
+            for (EmptyTask candidate : candidates) {
+                if (mayStart(candidate, limits.get(candidate.getTaskType()))
+                        && (Objects.isNull(next) || precedes(candidate, next))) {
+                    next = candidate;
+                }
+            }
+            if (Objects.isNull(next)) {
+                break;
+            }
+            candidates.remove(next);
+            selected.add(next);
+            count(next);
+        }
+        return selected;
+    }
+
+    private boolean mayStart(EmptyTask task, int limit) {
+        if (limit >= 0 && runningPerType.getOrDefault(task.getTaskType(), 0) >= limit) {
+            return false;
+        }
+        return !TaskPriority.LOW.equals(task.getTaskPriority()) || autoRunLimit <= 1
+                || runningLowPriority < autoRunLimit - 1;
+    }
+
+    private boolean precedes(EmptyTask task, EmptyTask other) {
+        int priorityComparison = task.getTaskPriority().compareTo(other.getTaskPriority());
+        if (priorityComparison != 0) {
+            return priorityComparison < 0;
+        }
+        return runningPerOwner.getOrDefault(ownerOf(task), 0) < runningPerOwner.getOrDefault(ownerOf(other), 0);
+    }
+
+    private void count(EmptyTask task) {
+        runningPerType.merge(task.getTaskType(), 1, Integer::sum);
+        runningPerOwner.merge(ownerOf(task), 1, Integer::sum);
+        if (TaskPriority.LOW.equals(task.getTaskPriority())) {
+            runningLowPriority++;
+        }
+    }
+
+    private static String ownerOf(EmptyTask task) {
+        return Objects.toString(task.getOwner(), NO_OWNER);
+    }
+}
@@ -15,6 +15,7 @@ import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ConcurrentModificationException;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
 
@@ -29,11 +30,13 @@ import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
 /**
  * The class TaskSitter takes care of the tasks in the task manager. While the
  * application is working, a scheduler on the TaskManager will call the run()
- * method of the TaskSitter every some seconds to delete threads that have died,
- * replace threads that are to be restarted by new copies of themselves (a
- * Thread can never be started twice) and finally starts some new threads if
- * there aren’t too many working any more. Several limits are configurable for
- * the {@link #run()} method.
+ * method of the TaskSitter every some seconds, and whenever a task was added or
+ * has terminated, to delete threads that have died, replace threads that are to
+ * be restarted by new copies of themselves (a Thread can never be started
+ * twice) and finally starts some new threads if there aren’t too many working
+ * any more. Which of the waiting threads are started is decided by the
+ * {@link TaskScheduler}. Several limits are configurable for the {@link #run()}
+ * method.
  *
  * <p>
  * On shutdown of the servlet container, the TaskSitter will try to shut down
@@ -114,7 +117,8 @@ public class TaskSitter implements Runnable {
      * to the bottom of the list and we therefore want to remove older ones
      * top-down we cannot do this before we know their count, thus we cannot do
      * this while iterating.) Last, new threads will be started up to the
-     * remaining available clearance.
+     * remaining available clearance, as selected by the {@link TaskScheduler}
+     * by priority, limits per task type and fairness between users.
      *
      * @see java.lang.Runnable#run()
      */
@@ -127,6 +131,7 @@ public class TaskSitter implements Runnable {
             }
     
             LinkedList<EmptyTask> launchableThreads = new LinkedList<>();
+            LinkedList<EmptyTask> runningThreads = new LinkedList<>();
             LinkedList<EmptyTask> finishedThreads = new LinkedList<>();
             LinkedList<EmptyTask> failedThreads = new LinkedList<>();
             int availableClearance = autoRunLimit;
@@ -142,8 +147,8 @@ public class TaskSitter implements Runnable {
             EmptyTask task;
             try {
                 while (position.hasNext()) {
-                    availableClearance = handleTaskModification(launchableThreads, finishedThreads, failedThreads,
-                            availableClearance, successfulMaxAge, failedMaxAge, position);
+                    availableClearance = handleTaskModification(launchableThreads, runningThreads, finishedThreads,
+                            failedThreads, availableClearance, successfulMaxAge, failedMaxAge, position);
                 }
             } catch (ConcurrentModificationException e) {
                 return;
@@ -157,18 +162,17 @@ public class TaskSitter implements Runnable {
                 taskList.remove(task);
             }
 
-            while (launchableThreads.size() > availableClearance) {
-                launchableThreads.removeLast();
-            }
-            while ((task = launchableThreads.pollFirst()) != null) {
-                task.start();
+            List<EmptyTask> threadsToStart = new TaskScheduler(autoRunLimit, runningThreads)
+                    .select(launchableThreads, availableClearance);
+            for (EmptyTask threadToStart : threadsToStart) {
+                threadToStart.start();
             }
         }
     }
 
-    private int handleTaskModification(LinkedList<EmptyTask> launchableThreads, LinkedList<EmptyTask> finishedThreads,
-                                       LinkedList<EmptyTask> failedThreads, int availableClearance,
-                                       Duration successfulMaxAge, Duration failedMaxAge,
+    private int handleTaskModification(LinkedList<EmptyTask> launchableThreads, LinkedList<EmptyTask> runningThreads,
+                                       LinkedList<EmptyTask> finishedThreads, LinkedList<EmptyTask> failedThreads,
+                                       int availableClearance, Duration successfulMaxAge, Duration failedMaxAge,
                                        ListIterator<EmptyTask> position) {
         EmptyTask task;
         task = position.next();
@@ -176,6 +180,7 @@ public class TaskSitter implements Runnable {
             case WORKING:
             case STOPPING:
                 availableClearance = Math.max(availableClearance - 1, 0);
+                runningThreads.add(task);
                 break;
             case NEW:
                 if (Behaviour.DELETE_IMMEDIATELY.equals(task.getBehaviour())) {
@@ -0,0 +1,60 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.util.Objects;
+
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+
+/**
+ * TaskType defines the kinds of tasks the task manager distinguishes. Each
+ * type has a default priority, and the number of tasks of one type running at
+ * the same time can be limited in the configuration.
+ */
+public enum TaskType {
+    EXPORT(TaskPriority.HIGH, ParameterCore.TASK_MANAGER_LIMIT_EXPORT),
+    IMAGE(TaskPriority.LOW, ParameterCore.TASK_MANAGER_LIMIT_IMAGE),
+    IMPORT(TaskPriority.NORMAL, ParameterCore.TASK_MANAGER_LIMIT_IMPORT),
+    INDEX(TaskPriority.LOW, ParameterCore.TASK_MANAGER_LIMIT_INDEX),
+    MIGRATION(TaskPriority.LOW, ParameterCore.TASK_MANAGER_LIMIT_MIGRATION),
+    OTHER(TaskPriority.NORMAL, null);
+
+    private final TaskPriority defaultPriority;
+    private final ParameterCore limit;
+
+    TaskType(TaskPriority defaultPriority, ParameterCore limit) {
+        this.defaultPriority = defaultPriority;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the priority of tasks of this type, unless a task has been given
+     * a different priority.
+     *
+     * @return the default priority
+     */
+    public TaskPriority getDefaultPriority() {
+        return defaultPriority;
+    }
+
+    /**
+     * Returns the maximum number of tasks of this type running at the same
+     * time, as configured. A negative value means that there is no limit
+     * besides the overall limit of the task manager.
+     *
+     * @return the maximum number of running tasks of this type
+     */
+    public int getLimit() {
+        return Objects.isNull(limit) ? -1 : ConfigCore.getIntParameterOrDefaultValue(limit);
+    }
+}
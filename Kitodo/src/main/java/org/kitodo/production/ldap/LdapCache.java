@@ -0,0 +1,122 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.ldap;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import javax.naming.NamingException;
+
+/**
+ * Short-lived cache for values read from an LDAP directory. Values expire
+ * after a fixed time to live, so that changes made directly in the directory
+ * become visible without a restart. Failed lookups are not cached.
+ *
+ * @param <V>
+ *            type of the cached values
+ */
+public class LdapCache<V> {
+
+    /**
+     * Reads a value from the directory on a cache miss.
+     *
+     * @param <V>
+     *            type of the value
+     */
+    @FunctionalInterface
+    public interface Lookup<V> {
+        V lookUp() throws NamingException, IOException;
+    }
+
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final long timeToLive;
+    private final LongSupplier clock;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param timeToLive
+     *            time to live of the entries in milliseconds. If it is not
+     *            positive, nothing is cached.
+     */
+    public LdapCache(long timeToLive) {
+        this(timeToLive, System::currentTimeMillis);
+    }
+
+    LdapCache(long timeToLive, LongSupplier clock) {
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached value for a key, or looks it up and caches it, if
+     * there is no cached value or it has expired.
+     *
+     * @param key
+     *            key of the value
+     * @param lookup
+     *            reads the value from the directory
+     * @return the value
+     * @throws NamingException
+     *             if the lookup fails
+     * @throws IOException
+     *             if the connection cannot be secured
+     */
+    public V get(String key, Lookup<V> lookup) throws NamingException, IOException {
+        if (timeToLive <= 0) {
+            return lookup.lookUp();
+        }
+        long now = clock.getAsLong();
+        Entry<V> entry = entries.get(key);
+        if (Objects.nonNull(entry) && entry.expires > now) {
+            return entry.value;
+        }
+        V value = lookup.lookUp();
+        if (Objects.nonNull(value)) {
+            entries.put(key, new Entry<>(value, now + timeToLive));
+        } else {
+            entries.remove(key);
+        }
+        return value;
+    }
+
+    /**
+     * Removes all entries whose keys match a condition.
+     *
+     * @param condition
+     *            condition on the keys
+     */
+    public void invalidateIf(Predicate<String> condition) {
+        entries.keySet().removeIf(condition);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expires;
+
+        private Entry(V value, long expires) {
+            this.value = value;
+            this.expires = expires;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.ldap;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import javax.naming.CommunicationException;
+import javax.naming.Context;
+import javax.naming.NamingException;
+import javax.naming.directory.DirContext;
+import javax.naming.directory.InitialDirContext;
+import javax.naming.ldap.InitialLdapContext;
+import javax.naming.ldap.LdapContext;
+import javax.naming.ldap.StartTlsRequest;
+import javax.naming.ldap.StartTlsResponse;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Provides directory contexts for operations bound as the LDAP manager.
+ * Plain connections are pooled by the connection pool of the JDK, which can
+ * be tuned with the {@code com.sun.jndi.ldap.connect.pool.*} system
+ * properties. Connections secured with StartTLS are not supported by that
+ * pool, so they are kept in an own pool, one per server and manager login.
+ * Contexts authenticated as a user, as needed for password checks, are never
+ * pooled.
+ */
+public class LdapContextProvider {
+
+    private static final Logger logger = LogManager.getLogger(LdapContextProvider.class);
+
+    private static final String CONNECTION_POOL = "com.sun.jndi.ldap.connect.pool";
+    private static final long IDLE_TIMEOUT = 300_000;
+
+    /**
+     * An operation on a directory context.
+     *
+     * @param <T>
+     *            type of the result
+     */
+    @FunctionalInterface
+    public interface Operation<T> {
+        T execute(DirContext context) throws NamingException;
+    }
+
+    private final Map<String, Deque<TlsConnection>> idleTlsConnections = new ConcurrentHashMap<>();
+    private final int maximumIdleTlsConnections;
+
+    /**
+     * Creates a new context provider.
+     *
+     * @param maximumIdleTlsConnections
+     *            how many StartTLS connections are kept open per server
+     */
+    public LdapContextProvider(int maximumIdleTlsConnections) {
+        this.maximumIdleTlsConnections = maximumIdleTlsConnections;
+    }
+
+    /**
+     * Executes an operation on a pooled context. If the pooled connection
+     * turns out to be closed by the server, the operation is retried once on a
+     * new connection.
+     *
+     * @param environment
+     *            connection settings
+     * @param operation
+     *            operation to execute
+     * @return the result of the operation
+     * @throws NamingException
+     *             if the operation fails
+     */
+    public <T> T execute(Hashtable<String, String> environment, Operation<T> operation) throws NamingException {
+        Hashtable<String, String> pooledEnvironment = new Hashtable<>(environment);
+        pooledEnvironment.put(CONNECTION_POOL, Boolean.TRUE.toString());
+        try {
+            return executeOnce(pooledEnvironment, operation);
+        } catch (CommunicationException e) {
+            logger.debug("Retrying LDAP operation after communication error: {}", e.getMessage());
+            return executeOnce(pooledEnvironment, operation);
+        }
+    }
+
+    private static <T> T executeOnce(Hashtable<String, String> environment, Operation<T> operation)
+            throws NamingException {
+        DirContext context = new InitialDirContext(environment);
+        try {
+            return operation.execute(context);
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * Executes an operation on a pooled context secured with StartTLS. If the
+     * pooled connection turns out to be closed by the server, the operation is
+     * retried once on a new connection.
+     *
+     * @param environment
+     *            connection settings
+     * @param operation
+     *            operation to execute
+     * @return the result of the operation
+     * @throws NamingException
+     *             if the operation fails
+     * @throws IOException
+     *             if TLS cannot be negotiated
+     */
+    public <T> T executeWithStartTls(Hashtable<String, String> environment, Operation<T> operation)
+            throws NamingException, IOException {
+        String key = environment.get(Context.PROVIDER_URL) + ' ' + environment.get(Context.SECURITY_PRINCIPAL);
+        TlsConnection idleConnection = pollIdleTlsConnection(key);
+        if (Objects.nonNull(idleConnection)) {
+            try {
+                return executeAndRelease(key, idleConnection, operation);
+            } catch (CommunicationException e) {
+                logger.debug("Discarding pooled TLS connection: {}", e.getMessage());
+            }
+        }
+        TlsConnection connection = startTls(environment);
+        try {
+            // bind again, now over the secure channel
+            connection.context.reconnect(null);
+        } catch (NamingException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+        return executeAndRelease(key, connection, operation);
+    }
+
+    private <T> T executeAndRelease(String key, TlsConnection connection, Operation<T> operation)
+            throws NamingException {
+        try {
+            T result = operation.execute(connection.context);
+            releaseTlsConnection(key, connection);
+            return result;
+        } catch (NamingException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a new, unpooled connection and negotiates TLS on it. The caller
+     * must close it.
+     *
+     * @param environment
+     *            connection settings
+     * @return the connection
+     * @throws NamingException
+     *             if the connection cannot be established
+     * @throws IOException
+     *             if TLS cannot be negotiated
+     */
+    public TlsConnection startTls(Hashtable<String, String> environment) throws NamingException, IOException {
+        Hashtable<String, String> tlsEnvironment = new Hashtable<>(environment);
+        tlsEnvironment.put("java.naming.ldap.version", "3");
+        LdapContext context = new InitialLdapContext(tlsEnvironment, null);
+        StartTlsResponse tls = null;
+        try {
+            // Authentication must be performed over a secure channel
+            tls = (StartTlsResponse) context.extendedOperation(new StartTlsRequest());
+            tls.negotiate();
+            return new TlsConnection(context, tls);
+        } catch (NamingException | IOException | RuntimeException e) {
+            new TlsConnection(context, tls).close();
+            throw e;
+        }
+    }
+
+    private TlsConnection pollIdleTlsConnection(String key) {
+        Deque<TlsConnection> idle = idleTlsConnections.get(key);
+        if (Objects.isNull(idle)) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        for (TlsConnection connection = idle.pollFirst(); Objects.nonNull(connection);
+                connection = idle.pollFirst()) {
+            if (now - connection.lastUsed < IDLE_TIMEOUT) {
+                return connection;
+            }
+            connection.close();
+        }
+        return null;
+    }
+
+    private void releaseTlsConnection(String key, TlsConnection connection) {
+        Deque<TlsConnection> idle = idleTlsConnections.computeIfAbsent(key, unused -> new ConcurrentLinkedDeque<>());
+        if (idle.size() < maximumIdleTlsConnections) {
+            connection.lastUsed = System.currentTimeMillis();
+            idle.offerFirst(connection);
+        } else {
+            connection.close();
+        }
+    }
+
+    /**
+     * Closes all idle StartTLS connections, for example after the settings of
+     * an LDAP server have changed.
+     */
+    public void closeIdleConnections() {
+        for (Deque<TlsConnection> idle : idleTlsConnections.values()) {
+            for (TlsConnection connection = idle.pollFirst(); Objects.nonNull(connection);
+                    connection = idle.pollFirst()) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * A context on a connection secured with StartTLS.
+     */
+    public static class TlsConnection implements AutoCloseable {
+        private final LdapContext context;
+        private final StartTlsResponse tls;
+        private long lastUsed;
+
+        private TlsConnection(LdapContext context, StartTlsResponse tls) {
+            this.context = context;
+            this.tls = tls;
+        }
+
+        /**
+         * Returns the context of the connection.
+         *
+         * @return the context
+         */
+        public LdapContext getContext() {
+            return context;
+        }
+
+        /**
+         * Tears down TLS and closes the connection.
+         */
+        @Override
+        public void close() {
+            if (Objects.nonNull(tls)) {
+                try {
+                    tls.close();
+                } catch (IOException e) {
+                    logger.error(e.getMessage(), e);
+                }
+            }
+            try {
+                context.close();
+            } catch (NamingException e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -112,7 +112,22 @@ public class MetadataEditor {
         addLink(parentLogicalDivision, -1, childProcessId);
     }
 
-    private static void addLink(LogicalDivision parentLogicalDivision, int index, int childProcessId) {
+    /**
+     * Connects two processes by means of a link, which is inserted at the
+     * given position among the children of a logical division of the parent
+     * process. This method does not create a link between the two processes
+     * in the database, this must and can only happen when saving.
+     *
+     * @param parentLogicalDivision
+     *            document logical division of the parent process in which the
+     *            link is to be added
+     * @param index
+     *            position at which the link is to be inserted, or a negative
+     *            number to append it
+     * @param childProcessId
+     *            Database ID of the child process to be linked
+     */
+    public static void addLink(LogicalDivision parentLogicalDivision, int index, int childProcessId) {
 
         LinkedMetsResource link = new LinkedMetsResource();
         link.setLoctype(INTERNAL_LOCTYPE);
@@ -0,0 +1,81 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
+import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.process.ProcessMetadataStatistic;
+import org.kitodo.production.services.ServiceManager;
+import org.opensearch.index.query.QueryBuilder;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.SortOrder;
+
+/**
+ * Lazy model of the metadata statistic of the selected processes. Only the
+ * page of processes shown in the table is read from the index.
+ */
+public class LazyProcessMetadataStatisticModel extends LazyDataModel<Object> {
+    private static final Logger logger = LogManager.getLogger(LazyProcessMetadataStatisticModel.class);
+
+    private final QueryBuilder query;
+
+    /**
+     * Creates a lazy model of the metadata statistic of the processes
+     * matching the query.
+     *
+     * @param query
+     *            query for the processes
+     * @param numberOfProcesses
+     *            number of processes matching the query
+     */
+    public LazyProcessMetadataStatisticModel(QueryBuilder query, int numberOfProcesses) {
+        this.query = query;
+        setRowCount(numberOfProcesses);
+    }
+
+    @Override
+    public Object getRowData(String rowKey) {
+        return null;
+    }
+
+    @Override
+    public Object getRowKey(Object inObject) {
+        return null;
+    }
+
+    @Override
+    public List<Object> load(int first, int pageSize, String sortField, SortOrder sortOrder,
+            Map<String, FilterMeta> filters) {
+        try {
+            List<Object> statistics = new ArrayList<>();
+            for (Map<String, Object> document : ServiceManager.getProcessService().findDocumentsPage(query, first,
+                pageSize)) {
+                statistics.add(new ProcessMetadataStatistic(ProcessTypeField.TITLE.getStringValue(document),
+                        ProcessTypeField.NUMBER_OF_IMAGES.getIntValue(document),
+                        ProcessTypeField.NUMBER_OF_STRUCTURES.getIntValue(document),
+                        ProcessTypeField.NUMBER_OF_METADATA.getIntValue(document)));
+            }
+            return statistics;
+        } catch (DataException e) {
+            logger.error(e.getMessage(), e);
+            return Collections.emptyList();
+        }
+    }
+}
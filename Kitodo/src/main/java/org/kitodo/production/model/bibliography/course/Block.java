@@ -11,6 +11,7 @@
 
 package org.kitodo.production.model.bibliography.course;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -204,14 +205,30 @@ public class Block {
             return 0;
         }
         long numberOfIndividualIssues = 0;
-        for (LocalDate day = firstAppearance; !day.isAfter(lastAppearance); day = day.plusDays(1)) {
-            for (Issue issue : getIssues()) {
-                if (issue.isMatch(day)) {
-                    numberOfIndividualIssues += 1;
+        for (Issue issue : issues) {
+            numberOfIndividualIssues += issue.countIndividualIssues(firstAppearance, lastAppearance);
+        }
+        return numberOfIndividualIssues;
+    }
+
+    /**
+     * Determines how many stampings of issues of this block physically
+     * appeared on each day of the week.
+     *
+     * @return the counts of issues, indexed by day of week, starting with
+     *         Monday at index 0
+     */
+    long[] countIndividualIssuesByDayOfWeek() {
+        long[] counts = new long[DayOfWeek.values().length];
+        if (Objects.nonNull(firstAppearance) && Objects.nonNull(lastAppearance)) {
+            for (Issue issue : issues) {
+                long[] issueCounts = issue.countIndividualIssuesByDayOfWeek(firstAppearance, lastAppearance);
+                for (int index = 0; index < counts.length; index++) {
+                    counts[index] += issueCounts[index];
                 }
             }
         }
-        return numberOfIndividualIssues;
+        return counts;
     }
 
     /**
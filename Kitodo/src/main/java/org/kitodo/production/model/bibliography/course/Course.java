@@ -19,6 +19,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -26,11 +27,14 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -364,15 +368,20 @@ public class Course extends ArrayList<Block> {
 
     private void processRecoveredMetadata(List<RecoveredMetadata> recoveredMetadata) {
         Map<Pair<Block, String>, CountableMetadata> last = new HashMap<>();
+        NavigableMap<LocalDate, Block> blocksByDate = new TreeMap<>();
+        for (Block block : getDatedBlocks()) {
+            blocksByDate.putIfAbsent(block.getFirstAppearance(), block);
+        }
         for (RecoveredMetadata metaDatum : recoveredMetadata) {
             Block foundBlock = null;
             Issue foundIssue = null;
-            BLOCK: for (Block block : this) {
-                for (IndividualIssue individualIssue : block.getIndividualIssues(metaDatum.getDate())) {
-                    if (individualIssue.getHeading().equals(metaDatum.getIssue())) {
+            Block block = getBlock(blocksByDate, metaDatum.getDate());
+            if (Objects.nonNull(block)) {
+                for (Issue issue : block.getIssues()) {
+                    if (issue.getHeading().equals(metaDatum.getIssue()) && issue.isMatch(metaDatum.getDate())) {
                         foundBlock = block;
-                        foundIssue = individualIssue.getIssue();
-                        break BLOCK;
+                        foundIssue = issue;
+                        break;
                     }
                 }
             }
@@ -559,18 +568,46 @@ public class Course extends ArrayList<Block> {
      */
     public Set<IndividualIssue> getIndividualIssues() {
         LinkedHashSet<IndividualIssue> individualIssues = new LinkedHashSet<>();
-        LocalDate lastAppearance = getLastAppearance();
-        LocalDate firstAppearance = getFirstAppearance();
-        if (Objects.nonNull(firstAppearance)) {
-            for (LocalDate day = firstAppearance; !day.isAfter(lastAppearance); day = day.plusDays(1)) {
-                for (Block block : this) {
-                    individualIssues.addAll(block.getIndividualIssues(day));
-                }
+        for (Block block : getDatedBlocks()) {
+            LocalDate lastAppearance = block.getLastAppearance();
+            for (LocalDate day = block.getFirstAppearance(); !day.isAfter(lastAppearance); day = day.plusDays(1)) {
+                individualIssues.addAll(block.getIndividualIssues(day));
             }
         }
         return individualIssues;
     }
 
+    /**
+     * Returns the blocks that have a time range, in chronological order.
+     *
+     * @return the blocks with a time range
+     */
+    private List<Block> getDatedBlocks() {
+        return stream()
+                .filter(block -> Objects.nonNull(block.getFirstAppearance())
+                        && Objects.nonNull(block.getLastAppearance()))
+                .sorted(Comparator.comparing(Block::getFirstAppearance)).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the block a date belongs to. Since blocks do not overlap, this
+     * is the block with the greatest first appearance not after the date, if
+     * that block matches the date at all. Otherwise, all blocks are searched.
+     *
+     * @param blocksByDate
+     *            the blocks by their first appearance
+     * @param date
+     *            date to look up
+     * @return the block, or null if no block matches the date
+     */
+    private Block getBlock(NavigableMap<LocalDate, Block> blocksByDate, LocalDate date) {
+        Entry<LocalDate, Block> candidate = blocksByDate.floorEntry(date);
+        if (Objects.nonNull(candidate) && candidate.getValue().isMatch(date)) {
+            return candidate.getValue();
+        }
+        return isMatch(date);
+    }
+
     /**
      * Returns the date the regularity of this
      * course of appearance starts with.
@@ -653,14 +690,10 @@ public class Course extends ArrayList<Block> {
     public long guessTotalNumberOfPages() {
         long totalNumberOfPages = 0;
         for (Block block : this) {
-            LocalDate lastAppearance = block.getLastAppearance();
-            for (LocalDate day = block.getFirstAppearance(); !day.isAfter(lastAppearance); day = day.plusDays(1)) {
-                for (Issue issue : block.getIssues()) {
-                    if (issue.isMatch(day)) {
-                        totalNumberOfPages += day.getDayOfWeek() != DayOfWeek.SUNDAY ? WEEKDAY_PAGES
-                                : SUNDAY_PAGES;
-                    }
-                }
+            long[] individualIssues = block.countIndividualIssuesByDayOfWeek();
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                totalNumberOfPages += individualIssues[dayOfWeek.getValue() - 1]
+                        * (dayOfWeek != DayOfWeek.SUNDAY ? WEEKDAY_PAGES : SUNDAY_PAGES);
             }
         }
         return totalNumberOfPages;
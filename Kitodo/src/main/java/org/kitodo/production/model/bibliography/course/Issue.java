@@ -13,6 +13,9 @@ package org.kitodo.production.model.bibliography.course;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -40,8 +43,7 @@ import org.kitodo.api.dataformat.mets.KitodoUUID;
  */
 public class Issue {
 
-    private static final int APPEARED = 1;
-    private static final int NOT_APPEARED = 0;
+    private static final int DAYS_PER_WEEK = 7;
 
     private String id;
 
@@ -195,13 +197,64 @@ public class Issue {
      *             if lastAppearance is null
      */
     public long countIndividualIssues(LocalDate firstAppearance, LocalDate lastAppearance) {
-        long numberOfIndividualIssues = 0;
-        for (LocalDate day = firstAppearance; !day.isAfter(lastAppearance); day = day.plusDays(1)) {
-            if (isMatch(day)) {
-                numberOfIndividualIssues += 1;
+        return Arrays.stream(countIndividualIssuesByDayOfWeek(firstAppearance, lastAppearance)).sum();
+    }
+
+    /**
+     * Determines how many stampings of this issue physically appeared on each
+     * day of the week. The count is derived from the regular days of
+     * appearance, and corrected by the additions and exclusions in the time
+     * range, so it does not depend on the length of the time range.
+     *
+     * @param firstAppearance
+     *            first day of the time range to inspect
+     * @param lastAppearance
+     *            last day of the time range to inspect
+     * @return the counts of issues, indexed by day of week, starting with
+     *         Monday at index 0
+     */
+    long[] countIndividualIssuesByDayOfWeek(LocalDate firstAppearance, LocalDate lastAppearance) {
+        long[] counts = new long[DayOfWeek.values().length];
+        for (int dayOfWeek : daysOfWeek) {
+            counts[dayOfWeek - 1] = countDaysOfWeek(firstAppearance, lastAppearance, DayOfWeek.of(dayOfWeek));
+        }
+        for (LocalDate exclusion : exclusions) {
+            int dayOfWeek = exclusion.getDayOfWeek().getValue();
+            if (isInRange(exclusion, firstAppearance, lastAppearance) && daysOfWeek.contains(dayOfWeek)
+                    && !additions.contains(exclusion)) {
+                counts[dayOfWeek - 1]--;
             }
         }
-        return numberOfIndividualIssues;
+        for (LocalDate addition : additions) {
+            int dayOfWeek = addition.getDayOfWeek().getValue();
+            if (isInRange(addition, firstAppearance, lastAppearance) && !daysOfWeek.contains(dayOfWeek)) {
+                counts[dayOfWeek - 1]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns how often a day of the week occurs in a time range.
+     *
+     * @param firstDay
+     *            first day of the time range
+     * @param lastDay
+     *            last day of the time range
+     * @param dayOfWeek
+     *            day of week to count
+     * @return how often the day of the week occurs
+     */
+    static long countDaysOfWeek(LocalDate firstDay, LocalDate lastDay, DayOfWeek dayOfWeek) {
+        LocalDate firstOccurrence = firstDay.with(TemporalAdjusters.nextOrSame(dayOfWeek));
+        if (firstOccurrence.isAfter(lastDay)) {
+            return 0;
+        }
+        return ChronoUnit.DAYS.between(firstOccurrence, lastDay) / DAYS_PER_WEEK + 1;
+    }
+
+    private static boolean isInRange(LocalDate date, LocalDate firstDay, LocalDate lastDay) {
+        return !date.isBefore(firstDay) && !date.isAfter(lastDay);
     }
 
     /**
@@ -339,7 +392,8 @@ public class Issue {
      * the daysOfWeek of its regular appearance within the given interval of
      * time. This is especially sensible to detect the underlying regularity
      * after lots of individual issues whose existence is known have been added
-     * one by one as additions.
+     * one by one as additions. Only the days of the week whose regularity
+     * changes are walked through date by date.
      *
      * @param firstAppearance
      *            first day of the date range
@@ -349,28 +403,36 @@ public class Issue {
     void recalculateRegularity(LocalDate firstAppearance, LocalDate lastAppearance) {
         Set<LocalDate> remainingAdditions = new HashSet<>();
         Set<LocalDate> remainingExclusions = new HashSet<>();
-
-        @SuppressWarnings("unchecked")
-        HashSet<LocalDate>[][] subsets = new HashSet[DayOfWeek.SUNDAY.getValue()][APPEARED + 1];
-        for (int dayOfWeek = DayOfWeek.MONDAY.getValue(); dayOfWeek <= DayOfWeek.SUNDAY.getValue(); dayOfWeek++) {
-            subsets[dayOfWeek - 1][NOT_APPEARED] = new HashSet<>();
-            subsets[dayOfWeek - 1][APPEARED] = new HashSet<>();
-        }
-
-        for (LocalDate day = firstAppearance; !day.isAfter(lastAppearance); day = day.plusDays(1)) {
-            subsets[day.getDayOfWeek().getValue() - 1][isMatch(day) ? APPEARED : NOT_APPEARED].add(day);
-        }
-
-        for (int dayOfWeek = DayOfWeek.MONDAY.getValue(); dayOfWeek <= DayOfWeek.SUNDAY.getValue(); dayOfWeek++) {
-            if (subsets[dayOfWeek - 1][APPEARED].size() > subsets[dayOfWeek - 1][NOT_APPEARED].size()) {
-                daysOfWeek.add(dayOfWeek);
-                remainingExclusions.addAll(subsets[dayOfWeek - 1][NOT_APPEARED]);
+        Set<Integer> regularDaysOfWeek = new HashSet<>();
+        long[] appeared = countIndividualIssuesByDayOfWeek(firstAppearance, lastAppearance);
+
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            long notAppeared = countDaysOfWeek(firstAppearance, lastAppearance, dayOfWeek)
+                    - appeared[dayOfWeek.getValue() - 1];
+            boolean regular = appeared[dayOfWeek.getValue() - 1] > notAppeared;
+            Set<LocalDate> remaining = regular ? remainingExclusions : remainingAdditions;
+            if (regular) {
+                regularDaysOfWeek.add(dayOfWeek.getValue());
+            }
+            if (regular == daysOfWeek.contains(dayOfWeek.getValue())) {
+                // regularity unchanged: the exceptions in range remain
+                for (LocalDate date : regular ? exclusions : additions) {
+                    if (date.getDayOfWeek().equals(dayOfWeek) && isInRange(date, firstAppearance, lastAppearance)
+                            && isMatch(date) != regular) {
+                        remaining.add(date);
+                    }
+                }
             } else {
-                daysOfWeek.remove(dayOfWeek);
-                remainingAdditions.addAll(subsets[dayOfWeek - 1][APPEARED]);
+                for (LocalDate day = firstAppearance.with(TemporalAdjusters.nextOrSame(dayOfWeek));
+                        !day.isAfter(lastAppearance); day = day.plusWeeks(1)) {
+                    if (isMatch(day) != regular) {
+                        remaining.add(day);
+                    }
+                }
             }
         }
 
+        daysOfWeek = regularDaysOfWeek;
         additions = remainingAdditions;
         exclusions = remainingExclusions;
 
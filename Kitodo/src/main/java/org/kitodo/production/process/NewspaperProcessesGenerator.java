@@ -23,11 +23,17 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale.LanguageRange;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -48,8 +54,12 @@ import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterfac
 import org.kitodo.api.dataformat.LogicalDivision;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.dataformat.mets.LinkedMetsResource;
+import org.kitodo.config.ConfigCore;
 import org.kitodo.config.ConfigProject;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Task;
+import org.kitodo.data.database.enums.IndexAction;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.exceptions.DataException;
@@ -67,6 +77,7 @@ import org.kitodo.production.services.data.ProcessService;
 import org.kitodo.production.services.data.RulesetService;
 import org.kitodo.production.services.dataformat.MetsService;
 import org.kitodo.production.services.file.FileService;
+import org.kitodo.production.services.workflow.WorkflowControllerService;
 
 /**
  * A generator for newspaper processes.
@@ -123,6 +134,49 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
      */
     private final RulesetService rulesetService = ServiceManager.getRulesetService();
 
+    /**
+     * Whether the issue processes are created in bulk. In bulk generation, the
+     * issue processes are only saved to the database at first. They are added
+     * to the index together when their year is complete, and their METS files
+     * are written in parallel.
+     */
+    private final boolean bulkGeneration = ConfigCore
+            .getBooleanParameterOrDefaultValue(ParameterCore.NEWSPAPER_BULK_GENERATION);
+
+    /**
+     * In bulk generation, the issue processes of the current year that have not
+     * yet been added to the index.
+     */
+    private final List<Process> unindexedIssueProcesses = new ArrayList<>();
+
+    /**
+     * In bulk generation, the METS files of the current year that are being
+     * written in the background.
+     */
+    private final List<Future<?>> pendingMetsWrites = new ArrayList<>();
+
+    /**
+     * In bulk generation, the METS files of the current year that have not yet
+     * been written successfully, by their location. If a METS file cannot be
+     * written in the background, it is written again when the year is closed,
+     * or when the generator is restarted after a failure.
+     */
+    private final Map<URI, Workpiece> unwrittenIssueWorkpieces = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * In bulk generation, the threads writing the METS files of the current
+     * year.
+     */
+    private ExecutorService metsWriter;
+
+    /**
+     * In bulk generation, the index of the issue process that has been saved to
+     * the database in a step that has not been completed. If the generator is
+     * restarted after this step failed, the saved process is used again
+     * instead of creating a second one.
+     */
+    private int savedIssueIndex = -1;
+
     /**
      * This is the supreme process of the newspaper.
      */
@@ -516,15 +570,22 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         prepareTheAppropriateYearProcess(dateMark(yearSimpleMetadataView.getScheme(), firstIssue.getDate()),
             genericFields);
 
-        generateProcess(overallProcess.getTemplate().getId(), overallProcess.getProject().getId());
-
         String title = makeTitle(issueDivisionView.getProcessTitle().orElse("+'_'+#YEAR+#MONTH+#DAY+#ISSU"), genericFields);
-        getGeneratedProcess().setTitle(title);
-        getGeneratedProcess().setParent(yearProcess);
-        yearProcess.getChildren().add(getGeneratedProcess());
-        processService.save(getGeneratedProcess(), true);
-        createMetadataFileForProcess(individualIssuesForProcess, title);
-        processService.saveToIndex(getGeneratedProcess(), false);
+        if (index != savedIssueIndex) {
+            generateProcess(overallProcess.getTemplate().getId(), overallProcess.getProject().getId());
+            getGeneratedProcess().setTitle(title);
+            getGeneratedProcess().setParent(yearProcess);
+        }
+        if (bulkGeneration) {
+            saveIssueProcess(index);
+            createMetadataFileForProcess(individualIssuesForProcess, title);
+            savedIssueIndex = -1;
+        } else {
+            yearProcess.getChildren().add(getGeneratedProcess());
+            processService.save(getGeneratedProcess(), true);
+            createMetadataFileForProcess(individualIssuesForProcess, title);
+            processService.saveToIndex(getGeneratedProcess(), false);
+        }
 
         if (logger.isTraceEnabled()) {
             logger.trace("Creating newspaper process {} took {} ms", title,
@@ -532,6 +593,24 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         }
     }
 
+    /**
+     * In bulk generation, saves the generated issue process to the database
+     * only and adds it to its year process. If it has already been saved in a
+     * previous attempt of the step, nothing is done.
+     */
+    private void saveIssueProcess(int index) throws DAOException {
+        if (index == savedIssueIndex) {
+            return;
+        }
+        Process issueProcess = getGeneratedProcess();
+        WorkflowControllerService.updateProcessSortHelperStatus(issueProcess);
+        issueProcess.setIndexAction(IndexAction.INDEX);
+        processService.saveToDatabase(issueProcess);
+        savedIssueIndex = index;
+        yearProcess.getChildren().add(issueProcess);
+        unindexedIssueProcesses.add(issueProcess);
+    }
+
     /**
      * Generate process title.
      * @param definition as String
@@ -554,6 +633,9 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
     private void createMetadataFileForProcess(List<IndividualIssue> individualIssues, String title)
             throws IOException, CommandException {
 
+        // the process location is created before the year is changed, so that a failure leaves no link in the year
+        fileService.createProcessLocation(getGeneratedProcess());
+        final URI metadataFileUri = processService.getMetadataFileUri(getGeneratedProcess());
         LogicalDivision logicalStructure = new LogicalDivision();
         MetadataEntry dateMetadataEntry = new MetadataEntry();
         dateMetadataEntry.setKey(monthSimpleMetadataView.getId());
@@ -591,9 +673,100 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         Workpiece workpiece = new Workpiece();
         workpiece.setLogicalStructure(logicalStructure);
         workpiece.setId(getGeneratedProcess().getId().toString());
-        fileService.createProcessLocation(getGeneratedProcess());
-        final URI metadataFileUri = processService.getMetadataFileUri(getGeneratedProcess());
-        metsService.saveWorkpiece(workpiece, metadataFileUri);
+        saveIssueWorkpiece(workpiece, metadataFileUri);
+    }
+
+    private void saveIssueWorkpiece(Workpiece workpiece, URI metadataFileUri) throws IOException {
+        if (!bulkGeneration) {
+            metsService.saveWorkpiece(workpiece, metadataFileUri);
+            return;
+        }
+        if (Objects.isNull(metsWriter)) {
+            metsWriter = createDaemonizedExecutorService(
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.NEWSPAPER_METS_WRITER_THREADS));
+        }
+        unwrittenIssueWorkpieces.put(metadataFileUri, workpiece);
+        pendingMetsWrites.add(metsWriter.submit(() -> {
+            metsService.saveWorkpiece(workpiece, metadataFileUri);
+            unwrittenIssueWorkpieces.remove(metadataFileUri);
+            return null;
+        }));
+    }
+
+    /**
+     * Stops the threads writing the METS files of the issue processes in bulk
+     * generation. METS files already handed to the threads are still written.
+     * Must be called when the generation ends, whether it was completed,
+     * failed or was interrupted.
+     */
+    public void shutDownMetsWriter() {
+        if (Objects.nonNull(metsWriter)) {
+            metsWriter.shutdown();
+            metsWriter = null;
+        }
+    }
+
+    private static ExecutorService createDaemonizedExecutorService(int threads) {
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * In bulk generation, waits until the METS files of the issue processes of
+     * the current year have been written, and then adds the issue processes
+     * and their tasks to the index in one bulk request each. If this fails,
+     * the issue processes are kept so that the next attempt can retry.
+     */
+    private void indexIssueProcessesOfCurrentYear() throws IOException, DAOException, CustomResponseException {
+        final long begin = System.nanoTime();
+
+        awaitMetsWrites();
+
+        if (!unindexedIssueProcesses.isEmpty()) {
+            processService.addAllObjectsToIndex(unindexedIssueProcesses);
+            List<Task> tasks = unindexedIssueProcesses.stream().flatMap(process -> process.getTasks().stream())
+                    .collect(Collectors.toList());
+            ServiceManager.getTaskService().addAllObjectsToIndex(tasks);
+            int numberOfProcesses = unindexedIssueProcesses.size();
+            unindexedIssueProcesses.clear();
+
+            if (logger.isTraceEnabled()) {
+                logger.trace("Indexing {} issue processes of {} took {} ms", numberOfProcesses, currentYear,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+            }
+        }
+    }
+
+    /**
+     * Waits until the METS files of the issue processes of the current year
+     * have been written. The METS files that could not be written in the
+     * background are written again. If this fails, too, they are kept for
+     * the next attempt.
+     */
+    private void awaitMetsWrites() throws IOException {
+        for (Future<?> pendingMetsWrite : pendingMetsWrites) {
+            try {
+                pendingMetsWrite.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while writing METS files of " + currentYear, e);
+            } catch (ExecutionException e) {
+                logger.warn("Writing METS file of {} failed, retrying", currentYear, e.getCause());
+            }
+        }
+        pendingMetsWrites.clear();
+        shutDownMetsWriter();
+        synchronized (unwrittenIssueWorkpieces) {
+            Iterator<Map.Entry<URI, Workpiece>> unwritten = unwrittenIssueWorkpieces.entrySet().iterator();
+            while (unwritten.hasNext()) {
+                Map.Entry<URI, Workpiece> issueWorkpiece = unwritten.next();
+                metsService.saveWorkpiece(issueWorkpiece.getValue(), issueWorkpiece.getKey());
+                unwritten.remove();
+            }
+        }
     }
 
     private void addCustomMetadata(IndividualIssue definition, LogicalDivision issue) {
@@ -654,7 +827,8 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
     }
 
     private void prepareTheAppropriateYearProcess(String yearMark, Map<String, String> genericFields)
-            throws DAOException, DataException, ProcessGenerationException, IOException, CommandException {
+            throws DAOException, DataException, ProcessGenerationException, IOException, CommandException,
+            CustomResponseException {
 
         if (yearMark.equals(currentYear)) {
             return;
@@ -666,7 +840,9 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         }
     }
 
-    private void saveAndCloseCurrentYearProcess() throws DataException, IOException {
+    private void saveAndCloseCurrentYearProcess() throws DataException, IOException, DAOException,
+            CustomResponseException {
+        indexIssueProcessesOfCurrentYear();
         final long begin = System.nanoTime();
 
         metsService.saveWorkpiece(yearWorkpiece, yearMetadataFileUri);
@@ -792,7 +968,7 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         return createdChild;
     }
 
-    private void finish() throws DataException, IOException {
+    private void finish() throws DataException, IOException, DAOException, CustomResponseException {
         final long begin = System.nanoTime();
 
         saveAndCloseCurrentYearProcess();
@@ -146,6 +146,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
             .antMatchers("/javax.faces.resource/**", "**/resources/**").permitAll()
             .antMatchers("/js/modeler.js").permitAll()
             .antMatchers("/js/toggle.js").permitAll()
+            .antMatchers("/ready").permitAll()
             .anyRequest().authenticated();
     }
 
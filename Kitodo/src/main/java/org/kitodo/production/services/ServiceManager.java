@@ -24,6 +24,7 @@ import org.kitodo.production.services.data.CommentService;
 import org.kitodo.production.services.data.DataEditorSettingService;
 import org.kitodo.production.services.data.DocketService;
 import org.kitodo.production.services.data.FilterService;
+import org.kitodo.production.services.data.FilterVocabularyService;
 import org.kitodo.production.services.data.FolderService;
 import org.kitodo.production.services.data.ImportConfigurationService;
 import org.kitodo.production.services.data.ImportService;
@@ -72,6 +73,7 @@ public class ServiceManager {
     private static FileService fileService;
     private static FileStructureValidationService fileStructureValidationService;
     private static FilterService filterService;
+    private static FilterVocabularyService filterVocabularyService;
     private static FolderService folderService;
     private static ImageService imageService;
     private static ImportService importService;
@@ -152,6 +154,13 @@ public class ServiceManager {
         }
     }
 
+    private static void initializeFilterVocabularyService() {
+        if (Objects.isNull(filterVocabularyService)) {
+            logServiceInitialization();
+            filterVocabularyService = FilterVocabularyService.getInstance();
+        }
+    }
+
     private static void initializeKitodoScriptService() {
         if (Objects.isNull(kitodoScriptService)) {
             logServiceInitialization();
@@ -472,6 +481,18 @@ public class ServiceManager {
         return filterService;
     }
 
+    /**
+     * Initialize FilterVocabularyService if it is not yet initialized and next
+     * return it.
+     *
+     * @return FilterVocabularyService object
+     */
+    public static FilterVocabularyService getFilterVocabularyService() {
+        initializeFilterVocabularyService();
+        logServiceDelivery();
+        return filterVocabularyService;
+    }
+
     /**
      * Initialize ImportService if it is not yet initialized and return it.
      * 
@@ -38,6 +38,19 @@ public abstract class EditDataScript {
 
     private static final Logger logger = LogManager.getLogger(EditDataScript.class);
 
+    private boolean updateIndex = true;
+
+    /**
+     * Sets whether a changed process is indexed right away when it is saved.
+     * Callers that index the changed processes in bulk turn this off.
+     *
+     * @param updateIndex
+     *            whether to index changed processes
+     */
+    public void setUpdateIndex(boolean updateIndex) {
+        this.updateIndex = updateIndex;
+    }
+
     /**
      * Processes the given script for the given process.
      * @param metadataFile - the file to be changed
@@ -110,7 +123,9 @@ public abstract class EditDataScript {
         try (OutputStream out = ServiceManager.getFileService()
                 .write(ServiceManager.getFileService().getMetadataFilePath(process))) {
             ServiceManager.getMetsService().save(workpiece, out);
-            ServiceManager.getProcessService().saveToIndex(process, false);
+            if (updateIndex) {
+                ServiceManager.getProcessService().saveToIndex(process, false);
+            }
         } catch (IOException | CustomResponseException | DataException e) {
             logger.error(e.getMessage());
         }
@@ -43,6 +43,7 @@ import org.kitodo.exceptions.MediaNotFoundException;
 import org.kitodo.exceptions.ProcessGenerationException;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.tasks.EmptyTask;
+import org.kitodo.production.helper.tasks.TaskType;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.ProjectService;
 import org.kitodo.production.services.data.TemplateService;
@@ -344,4 +345,9 @@ public final class ImportProcesses extends EmptyTask {
         currentlyImporting.executeAction(nextAction);
         nextAction++;
     }
+
+    @Override
+    public TaskType getTaskType() {
+        return TaskType.IMPORT;
+    }
 }
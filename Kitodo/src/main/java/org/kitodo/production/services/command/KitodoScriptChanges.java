@@ -0,0 +1,69 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.command;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Task;
+
+/**
+ * Collects the processes and tasks changed by a Kitodo script, so that they
+ * can be indexed in bulk afterwards. Processes may be added from several
+ * threads at the same time.
+ */
+public class KitodoScriptChanges {
+    private final Set<Integer> processIds = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> taskIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Records that a process was changed.
+     *
+     * @param process
+     *            changed process
+     */
+    void addProcess(Process process) {
+        processIds.add(process.getId());
+    }
+
+    /**
+     * Records that a task was changed. Its process is recorded too, because
+     * the index of the process contains its tasks.
+     *
+     * @param task
+     *            changed task
+     */
+    void addTask(Task task) {
+        taskIds.add(task.getId());
+        addProcess(task.getProcess());
+    }
+
+    /**
+     * Returns the IDs of the changed processes.
+     *
+     * @return the IDs of the changed processes
+     */
+    public Set<Integer> getProcessIds() {
+        return Collections.unmodifiableSet(processIds);
+    }
+
+    /**
+     * Returns the IDs of the changed tasks.
+     *
+     * @return the IDs of the changed tasks
+     */
+    public Set<Integer> getTaskIds() {
+        return Collections.unmodifiableSet(taskIds);
+    }
+}
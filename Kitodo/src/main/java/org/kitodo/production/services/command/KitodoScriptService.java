@@ -18,12 +18,15 @@ import java.nio.file.Files;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.text.StrTokenizer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -34,6 +37,8 @@ import org.kitodo.data.database.beans.Role;
 import org.kitodo.data.database.beans.Ruleset;
 import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.enums.TaskStatus;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.exceptions.CommandException;
 import org.kitodo.exceptions.InvalidImagesException;
@@ -47,6 +52,7 @@ import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.model.Subfolder;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.ProcessService;
+import org.kitodo.production.services.data.TaskService;
 import org.kitodo.production.services.dataformat.MetsService;
 import org.kitodo.production.services.file.FileService;
 import org.kitodo.production.services.image.ImageGenerator;
@@ -63,6 +69,21 @@ public class KitodoScriptService {
     private static final String STATUS = "status";
     private static final String TASK_TITLE = "tasktitle";
     private static final String ROLE = "role";
+    private static final String ACTION = "action";
+    private static final String ADD_DATA = "addData";
+    private static final String OVERWRITE_DATA = "overwriteData";
+    private static final String DELETE_DATA = "deleteData";
+    private static final String COPY_DATA_TO_CHILDREN = "copyDataToChildren";
+    private static final String UPDATE_CONTENT_FILES = "updateContentFiles";
+    private static final String SEARCH_FOR_MEDIA = "searchForMedia";
+    private static final String SET_STEP_STATUS = "setStepStatus";
+
+    /**
+     * Actions that work on each process on its own. Scripts with these
+     * actions can be executed by a {@link KitodoScriptTask}.
+     */
+    private static final Set<String> PROCESS_ACTIONS = Set.of(ADD_DATA, OVERWRITE_DATA, DELETE_DATA,
+        COPY_DATA_TO_CHILDREN, UPDATE_CONTENT_FILES, SEARCH_FOR_MEDIA, SET_STEP_STATUS);
 
     /**
      * Return the singleton instance of the Kitodo script service.
@@ -99,7 +120,57 @@ public class KitodoScriptService {
      */
     public void execute(List<Process> processes, String script)
             throws DataException, IOException, InvalidImagesException, MediaNotFoundException {
-        this.parameters = new HashMap<>();
+        this.parameters = parseParameters(script);
+
+        // pass the appropriate method with the correct parameters
+        if (isActionMissing()) {
+            return;
+        }
+
+        if (executeScript(processes, script)) {
+            Helper.setMessage("kitodoScript finished");
+        }
+    }
+
+    /**
+     * Start the script execution on the processes with the given IDs. The
+     * processes are loaded from the database and the script is executed
+     * chunk by chunk, so that a large selection is never loaded at once.
+     *
+     * @param processIds
+     *            IDs of the processes
+     * @param script
+     *            from frontend passed as String
+     */
+    public void executeForProcessIds(List<Integer> processIds, String script)
+            throws DAOException, DataException, IOException, InvalidImagesException, MediaNotFoundException {
+        this.parameters = parseParameters(script);
+        if (isActionMissing()) {
+            return;
+        }
+
+        boolean finished = true;
+        for (List<Integer> chunk : ListUtils.partition(processIds, ProcessService.LOAD_CHUNK_SIZE)) {
+            finished &= executeScript(ServiceManager.getProcessService().getByIds(chunk), script);
+        }
+        if (finished) {
+            Helper.setMessage("kitodoScript finished");
+        }
+    }
+
+    private boolean isActionMissing() {
+        if (Objects.isNull(this.parameters.get(ACTION))) {
+            Helper.setErrorMessage("missing action",
+                " - possible: 'action:addRole, action:setTaskProperty, action:setStepStatus, "
+                        + "action:swapprozessesout, action:swapprozessesin, action:deleteTiffHeaderFile, "
+                        + "action:importFromFileSystem'");
+            return true;
+        }
+        return false;
+    }
+
+    private static Map<String, String> parseParameters(String script) {
+        Map<String, String> scriptParameters = new HashMap<>();
         // decompose and capture all script parameters
         StrTokenizer tokenizer = new StrTokenizer(script, ' ', '\"');
         while (tokenizer.hasNext()) {
@@ -107,28 +178,105 @@ public class KitodoScriptService {
             if (Objects.nonNull(tok) && tok.contains(":")) {
                 String key = tok.substring(0, tok.indexOf(':'));
                 String value = tok.substring(tok.indexOf(':') + 1);
-                this.parameters.put(key, value);
+                scriptParameters.put(key, value);
             }
         }
+        return scriptParameters;
+    }
 
-        // pass the appropriate method with the correct parameters
-        if (Objects.isNull(this.parameters.get("action"))) {
-            Helper.setErrorMessage("missing action",
-                " - possible: 'action:addRole, action:setTaskProperty, action:setStepStatus, "
-                        + "action:swapprozessesout, action:swapprozessesin, action:deleteTiffHeaderFile, "
-                        + "action:importFromFileSystem'");
-            return;
+    /**
+     * Returns whether the action of a Kitodo script works on each process on
+     * its own. Such scripts can be executed by a {@link KitodoScriptTask},
+     * which executes them on several processes in parallel.
+     *
+     * @param script
+     *            Kitodo script
+     * @return whether the script can be executed process by process
+     */
+    public boolean isProcessAction(String script) {
+        return PROCESS_ACTIONS.contains(parseParameters(script).get(ACTION));
+    }
+
+    /**
+     * Executes a Kitodo script on a single process. Only scripts whose action
+     * works on each process on its own are supported, see
+     * {@link #isProcessAction(String)}. Unlike {@link #execute(List, String)},
+     * no messages are shown and the index is not updated. The changed
+     * processes and tasks are recorded instead, to be indexed in bulk with
+     * {@link #indexChanges(KitodoScriptChanges)}. This method may be called
+     * from several threads at the same time.
+     *
+     * @param process
+     *            process to execute the script on
+     * @param script
+     *            Kitodo script
+     * @param changes
+     *            records the changed processes and tasks
+     * @throws KitodoScriptExecutionException
+     *             if the script cannot be executed on the process
+     */
+    public void executeForProcess(Process process, String script, KitodoScriptChanges changes)
+            throws DAOException, IOException, KitodoScriptExecutionException, InvalidImagesException,
+            MediaNotFoundException {
+        Map<String, String> scriptParameters = parseParameters(script);
+        String action = Objects.toString(scriptParameters.get(ACTION), "");
+        switch (action) {
+            case ADD_DATA:
+            case OVERWRITE_DATA:
+            case DELETE_DATA:
+                editData(process, getMetadataScript(script, action), createEditDataScript(action), changes);
+                break;
+            case COPY_DATA_TO_CHILDREN:
+                copyDataToChildren(process, getMetadataScript(script, action), createEditDataScript(ADD_DATA),
+                    changes);
+                break;
+            case UPDATE_CONTENT_FILES:
+                updateContentFiles(process);
+                break;
+            case SEARCH_FOR_MEDIA:
+                searchForMedia(process);
+                break;
+            case SET_STEP_STATUS:
+                String status = scriptParameters.get(STATUS);
+                if (Objects.isNull(scriptParameters.get(TASK_TITLE)) || !isTaskStatus(status)) {
+                    throw new KitodoScriptExecutionException("Wrong parameters 'tasktitle' or 'status'");
+                }
+                setTaskStatus(process, scriptParameters.get(TASK_TITLE), status, changes);
+                break;
+            default:
+                throw new KitodoScriptExecutionException("Action '" + action + "' cannot be executed per process");
         }
+    }
 
-        if (executeScript(processes, script)) {
-            Helper.setMessage("kitodoScript finished");
+    /**
+     * Indexes the processes and tasks changed by Kitodo scripts in bulk.
+     *
+     * @param changes
+     *            the changed processes and tasks
+     */
+    public void indexChanges(KitodoScriptChanges changes) throws DAOException, CustomResponseException, IOException {
+        ProcessService processService = ServiceManager.getProcessService();
+        processService.addAllObjectsToIndex(processService.getByIds(new ArrayList<>(changes.getProcessIds())));
+        TaskService taskService = ServiceManager.getTaskService();
+        List<Task> tasks = new ArrayList<>(changes.getTaskIds().size());
+        for (Integer taskId : changes.getTaskIds()) {
+            tasks.add(taskService.getById(taskId));
+        }
+        taskService.addAllObjectsToIndex(tasks);
+    }
+
+    private void updateIndex(KitodoScriptChanges changes) {
+        try {
+            indexChanges(changes);
+        } catch (DAOException | CustomResponseException | IOException e) {
+            Helper.setErrorMessage("Error while indexing", logger, e);
         }
     }
 
     private boolean executeScript(List<Process> processes, String script)
             throws DataException, IOException, InvalidImagesException, MediaNotFoundException {
         // call the correct method via the parameter
-        switch (this.parameters.get("action")) {
+        switch (this.parameters.get(ACTION)) {
             case "importFromFileSystem":
                 importFromFileSystem(processes);
                 break;
@@ -141,13 +289,13 @@ public class KitodoScriptService {
             case "setTaskProperty":
                 setTaskProperty(processes);
                 break;
-            case "setStepStatus":
+            case SET_STEP_STATUS:
                 setTaskStatus(processes);
                 break;
             case "addShellScriptToStep":
                 addShellScriptToStep(processes);
                 break;
-            case "updateContentFiles":
+            case UPDATE_CONTENT_FILES:
                 updateContentFiles(processes);
                 break;
             case "deleteTiffHeaderFile":
@@ -173,7 +321,7 @@ public class KitodoScriptService {
     private boolean executeOtherScript(List<Process> processes, String script)
             throws DataException, IOException, InvalidImagesException, MediaNotFoundException {
         // call the correct method via the parameter
-        switch (this.parameters.get("action")) {
+        switch (this.parameters.get(ACTION)) {
             case "runscript":
                 String taskName = this.parameters.get("stepname");
                 String scriptName = this.parameters.get(SCRIPT);
@@ -192,16 +340,12 @@ public class KitodoScriptService {
                 }
                 deleteProcess(processes, contentOnly);
                 break;
-            case "addData":
-                addData(processes, script);
-                break;
-            case "overwriteData":
-                overwriteData(processes, script);
-                break;
-            case "deleteData":
-                deleteData(processes, script);
+            case ADD_DATA:
+            case OVERWRITE_DATA:
+            case DELETE_DATA:
+                editData(processes, script, this.parameters.get(ACTION));
                 break;
-            case "copyDataToChildren":
+            case COPY_DATA_TO_CHILDREN:
                 copyDataToChildren(processes, script);
                 break;
             default:
@@ -213,7 +357,7 @@ public class KitodoScriptService {
     private boolean executeRemainingScript(List<Process> processes)
             throws IOException, InvalidImagesException, MediaNotFoundException {
         // call the correct method via the parameter
-        switch (this.parameters.get("action")) {
+        switch (this.parameters.get(ACTION)) {
             case "generateImages":
                 String folders = parameters.get("folders");
                 List<String> foldersList = Arrays.asList("all");
@@ -227,7 +371,7 @@ public class KitodoScriptService {
                 }
                 generateImages(processes, mode, foldersList);
                 break;
-            case "searchForMedia":
+            case SEARCH_FOR_MEDIA:
                 searchForMedia(processes);
                 break;
             case "importProcesses":
@@ -252,79 +396,93 @@ public class KitodoScriptService {
         return true;
     }
 
-    private void deleteData(List<Process> processes, String script) {
-        String currentProcessTitle = null;
-        script = script.replaceFirst("\\s*action:deleteData\\s+(.*?)[\r\n\\s]*", "$1");
-        DeleteDataScript deleteDataScript = new DeleteDataScript();
+    private void editData(List<Process> processes, String script, String action) {
+        String metadataScript = getMetadataScript(script, action);
+        EditDataScript editDataScript = createEditDataScript(action);
+        KitodoScriptChanges changes = new KitodoScriptChanges();
         for (Process process : processes) {
             try {
-                currentProcessTitle = process.getTitle();
-                LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
-                        .readMetadataFile(process);
-                deleteDataScript.process(metadataFile, process, script);
-                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
-                        ServiceManager.getProcessService().getMetadataFileUri(process));
-                Helper.setMessage("deleteDataOk", currentProcessTitle);
+                editData(process, metadataScript, editDataScript, changes);
+                Helper.setMessage(action + "Ok", process.getTitle());
             } catch (IOException | KitodoScriptExecutionException e) {
-                Helper.setErrorMessage("deleteDataError", currentProcessTitle + ": " + e.getMessage(), logger, e);
+                Helper.setErrorMessage(action + "Error", process.getTitle() + ": " + e.getMessage(), logger, e);
             }
         }
+        updateIndex(changes);
+    }
+
+    private void editData(Process process, String metadataScript, EditDataScript editDataScript,
+            KitodoScriptChanges changes) throws IOException, KitodoScriptExecutionException {
+        LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
+                .readMetadataFile(process);
+        editDataScript.process(metadataFile, process, metadataScript);
+        ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
+            ServiceManager.getProcessService().getMetadataFileUri(process));
+        changes.addProcess(process);
+    }
+
+    private static String getMetadataScript(String script, String action) {
+        return script.replaceFirst("\\s*action:" + action + "\\s+(.*?)[\r\n\\s]*", "$1");
+    }
+
+    private static EditDataScript createEditDataScript(String action) {
+        EditDataScript editDataScript;
+        switch (action) {
+            case OVERWRITE_DATA:
+                editDataScript = new OverwriteDataScript();
+                break;
+            case DELETE_DATA:
+                editDataScript = new DeleteDataScript();
+                break;
+            default:
+                editDataScript = new AddDataScript();
+                break;
+        }
+        // the changed processes are indexed in bulk afterwards
+        editDataScript.setUpdateIndex(false);
+        return editDataScript;
     }
 
     private void copyDataToChildren(List<Process> processes, String script) {
-        String currentProcessTitle;
-        script = script.replaceFirst("\\s*action:copyDataToChildren\\s+(.*?)[\r\n\\s]*", "$1");
-        AddDataScript addDataScript = new AddDataScript();
+        String metadataScript = getMetadataScript(script, COPY_DATA_TO_CHILDREN);
+        EditDataScript addDataScript = createEditDataScript(ADD_DATA);
+        KitodoScriptChanges changes = new KitodoScriptChanges();
         for (Process parentProcess : processes) {
-            currentProcessTitle = parentProcess.getTitle();
-            List<MetadataScript> metadataScripts = addDataScript.parseScript(script);
             try {
-                generateScriptValues(addDataScript, metadataScripts, parentProcess);
-                for (Process child : parentProcess.getChildren()) {
-                    LegacyMetsModsDigitalDocumentHelper childMetadataFile = ServiceManager.getProcessService()
-                            .readMetadataFile(child);
-                    for (MetadataScript metadataScript : metadataScripts) {
-                        addDataScript.executeScript(childMetadataFile, child, metadataScript);
-                    }
-                }
-                Helper.setMessage("addDataOk", currentProcessTitle);
+                copyDataToChildren(parentProcess, metadataScript, addDataScript, changes);
+                Helper.setMessage("addDataOk", parentProcess.getTitle());
             } catch (IOException | KitodoScriptExecutionException e) {
-                Helper.setErrorMessage("addDataError", currentProcessTitle + ": " + e.getMessage(), logger, e);
+                Helper.setErrorMessage("addDataError", parentProcess.getTitle() + ": " + e.getMessage(), logger, e);
             }
         }
+        updateIndex(changes);
     }
 
-    private void generateScriptValues(AddDataScript addDataScript, List<MetadataScript> metadataScripts,
-            Process parentProcess) throws IOException {
-        for (MetadataScript metadataScript : metadataScripts) {
-            addDataScript.generateValueFromParent(metadataScript, parentProcess);
+    private void copyDataToChildren(Process parentProcess, String script, EditDataScript addDataScript,
+            KitodoScriptChanges changes) throws IOException, KitodoScriptExecutionException {
+        List<MetadataScript> metadataScripts = addDataScript.parseScript(script);
+        generateScriptValues(addDataScript, metadataScripts, parentProcess);
+        for (Process child : parentProcess.getChildren()) {
+            LegacyMetsModsDigitalDocumentHelper childMetadataFile = ServiceManager.getProcessService()
+                    .readMetadataFile(child);
+            for (MetadataScript metadataScript : metadataScripts) {
+                addDataScript.executeScript(childMetadataFile, child, metadataScript);
+            }
+            changes.addProcess(child);
         }
     }
 
-    private void overwriteData(List<Process> processes, String script) {
-        String currentProcessTitle = null;
-        script = script.replaceFirst("\\s*action:overwriteData\\s+(.*?)[\r\n\\s]*", "$1");
-        OverwriteDataScript overwriteDataScript = new OverwriteDataScript();
-        for (Process process : processes) {
-            try {
-                currentProcessTitle = process.getTitle();
-                LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
-                        .readMetadataFile(process);
-                overwriteDataScript.process(metadataFile, process, script);
-                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
-                        ServiceManager.getProcessService().getMetadataFileUri(process));
-                Helper.setMessage("overwriteDataOk", currentProcessTitle);
-            } catch (IOException | KitodoScriptExecutionException e) {
-                Helper.setErrorMessage("overwriteDataError", currentProcessTitle + ": " + e.getMessage(), logger, e);
-            }
+    private void generateScriptValues(EditDataScript addDataScript, List<MetadataScript> metadataScripts,
+            Process parentProcess) throws IOException {
+        for (MetadataScript metadataScript : metadataScripts) {
+            addDataScript.generateValueFromParent(metadataScript, parentProcess);
         }
     }
 
     private void updateContentFiles(List<Process> processes) {
         for (Process process : processes) {
             try {
-                LegacyMetsModsDigitalDocumentHelper rdf = ServiceManager.getProcessService().readMetadataFile(process);
-                fileService.writeMetadataFile(rdf, process);
+                updateContentFiles(process);
                 Helper.setMessage("ContentFiles updated: ", process.getTitle());
             } catch (IOException | RuntimeException e) {
                 Helper.setErrorMessage("Error while updating content files", logger, e);
@@ -333,6 +491,11 @@ public class KitodoScriptService {
         Helper.setMessage("updateContentFiles finished");
     }
 
+    private void updateContentFiles(Process process) throws IOException {
+        LegacyMetsModsDigitalDocumentHelper rdf = ServiceManager.getProcessService().readMetadataFile(process);
+        fileService.writeMetadataFile(rdf, process);
+    }
+
     private void createFolders(List<Process> processes) {
         for (Process process : processes) {
             try {
@@ -372,25 +535,6 @@ public class KitodoScriptService {
         }
     }
 
-    private void addData(List<Process> processes, String script) {
-        String currentProcessTitle = null;
-        script = script.replaceFirst("\\s*action:addData\\s+(.*?)[\r\n\\s]*", "$1");
-        AddDataScript addDataScript = new AddDataScript();
-        for (Process process : processes) {
-            try {
-                currentProcessTitle = process.getTitle();
-                LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
-                        .readMetadataFile(process);
-                addDataScript.process(metadataFile, process, script);
-                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
-                        ServiceManager.getProcessService().getMetadataFileUri(process));
-                Helper.setMessage("addDataOk", currentProcessTitle);
-            } catch (IOException | KitodoScriptExecutionException e) {
-                Helper.setErrorMessage("addDataError", currentProcessTitle + ": " + e.getMessage(), logger, e);
-            }
-        }
-    }
-
     private void deleteMetadataDirectory(Process process) throws IOException {
         fileService.deleteProcessContent(process);
     }
@@ -446,18 +590,19 @@ public class KitodoScriptService {
 
     private void searchForMedia(List<Process> processes)
             throws IOException, InvalidImagesException, MediaNotFoundException {
-        FileService fileService = ServiceManager.getFileService();
-        MetsService metsService = ServiceManager.getMetsService();
-        ProcessService processService = ServiceManager.getProcessService();
-
         for (Process process : processes) {
-            URI metadataFileUri = processService.getMetadataFileUri(process);
-            Workpiece workpiece = metsService.loadWorkpiece(metadataFileUri);
-            fileService.searchForMedia(process, workpiece);
-            metsService.saveWorkpiece(workpiece, metadataFileUri);
+            searchForMedia(process);
         }
     }
 
+    private void searchForMedia(Process process) throws IOException, InvalidImagesException, MediaNotFoundException {
+        MetsService metsService = ServiceManager.getMetsService();
+        URI metadataFileUri = ServiceManager.getProcessService().getMetadataFileUri(process);
+        Workpiece workpiece = metsService.loadWorkpiece(metadataFileUri);
+        fileService.searchForMedia(process, workpiece);
+        metsService.saveWorkpiece(workpiece, metadataFileUri);
+    }
+
     private void runScript(List<Process> processes, String taskName, String scriptName) throws DataException {
         for (Process process : processes) {
             for (Task task : process.getTasks()) {
@@ -661,8 +806,7 @@ public class KitodoScriptService {
             return;
         }
 
-        if (!this.parameters.get(STATUS).equals("0") && !this.parameters.get(STATUS).equals("1")
-                && !this.parameters.get(STATUS).equals("2") && !this.parameters.get(STATUS).equals("3")) {
+        if (!isTaskStatus(this.parameters.get(STATUS))) {
             Helper.setErrorMessage("Wrong status parameter: status ",
                 "(possible: 0=closed, 1=open, 2=in work, 3=finished");
             return;
@@ -672,19 +816,45 @@ public class KitodoScriptService {
         Helper.setMessage("setStepStatus finished: ");
     }
 
-    private void executeActionForSetTaskStatus(List<Process> processes) {
+    private void setTaskStatus(Process process, String taskTitle, String status, KitodoScriptChanges changes)
+            throws DAOException, KitodoScriptExecutionException {
+        if (setStatusOfTasks(Collections.singletonList(process), taskTitle, status, changes).isEmpty()) {
+            throw new KitodoScriptExecutionException("Process has no task '" + taskTitle + "'");
+        }
+    }
+
+    /**
+     * Sets the status of the first task with the given title of each process
+     * by one bulk update, instead of saving each task on its own.
+     */
+    private List<Task> setStatusOfTasks(List<Process> processes, String taskTitle, String status,
+            KitodoScriptChanges changes) throws DAOException {
+        List<Task> tasks = new ArrayList<>();
         for (Process process : processes) {
-            for (Task task : process.getTasks()) {
-                if (task.getTitle().equals(this.parameters.get(TASK_TITLE))) {
-                    TaskStatus newTaskStatus = TaskStatus
-                            .getStatusFromValue(Integer.valueOf(this.parameters.get(STATUS)));
-                    task.setProcessingStatus(newTaskStatus);
-                    saveTask(process.getTitle(), task);
-                    Helper.setMessage("stepstatus set in process: ", process.getTitle());
-                    break;
-                }
+            process.getTasks().stream().filter(task -> task.getTitle().equals(taskTitle)).findFirst()
+                    .ifPresent(tasks::add);
+        }
+        ServiceManager.getTaskService().setProcessingStatus(tasks, TaskStatus.getStatusFromValue(Integer.valueOf(status)));
+        tasks.forEach(changes::addTask);
+        return tasks;
+    }
+
+    private static boolean isTaskStatus(String status) {
+        return "0".equals(status) || "1".equals(status) || "2".equals(status) || "3".equals(status);
+    }
+
+    private void executeActionForSetTaskStatus(List<Process> processes) {
+        KitodoScriptChanges changes = new KitodoScriptChanges();
+        try {
+            for (Task task : setStatusOfTasks(processes, this.parameters.get(TASK_TITLE), this.parameters.get(STATUS),
+                changes)) {
+                Helper.setMessage("stepstatus set in process: ", task.getProcess().getTitle());
             }
+        } catch (DAOException e) {
+            Helper.setErrorMessage("Error while saving - " + processes.stream().map(Process::getTitle)
+                    .collect(Collectors.joining(", ")), logger, e);
         }
+        updateIndex(changes);
     }
 
     /**
@@ -0,0 +1,299 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.command;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.exceptions.InvalidImagesException;
+import org.kitodo.exceptions.KitodoScriptExecutionException;
+import org.kitodo.exceptions.MediaNotFoundException;
+import org.kitodo.production.helper.Helper;
+import org.kitodo.production.helper.tasks.EmptyTask;
+import org.kitodo.production.services.ServiceManager;
+
+/**
+ * Executes a Kitodo script on many processes in the task manager. The
+ * processes are worked on in chunks. The processes of a chunk are loaded and
+ * changed by a pool of worker threads, then the changed processes and tasks
+ * are indexed in bulk. Each process gets a result. If the script failed on
+ * some processes, the task can be retried, and then runs again on these
+ * processes only.
+ */
+public class KitodoScriptTask extends EmptyTask {
+    private static final Logger logger = LogManager.getLogger(KitodoScriptTask.class);
+
+    /**
+     * The result of the script on one process.
+     */
+    public static class Result {
+        private final Integer processId;
+        private final String processTitle;
+        private final String errorMessage;
+
+        private Result(Integer processId, String processTitle, String errorMessage) {
+            this.processId = processId;
+            this.processTitle = processTitle;
+            this.errorMessage = errorMessage;
+        }
+
+        /**
+         * Returns the ID of the process.
+         *
+         * @return the ID of the process
+         */
+        public Integer getProcessId() {
+            return processId;
+        }
+
+        /**
+         * Returns the title of the process. It is {@code null} if the process
+         * could not be loaded.
+         *
+         * @return the title of the process
+         */
+        public String getProcessTitle() {
+            return processTitle;
+        }
+
+        /**
+         * Returns why the script failed on the process.
+         *
+         * @return the error message, or {@code null} if the script succeeded
+         */
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        /**
+         * Returns whether the script succeeded on the process.
+         *
+         * @return whether the script succeeded
+         */
+        public boolean isSuccessful() {
+            return Objects.isNull(errorMessage);
+        }
+    }
+
+    /**
+     * IDs of the processes. The processes are loaded again by the worker
+     * threads.
+     */
+    private final List<Integer> processIds;
+
+    private final String script;
+
+    private final List<Result> results = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a new Kitodo script task.
+     *
+     * @param processIds
+     *            IDs of the processes to execute the script on
+     * @param script
+     *            Kitodo script, whose action must work on each process on its
+     *            own
+     */
+    public KitodoScriptTask(List<Integer> processIds, String script) {
+        super(StringUtils.abbreviate(script, 60));
+        this.processIds = processIds;
+        this.script = script;
+    }
+
+    /**
+     * Clone constructor. Provides the ability to restart the task if it was
+     * interrupted, or to retry it if the script failed on some processes. The
+     * replacement runs on the processes on which the script has not yet
+     * succeeded.
+     *
+     * @param source
+     *            terminated thread
+     */
+    private KitodoScriptTask(KitodoScriptTask source) {
+        super(source);
+        clearException();
+        Set<Integer> succeeded = source.results.stream().filter(Result::isSuccessful).map(Result::getProcessId)
+                .collect(Collectors.toSet());
+        this.processIds = source.processIds.stream().filter(processId -> !succeeded.contains(processId))
+                .collect(Collectors.toList());
+        this.script = source.script;
+    }
+
+    @Override
+    public void run() {
+        setProgress(0);
+        int chunkSize = Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.KITODO_SCRIPT_CHUNK_SIZE));
+        ExecutorService workers = Executors.newFixedThreadPool(
+            Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.KITODO_SCRIPT_THREADS)));
+        try {
+            for (List<Integer> chunk : ListUtils.partition(processIds, chunkSize)) {
+                if (isInterrupted()) {
+                    return;
+                }
+                executeChunk(workers, chunk);
+                setProgress(100d * results.size() / processIds.size());
+            }
+            List<Result> failures = getFailures();
+            if (failures.isEmpty()) {
+                setProgress(100);
+            } else {
+                setException(new KitodoScriptExecutionException(Helper.getTranslation("kitodoScript.failedProcesses",
+                    String.valueOf(failures.size()), String.valueOf(processIds.size()), failures.stream()
+                            .map(failure -> failure.getProcessId().toString()).collect(Collectors.joining(", ")))));
+            }
+        } catch (DAOException | CustomResponseException | IOException e) {
+            setException(e);
+        } catch (ExecutionException e) {
+            setException(e.getCause());
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    /**
+     * Executes the script on the processes of a chunk, then indexes the
+     * changes of the chunk. If the task is interrupted meanwhile, the
+     * processes not yet started are skipped, but it is still waited for the
+     * running ones, so that no process is left half changed and all changes
+     * are indexed.
+     */
+    private void executeChunk(ExecutorService workers, List<Integer> chunk)
+            throws DAOException, CustomResponseException, IOException, ExecutionException {
+        KitodoScriptChanges changes = new KitodoScriptChanges();
+        List<Future<Result>> futures = new ArrayList<>(chunk.size());
+        for (Integer processId : chunk) {
+            futures.add(workers.submit(() -> executeForProcess(processId, changes)));
+        }
+        List<Result> chunkResults = new ArrayList<>(chunk.size());
+        for (Future<Result> future : futures) {
+            if (isInterrupted()) {
+                future.cancel(false);
+            }
+            Result result = await(future);
+            if (Objects.nonNull(result)) {
+                chunkResults.add(result);
+            }
+        }
+        // index the changes even if interrupted, and keep the interrupt
+        boolean interrupted = Thread.interrupted();
+        try {
+            ServiceManager.getKitodoScriptService().indexChanges(changes);
+        } finally {
+            if (interrupted) {
+                interrupt();
+            }
+        }
+        results.addAll(chunkResults);
+    }
+
+    private Result executeForProcess(Integer processId, KitodoScriptChanges changes) {
+        String processTitle = null;
+        try {
+            Process process = ServiceManager.getProcessService().getById(processId);
+            processTitle = process.getTitle();
+            setWorkDetail(processTitle);
+            ServiceManager.getKitodoScriptService().executeForProcess(process, script, changes);
+            return new Result(processId, processTitle, null);
+        } catch (DAOException | IOException | KitodoScriptExecutionException
+                | InvalidImagesException | MediaNotFoundException | RuntimeException e) {
+            logger.error("Kitodo script failed on process {} (ID {}): {}", processTitle, processId, e.getMessage(), e);
+            return new Result(processId, processTitle, Objects.toString(e.getMessage(), e.getClass().getName()));
+        }
+    }
+
+    /**
+     * Waits for the result of a process. If the task is interrupted
+     * meanwhile, the process is cancelled if it has not started yet, else it
+     * is still waited for. The interrupt is kept.
+     *
+     * @return the result, or {@code null} if the process was cancelled
+     */
+    private static Result await(Future<Result> future) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    future.cancel(false);
+                } catch (CancellationException e) {
+                    return null;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Returns the results of the processes the script was executed on so far.
+     *
+     * @return the results
+     */
+    public List<Result> getResults() {
+        return new ArrayList<>(results);
+    }
+
+    /**
+     * Returns the results of the processes the script failed on.
+     *
+     * @return the failed results
+     */
+    public List<Result> getFailures() {
+        return results.stream().filter(result -> !result.isSuccessful()).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns whether the task has finished, but the script failed on some
+     * processes. Then the task can be retried on these processes.
+     *
+     * @return whether the task can be retried
+     */
+    @Override
+    public boolean isRetryable() {
+        return getState().equals(State.TERMINATED) && !getFailures().isEmpty();
+    }
+
+    /**
+     * Calls the clone constructor to create a not yet executed instance of
+     * this thread object. This is necessary for threads that have terminated
+     * in order to render possible to restart them.
+     *
+     * @return a not-yet-executed replacement of this thread
+     */
+    @Override
+    public KitodoScriptTask replace() {
+        return new KitodoScriptTask(this);
+    }
+}
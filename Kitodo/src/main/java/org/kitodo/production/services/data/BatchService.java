@@ -19,6 +19,7 @@ import java.util.Objects;
 
 import org.kitodo.data.database.beans.Batch;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.enums.IndexAction;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.database.persistence.BatchDAO;
@@ -69,7 +70,8 @@ public class BatchService extends TitleSearchService<Batch, BatchDTO, BatchDAO>
     }
 
     /**
-     * Method saves processes related to modified batch.
+     * Method saves processes related to modified batch and their tasks, which
+     * hold the batches of their process.
      *
      * @param batch
      *            object
@@ -79,15 +81,23 @@ public class BatchService extends TitleSearchService<Batch, BatchDTO, BatchDAO>
         if (batch.getIndexAction() == IndexAction.DELETE) {
             for (Process process : batch.getProcesses()) {
                 process.getBatches().remove(batch);
-                ServiceManager.getProcessService().saveToIndex(process, false);
+                saveProcessAndTasksToIndex(process);
             }
         } else {
             for (Process process : batch.getProcesses()) {
-                ServiceManager.getProcessService().saveToIndex(process, false);
+                saveProcessAndTasksToIndex(process);
             }
         }
     }
 
+    private void saveProcessAndTasksToIndex(Process process)
+            throws CustomResponseException, DataException, IOException {
+        ServiceManager.getProcessService().saveToIndex(process, false);
+        for (Task task : process.getTasks()) {
+            ServiceManager.getTaskService().saveToIndex(task, false);
+        }
+    }
+
     @Override
     public Long countDatabaseRows() throws DAOException {
         return countDatabaseRows("SELECT COUNT(*) FROM Batch");
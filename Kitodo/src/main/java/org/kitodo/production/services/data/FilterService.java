@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -30,6 +31,7 @@ import java.util.stream.IntStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.search.join.ScoreMode;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Filter;
@@ -41,19 +43,17 @@ import org.kitodo.data.database.persistence.FilterDAO;
 import org.kitodo.data.elasticsearch.index.Indexer;
 import org.kitodo.data.elasticsearch.index.type.FilterType;
 import org.kitodo.data.elasticsearch.index.type.enums.FilterTypeField;
+import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
 import org.kitodo.data.elasticsearch.index.type.enums.TaskTypeField;
 import org.kitodo.data.elasticsearch.search.Searcher;
 import org.kitodo.data.elasticsearch.search.enums.SearchCondition;
 import org.kitodo.data.exceptions.DataException;
-import org.kitodo.production.dto.BaseDTO;
 import org.kitodo.production.dto.FilterDTO;
-import org.kitodo.production.dto.ProcessDTO;
-import org.kitodo.production.dto.ProjectDTO;
-import org.kitodo.production.dto.TaskDTO;
 import org.kitodo.production.enums.FilterString;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.FilterVocabularyService.Vocabulary;
 import org.kitodo.production.services.data.base.SearchService;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.Operator;
@@ -71,6 +71,19 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
     
     private static final Pattern CONDITION_PATTERN = Pattern.compile("\\(([^\\)]+)\\)|([^\\(\\)\\|]+)");
     public static final String FILTER_STRING = "filterString";
+    private static final int PARSED_FILTERS_CACHE_SIZE = 256;
+
+    /**
+     * Filter strings split into the conditions of their filters, with the
+     * least recently used filter strings removed first.
+     */
+    private final Map<String, List<List<String>>> parsedFilters = Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<List<String>>> eldest) {
+                return size() > PARSED_FILTERS_CACHE_SIZE;
+            }
+        });
 
     /**
      * Constructor with Searcher and Indexer assigning.
@@ -176,7 +189,6 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
     public BoolQueryBuilder queryBuilder(String filters, ObjectType objectType, Boolean onlyOpenTasks,
             Boolean onlyUserAssignedTasks) throws DataException {
 
-        filters = replaceLegacyFilters(filters);
         BoolQueryBuilder query = new BoolQueryBuilder();
 
         // this is needed if we filter task
@@ -184,9 +196,9 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
             query = buildTaskQuery(onlyOpenTasks, onlyUserAssignedTasks);
         }
 
-        for (String filter : splitFilters(filters)) {
+        for (List<String> conditions : parseFilters(filters)) {
             BoolQueryBuilder bool = new BoolQueryBuilder();
-            for (String condition : splitConditions(filter)) {
+            for (String condition : conditions) {
                 boolean negated = condition.startsWith("-");
                 if (negated) {
                     bool.should(new BoolQueryBuilder().mustNot(
@@ -201,6 +213,24 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         return query;
     }
 
+    /**
+     * Splits a filter string into its filters and each filter into its
+     * alternative conditions. The result is cached per filter string, as the
+     * same filter is usually applied again when paging through the results.
+     *
+     * @param filters the filter string as entered by the user
+     * @return for each filter, the list of its alternative conditions
+     */
+    private List<List<String>> parseFilters(String filters) {
+        return parsedFilters.computeIfAbsent(filters, filterString -> {
+            List<List<String>> conditions = new ArrayList<>();
+            for (String filter : splitFilters(replaceLegacyFilters(filterString))) {
+                conditions.add(Collections.unmodifiableList(splitConditions(filter)));
+            }
+            return Collections.unmodifiableList(conditions);
+        });
+    }
+
     /**
      * Splits a filter into multiple alternative conditions.
      * 
@@ -223,7 +253,7 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      * @param objectType the object type that is being filtered (either task or process)
      * @return a elastic search query builder object representing the condition
      */
-    private QueryBuilder buildQueryFromCondition(String condition, ObjectType objectType) throws DataException {
+    private QueryBuilder buildQueryFromCondition(String condition, ObjectType objectType) {
         if (evaluateFilterString(condition, FilterString.TASK, null)) {
             return createHistoricFilter(condition);
         } else if (evaluateFilterString(condition, FilterString.TASKINWORK, null)) {
@@ -271,14 +301,6 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         return limitToUserAssignedTasks(onlyOpenTasks, onlyUserAssignedTasks);
     }
 
-    Set<Integer> collectIds(List<? extends BaseDTO> dtos) {
-        Set<Integer> ids = new HashSet<>();
-        for (BaseDTO processDTO : dtos) {
-            ids.add(processDTO.getId());
-        }
-        return ids;
-    }
-
     /**
      * Get value for find objects in ElasticSearch.
      *
@@ -519,21 +541,25 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         return new BoolQueryBuilder();
     }
 
-    private QueryBuilder createProcessPropertyFilter(String filter, ObjectType objectType) throws DataException {
+    private QueryBuilder createProcessPropertyFilter(String filter, ObjectType objectType) {
+        String propertiesField;
+        if (objectType == ObjectType.PROCESS) {
+            propertiesField = ProcessTypeField.PROPERTIES.getKey();
+        } else if (objectType == ObjectType.TASK) {
+            propertiesField = TaskTypeField.PROCESS_PROPERTIES.getKey();
+        } else {
+            return new BoolQueryBuilder();
+        }
         BoolQueryBuilder propertyQuery = new BoolQueryBuilder();
         Set<String> strings = filterValuesAsStrings(filter, FilterString.PROPERTY);
         for (String string : strings) {
             String[] split = string.split(":");
             if (split.length > 1) {
-                propertyQuery.should(ServiceManager.getProcessService().createPropertyQuery(split[0], split[1]));
+                propertyQuery.should(
+                    ServiceManager.getProcessService().createPropertyQuery(propertiesField, split[0], split[1]));
             }
         }
-        if (objectType == ObjectType.PROCESS) {
-            return propertyQuery;
-        } else if (objectType == ObjectType.TASK) {
-            return getQueryAccordingToObjectTypeAndSearchInObject(ObjectType.TASK, ObjectType.PROCESS, propertyQuery);
-        }
-        return new BoolQueryBuilder();
+        return propertyQuery;
     }
 
     private QueryBuilder createProcessTitleFilter(String filter, ObjectType objectType) {
@@ -546,13 +572,12 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         return new BoolQueryBuilder();
     }
 
-    private QueryBuilder createBatchIdFilter(String filter, ObjectType objectType, boolean negate) throws DataException {
+    private QueryBuilder createBatchIdFilter(String filter, ObjectType objectType, boolean negate) {
         if (objectType == ObjectType.PROCESS) {
             return createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), negate);
         } else if (objectType == ObjectType.TASK) {
-            List<ProcessDTO> processDTOS = ServiceManager.getProcessService().findByQuery(
-                createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), negate), true);
-            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), collectIds(processDTOS), negate);
+            return createSetQuery(TaskTypeField.PROCESS_BATCHES.getKey() + ".id",
+                filterValuesAsIntegers(filter, FilterString.BATCH), negate);
         }
         return new BoolQueryBuilder();
     }
@@ -593,7 +618,7 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
                 } catch (NullPointerException e) {
                     logger.error(e.getMessage(), e);
                     logger.error("stepdone is preset, don't use 'step' filters");
-                } catch (DataException | RuntimeException e) {
+                } catch (RuntimeException e) {
                     logger.error(e.getMessage(), e);
                     logError(filter);
                 }
@@ -604,7 +629,7 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
                 } catch (NullPointerException e) {
                     logger.error(e.getMessage(), e);
                     logger.error("stepdone is preset, don't use 'step' filters");
-                } catch (DataException | RuntimeException e) {
+                } catch (RuntimeException e) {
                     logger.error(e.getMessage(), e);
                     logError(filter);
                 }
@@ -615,7 +640,7 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
                 } catch (NullPointerException e) {
                     logger.error(e.getMessage(), e);
                     logger.error("stepdone is preset, don't use 'step' filters");
-                } catch (DataException | RuntimeException e) {
+                } catch (RuntimeException e) {
                     logger.error(e.getMessage(), e);
                     logError(filter);
                 }
@@ -627,7 +652,7 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
                 } catch (NullPointerException e) {
                     logger.error(e.getMessage(), e);
                     logger.error("stepdone is preset, don't use 'step' filters");
-                } catch (DataException | RuntimeException e) {
+                } catch (RuntimeException e) {
                     logger.error(e.getMessage(), e);
                     logError(filter);
                 }
@@ -645,11 +670,11 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
                     } catch (NullPointerException e1) {
                         logger.error(e1.getMessage(), e1);
                         logger.error("stepdone is preset, don't use 'step' filters");
-                    } catch (DataException | RuntimeException e1) {
+                    } catch (RuntimeException e1) {
                         logger.error(e1.getMessage(), e1);
                         logError(filter);
                     }
-                } catch (DataException | RuntimeException e) {
+                } catch (RuntimeException e) {
                     logger.error(e.getMessage(), e);
                     logError(filter);
                 }
@@ -728,24 +753,24 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      * @return query as {@link QueryBuilder}
      */
     private QueryBuilder filterTaskRange(String parameters, TaskStatus taskStatus, boolean negate,
-            ObjectType objectType) throws DataException {
+            ObjectType objectType) {
         BoolQueryBuilder taskRange = new BoolQueryBuilder();
         if (!negate) {
-            taskRange.must(createSimpleCompareQuery(TaskTypeField.ORDERING.getKey(), getTaskStart(parameters),
+            taskRange.must(createSimpleCompareQuery(taskField(objectType, TaskTypeField.ORDERING), getTaskStart(parameters),
                 SearchCondition.EQUAL_OR_BIGGER));
-            taskRange.must(createSimpleCompareQuery(TaskTypeField.ORDERING.getKey(), getTaskEnd(parameters),
+            taskRange.must(createSimpleCompareQuery(taskField(objectType, TaskTypeField.ORDERING), getTaskEnd(parameters),
                 SearchCondition.EQUAL_OR_SMALLER));
-            taskRange.must(createSimpleCompareQuery(TaskTypeField.PROCESSING_STATUS.getKey(), taskStatus.getValue(),
+            taskRange.must(createSimpleCompareQuery(taskField(objectType, TaskTypeField.PROCESSING_STATUS), taskStatus.getValue(),
                 SearchCondition.EQUAL));
         } else {
-            taskRange.mustNot(createSimpleCompareQuery(TaskTypeField.ORDERING.getKey(), getTaskStart(parameters),
+            taskRange.mustNot(createSimpleCompareQuery(taskField(objectType, TaskTypeField.ORDERING), getTaskStart(parameters),
                 SearchCondition.EQUAL_OR_BIGGER));
-            taskRange.mustNot(createSimpleCompareQuery(TaskTypeField.ORDERING.getKey(), getTaskEnd(parameters),
+            taskRange.mustNot(createSimpleCompareQuery(taskField(objectType, TaskTypeField.ORDERING), getTaskEnd(parameters),
                 SearchCondition.EQUAL_OR_SMALLER));
-            taskRange.mustNot(createSimpleCompareQuery(TaskTypeField.PROCESSING_STATUS.getKey(), taskStatus.getValue(),
+            taskRange.mustNot(createSimpleCompareQuery(taskField(objectType, TaskTypeField.PROCESSING_STATUS), taskStatus.getValue(),
                 SearchCondition.EQUAL));
         }
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.TASK, taskRange);
+        return searchInTasks(objectType, taskRange);
     }
 
     /**
@@ -763,11 +788,11 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      * @return query as {@link QueryBuilder}
      */
     private QueryBuilder filterTaskTitle(String parameters, TaskStatus taskStatus, boolean negate,
-            ObjectType objectType) throws DataException {
+            ObjectType objectType) {
         BoolQueryBuilder taskTitle = new BoolQueryBuilder();
-        taskTitle.must(createSimpleQuery(TaskTypeField.TITLE.getKey() + ".keyword", parameters, !negate));
-        taskTitle.must(createSimpleQuery(TaskTypeField.PROCESSING_STATUS.getKey(), taskStatus.getValue(), !negate));
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.TASK, taskTitle);
+        taskTitle.must(createSimpleQuery(taskField(objectType, TaskTypeField.TITLE) + ".keyword", parameters, !negate));
+        taskTitle.must(createSimpleQuery(taskField(objectType, TaskTypeField.PROCESSING_STATUS), taskStatus.getValue(), !negate));
+        return searchInTasks(objectType, taskTitle);
     }
 
     /**
@@ -784,12 +809,11 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      *            as {@link ObjectType}
      * @return query as {@link QueryBuilder}
      */
-    private QueryBuilder filterTaskMin(String parameters, TaskStatus taskStatus, boolean negate, ObjectType objectType)
-            throws DataException {
+    private QueryBuilder filterTaskMin(String parameters, TaskStatus taskStatus, boolean negate, ObjectType objectType) {
         BoolQueryBuilder taskMin = new BoolQueryBuilder();
-        taskMin.must(createSimpleQuery(TaskTypeField.ORDERING.getKey(), getTaskStart(parameters), !negate));
-        taskMin.must(createSimpleQuery(TaskTypeField.PROCESSING_STATUS.getKey(), taskStatus.getValue(), !negate));
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.TASK, taskMin);
+        taskMin.must(createSimpleQuery(taskField(objectType, TaskTypeField.ORDERING), getTaskStart(parameters), !negate));
+        taskMin.must(createSimpleQuery(taskField(objectType, TaskTypeField.PROCESSING_STATUS), taskStatus.getValue(), !negate));
+        return searchInTasks(objectType, taskMin);
     }
 
     /**
@@ -806,12 +830,11 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      *            as {@link ObjectType}
      * @return query as {@link QueryBuilder}
      */
-    private QueryBuilder filterTaskMax(String parameters, TaskStatus taskStatus, boolean negate, ObjectType objectType)
-            throws DataException {
+    private QueryBuilder filterTaskMax(String parameters, TaskStatus taskStatus, boolean negate, ObjectType objectType) {
         BoolQueryBuilder taskMax = new BoolQueryBuilder();
-        taskMax.must(createSimpleQuery(TaskTypeField.ORDERING.getKey(), getTaskEnd(parameters), !negate));
-        taskMax.must(createSimpleQuery(TaskTypeField.PROCESSING_STATUS.getKey(), taskStatus.getValue(), !negate));
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.TASK, taskMax);
+        taskMax.must(createSimpleQuery(taskField(objectType, TaskTypeField.ORDERING), getTaskEnd(parameters), !negate));
+        taskMax.must(createSimpleQuery(taskField(objectType, TaskTypeField.PROCESSING_STATUS), taskStatus.getValue(), !negate));
+        return searchInTasks(objectType, taskMax);
     }
 
     /**
@@ -829,11 +852,11 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      * @return query as {@link QueryBuilder}
      */
     private QueryBuilder filterTaskExact(String parameters, TaskStatus taskStatus, boolean negate,
-            ObjectType objectType) throws DataException {
+            ObjectType objectType) {
         BoolQueryBuilder taskExact = new BoolQueryBuilder();
-        taskExact.must(createSimpleQuery(TaskTypeField.ORDERING.getKey(), getTaskStart(parameters), !negate));
-        taskExact.must(createSimpleQuery(TaskTypeField.PROCESSING_STATUS.getKey(), taskStatus.getValue(), !negate));
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.TASK, taskExact);
+        taskExact.must(createSimpleQuery(taskField(objectType, TaskTypeField.ORDERING), getTaskStart(parameters), !negate));
+        taskExact.must(createSimpleQuery(taskField(objectType, TaskTypeField.PROCESSING_STATUS), taskStatus.getValue(), !negate));
+        return searchInTasks(objectType, taskExact);
     }
 
     /**
@@ -876,14 +899,14 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      *            as {@link ObjectType}
      * @return query as {@link QueryBuilder}
      */
-    private QueryBuilder filterAutomaticTasks(String filter, ObjectType objectType) throws DataException {
+    private QueryBuilder filterAutomaticTasks(String filter, ObjectType objectType) {
         BoolQueryBuilder typeAutomatic = new BoolQueryBuilder();
         String value = getFilterValueFromFilterString(filter, FilterString.TASKAUTOMATIC);
         if (Objects.nonNull(value)) {
-            typeAutomatic.must(
-                createSimpleQuery(TaskTypeField.TYPE_AUTOMATIC.getKey(), value.equalsIgnoreCase("true"), true));
+            typeAutomatic.must(createSimpleQuery(taskField(objectType, TaskTypeField.TYPE_AUTOMATIC),
+                value.equalsIgnoreCase("true"), true));
         }
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.TASK, typeAutomatic);
+        return searchInTasks(objectType, typeAutomatic);
     }
 
     /**
@@ -936,47 +959,61 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      *            as {@link ObjectType}
      * @return query as {@link QueryBuilder}
      */
-    private QueryBuilder filterProject(String filter, boolean negate, ObjectType objectType) throws DataException {
+    private QueryBuilder filterProject(String filter, boolean negate, ObjectType objectType) {
         // filter according to linked project
         String projectTitle = getFilterValueFromFilterString(filter, FilterString.PROJECT);
-        QueryBuilder projectQuery = ServiceManager.getProcessService().getQueryProjectTitle(projectTitle);
-        return getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.PROCESS, projectQuery);
-    }
-
-    private QueryBuilder createDefaultQuery(String filter, boolean negate, ObjectType objectType) throws DataException {
-        QueryBuilder titleQuery = ServiceManager.getProcessService().getWildcardQueryTitle(filter);
-        QueryBuilder query = getQueryAccordingToObjectTypeAndSearchInObject(objectType, ObjectType.PROCESS, titleQuery);
-        return negate ? new BoolQueryBuilder().mustNot(query) : query;
-    }
-
-    private QueryBuilder getQueryAccordingToObjectTypeAndSearchInObject(ObjectType objectType,
-            ObjectType objectSearchIn, QueryBuilder query) throws DataException {
-        if (objectSearchIn == ObjectType.PROCESS) {
-            return getQueryAccordingToObjectTypeAndSearchInProcess(objectType, query);
-        } else if (objectSearchIn == ObjectType.TASK) {
-            return getQueryAccordingToObjectTypeAndSearchInTask(objectType, query);
+        if (objectType == ObjectType.PROCESS) {
+            return ServiceManager.getProcessService().getQueryProjectTitle(projectTitle);
+        } else if (objectType == ObjectType.TASK) {
+            return createSimpleQuery(TaskTypeField.PROJECT_TITLE.getKey(), projectTitle, true, Operator.AND);
         }
         return new BoolQueryBuilder();
     }
 
-    private QueryBuilder getQueryAccordingToObjectTypeAndSearchInTask(ObjectType objectType, QueryBuilder query)
-            throws DataException {
+    private QueryBuilder createDefaultQuery(String filter, boolean negate, ObjectType objectType) {
+        QueryBuilder query;
         if (objectType == ObjectType.PROCESS) {
-            List<TaskDTO> taskDTOS = ServiceManager.getTaskService().findByQuery(query, true);
-            return createSetQuery("tasks.id", collectIds(taskDTOS), true);
+            query = ServiceManager.getProcessService().getWildcardQueryTitle(filter);
         } else if (objectType == ObjectType.TASK) {
-            return query;
+            query = createSimpleWildcardQuery(TaskTypeField.PROCESS_TITLE.getKey(), filter);
+        } else {
+            query = new BoolQueryBuilder();
         }
-        return new BoolQueryBuilder();
+        return negate ? new BoolQueryBuilder().mustNot(query) : query;
     }
 
-    private QueryBuilder getQueryAccordingToObjectTypeAndSearchInProcess(ObjectType objectType, QueryBuilder query)
-            throws DataException {
+    /**
+     * Returns the name of a task field in the index of the object type. For
+     * processes, the tasks are indexed as nested task details.
+     *
+     * @param objectType
+     *            as {@link ObjectType}
+     * @param field
+     *            task field
+     * @return name of the field in the index
+     */
+    private String taskField(ObjectType objectType, TaskTypeField field) {
         if (objectType == ObjectType.PROCESS) {
-            return query;
+            return ProcessTypeField.TASK_DETAILS.getKey() + "." + field.getKey();
+        }
+        return field.getKey();
+    }
+
+    /**
+     * Wraps a query on task fields, so that it finds objects of the given type
+     * with at least one task matching the query.
+     *
+     * @param objectType
+     *            as {@link ObjectType}
+     * @param query
+     *            query on the fields returned by {@link #taskField}
+     * @return query as {@link QueryBuilder}
+     */
+    private QueryBuilder searchInTasks(ObjectType objectType, QueryBuilder query) {
+        if (objectType == ObjectType.PROCESS) {
+            return QueryBuilders.nestedQuery(ProcessTypeField.TASK_DETAILS.getKey(), query, ScoreMode.None);
         } else if (objectType == ObjectType.TASK) {
-            List<ProcessDTO> processDTOS = ServiceManager.getProcessService().findByQuery(query, true);
-            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), collectIds(processDTOS), true);
+            return query;
         }
         return new BoolQueryBuilder();
     }
@@ -1087,7 +1124,7 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      * @return List of String objects containing the process property labels.
      */
     public List<String> initProcessPropertyTitles() {
-        return ServiceManager.getPropertyService().findDistinctTitles();
+        return initVocabulary(Vocabulary.PROCESS_PROPERTY_TITLES);
     }
 
     /**
@@ -1096,14 +1133,7 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      * @return List of String objects containing the project
      */
     public List<String> initProjects() {
-        List<ProjectDTO> projectsSortedByTitle = Collections.emptyList();
-        try {
-            projectsSortedByTitle = ServiceManager.getProjectService().findAllProjectsForCurrentUser();
-        } catch (DataException e) {
-            Helper.setErrorMessage("errorInitializingProjects", logger, e);
-        }
-
-        return projectsSortedByTitle.stream().map(ProjectDTO::getTitle).sorted().collect(Collectors.toList());
+        return initVocabulary(Vocabulary.PROJECTS);
     }
 
     /**
@@ -1121,16 +1151,18 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      * @return List of String objects containing the titles of all workflow steps
      */
     public List<String> initStepTitles() {
-        List<String> taskTitles = new ArrayList<>();
+        return initVocabulary(Vocabulary.TASK_TITLES);
+    }
+
+    private List<String> initVocabulary(Vocabulary vocabulary) {
         try {
-            taskTitles = ServiceManager.getTaskService().findTaskTitlesDistinct();
-        } catch (DataException | DAOException e) {
+            return ServiceManager.getFilterVocabularyService().getValues(vocabulary);
+        } catch (DataException e) {
             Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
+            return Collections.emptyList();
         }
-        return taskTitles;
     }
 
-
     /**
      * Initialise list of users.
      *
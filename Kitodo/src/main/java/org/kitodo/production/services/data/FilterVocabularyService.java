@@ -0,0 +1,253 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.dto.ProjectDTO;
+import org.kitodo.production.security.SecurityUserDetails;
+import org.kitodo.production.services.ServiceManager;
+
+/**
+ * Caches the values offered in the drop-downs and suggestions of the search
+ * filters, so that they are not read from the index or the database on every
+ * key stroke. The values are kept per client, the projects additionally per
+ * user, sorted case-insensitively, and are read again after a configurable
+ * time. Task titles are added when tasks are saved, the projects are read
+ * again when a project is saved, and those of a user when the user is saved.
+ */
+public class FilterVocabularyService {
+
+    private static final Logger logger = LogManager.getLogger(FilterVocabularyService.class);
+    private static volatile FilterVocabularyService instance = null;
+
+    /**
+     * The vocabularies offered by the search filters.
+     */
+    public enum Vocabulary {
+        TASK_TITLES,
+        PROJECTS,
+        PROCESS_PROPERTY_TITLES
+    }
+
+    private final Map<String, CachedVocabulary> vocabularies = new ConcurrentHashMap<>();
+
+    /**
+     * Return singleton variable of type FilterVocabularyService.
+     *
+     * @return unique instance of FilterVocabularyService
+     */
+    public static FilterVocabularyService getInstance() {
+        FilterVocabularyService localReference = instance;
+        if (Objects.isNull(localReference)) {
+            synchronized (FilterVocabularyService.class) {
+                localReference = instance;
+                if (Objects.isNull(localReference)) {
+                    localReference = new FilterVocabularyService();
+                    instance = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
+
+    /**
+     * Get all values of a vocabulary for the session client of the current
+     * user. The values are read if they are not cached yet or the cached
+     * values have expired.
+     *
+     * @param vocabulary
+     *            vocabulary to get
+     * @return unmodifiable list of values, sorted case-insensitively
+     * @throws DataException
+     *             if the values cannot be read from the index
+     */
+    public List<String> getValues(Vocabulary vocabulary) throws DataException {
+        String key = getKey(vocabulary, getClientId(vocabulary), getUserId(vocabulary));
+        CachedVocabulary cachedVocabulary = vocabularies.get(key);
+        if (Objects.isNull(cachedVocabulary) || cachedVocabulary.isExpired()) {
+            cachedVocabulary = new CachedVocabulary(loadValues(vocabulary));
+            vocabularies.put(key, cachedVocabulary);
+        }
+        return cachedVocabulary.values;
+    }
+
+    /**
+     * Get the values of a vocabulary which start with the given prefix,
+     * ignoring case.
+     *
+     * @param vocabulary
+     *            vocabulary to search
+     * @param prefix
+     *            beginning of the values
+     * @param limit
+     *            maximum number of values returned
+     * @return values starting with the prefix, sorted case-insensitively
+     * @throws DataException
+     *             if the values cannot be read from the index
+     */
+    public List<String> findByPrefix(Vocabulary vocabulary, String prefix, int limit) throws DataException {
+        List<String> values = getValues(vocabulary);
+        int index = Collections.binarySearch(values, prefix, String.CASE_INSENSITIVE_ORDER);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        while (index > 0 && String.CASE_INSENSITIVE_ORDER.compare(values.get(index - 1), prefix) == 0) {
+            index--;
+        }
+        List<String> matches = new ArrayList<>();
+        for (; index < values.size() && matches.size() < limit; index++) {
+            String value = values.get(index);
+            if (!value.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                break;
+            }
+            matches.add(value);
+        }
+        return matches;
+    }
+
+    /**
+     * Add a value to a cached vocabulary of a client. Does nothing if the
+     * vocabulary is not cached, then it will be read completely on next use.
+     *
+     * @param vocabulary
+     *            vocabulary to add the value to
+     * @param clientId
+     *            id of the client the value belongs to
+     * @param value
+     *            value to add
+     */
+    public void addValue(Vocabulary vocabulary, int clientId, String value) {
+        if (Objects.isNull(value) || value.isEmpty()) {
+            return;
+        }
+        vocabularies.computeIfPresent(getKey(vocabulary, clientId, 0), (key, cachedVocabulary) -> {
+            int index = Collections.binarySearch(cachedVocabulary.values, value, String.CASE_INSENSITIVE_ORDER);
+            if (index >= 0) {
+                return cachedVocabulary;
+            }
+            if (cachedVocabulary.values.size() >= getMaxSize()) {
+                return null;
+            }
+            List<String> values = new ArrayList<>(cachedVocabulary.values);
+            values.add(-index - 1, value);
+            return new CachedVocabulary(values, cachedVocabulary.loaded);
+        });
+    }
+
+    /**
+     * Remove a vocabulary of all clients and users from the cache, so that it
+     * is read again on next use.
+     *
+     * @param vocabulary
+     *            vocabulary to remove
+     */
+    public void invalidate(Vocabulary vocabulary) {
+        String prefix = vocabulary.name() + '/';
+        vocabularies.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Remove a vocabulary of a user in all clients from the cache, so that it
+     * is read again on next use. Must be called when the user is saved, as
+     * the projects assigned to the user may have changed.
+     *
+     * @param vocabulary
+     *            vocabulary to remove
+     * @param userId
+     *            id of the user
+     */
+    public void invalidate(Vocabulary vocabulary, int userId) {
+        String prefix = vocabulary.name() + '/';
+        String suffix = "/" + userId;
+        vocabularies.keySet().removeIf(key -> key.startsWith(prefix) && key.endsWith(suffix));
+    }
+
+    private List<String> loadValues(Vocabulary vocabulary) throws DataException {
+        int maxSize = getMaxSize();
+        List<String> values;
+        switch (vocabulary) {
+            case TASK_TITLES:
+                values = ServiceManager.getTaskService().findTaskTitlesDistinct(getClientId(vocabulary), maxSize);
+                break;
+            case PROJECTS:
+                values = ServiceManager.getProjectService().findAllProjectsForCurrentUser().stream()
+                        .map(ProjectDTO::getTitle).limit(maxSize).collect(Collectors.toList());
+                break;
+            case PROCESS_PROPERTY_TITLES:
+                values = ServiceManager.getPropertyService().findDistinctTitles().stream().limit(maxSize)
+                        .collect(Collectors.toList());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown vocabulary: " + vocabulary);
+        }
+        logger.debug("Loaded {} values of vocabulary {}", values.size(), vocabulary);
+        values.sort(String.CASE_INSENSITIVE_ORDER);
+        return values;
+    }
+
+    private static String getKey(Vocabulary vocabulary, int clientId, int userId) {
+        return vocabulary.name() + '/' + clientId + '/' + userId;
+    }
+
+    // process properties are not assigned to clients
+    private static int getClientId(Vocabulary vocabulary) {
+        if (vocabulary == Vocabulary.PROCESS_PROPERTY_TITLES) {
+            return 0;
+        }
+        return ServiceManager.getUserService().getSessionClientId();
+    }
+
+    // only the projects depend on the user
+    private static int getUserId(Vocabulary vocabulary) {
+        SecurityUserDetails user = ServiceManager.getUserService().getAuthenticatedUser();
+        if (vocabulary != Vocabulary.PROJECTS || Objects.isNull(user)) {
+            return 0;
+        }
+        return user.getId();
+    }
+
+    private static int getMaxSize() {
+        return ConfigCore.getIntParameterOrDefaultValue(ParameterCore.FILTER_VOCABULARY_MAX_SIZE);
+    }
+
+    private static class CachedVocabulary {
+        private final List<String> values;
+        private final long loaded;
+
+        CachedVocabulary(List<String> values) {
+            this(values, System.nanoTime());
+        }
+
+        CachedVocabulary(List<String> values, long loaded) {
+            this.values = Collections.unmodifiableList(values);
+            this.loaded = loaded;
+        }
+
+        boolean isExpired() {
+            long timeToLive = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.FILTER_VOCABULARY_TIME_TO_LIVE);
+            return System.nanoTime() - loaded > TimeUnit.SECONDS.toNanos(timeToLive);
+        }
+    }
+}
@@ -128,7 +128,6 @@ public class ImportService {
     private static ExternalDataImportInterface importModule;
     private static final String KITODO_NAMESPACE = "http://meta.kitodo.org/v1/";
 
-    private ProcessGenerator processGenerator;
     private static final String REPLACE_ME = "REPLACE_ME";
     // default value for identifierMetadata if no OPAC specific metadata has been configured in kitodo_opac.xml
     private static final String PARENT_XPATH = "//kitodo:metadata[@name='" + REPLACE_ME + "']";
@@ -419,10 +418,8 @@ public class ImportService {
                                                      int templateID, int projectID)
             throws ProcessGenerationException, IOException, TransformerException {
         Process process = null;
-        // "processGenerator" needs to be initialized when function is called for the first time
-        if (Objects.isNull(processGenerator)) {
-            processGenerator = new ProcessGenerator();
-        }
+        // the generator is local, so that processes can be created by several threads at the same time
+        ProcessGenerator processGenerator = new ProcessGenerator();
         if (processGenerator.generateProcess(templateID, projectID)) {
             process = processGenerator.getGeneratedProcess();
             process.setImportConfiguration(importConfiguration);
@@ -539,7 +536,6 @@ public class ImportService {
             NoRecordFoundException, UnsupportedFormatException, URISyntaxException, SAXException, DAOException,
             TransformerException, InvalidMetadataValueException, NoSuchMetadataFieldException {
         importModule = initializeImportModule();
-        processGenerator = new ProcessGenerator();
         LinkedList<TempProcess> processes = new LinkedList<>();
         String parentMetadataKey = "";
         if (parentIdMetadata.isEmpty()) {
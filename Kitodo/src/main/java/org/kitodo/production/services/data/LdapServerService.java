@@ -33,6 +33,7 @@ import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.IllegalBlockSizeException;
@@ -48,10 +49,7 @@ import javax.naming.directory.DirContext;
 import javax.naming.directory.InitialDirContext;
 import javax.naming.directory.ModificationItem;
 import javax.naming.directory.SearchResult;
-import javax.naming.ldap.InitialLdapContext;
 import javax.naming.ldap.LdapContext;
-import javax.naming.ldap.StartTlsRequest;
-import javax.naming.ldap.StartTlsResponse;
 
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang3.StringUtils;
@@ -66,6 +64,9 @@ import org.kitodo.data.database.enums.PasswordEncryption;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.database.persistence.LdapServerDAO;
 import org.kitodo.production.helper.Helper;
+import org.kitodo.production.ldap.LdapCache;
+import org.kitodo.production.ldap.LdapContextProvider;
+import org.kitodo.production.ldap.LdapContextProvider.TlsConnection;
 import org.kitodo.production.ldap.LdapUser;
 import org.kitodo.production.security.AESUtil;
 import org.kitodo.production.services.ServiceManager;
@@ -76,6 +77,10 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
 
     private static final Logger logger = LogManager.getLogger(LdapServerService.class);
     private static volatile LdapServerService instance = null;
+    private final LdapContextProvider contextProvider = new LdapContextProvider(
+            ConfigCore.getIntParameterOrDefaultValue(ParameterCore.LDAP_TLS_POOL_SIZE));
+    private final LdapCache<Attributes> userAttributes = new LdapCache<>(TimeUnit.SECONDS
+            .toMillis(ConfigCore.getIntParameterOrDefaultValue(ParameterCore.LDAP_CACHE_TIME_TO_LIVE)));
 
     /**
      * Return singleton variable of type LdapServerService.
@@ -100,6 +105,20 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
         super(new LdapServerDAO());
     }
 
+    @Override
+    public void saveToDatabase(LdapServer ldapServer) throws DAOException {
+        super.saveToDatabase(ldapServer);
+        userAttributes.invalidateAll();
+        contextProvider.closeIdleConnections();
+    }
+
+    @Override
+    public void removeFromDatabase(LdapServer ldapServer) throws DAOException {
+        super.removeFromDatabase(ldapServer);
+        userAttributes.invalidateAll();
+        contextProvider.closeIdleConnections();
+    }
+
     @Override
     public Long countDatabaseRows() throws DAOException {
         return countDatabaseRows("SELECT COUNT(*) FROM LdapServer");
@@ -194,9 +213,11 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
 
             LdapUser ldapUser = new LdapUser();
             ldapUser.configure(user, password, getNextUidNumber(user.getLdapGroup().getLdapServer()));
-            DirContext ctx = new InitialDirContext(ldapEnvironment);
-            ctx.bind(buildUserDN(user), ldapUser);
-            ctx.close();
+            contextProvider.execute(ldapEnvironment, context -> {
+                context.bind(buildUserDN(user), ldapUser);
+                return null;
+            });
+            invalidateCache(user);
             setNextUidNumber(user.getLdapGroup().getLdapServer());
             Helper.setMessage(
                 Helper.getTranslation("ldapWritten") + " " + ServiceManager.getUserService().getFullName(user));
@@ -255,23 +276,16 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
         if (ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.LDAP_USE_LOCAL_DIRECTORY)) {
             return Paths.get(userFolderBasePath, user.getLogin()).toUri();
         }
-        Hashtable<String, String> env = initializeWithLdapConnectionSettings(user.getLdapGroup().getLdapServer());
         if (ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.LDAP_USE_TLS)) {
-            return getUserHomeDirectoryWithTLS(env, userFolderBasePath, user);
+            return getUserHomeDirectoryWithTLS(userFolderBasePath, user);
         }
 
-        if (ConfigCore.getBooleanParameter(ParameterCore.LDAP_USE_SIMPLE_AUTH, false)) {
-            env.put(Context.SECURITY_AUTHENTICATION, "none");
-        }
-        DirContext ctx;
         URI userFolderPath = null;
         try {
-            ctx = new InitialDirContext(env);
-            Attributes attrs = ctx.getAttributes(buildUserDN(user));
+            Attributes attrs = getUserAttributes(user, false);
             Attribute ldapAttribute = attrs.get("homeDirectory");
             userFolderPath = URI.create((String) ldapAttribute.get(0));
-            ctx.close();
-        } catch (NamingException e) {
+        } catch (NamingException | IOException e) {
             logger.error(e.getMessage(), e);
         }
 
@@ -285,6 +299,37 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
         }
     }
 
+    /**
+     * Returns the attributes of a user. They are read from LDAP only if they
+     * are not cached yet or the cached ones have expired.
+     */
+    private Attributes getUserAttributes(User user, boolean useTls) throws NamingException, IOException {
+        LdapServer ldapServer = user.getLdapGroup().getLdapServer();
+        String userDN = buildUserDN(user);
+        return userAttributes.get(user.getId() + ":" + userDN, () -> {
+            Hashtable<String, String> env = initializeWithLdapConnectionSettings(ldapServer);
+            if (useTls) {
+                return contextProvider.executeWithStartTls(env, context -> context.getAttributes(userDN));
+            }
+            if (ConfigCore.getBooleanParameter(ParameterCore.LDAP_USE_SIMPLE_AUTH, false)) {
+                env.put(Context.SECURITY_AUTHENTICATION, "none");
+            }
+            return contextProvider.execute(env, context -> context.getAttributes(userDN));
+        });
+    }
+
+    /**
+     * Removes the cached attributes of a user, so that they are read from LDAP
+     * again on the next access.
+     *
+     * @param user
+     *            user whose attributes have changed
+     */
+    public void invalidateCache(User user) {
+        String prefix = user.getId() + ":";
+        userAttributes.invalidateIf(key -> key.startsWith(prefix));
+    }
+
     /**
      * Check if User already exists on system.
      *
@@ -295,38 +340,40 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
     public boolean isUserAlreadyExists(User user) {
         Hashtable<String, String> ldapEnvironment = initializeWithLdapConnectionSettings(
             user.getLdapGroup().getLdapServer());
-        DirContext ctx;
         boolean userAlreadyExisting = false;
         try {
-            ctx = new InitialDirContext(ldapEnvironment);
-            Attributes matchAttrs = new BasicAttributes(true);
-            NamingEnumeration<SearchResult> answer = ctx.search(buildUserDN(user), matchAttrs);
-            userAlreadyExisting = answer.hasMoreElements();
-
-            while (answer.hasMore()) {
-                SearchResult sr = answer.next();
-                logger.debug(">>>{}", sr.getName());
-                Attributes attrs = sr.getAttributes();
-                String givenName = getStringForAttribute(attrs, "givenName");
-                String surName = getStringForAttribute(attrs, "sn");
-                String mail = getStringForAttribute(attrs, "mail");
-                String cn = getStringForAttribute(attrs, "cn");
-                String homeDirectory = getStringForAttribute(attrs, "homeDirectory");
-
-                logger.debug(givenName);
-                logger.debug(surName);
-                logger.debug(mail);
-                logger.debug(cn);
-                logger.debug(homeDirectory);
-            }
-
-            ctx.close();
+            userAlreadyExisting = contextProvider.execute(ldapEnvironment, context -> {
+                Attributes matchAttrs = new BasicAttributes(true);
+                NamingEnumeration<SearchResult> answer = context.search(buildUserDN(user), matchAttrs);
+                boolean found = answer.hasMoreElements();
+                logSearchResults(answer);
+                return found;
+            });
         } catch (NamingException e) {
             logger.error(e.getMessage(), e);
         }
         return userAlreadyExisting;
     }
 
+    private void logSearchResults(NamingEnumeration<SearchResult> answer) throws NamingException {
+        while (answer.hasMore()) {
+            SearchResult sr = answer.next();
+            logger.debug(">>>{}", sr.getName());
+            Attributes attrs = sr.getAttributes();
+            String givenName = getStringForAttribute(attrs, "givenName");
+            String surName = getStringForAttribute(attrs, "sn");
+            String mail = getStringForAttribute(attrs, "mail");
+            String cn = getStringForAttribute(attrs, "cn");
+            String homeDirectory = getStringForAttribute(attrs, "homeDirectory");
+
+            logger.debug(givenName);
+            logger.debug(surName);
+            logger.debug(mail);
+            logger.debug(cn);
+            logger.debug(homeDirectory);
+        }
+    }
+
     private String getStringForAttribute(Attributes attrs, String identifier) {
         try {
             return attrs.get(identifier).toString();
@@ -342,14 +389,13 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
      */
     private String getNextUidNumber(LdapServer ldapServer) {
         Hashtable<String, String> ldapEnvironment = initializeWithLdapConnectionSettings(ldapServer);
-        DirContext ctx;
         String rueckgabe = "";
         try {
-            ctx = new InitialDirContext(ldapEnvironment);
-            Attributes attrs = ctx.getAttributes(ldapServer.getNextFreeUnixIdPattern());
-            Attribute la = attrs.get("uidNumber");
-            rueckgabe = (String) la.get(0);
-            ctx.close();
+            rueckgabe = contextProvider.execute(ldapEnvironment, context -> {
+                Attributes attrs = context.getAttributes(ldapServer.getNextFreeUnixIdPattern());
+                Attribute la = attrs.get("uidNumber");
+                return (String) la.get(0);
+            });
         } catch (NamingException e) {
             Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
         }
@@ -361,21 +407,19 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
      */
     private void setNextUidNumber(LdapServer ldapServer) {
         Hashtable<String, String> ldapEnvironment = initializeWithLdapConnectionSettings(ldapServer);
-        DirContext ctx;
-
         try {
-            ctx = new InitialDirContext(ldapEnvironment);
-            Attributes attrs = ctx.getAttributes(ldapServer.getNextFreeUnixIdPattern());
-            Attribute la = attrs.get("uidNumber");
-            String oldValue = (String) la.get(0);
-            int bla = Integer.parseInt(oldValue) + 1;
-
-            BasicAttribute attrNeu = new BasicAttribute("uidNumber", String.valueOf(bla));
-            ModificationItem[] mods = new ModificationItem[1];
-            mods[0] = new ModificationItem(DirContext.REPLACE_ATTRIBUTE, attrNeu);
-            ctx.modifyAttributes(ldapServer.getNextFreeUnixIdPattern(), mods);
-
-            ctx.close();
+            contextProvider.execute(ldapEnvironment, context -> {
+                Attributes attrs = context.getAttributes(ldapServer.getNextFreeUnixIdPattern());
+                Attribute la = attrs.get("uidNumber");
+                String oldValue = (String) la.get(0);
+                int bla = Integer.parseInt(oldValue) + 1;
+
+                BasicAttribute attrNeu = new BasicAttribute("uidNumber", String.valueOf(bla));
+                ModificationItem[] mods = new ModificationItem[1];
+                mods[0] = new ModificationItem(DirContext.REPLACE_ATTRIBUTE, attrNeu);
+                context.modifyAttributes(ldapServer.getNextFreeUnixIdPattern(), mods);
+                return null;
+            });
         } catch (NamingException e) {
             logger.error(e.getMessage(), e);
         }
@@ -421,11 +465,11 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
                         String.valueOf(System.currentTimeMillis() / 1000L));
                 mods[3] = new ModificationItem(DirContext.REPLACE_ATTRIBUTE, sambaPwdLastSet);
 
-                DirContext ctx = new InitialDirContext(env);
-                ctx.modifyAttributes(buildUserDN(user), mods);
-
-                // Close the context when we're done
-                ctx.close();
+                contextProvider.execute(env, context -> {
+                    context.modifyAttributes(buildUserDN(user), mods);
+                    return null;
+                });
+                invalidateCache(user);
                 return true;
             } catch (NamingException e) {
                 logger.debug("Benutzeranmeldung nicht korrekt oder Passwortänderung nicht möglich", e);
@@ -435,20 +479,9 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
         return false;
     }
 
-    private URI getUserHomeDirectoryWithTLS(Hashtable<String, String> env, String userFolderBasePath, User user) {
-        env.put("java.naming.ldap.version", "3");
-        LdapContext ctx = null;
-        StartTlsResponse tls = null;
+    private URI getUserHomeDirectoryWithTLS(String userFolderBasePath, User user) {
         try {
-            ctx = new InitialLdapContext(env, null);
-
-            // Authentication must be performed over a secure channel
-            tls = (StartTlsResponse) ctx.extendedOperation(new StartTlsRequest());
-            tls.negotiate();
-
-            ctx.reconnect(null);
-
-            Attributes attrs = ctx.getAttributes(buildUserDN(user));
+            Attributes attrs = getUserAttributes(user, true);
             Attribute la = attrs.get("homeDirectory");
             return URI.create((String) la.get(0));
         } catch (IOException e) {
@@ -457,21 +490,12 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
         } catch (NamingException e) {
             logger.error("JNDI error:", e);
             return Paths.get(userFolderBasePath, user.getLogin()).toUri();
-        } finally {
-            closeConnections(ctx, tls);
         }
     }
 
     private boolean isPasswordCorrectForAuthWithTLS(Hashtable<String, String> env, User user, String password) {
-        env.put("java.naming.ldap.version", "3");
-        LdapContext ctx = null;
-        StartTlsResponse tls = null;
-        try {
-            ctx = new InitialLdapContext(env, null);
-
-            // Authentication must be performed over a secure channel
-            tls = (StartTlsResponse) ctx.extendedOperation(new StartTlsRequest());
-            tls.negotiate();
+        try (TlsConnection connection = contextProvider.startTls(env)) {
+            LdapContext ctx = connection.getContext();
 
             // Authenticate via SASL EXTERNAL mechanism using client X.509
             // certificate contained in JVM keystore
@@ -487,8 +511,6 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
         } catch (NamingException e) {
             logger.error("JNDI error:", e);
             return false;
-        } finally {
-            closeConnections(ctx, tls);
         }
     }
 
@@ -535,25 +557,6 @@ public class LdapServerService extends SearchDatabaseService<LdapServer, LdapSer
         }
     }
 
-    private void closeConnections(LdapContext ctx, StartTlsResponse tls) {
-        if (Objects.nonNull(tls)) {
-            try {
-                // Tear down TLS connection
-                tls.close();
-            } catch (IOException e) {
-                logger.error(e.getMessage(), e);
-            }
-        }
-        if (Objects.nonNull(ctx)) {
-            try {
-                // Close LDAP connection
-                ctx.close();
-            } catch (NamingException e) {
-                logger.error(e.getMessage(), e);
-            }
-        }
-    }
-
     private BasicAttribute proceedPassword(String identifier, String newPassword, MD4Digest digester) {
         try {
             byte[] hash;
@@ -19,16 +19,9 @@ import static org.opensearch.index.query.QueryBuilders.matchQuery;
 import static org.opensearch.index.query.QueryBuilders.multiMatchQuery;
 import static org.opensearch.index.query.QueryBuilders.nestedQuery;
 
-import com.itextpdf.text.Document;
 import com.itextpdf.text.DocumentException;
-import com.itextpdf.text.PageSize;
-import com.itextpdf.text.Paragraph;
-import com.itextpdf.text.Rectangle;
-import com.itextpdf.text.pdf.PdfPTable;
-import com.itextpdf.text.pdf.PdfWriter;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
@@ -44,11 +37,14 @@ import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -61,6 +57,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.faces.context.ExternalContext;
@@ -73,15 +70,12 @@ import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.join.ScoreMode;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.DataFormatter;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -142,6 +136,7 @@ import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMet
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetadataTypeHelper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetsModsDigitalDocumentHelper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyPrefsHelper;
+import org.kitodo.production.helper.tasks.EmptyTask;
 import org.kitodo.production.metadata.MetadataEditor;
 import org.kitodo.production.metadata.copier.CopierData;
 import org.kitodo.production.metadata.copier.DataCopier;
@@ -186,6 +181,23 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     private static final String METADATA_SEARCH_KEY = ProcessTypeField.METADATA + ".mdWrap.xmlData.kitodo.metadata";
     private static final String METADATA_GROUP_SEARCH_KEY = ProcessTypeField.METADATA + ".mdWrap.xmlData.kitodo.metadataGroup.metadata";
     private static final String METADATA_FILE_NAME = "meta.xml";
+    private static final int STATISTICS_CHUNK_SIZE = 1000;
+
+    /**
+     * Number of processes loaded from the database at a time when a selection
+     * of processes is worked on chunk by chunk.
+     */
+    public static final int LOAD_CHUNK_SIZE = 200;
+
+    private static final String TASK_DURATIONS_QUERY = "SELECT t.process.id, t.title, t.processingBegin, "
+            + "t.processingTime, t.processingEnd FROM Task t WHERE t.process.id IN (:processIds) "
+            + "ORDER BY t.process.id, t.ordering";
+    // the current task of a process is its first open or in work task
+    private static final String CURRENT_TASK_TITLES_QUERY = "SELECT t.title, COUNT(t.id) FROM Task t "
+            + "WHERE t.process.id IN (:processIds) AND t.processingStatus IN (:states) AND NOT EXISTS ("
+            + "SELECT o.id FROM Task o WHERE o.process = t.process AND o.processingStatus IN (:states) "
+            + "AND (o.ordering < t.ordering OR (o.ordering = t.ordering AND o.id < t.id))) "
+            + "GROUP BY t.title ORDER BY MIN(t.ordering)";
     private static final String NEW_LINE_ENTITY = "\n";
     private static final boolean USE_ORIG_FOLDER = ConfigCore
             .getBooleanParameterOrDefaultValue(ParameterCore.USE_ORIG_FOLDER);
@@ -861,8 +873,20 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      * @return a query for searching for properties.
      */
     public QueryBuilder createPropertyQuery(String title, String value) {
-        String titleSearchKey = ProcessTypeField.PROPERTIES + ".title.keyword";
-        String valueSearchKey = ProcessTypeField.PROPERTIES + ".value";
+        return createPropertyQuery(ProcessTypeField.PROPERTIES.getKey(), title, value);
+    }
+
+    /**
+     * Creates the query for properties with title and value, indexed as nested
+     * objects in the given field.
+     * @param propertiesField the field holding the properties, for processes "properties"
+     * @param title the property title
+     * @param value the property value
+     * @return a query for searching for properties.
+     */
+    public QueryBuilder createPropertyQuery(String propertiesField, String title, String value) {
+        String titleSearchKey = propertiesField + ".title.keyword";
+        String valueSearchKey = propertiesField + ".value";
 
         BoolQueryBuilder pairQuery = new BoolQueryBuilder();
         if (!WILDCARD.equals(title)) {
@@ -871,7 +895,7 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         if (!WILDCARD.equals(value)) {
             pairQuery.must(matchQuery(valueSearchKey, value));
         }
-        return nestedQuery(ProcessTypeField.PROPERTIES.toString(), pairQuery, ScoreMode.Total);
+        return nestedQuery(propertiesField, pairQuery, ScoreMode.Total);
     }
 
     List<ProcessDTO> findByProjectIds(Set<Integer> projectIds, boolean related) throws DataException {
@@ -923,13 +947,62 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      * @return list of beans
      */
     public List<Process> convertDtosToBeans(List<ProcessDTO> dtos) throws DAOException {
-        List<Process> processes = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>(dtos.size());
         for (ProcessDTO processDTO : dtos) {
-            processes.add(getById(processDTO.getId()));
+            ids.add(processDTO.getId());
+        }
+        return getByIds(ids);
+    }
+
+    /**
+     * Loads the processes with the given ids from the database. The processes
+     * are loaded in chunks, with one query per chunk.
+     *
+     * @param ids
+     *            ids of the processes to load
+     * @return the processes in the order of the ids
+     * @throws DAOException
+     *             if the processes cannot be loaded
+     */
+    public List<Process> getByIds(List<Integer> ids) throws DAOException {
+        List<Process> processes = new ArrayList<>(ids.size());
+        for (List<Integer> chunk : ListUtils.partition(ids, LOAD_CHUNK_SIZE)) {
+            processes.addAll(dao.getByIds(chunk));
         }
         return processes;
     }
 
+    /**
+     * Computes the task status counters of all processes from their tasks and
+     * corrects the stored counters that differ. The counters are maintained
+     * when processes and tasks are saved, this verifies them from scratch.
+     *
+     * @return ids of the processes whose counters were corrected
+     * @throws DAOException
+     *             if the counters cannot be read or written
+     */
+    public List<Integer> rebuildTaskCounts() throws DAOException {
+        return dao.rebuildTaskCounts();
+    }
+
+    /**
+     * Loads the processes with the given ids from the database chunk by chunk
+     * and passes each chunk to the given action. Only one chunk of processes
+     * is held in memory at a time.
+     *
+     * @param ids
+     *            ids of the processes to load
+     * @param action
+     *            action to perform on each chunk of processes
+     * @throws DAOException
+     *             if the processes cannot be loaded
+     */
+    public void forEachChunk(List<Integer> ids, Consumer<List<Process>> action) throws DAOException {
+        for (List<Integer> chunk : ListUtils.partition(ids, LOAD_CHUNK_SIZE)) {
+            action.accept(dao.getByIds(chunk));
+        }
+    }
+
     @Override
     public ProcessDTO convertJSONObjectToDTO(Map<String, Object> jsonObject, boolean related) throws DataException {
         ProcessDTO processDTO = new ProcessDTO();
@@ -1523,7 +1596,10 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     }
 
     /**
-     * Writes a multi page docket for a list of processes to an output stream.
+     * Downloads a multi page docket for a list of processes. The docket is
+     * rendered to a temporary file first, so that the download is only
+     * started if the docket is complete, and an error can still be shown as
+     * a message.
      *
      * @param processes
      *            The list of processes
@@ -1537,80 +1613,140 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         FacesContext facesContext = FacesContext.getCurrentInstance();
         if (!facesContext.getResponseComplete()) {
             DocketInterface module = initialiseDocketModule();
-            File file = module.generateMultipleDockets(getDocketData(processes),
-                xsltFile);
+            File file = File.createTempFile("batch_docket", ".pdf");
+            try {
+                try (OutputStream outputStream = Files.newOutputStream(file.toPath())) {
+                    module.generateMultipleDockets(getDocketData(processes), xsltFile, outputStream);
+                }
+                writeToOutputStream(facesContext, file, "batch_docket.pdf");
+            } finally {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+    }
 
-            writeToOutputStream(facesContext, file, "batch_docket.pdf");
-            Files.deleteIfExists(file.toPath());
+    /**
+     * Writes a multi page docket for a list of processes to a file. The
+     * progress of the task is updated as the processes are rendered.
+     *
+     * @param processes
+     *            The list of processes
+     * @param destination
+     *            the file to write the docket to
+     * @param task
+     *            the task generating the docket
+     * @throws IOException
+     *             when xslt file could not be loaded, or write to file failed
+     */
+    public void writeDocket(List<Process> processes, URI destination, EmptyTask task) throws IOException {
+        URI rootPath = Paths.get(ConfigCore.getParameter(ParameterCore.DIR_XSLT)).toUri();
+        writeDocket(processes, ServiceManager.getFileService().createResource(rootPath, "docket_multipage.xsl"),
+            destination, task);
+    }
+
+    /**
+     * Writes a multi page docket for a list of processes to a file, using the
+     * given XSLT file.
+     *
+     * @param processes
+     *            The list of processes
+     * @param xsltFile
+     *            the XSLT file of the docket
+     * @param destination
+     *            the file to write the docket to
+     * @param task
+     *            the task generating the docket
+     * @throws IOException
+     *             when xslt file could not be loaded, or write to file failed
+     */
+    void writeDocket(List<Process> processes, URI xsltFile, URI destination, EmptyTask task) throws IOException {
+        DocketInterface module = initialiseDocketModule();
+        List<DocketData> docketData = getDocketData(processes);
+        Collection<DocketData> reportingProgress = new AbstractCollection<>() {
+            @Override
+            public Iterator<DocketData> iterator() {
+                Iterator<DocketData> iterator = docketData.iterator();
+                return new Iterator<>() {
+                    private int rendered = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public DocketData next() {
+                        task.setProgress(100 * rendered++ / docketData.size());
+                        return iterator.next();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return docketData.size();
+            }
+        };
+        try (OutputStream outputStream = Files.newOutputStream(Paths.get(destination))) {
+            module.generateMultipleDockets(reportingProgress, xsltFile, outputStream);
         }
     }
 
     /**
-     * Generate result as PDF.
+     * Generate result as PDF. The PDF is written to a temporary file first,
+     * so that the download is only started if the result is complete.
      *
      * @param filter
      *            for generating search results
+     * @throws DataException
+     *             if the result could not be read from the index. Nothing is
+     *             downloaded in this case.
      */
     public void generateResultAsPdf(String filter, boolean showClosedProcesses, boolean showInactiveProjects)
-            throws DocumentException, IOException {
+            throws DocumentException, IOException, DataException {
         FacesContext facesContext = FacesContext.getCurrentInstance();
         if (!facesContext.getResponseComplete()) {
-            ExternalContext response = prepareHeaderInformation(facesContext, "search.pdf");
-            try (OutputStream out = response.getResponseOutputStream()) {
-                SearchResultGeneration sr = new SearchResultGeneration(filter, showClosedProcesses,
-                        showInactiveProjects);
-                SXSSFWorkbook wb = sr.getResult();
-                List<List<Cell>> rowList = new ArrayList<>();
-                Sheet mySheet = wb.getSheetAt(0);
-                Iterator<Row> rowIter = mySheet.rowIterator();
-                while (rowIter.hasNext()) {
-                    Row myRow = (Row) rowIter.next();
-                    Iterator<Cell> cellIter = myRow.cellIterator();
-                    List<Cell> row = new ArrayList<>();
-                    while (cellIter.hasNext()) {
-                        Cell myCell = (Cell) cellIter.next();
-                        row.add(myCell);
-                    }
-                    rowList.add(row);
-                }
-                Document document = new Document();
-                Rectangle rectangle = new Rectangle(PageSize.A3.getHeight(), PageSize.A3.getWidth());
-                PdfWriter.getInstance(document, out);
-                document.setPageSize(rectangle);
-                document.open();
-                if (!rowList.isEmpty()) {
-                    Paragraph paragraph = new Paragraph(rowList.get(0).get(0).toString());
-                    document.add(paragraph);
-                    document.add(getPdfTable(rowList));
+            SearchResultGeneration sr = new SearchResultGeneration(filter, showClosedProcesses,
+                    showInactiveProjects);
+            File file = File.createTempFile("search", ".pdf");
+            try {
+                try (OutputStream out = Files.newOutputStream(file.toPath())) {
+                    sr.writeResultAsPdf(out);
                 }
-
-                document.close();
-                wb.close();
-                out.flush();
-                facesContext.responseComplete();
+                writeToOutputStream(facesContext, file, "search.pdf");
+            } finally {
+                Files.deleteIfExists(file.toPath());
             }
         }
     }
 
     /**
-     * Generate result set.
+     * Generate result set. The workbook is completed before the download is
+     * started.
      *
      * @param filter
      *            for generating search results
+     * @throws DataException
+     *             if the result could not be read from the index. Nothing is
+     *             downloaded in this case.
      */
     public void generateResult(String filter, boolean showClosedProcesses, boolean showInactiveProjects)
-            throws IOException {
+            throws IOException, DataException {
         FacesContext facesContext = FacesContext.getCurrentInstance();
         if (!facesContext.getResponseComplete()) {
-            ExternalContext response = prepareHeaderInformation(facesContext, "search.xlsx");
-            try (OutputStream out = response.getResponseOutputStream()) {
-                SearchResultGeneration sr = new SearchResultGeneration(filter, showClosedProcesses,
-                        showInactiveProjects);
-                SXSSFWorkbook wb = sr.getResult();
-                wb.write(out);
+            SearchResultGeneration sr = new SearchResultGeneration(filter, showClosedProcesses,
+                    showInactiveProjects);
+            SXSSFWorkbook wb = sr.getResult();
+            try {
+                ExternalContext response = prepareHeaderInformation(facesContext, "search.xlsx");
+                try (OutputStream out = response.getResponseOutputStream()) {
+                    wb.write(out);
+                    out.flush();
+                    facesContext.responseComplete();
+                }
+            } finally {
+                wb.dispose();
                 wb.close();
-                out.flush();
-                facesContext.responseComplete();
             }
         }
     }
@@ -1629,10 +1765,8 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     private void writeToOutputStream(FacesContext facesContext, File file, String fileName) throws IOException {
         ExternalContext externalContext = prepareHeaderInformation(facesContext, fileName);
 
-        try (OutputStream outputStream = externalContext.getResponseOutputStream();
-                FileInputStream fileInputStream = new FileInputStream(file)) {
-            byte[] bytes = IOUtils.toByteArray(fileInputStream);
-            outputStream.write(bytes);
+        try (OutputStream outputStream = externalContext.getResponseOutputStream()) {
+            Files.copy(file.toPath(), outputStream);
             outputStream.flush();
         }
         facesContext.responseComplete();
@@ -1649,23 +1783,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return externalContext;
     }
 
-    private PdfPTable getPdfTable(List<List<Cell>> rowList) throws DocumentException {
-        // create formatter for cells with default locale
-        DataFormatter formatter = new DataFormatter();
-
-        PdfPTable table = new PdfPTable(8);
-        table.setSpacingBefore(20);
-        table.setWidths(new int[] {4, 1, 2, 1, 1, 1, 2, 2 });
-        for (List<Cell> row : rowList) {
-            for (Cell hssfCell : row) {
-                String stringCellValue = formatter.formatCellValue(hssfCell);
-                table.addCell(stringCellValue);
-            }
-        }
-
-        return table;
-    }
-
     private static DocketInterface initialiseDocketModule() {
         KitodoServiceLoader<DocketInterface> loader = new KitodoServiceLoader<>(DocketInterface.class);
         return loader.loadModule();
@@ -2058,8 +2175,9 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      */
     private List<DocketData> getDocketData(List<Process> processes) throws IOException {
         List<DocketData> docketData = new ArrayList<>();
+        Map<Integer, DocketData> parentDocketData = new HashMap<>();
         for (Process process : processes) {
-            docketData.add(getDocketData(process));
+            docketData.add(getDocketData(process, parentDocketData));
         }
         return docketData;
     }
@@ -2072,13 +2190,35 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      * @return The DocketData for the process.
      */
     private static DocketData getDocketData(Process process) throws IOException {
+        return getDocketData(process, new HashMap<>());
+    }
+
+    /**
+     * Creates the DocketData for a given Process. The docket data of parent
+     * processes is created only once and shared by all their children.
+     *
+     * @param process
+     *            The process to create the docket data for.
+     * @param parentDocketData
+     *            docket data of the parent processes already created, by
+     *            process ID
+     * @return The DocketData for the process.
+     */
+    private static DocketData getDocketData(Process process, Map<Integer, DocketData> parentDocketData)
+            throws IOException {
         DocketData docketdata = new DocketData();
 
         docketdata.setCreationDate(process.getCreationDate().toString());
         URI metadataFilePath = fileService.getMetadataFilePath(process);
         docketdata.setMetadataFile(fileService.getFile(metadataFilePath).toURI());
-        if (Objects.nonNull(process.getParent())) {
-            docketdata.setParent(getDocketData(process.getParent()));
+        Process parent = process.getParent();
+        if (Objects.nonNull(parent)) {
+            DocketData parentData = parentDocketData.get(parent.getId());
+            if (Objects.isNull(parentData)) {
+                parentData = getDocketData(parent, parentDocketData);
+                parentDocketData.put(parent.getId(), parentData);
+            }
+            docketdata.setParent(parentData);
         }
         docketdata.setProcessId(process.getId().toString());
         docketdata.setProcessName(process.getTitle());
@@ -2458,12 +2598,11 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      * Link a list of given processes to user home directory.
      *
      * @param processes List of processes
-     * @throws DAOException Thrown on database like error
      */
-    public static void downloadToHome(List<Process> processes) throws DAOException {
+    public static void downloadToHome(List<Process> processes) {
         WebDav webDav = new WebDav();
         for (Process processForDownload : processes) {
-            downloadToHome(webDav, processForDownload.getId());
+            downloadToHome(webDav, processForDownload);
         }
     }
 
@@ -2478,7 +2617,10 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      *            ID of process for which download is going to be performed
      */
     public static void downloadToHome(WebDav webDav, int processId) throws DAOException {
-        Process process = ServiceManager.getProcessService().getById(processId);
+        downloadToHome(webDav, ServiceManager.getProcessService().getById(processId));
+    }
+
+    private static void downloadToHome(WebDav webDav, Process process) {
         if (ServiceManager.getProcessService().isImageFolderInUse(process)) {
             Helper.setMessage(
                     Helper.getTranslation("directory ") + " " + process.getTitle() + " "
@@ -2722,20 +2864,20 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     }
 
     /**
-     * Create and return HorizontalBarChartModel for given processes.
+     * Create and return HorizontalBarChartModel for the given processes. The
+     * durations of the tasks are read with a single database query per chunk
+     * of processes, without loading the processes.
      *
-     * @param processes List of processes
+     * @param processTitles map of ids to titles of the processes, in display order
      * @return HorizontalBarChartModel
      */
-    public HorizontalBarChartModel getBarChartModel(List<Process> processes) {
+    public HorizontalBarChartModel getBarChartModel(Map<Integer, String> processTitles) {
+        Map<Integer, LinkedHashMap<String, Integer>> taskValuesOfProcesses = getDurationOfTasks(
+            new ArrayList<>(processTitles.keySet()));
         LinkedHashMap<String, LinkedHashMap<String,Integer>> durationOfTasks = new LinkedHashMap<>();
-        for (Process selectedProcess : processes) {
-            LinkedHashMap<String,Integer> taskValues = new LinkedHashMap<>();
-            for (Task task  : selectedProcess.getTasks()) {
-                long durationInDays = ServiceManager.getTaskService().getDurationInDays(task);
-                taskValues.put(task.getTitle(), Math.toIntExact(durationInDays));
-            }
-            durationOfTasks.put(selectedProcess.getTitle(), taskValues);
+        for (Map.Entry<Integer, String> processTitle : processTitles.entrySet()) {
+            durationOfTasks.put(processTitle.getValue(),
+                taskValuesOfProcesses.getOrDefault(processTitle.getKey(), new LinkedHashMap<>()));
         }
         ChartData data = new ChartData();
         boolean isTask;
@@ -2774,6 +2916,18 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return horizontalBarChartModel;
     }
 
+    private Map<Integer, LinkedHashMap<String, Integer>> getDurationOfTasks(List<Integer> processIds) {
+        Map<Integer, LinkedHashMap<String, Integer>> durationOfTasks = new HashMap<>();
+        for (List<Integer> chunk : ListUtils.partition(processIds, STATISTICS_CHUNK_SIZE)) {
+            for (Object[] row : getProjectionByQuery(TASK_DURATIONS_QUERY, Map.of("processIds", chunk))) {
+                long durationInDays = TaskService.getDurationInDays((Date) row[2], (Date) row[3], (Date) row[4]);
+                durationOfTasks.computeIfAbsent((Integer) row[0], id -> new LinkedHashMap<>())
+                        .put((String) row[1], Math.toIntExact(durationInDays));
+            }
+        }
+        return durationOfTasks;
+    }
+
     private BarChartOptions getBarChartOptions() {
         CartesianLinearAxes linearAxes = new CartesianLinearAxes();
         linearAxes.setStacked(true);
@@ -2788,26 +2942,94 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
 
     /**
      * Aggregate and return statistical data about task status of given processes.
+     * The processes are counted by the title of their current task with a
+     * grouped database query per chunk of processes.
      *
-     * @param processes List of processes for which statistical data is aggregated.
+     * @param processIds ids of the processes for which statistical data is aggregated
      * @return statistical data about tasks status of given processes
      */
-    public Map<String, Integer> getProcessTaskStates(List<Process> processes) {
+    public Map<String, Integer> getProcessTaskStates(List<Integer> processIds) {
         Map<String, Integer> processTaskStates = new LinkedHashMap<>();
-        for (Process process : processes) {
-            Task currentTask = ServiceManager.getProcessService().getCurrentTask(process);
-            if (Objects.nonNull(currentTask)) {
-                String currentTaskTitle = currentTask.getTitle();
-                if (processTaskStates.containsKey(currentTaskTitle)) {
-                    processTaskStates.put(currentTaskTitle, Math.addExact(processTaskStates.get(currentTaskTitle), 1));
-                } else {
-                    processTaskStates.put(currentTaskTitle, 1);
-                }
+        for (List<Integer> chunk : ListUtils.partition(processIds, STATISTICS_CHUNK_SIZE)) {
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("processIds", chunk);
+            parameters.put("states", Arrays.asList(TaskStatus.OPEN, TaskStatus.INWORK));
+            for (Object[] row : getProjectionByQuery(CURRENT_TASK_TITLES_QUERY, parameters)) {
+                processTaskStates.merge((String) row[0], Math.toIntExact((Long) row[1]), Math::addExact);
             }
         }
         return processTaskStates;
     }
 
+    /**
+     * Reads the given index fields of all processes matching the query, page
+     * by page using search after on the process id. The processes are neither
+     * loaded from the database nor converted to DTO objects.
+     *
+     * @param query
+     *            query for the processes
+     * @param includes
+     *            index fields to read, the id is always read
+     * @return list of found documents
+     * @throws DataException
+     *             if the index cannot be read
+     */
+    public List<Map<String, Object>> findAllDocumentsByQuery(QueryBuilder query, String... includes)
+            throws DataException {
+        String[] fields = Arrays.copyOf(includes, includes.length + 1);
+        fields[includes.length] = ProcessTypeField.ID.getKey();
+        List<Map<String, Object>> documents = new ArrayList<>();
+        List<Map<String, Object>> page;
+        do {
+            Object[] searchAfter = documents.isEmpty() ? null
+                    : new Object[] {documents.get(documents.size() - 1).get(ProcessTypeField.ID.getKey()) };
+            page = findDocumentsAfter(query, sortById(SortOrder.ASC), searchAfter,
+                STATISTICS_CHUNK_SIZE, fields);
+            documents.addAll(page);
+        } while (page.size() == STATISTICS_CHUNK_SIZE);
+        return documents;
+    }
+
+    /**
+     * Sums up the numbers of images, structural elements and metadata of all
+     * processes matching the query by sum aggregations in the index. Neither
+     * the processes nor their documents are read.
+     *
+     * @param query
+     *            query for the processes
+     * @return the sums by index field
+     * @throws DataException
+     *             if the index cannot be read
+     */
+    public Map<ProcessTypeField, Integer> sumMetadataStatistic(QueryBuilder query) throws DataException {
+        Map<ProcessTypeField, Integer> sums = new EnumMap<>(ProcessTypeField.class);
+        for (ProcessTypeField field : Arrays.asList(ProcessTypeField.NUMBER_OF_IMAGES,
+            ProcessTypeField.NUMBER_OF_STRUCTURES, ProcessTypeField.NUMBER_OF_METADATA)) {
+            sums.put(field, (int) Math.round(findSumAggregation(query, field.getKey())));
+        }
+        return sums;
+    }
+
+    /**
+     * Reads one page of the documents of the processes matching the query,
+     * sorted by id. The processes are neither loaded from the database nor
+     * converted to DTO objects.
+     *
+     * @param query
+     *            query for the processes
+     * @param offset
+     *            number of documents to skip
+     * @param size
+     *            maximum number of documents of the page
+     * @return list of found documents
+     * @throws DataException
+     *             if the index cannot be read
+     */
+    public List<Map<String, Object>> findDocumentsPage(QueryBuilder query, int offset, int size)
+            throws DataException {
+        return findDocuments(query, sortById(SortOrder.ASC), offset, size);
+    }
+
     /**
      * Get all tasks of given process which should be visible to the user.
      * @param processDTO process as DTO object
@@ -2874,18 +3096,21 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     }
 
     /**
-     * Set import configuration of given processes.
-     * @param processes list of processes for which import configuration is set
+     * Set import configuration of given processes. The processes are loaded
+     * in chunks, so that a large selection is not held in memory as a whole.
+     * @param processIds IDs of processes for which import configuration is set
      * @param configurationId ID of import configuration to assign to processes
      * @return name of ImportConfiguration
      * @throws DAOException when loading import configuration by ID or saving updated processes fails
      */
-    public String setImportConfigurationForMultipleProcesses(List<Process> processes, int configurationId)
+    public String setImportConfigurationForMultipleProcesses(List<Integer> processIds, int configurationId)
             throws DAOException {
         ImportConfiguration configuration = ServiceManager.getImportConfigurationService().getById(configurationId);
-        for (Process process : processes) {
-            process.setImportConfiguration(configuration);
-            saveToDatabase(process);
+        for (List<Integer> chunk : ListUtils.partition(processIds, LOAD_CHUNK_SIZE)) {
+            for (Process process : dao.getByIds(chunk)) {
+                process.setImportConfiguration(configuration);
+                saveToDatabase(process);
+            }
         }
         return configuration.getTitle();
     }
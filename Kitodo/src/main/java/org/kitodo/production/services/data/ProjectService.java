@@ -45,6 +45,7 @@ import org.kitodo.production.dto.ProjectDTO;
 import org.kitodo.production.dto.TemplateDTO;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.FilterVocabularyService.Vocabulary;
 import org.kitodo.production.services.data.base.ClientSearchService;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.IdsQueryBuilder;
@@ -83,6 +84,38 @@ public class ProjectService extends ClientSearchService<Project, ProjectDTO, Pro
         return localReference;
     }
 
+    /**
+     * Saves the project to the index and lets the project titles offered by
+     * the search filters be read again.
+     *
+     * @param project
+     *            object
+     * @param forceRefresh
+     *            force index refresh
+     */
+    @Override
+    public void saveToIndex(Project project, boolean forceRefresh)
+            throws CustomResponseException, DataException, IOException {
+        super.saveToIndex(project, forceRefresh);
+        ServiceManager.getFilterVocabularyService().invalidate(Vocabulary.PROJECTS);
+    }
+
+    /**
+     * Removes the project from the index and lets the project titles offered
+     * by the search filters be read again.
+     *
+     * @param project
+     *            object
+     * @param forceRefresh
+     *            force index refresh
+     */
+    @Override
+    public void removeFromIndex(Project project, boolean forceRefresh)
+            throws CustomResponseException, DataException, IOException {
+        super.removeFromIndex(project, forceRefresh);
+        ServiceManager.getFilterVocabularyService().invalidate(Vocabulary.PROJECTS);
+    }
+
     /**
      * Method saves processes and templates related to modified project.
      *
@@ -18,6 +18,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -29,6 +30,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.command.CommandResult;
+import org.kitodo.data.database.beans.Client;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
@@ -66,6 +68,7 @@ import org.kitodo.production.model.Subfolder;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.command.CommandService;
 import org.kitodo.production.services.command.KitodoScriptService;
+import org.kitodo.production.services.data.FilterVocabularyService.Vocabulary;
 import org.kitodo.production.services.data.base.ProjectSearchService;
 import org.kitodo.production.services.file.SubfolderFactoryService;
 import org.kitodo.production.services.image.ImageGenerator;
@@ -222,6 +225,42 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
                 taskStatus), getSortBuilder(sortField, sortOrder), first, pageSize, false);
     }
 
+    /**
+     * Saves the task to the index and adds its title to the task titles
+     * offered by the search filters.
+     *
+     * @param task
+     *            object
+     * @param forceRefresh
+     *            force index refresh
+     */
+    @Override
+    public void saveToIndex(Task task, boolean forceRefresh)
+            throws CustomResponseException, DataException, IOException {
+        super.saveToIndex(task, forceRefresh);
+        if (Objects.nonNull(task) && Objects.nonNull(task.getTitle())) {
+            // the titles are read from the lower-case normalized keyword field
+            ServiceManager.getFilterVocabularyService().addValue(Vocabulary.TASK_TITLES, getClientId(task),
+                task.getTitle().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Removes the task from the index and lets the task titles offered by the
+     * search filters be read again.
+     *
+     * @param task
+     *            object
+     * @param forceRefresh
+     *            force index refresh
+     */
+    @Override
+    public void removeFromIndex(Task task, boolean forceRefresh)
+            throws CustomResponseException, DataException, IOException {
+        super.removeFromIndex(task, forceRefresh);
+        ServiceManager.getFilterVocabularyService().invalidate(Vocabulary.TASK_TITLES);
+    }
+
     /**
      * Method saves or removes dependencies with process, users and user's
      * groups related to modified task.
@@ -238,6 +277,16 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
         }
     }
 
+    private static int getClientId(Task task) {
+        Client client = null;
+        if (Objects.nonNull(task.getProcess()) && Objects.nonNull(task.getProcess().getProject())) {
+            client = task.getProcess().getProject().getClient();
+        } else if (Objects.nonNull(task.getTemplate())) {
+            client = task.getTemplate().getClient();
+        }
+        return Objects.nonNull(client) && Objects.nonNull(client.getId()) ? client.getId() : 0;
+    }
+
     private void manageProcessDependenciesForIndex(Task task)
             throws CustomResponseException, DataException, IOException {
         Process process = task.getProcess();
@@ -294,8 +343,22 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
      *
      * @return a list of titles
      */
-    public List<String> findTaskTitlesDistinct() throws DataException, DAOException {
-        return findDistinctValues(QueryBuilders.matchAllQuery(), "title.keyword", true, countDatabaseRows());
+    public List<String> findTaskTitlesDistinct() throws DataException {
+        return findAllDistinctValues(QueryBuilders.matchAllQuery(), TaskTypeField.TITLE.getKey() + ".keyword", -1);
+    }
+
+    /**
+     * Find the distinct task titles of a client.
+     *
+     * @param clientId
+     *            id of the client
+     * @param maxSize
+     *            maximum number of titles returned
+     * @return a list of titles
+     */
+    public List<String> findTaskTitlesDistinct(int clientId, int maxSize) throws DataException {
+        return findAllDistinctValues(QueryBuilders.termQuery(TaskTypeField.CLIENT_ID.getKey(), clientId),
+            TaskTypeField.TITLE.getKey() + ".keyword", maxSize);
     }
 
     @Override
@@ -647,6 +710,50 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
         return dao.getAllTasksInBetween(orderingMax, orderingMin, processId);
     }
 
+    /**
+     * Sets the processing status of tasks by one bulk update in the database,
+     * instead of saving each task on its own. The given tasks are changed
+     * accordingly and marked to be indexed, but they are not indexed here.
+     *
+     * @param tasks
+     *            tasks to change
+     * @param status
+     *            new processing status
+     * @throws DAOException
+     *             if the tasks cannot be updated in the database
+     */
+    public void setProcessingStatus(List<Task> tasks, TaskStatus status) throws DAOException {
+        dao.updateProcessingStatus(tasks.stream().map(Task::getId).collect(Collectors.toList()), status);
+        for (Task task : tasks) {
+            task.setProcessingStatus(status);
+            task.setIndexAction(IndexAction.INDEX);
+        }
+    }
+
+    /**
+     * Locks tasks for a correction by one bulk update in the database and
+     * indexes them. The tasks are set to locked, marked as correction and
+     * their processing end is removed.
+     *
+     * @param tasks
+     *            tasks to lock
+     * @throws DataException
+     *             if the tasks cannot be updated or indexed
+     */
+    public void lockForCorrection(List<Task> tasks) throws DataException {
+        try {
+            dao.lockForCorrection(tasks.stream().map(Task::getId).collect(Collectors.toList()));
+            for (Task task : tasks) {
+                task.setProcessingStatus(TaskStatus.LOCKED);
+                task.setCorrection(true);
+                task.setProcessingEnd(null);
+            }
+            addAllObjectsToIndex(tasks);
+        } catch (DAOException | CustomResponseException | IOException e) {
+            throw new DataException(e);
+        }
+    }
+
     /**
      * Get next tasks for problem solution for given process id.
      *
@@ -840,14 +947,25 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
      * @return the duration in days
      */
     public long getDurationInDays(Task task) {
+        return getDurationInDays(task.getProcessingBegin(), task.getProcessingTime(), task.getProcessingEnd());
+    }
 
-        Date end = task.getProcessingEnd();
+    /**
+     * Get the duration of a task in days from its processing dates. A missing
+     * begin falls back to the processing time, missing dates to now.
+     * @param processingBegin processing begin of the task
+     * @param processingTime processing time of the task
+     * @param processingEnd processing end of the task
+     * @return the duration in days
+     */
+    public static long getDurationInDays(Date processingBegin, Date processingTime, Date processingEnd) {
+        Date end = processingEnd;
         if (Objects.isNull(end)) {
             end = new Date();
         }
-        Date begin = task.getProcessingBegin();
+        Date begin = processingBegin;
         if (Objects.isNull(begin)) {
-            begin = task.getProcessingTime();
+            begin = processingTime;
             if (Objects.isNull(begin)) {
                 begin = new Date();
             }
@@ -51,6 +51,7 @@ import org.kitodo.production.helper.Helper;
 import org.kitodo.production.security.SecurityUserDetails;
 import org.kitodo.production.security.password.SecurityPasswordEncoder;
 import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.FilterVocabularyService.Vocabulary;
 import org.kitodo.production.services.data.base.ClientSearchDatabaseService;
 import org.primefaces.model.SortOrder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -92,6 +93,15 @@ public class UserService extends ClientSearchDatabaseService<User, UserDAO> impl
         return localReference;
     }
 
+    @Override
+    public void saveToDatabase(User user) throws DAOException {
+        super.saveToDatabase(user);
+        // login, name or LDAP group may have changed
+        ServiceManager.getLdapServerService().invalidateCache(user);
+        // the assigned projects may have changed
+        ServiceManager.getFilterVocabularyService().invalidate(Vocabulary.PROJECTS, user.getId());
+    }
+
     @Override
     public Long countDatabaseRows() throws DAOException {
         return countDatabaseRows("SELECT COUNT(*) FROM User WHERE deleted = 0");
@@ -138,6 +138,12 @@ public abstract class ClientSearchService<T extends BaseIndexedBean, S extends B
         return super.findByQuery(queryForClient(query), sort, offset, size, related);
     }
 
+    @Override
+    public List<Map<String, Object>> findDocumentsAfter(QueryBuilder query, SortBuilder sort, Object[] searchAfter,
+            int size, String... includes) throws DataException {
+        return super.findDocumentsAfter(queryForClient(query), sort, searchAfter, size, includes);
+    }
+
     @Override
     public Long countDocuments(QueryBuilder query) throws DataException {
         return super.countDocuments(queryForClient(query));
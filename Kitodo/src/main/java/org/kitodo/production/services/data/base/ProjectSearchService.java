@@ -12,6 +12,7 @@
 package org.kitodo.production.services.data.base;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.kitodo.data.database.beans.BaseIndexedBean;
@@ -88,6 +89,12 @@ public abstract class ProjectSearchService<T extends BaseIndexedBean, S extends
         return super.findByQuery(queryForProjects(query), sort, offset, size, related);
     }
 
+    @Override
+    public List<Map<String, Object>> findDocumentsAfter(QueryBuilder query, SortBuilder sort, Object[] searchAfter,
+            int size, String... includes) throws DataException {
+        return super.findDocumentsAfter(queryForProjects(query), sort, searchAfter, size, includes);
+    }
+
     /**
      * Execute a search query without filtering
      * for projects of the current user.
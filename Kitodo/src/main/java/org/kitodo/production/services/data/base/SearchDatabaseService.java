@@ -208,6 +208,18 @@ public abstract class SearchDatabaseService<T extends BaseBean, S extends BaseDA
         return dao.getProjectionByQuery(hql, null);
     }
 
+    /**
+     * Executes an HQL query with parameters that returns scalar projections
+     * instead of full entity objects.
+     *
+     * @param hql the HQL query string
+     * @param parameters query parameters
+     * @return list of scalar projection results
+     */
+    protected List<Object[]> getProjectionByQuery(String hql, Map<String, Object> parameters) {
+        return dao.getProjectionByQuery(hql, parameters);
+    }
+
     /**
      * Evict given bean object.
      *
@@ -19,6 +19,7 @@ import static org.opensearch.index.query.QueryBuilders.termsQuery;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
@@ -51,9 +52,13 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.Aggregations;
 import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.ParsedComposite;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.terms.ParsedStringTerms;
 import org.opensearch.search.aggregations.bucket.terms.Terms;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.Sum;
 import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.search.sort.SortBuilders;
 import org.primefaces.model.SortOrder;
@@ -70,6 +75,7 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
     protected Indexer indexer;
     protected BaseType type;
     protected static final String WILDCARD = "*";
+    private static final int DISTINCT_VALUES_PAGE_SIZE = 1000;
 
     /**
      * Constructor necessary to use searcher in child classes.
@@ -473,6 +479,34 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Find the next page of documents by query without converting them to DTO
+     * objects. The documents are sorted by the given unique sort condition and
+     * begin after the document with the given sort values, so all documents
+     * matching the query can be read page by page in constant memory.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            unique sort condition, e.g. by id
+     * @param searchAfter
+     *            sort values of the last document of the previous page, or
+     *            null for the first page
+     * @param size
+     *            maximum number of documents of the page
+     * @param includes
+     *            source fields to return
+     * @return list of found documents
+     */
+    public List<Map<String, Object>> findDocumentsAfter(QueryBuilder query, SortBuilder sort, Object[] searchAfter,
+            int size, String... includes) throws DataException {
+        try {
+            return searcher.findDocumentsAfter(query, sort, searchAfter, size, includes);
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
     /**
      * Find list of DTO objects by query.
      *
@@ -844,11 +878,21 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Sums up the values of a numeric field of all documents matching the
+     * query by a sum aggregation in the index, without reading the documents.
+     *
+     * @param query
+     *            for the documents to sum up
+     * @param field
+     *            numeric field to sum up
+     * @return the sum of the field values
+     */
     protected Double findSumAggregation(QueryBuilder query, String field) throws DataException {
         try {
-            Aggregations jsonObject = searcher.aggregateDocuments(query, AggregationBuilders.count(field).field(field));
-            JsonObject sum = jsonObject.get(field);
-            return sum.getJsonNumber("value").doubleValue();
+            Aggregations aggregations = searcher.aggregateDocuments(query, AggregationBuilders.sum(field).field(field));
+            Sum sum = aggregations.get(field);
+            return Objects.isNull(sum) ? 0d : sum.getValue();
         } catch (CustomResponseException e) {
             throw new DataException(e);
         }
@@ -887,6 +931,51 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Find distinct values sorted by terms, paging through the values with a
+     * composite aggregation. Unlike a terms aggregation, the composite
+     * aggregation does not need to hold all buckets at once, so large numbers
+     * of values can be read.
+     *
+     * @param query
+     *            for searched values to aggregation
+     * @param field
+     *            by which aggregation is going to be performed
+     * @param maxSize
+     *            maximum number of values returned, or a negative number for
+     *            all values
+     * @return sorted list of distinct values
+     */
+    protected List<String> findAllDistinctValues(QueryBuilder query, String field, int maxSize)
+            throws DataException {
+        List<String> distinctValues = new ArrayList<>();
+        Map<String, Object> afterKey = null;
+        try {
+            do {
+                CompositeAggregationBuilder compositeAggregation = AggregationBuilders.composite(field,
+                    Collections.singletonList(new TermsValuesSourceBuilder(field).field(field)))
+                        .size(DISTINCT_VALUES_PAGE_SIZE);
+                if (Objects.nonNull(afterKey)) {
+                    compositeAggregation.aggregateAfter(afterKey);
+                }
+                ParsedComposite composite = searcher.aggregateDocuments(query, compositeAggregation).get(field);
+                if (Objects.isNull(composite)) {
+                    break;
+                }
+                for (ParsedComposite.ParsedBucket bucket : composite.getBuckets()) {
+                    if (maxSize >= 0 && distinctValues.size() >= maxSize) {
+                        return distinctValues;
+                    }
+                    distinctValues.add(String.valueOf(bucket.getKey().get(field)));
+                }
+                afterKey = composite.getBuckets().size() < DISTINCT_VALUES_PAGE_SIZE ? null : composite.afterKey();
+            } while (Objects.nonNull(afterKey));
+            return distinctValues;
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
     protected Map<String, Object> findDocument(QueryBuilder query) throws DataException {
         try {
             return searcher.findDocument(query);
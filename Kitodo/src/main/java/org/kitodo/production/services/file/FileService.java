@@ -21,10 +21,10 @@ import java.net.URISyntaxException;
 import java.nio.file.FileSystems;
 import java.nio.file.Paths;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -34,7 +34,6 @@ import java.util.Objects;
 import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.BidiMap;
 import org.apache.commons.collections4.bidimap.DualHashBidiMap;
@@ -1545,19 +1544,19 @@ public class FileService {
     }
 
     /**
-     * Rename media files of given processes.
-     * @param processes Processes whose media is renamed
+     * Rename media files of given processes. The processes are loaded in
+     * chunks by the renaming task.
+     * @param processIds IDs of processes whose media is renamed
      */
-    public void renameMedia(List<Process> processes) {
-        processes = lockAndSortProcessesForRenaming(processes);
-        TaskManager.addTask(new RenameMediaThread(processes));
+    public void renameMedia(List<Integer> processIds) {
+        TaskManager.addTask(new RenameMediaThread(lockAndSortProcessesForRenaming(processIds)));
     }
 
-    private List<Process> lockAndSortProcessesForRenaming(List<Process> processes) {
-        processes.sort(Comparator.comparing(Process::getId));
+    private List<Integer> lockAndSortProcessesForRenaming(List<Integer> processIds) {
+        List<Integer> sortedProcessIds = new ArrayList<>(processIds);
+        Collections.sort(sortedProcessIds);
         List<Integer> lockedProcesses = new LinkedList<>();
-        for (Process process : processes) {
-            int processId = process.getId();
+        for (int processId : sortedProcessIds) {
             if (MetadataLock.isLocked(processId)) {
                 lockedProcesses.add(processId);
                 if (ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.ANONYMIZE)) {
@@ -1572,7 +1571,8 @@ public class FileService {
                 MetadataLock.setLocked(processId, ServiceManager.getUserService().getCurrentUser());
             }
         }
-        return processes.stream().filter(p -> !lockedProcesses.contains(p.getId())).collect(Collectors.toList());
+        sortedProcessIds.removeAll(lockedProcesses);
+        return sortedProcessIds;
     }
 
     /**
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -32,6 +33,7 @@ import javax.faces.push.PushContext;
 import javax.json.Json;
 import javax.json.JsonObject;
 import javax.json.JsonReader;
+import javax.json.JsonValue;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -84,6 +86,7 @@ public class IndexingService {
 
     private ObjectType currentIndexState = ObjectType.NONE;
     private IndexStates currentState = IndexStates.NO_STATE;
+    private volatile boolean mappingOutdated = false;
 
     private static final IndexRestClient indexRestClient = IndexRestClient.getInstance();
 
@@ -450,6 +453,7 @@ public class IndexingService {
                 }
             }
         }
+        mappingOutdated = false;
         return MAPPING_FINISHED_MESSAGE;
     }
 
@@ -564,6 +568,71 @@ public class IndexingService {
         return false;
     }
 
+    /**
+     * Checks whether the existing indexes have all fields of the mappings of
+     * this version. If an index was created by an older version, searches and
+     * filters on the missing fields find nothing and objects with these fields
+     * cannot be indexed, because the mappings are strict. In that case, the
+     * mapping must be created again and all objects must be indexed again.
+     * Indexes that do not exist are not checked.
+     *
+     * @return whether the mapping of any index is outdated
+     */
+    public boolean checkMapping() {
+        List<String> outdatedIndexes = new ArrayList<>();
+        for (String mappingType : KitodoRestClient.MAPPING_TYPES) {
+            String mapping = readMapping(mappingType);
+            if (StringUtils.isBlank(mapping)) {
+                continue;
+            }
+            try (JsonReader mappingExpectedReader = Json.createReader(new StringReader(mapping));
+                 JsonReader mappingCurrentReader = Json.createReader(new StringReader(indexRestClient.getMapping(mappingType)))) {
+                JsonObject mappingExpected = mappingExpectedReader.readObject().getJsonObject("mappings");
+                JsonObject mappingCurrent = mappingCurrentReader.readObject()
+                        .getJsonObject(indexRestClient.getIndexBase() + "_" + mappingType).getJsonObject("mappings");
+                if (!containsFields(mappingCurrent, mappingExpected)) {
+                    outdatedIndexes.add(mappingType);
+                }
+            } catch (IOException e) {
+                logger.debug("Mapping of index {} not checked: {}", mappingType, e.getMessage());
+            }
+        }
+        mappingOutdated = !outdatedIndexes.isEmpty();
+        if (mappingOutdated) {
+            logger.error("The mapping of the indexes {} is outdated. Create the mapping again and index all objects.",
+                outdatedIndexes);
+        }
+        return mappingOutdated;
+    }
+
+    private static boolean containsFields(JsonObject mapping, JsonObject fields) {
+        JsonObject properties = fields.getJsonObject("properties");
+        if (Objects.isNull(properties)) {
+            return true;
+        }
+        JsonObject existingProperties = Objects.nonNull(mapping) ? mapping.getJsonObject("properties") : null;
+        if (Objects.isNull(existingProperties)) {
+            return false;
+        }
+        for (Map.Entry<String, JsonValue> field : properties.entrySet()) {
+            JsonValue existingField = existingProperties.get(field.getKey());
+            if (!(existingField instanceof JsonObject && field.getValue() instanceof JsonObject)
+                    || !containsFields((JsonObject) existingField, (JsonObject) field.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the last check found an outdated mapping.
+     *
+     * @return whether the mapping is outdated
+     */
+    public boolean isMappingOutdated() {
+        return mappingOutdated;
+    }
+
     private boolean isMappingEqualTo(String mapping, String mappingType) {
         try (JsonReader mappingExpectedReader = Json.createReader(new StringReader(mapping));
              JsonReader mappingCurrentReader = Json.createReader(new StringReader(indexRestClient.getMapping(mappingType)))) {
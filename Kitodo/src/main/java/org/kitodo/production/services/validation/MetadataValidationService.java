@@ -159,6 +159,20 @@ public class MetadataValidationService {
         return metadataValidation.validate(metsFileUri, rulesetFileUri, getMetadataLanguage(), getTranslations());
     }
 
+    /**
+     * Validates several METS files based on one rule set, which is loaded
+     * only once.
+     *
+     * @param metsFileUris
+     *            METS files
+     * @param rulesetFileUri
+     *            Ruleset file
+     * @return the validation results, by METS file
+     */
+    public Map<URI, ValidationResult> validate(Collection<URI> metsFileUris, URI rulesetFileUri) {
+        return metadataValidation.validate(metsFileUris, rulesetFileUri, getMetadataLanguage(), getTranslations());
+    }
+
     /**
      * Validates a workpiece based on a rule set.
      *
@@ -21,7 +21,9 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -488,11 +490,14 @@ public class WorkflowControllerService {
     private void lockTasksBetweenCurrentAndCorrectionTask(Task currentTask, Task correctionTask) throws DataException {
         List<Task> allTasksInBetween = taskService.getAllTasksInBetween(correctionTask.getOrdering(),
             currentTask.getOrdering(), currentTask.getProcess().getId());
-        for (Task taskInBetween : allTasksInBetween) {
-            taskInBetween.setProcessingStatus(TaskStatus.LOCKED);
-            taskInBetween.setCorrection(true);
-            taskInBetween.setProcessingEnd(null);
-            taskService.save(taskInBetween);
+        taskService.lockForCorrection(allTasksInBetween);
+        Set<Integer> lockedTaskIds = allTasksInBetween.stream().map(Task::getId).collect(Collectors.toSet());
+        for (Task task : currentTask.getProcess().getTasks()) {
+            if (lockedTaskIds.contains(task.getId())) {
+                task.setProcessingStatus(TaskStatus.LOCKED);
+                task.setCorrection(true);
+                task.setProcessingEnd(null);
+            }
         }
     }
 
@@ -0,0 +1,42 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.servlet;
+
+import java.io.IOException;
+
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.kitodo.production.WarmUp;
+
+/**
+ * Readiness check for load balancers. Answers with "200 OK" when the
+ * application has warmed up, and with "503 Service Unavailable" before.
+ */
+@WebServlet(name = "ReadinessServlet", urlPatterns = "/ready")
+public class ReadinessServlet extends HttpServlet {
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType("text/plain");
+        response.setCharacterEncoding("UTF-8");
+        if (WarmUp.isReady()) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.getWriter().write("ready");
+        } else {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.getWriter().write("warming up");
+        }
+    }
+}
@@ -17,13 +17,21 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javax.xml.namespace.QName;
 import javax.xml.parsers.ParserConfigurationException;
@@ -39,6 +47,7 @@ import javax.xml.transform.TransformerException;
 import javax.xml.xpath.XPathExpressionException;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.Metadata;
@@ -63,6 +72,7 @@ import org.kitodo.production.helper.ProcessHelper;
 import org.kitodo.production.helper.TempProcess;
 import org.kitodo.production.helper.XMLUtils;
 import org.kitodo.production.helper.tasks.EmptyTask;
+import org.kitodo.production.helper.tasks.TaskType;
 import org.kitodo.production.metadata.MetadataEditor;
 import org.kitodo.production.security.SecurityUserDetails;
 import org.kitodo.production.services.ServiceManager;
@@ -80,6 +90,13 @@ import org.xml.sax.SAXException;
 public class ImportEadProcessesThread extends EmptyTask {
 
     private static final Logger logger = LogManager.getLogger(ImportEadProcessesThread.class);
+
+    /**
+     * Time to wait for processes being created when the import is aborted,
+     * before the created processes are deleted.
+     */
+    private static final long TERMINATION_TIMEOUT_SECONDS = 60;
+
     private final ImportService importService = ServiceManager.getImportService();
     private final String xmlString;
     private final String eadLevel;
@@ -92,6 +109,7 @@ public class ImportEadProcessesThread extends EmptyTask {
     private final List<Namespace> namespaces;
     private final User user;
     private final Client client;
+    private final int threads;
     private TempProcess parentProcess = null;
     private int count;
 
@@ -116,6 +134,7 @@ public class ImportEadProcessesThread extends EmptyTask {
         this.namespaces = new ArrayList<>();
         this.user = user;
         this.client = client;
+        this.threads = Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.EAD_IMPORT_THREADS));
     }
 
     @Override
@@ -129,8 +148,13 @@ public class ImportEadProcessesThread extends EmptyTask {
         List<Integer> newProcessIds = new ArrayList<>();
         int newParentId = 0;
         boolean stopOnError = ConfigCore.getBooleanParameter(ParameterCore.STOP_EAD_COLLECTION_IMPORT_ON_EXCEPTION);
+        Deque<Pair<Integer, Future<TempProcess>>> pendingProcesses = new ArrayDeque<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
         try {
-            int numberOfElements = XMLUtils.getNumberOfEADElements(xmlString, eadLevel);
             XMLInputFactory inputFactory = XMLInputFactory.newInstance();
             XMLEventReader eventReader = inputFactory.createXMLEventReader(new StringReader(xmlString));
             boolean inProcessElement = false;
@@ -183,59 +207,128 @@ public class ImportEadProcessesThread extends EmptyTask {
                                 }
                             }
                         } else {
-                            if (inParentProcessElement || inProcessElement) {
-                                String content = event.toString();
-                                if (StringUtils.isNotBlank(content)) {
-                                    stringBuilder.append(removeDefaultNamespaceUri(content));
-                                }
-                            }
+                            appendContent(stringBuilder, event, inParentProcessElement || inProcessElement);
                         }
                         break;
                     case XMLEvent.END_ELEMENT:
                         EndElement endElement = event.asEndElement();
                         String endElementName = endElement.getName().getLocalPart();
                         if (inProcessElement && StringConstants.C_TAG_NAME.equals(endElementName)) {
-                            int progress = (count * 100) / numberOfElements;
-                            setProgress(progress);
+                            setProgress(getProgress(event));
                             inProcessElement = false;
-                            String content = event.toString();
-                            stringBuilder.append(removeDefaultNamespaceUri(content));
-                            try {
-                                newProcessIds.add(parseXmlStringToProcessedTempProcess(stringBuilder.toString()).getProcess().getId());
-                            } catch (Exception e) {
-                                logger.error(e.getMessage(), e);
-                                if (stopOnError) {
-                                    throw new ProcessGenerationException("Unable to create process. Cause: " + e.getMessage());
-                                }
+                            stringBuilder.append(removeDefaultNamespaceUri(event.toString()));
+                            String processXmlString = stringBuilder.toString();
+                            pendingProcesses.add(Pair.of(count - 1,
+                                executor.submit(() -> createChildProcess(processXmlString))));
+                            while (pendingProcesses.size() > threads * 2) {
+                                linkNextProcess(pendingProcesses, newProcessIds, stopOnError);
                             }
                             stringBuilder = new StringBuilder();
                         } else {
-                            if (inParentProcessElement || inProcessElement) {
-                                String content = event.toString();
-                                if (StringUtils.isNotBlank(content)) {
-                                    stringBuilder.append(removeDefaultNamespaceUri(content));
-                                }
-                            }
+                            appendContent(stringBuilder, event, inParentProcessElement || inProcessElement);
                         }
                         break;
                     default:
-                        if (inParentProcessElement || inProcessElement) {
-                            String content = event.toString();
-                            if (StringUtils.isNotBlank(content)) {
-                                stringBuilder.append(removeDefaultNamespaceUri(content));
-                            }
-                        }
+                        appendContent(stringBuilder, event, inParentProcessElement || inProcessElement);
                         break;
                 }
             }
-
+            while (!pendingProcesses.isEmpty()) {
+                linkNextProcess(pendingProcesses, newProcessIds, stopOnError);
+            }
+            setProgress(100);
         } catch (XMLStreamException | IOException | ParserConfigurationException | SAXException
                  | UnsupportedFormatException | XPathExpressionException | ProcessGenerationException
                  | URISyntaxException | InvalidMetadataValueException | TransformerException
-                 | NoSuchMetadataFieldException | DataException | CommandException e) {
+                 | NoSuchMetadataFieldException | DataException | CommandException | InterruptedException e) {
             logger.error(e.getMessage(), e);
+            stopWorkers(executor);
+            collectCreatedProcesses(pendingProcesses, newProcessIds);
             cleanUpProcesses(newProcessIds, newParentId);
             throw new RuntimeException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void appendContent(StringBuilder stringBuilder, XMLEvent event, boolean inElement) {
+        if (inElement) {
+            String content = event.toString();
+            if (StringUtils.isNotBlank(content)) {
+                stringBuilder.append(removeDefaultNamespaceUri(content));
+            }
+        }
+    }
+
+    // progress is the share of the uploaded file read so far, which saves a separate pass to count the EAD elements
+    private int getProgress(XMLEvent event) {
+        int offset = event.getLocation().getCharacterOffset();
+        if (offset < 0 || xmlString.isEmpty()) {
+            return getProgress();
+        }
+        return (int) Math.min(99, offset * 100L / xmlString.length());
+    }
+
+    // waits for the oldest pending process and links it to the parent, so that children keep their EAD order
+    private void linkNextProcess(Deque<Pair<Integer, Future<TempProcess>>> pendingProcesses,
+            List<Integer> newProcessIds, boolean stopOnError) throws InterruptedException, ProcessGenerationException {
+        Pair<Integer, Future<TempProcess>> pendingProcess = pendingProcesses.remove();
+        try {
+            TempProcess tempProcess = pendingProcess.getRight().get();
+            newProcessIds.add(tempProcess.getProcess().getId());
+            if (Objects.nonNull(parentProcess)) {
+                ProcessService.setParentRelations(parentProcess.getProcess(), tempProcess.getProcess());
+                MetadataEditor.addLink(parentProcess.getProcess(), String.valueOf(pendingProcess.getLeft()),
+                    tempProcess.getProcess().getId());
+                ServiceManager.getProcessService().save(tempProcess.getProcess(), true);
+            }
+        } catch (ExecutionException | IOException | DataException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            logger.error(cause.getMessage(), cause);
+            if (stopOnError) {
+                throw new ProcessGenerationException("Unable to create process. Cause: " + cause.getMessage());
+            }
+        }
+    }
+
+    // cancels the processes not started yet and waits for the running ones, so that all can be cleaned up
+    private void stopWorkers(ExecutorService executor) {
+        for (Runnable notStarted : executor.shutdownNow()) {
+            if (notStarted instanceof Future) {
+                ((Future<?>) notStarted).cancel(false);
+            }
+        }
+        try {
+            if (!executor.awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Processes still being created after {} seconds", TERMINATION_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // adds the processes that were created, but not linked yet, when the import was canceled
+    private void collectCreatedProcesses(Deque<Pair<Integer, Future<TempProcess>>> pendingProcesses,
+            List<Integer> newProcessIds) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TERMINATION_TIMEOUT_SECONDS);
+        for (Pair<Integer, Future<TempProcess>> pendingProcess : pendingProcesses) {
+            Future<TempProcess> future = pendingProcess.getRight();
+            if (future.isCancelled()) {
+                continue;
+            }
+            try {
+                long timeout = Math.max(0, deadline - System.nanoTime());
+                newProcessIds.add(future.get(timeout, TimeUnit.NANOSECONDS).getProcess().getId());
+            } catch (ExecutionException e) {
+                logger.debug(e.getMessage());
+            } catch (TimeoutException e) {
+                logger.error("Process of EAD element {} is still being created and cannot be deleted",
+                    pendingProcess.getLeft());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.error("Interrupted while collecting created processes, some of them are not deleted");
+                return;
+            }
         }
     }
 
@@ -300,12 +393,6 @@ public class ImportEadProcessesThread extends EmptyTask {
         tempProcess.getProcessMetadata().preserve();
         ImportService.processTempProcess(tempProcess, rulesetManagementInterface, CREATE, priorityList, parentProcess);
         saveTempProcessMetadata(tempProcess);
-        if (Objects.nonNull(parentProcess)) {
-            ProcessService.setParentRelations(parentProcess.getProcess(), tempProcess.getProcess());
-            MetadataEditor.addLink(parentProcess.getProcess(), String.valueOf(count - 1), tempProcess.getProcess()
-                    .getId());
-            ServiceManager.getProcessService().save(tempProcess.getProcess(), true);
-        }
         return tempProcess;
     }
 
@@ -315,14 +402,16 @@ public class ImportEadProcessesThread extends EmptyTask {
             ProcessGenerationException, URISyntaxException, TransformerException {
         Document elementDocument = XMLUtils.parseXMLString(xmlString);
         Element element = elementDocument.getDocumentElement();
-        return importService.createTempProcessFromElement(element, importConfiguration, projectId, templateId, isParent);
+        return importService.createTempProcessFromElement(element, importConfiguration, projectId, templateId,
+            isParent);
     }
 
-    // used to parse children (e.g. "files")
-    private TempProcess parseXmlStringToProcessedTempProcess(String xmlElementString) throws IOException,
+    // used to parse children (e.g. "files"), runs in the worker threads
+    private TempProcess createChildProcess(String xmlElementString) throws IOException,
             ParserConfigurationException, SAXException, UnsupportedFormatException, XPathExpressionException,
             ProcessGenerationException, URISyntaxException, InvalidMetadataValueException, TransformerException,
             NoSuchMetadataFieldException, DataException, CommandException {
+        setAuthenticatedUser();
         TempProcess tempProcess = parseXmlStringToTempProcess(xmlElementString, false);
         return processTempProcess(tempProcess);
     }
@@ -355,4 +444,9 @@ public class ImportEadProcessesThread extends EmptyTask {
         tempProcess.getProcess().setProcessBaseUri(processBaseUri);
         ProcessHelper.saveTempProcessMetadata(tempProcess, rulesetManagementInterface, CREATE, priorityList);
     }
+
+    @Override
+    public TaskType getTaskType() {
+        return TaskType.IMPORT;
+    }
 }
@@ -23,27 +23,30 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.LocaleHelper;
 import org.kitodo.production.helper.tasks.EmptyTask;
+import org.kitodo.production.helper.tasks.TaskType;
 import org.kitodo.production.metadata.MetadataLock;
 import org.kitodo.production.services.ServiceManager;
 
 /**
  * This class is used to rename media files of multiple processes in a separate thread whose progress can be monitored
- * in the task manager.
+ * in the task manager. The processes are loaded in chunks while renaming.
  */
 public class RenameMediaThread extends EmptyTask {
 
     private static final Logger logger = LogManager.getLogger(RenameMediaThread.class);
-    private final List<Process> processes;
+    private final List<Integer> processIds;
+    private int numberOfProcessesDone = 0;
     private static final String THREAD_NAME = "renameMediaThread";
     private static final String ERRORS_OCCURRED_KEY = "errorsOccurredCheckLog";
     private static final String PROCESSES = "processes";
 
-    public RenameMediaThread(List<Process> processes) {
-        super(processes.size() + " " + Helper.getString(LocaleHelper.getCurrentLocale(), PROCESSES));
-        this.processes = processes;
+    public RenameMediaThread(List<Integer> processIds) {
+        super(processIds.size() + " " + Helper.getString(LocaleHelper.getCurrentLocale(), PROCESSES));
+        this.processIds = processIds;
     }
 
     @Override
@@ -58,32 +61,47 @@ public class RenameMediaThread extends EmptyTask {
      */
     @Override
     public void run() {
-        for (Process process : processes) {
-            int processId = process.getId();
-            URI metaXmlUri = ServiceManager.getProcessService().getMetadataFileUri(process);
-            DualHashBidiMap<URI, URI> renamingMap = new DualHashBidiMap<>();
-            Workpiece workpiece = null;
-            try {
-                workpiece = ServiceManager.getMetsService().loadWorkpiece(metaXmlUri);
-                int numberOfRenamedFiles = ServiceManager.getFileService().renameMediaFiles(process, workpiece,
-                        renamingMap);
-                try (OutputStream out = ServiceManager.getFileService().write(metaXmlUri)) {
-                    ServiceManager.getMetsService().save(workpiece, out);
-                    logger.info("Renamed " + numberOfRenamedFiles + " media files for process " + process.getId());
-                }
-            } catch (IOException | URISyntaxException e) {
-                logger.error(e.getMessage());
-                String nameDetailMessage = processes.size()
-                        + " " + Helper.getString(LocaleHelper.getCurrentLocale(), PROCESSES)
-                        + " (" + Helper.getString(LocaleHelper.getCurrentLocale(), ERRORS_OCCURRED_KEY) + ")";
-                this.setNameDetail(nameDetailMessage);
-                if (Objects.nonNull(workpiece)) {
-                    ServiceManager.getFileService().revertRenaming(renamingMap.inverseBidiMap(), workpiece);
-                }
-            }
-            MetadataLock.setFree(processId);
-            setProgress((100 / processes.size()) * (processes.indexOf(process) + 1));
+        try {
+            ServiceManager.getProcessService().forEachChunk(processIds, processes -> processes.forEach(this::renameMedia));
+        } catch (DAOException e) {
+            logger.error(e.getMessage());
+            setException(e);
+            processIds.forEach(MetadataLock::setFree);
+            return;
         }
         setProgress(100);
     }
+
+    private void renameMedia(Process process) {
+        int processId = process.getId();
+        URI metaXmlUri = ServiceManager.getProcessService().getMetadataFileUri(process);
+        DualHashBidiMap<URI, URI> renamingMap = new DualHashBidiMap<>();
+        Workpiece workpiece = null;
+        try {
+            workpiece = ServiceManager.getMetsService().loadWorkpiece(metaXmlUri);
+            int numberOfRenamedFiles = ServiceManager.getFileService().renameMediaFiles(process, workpiece,
+                    renamingMap);
+            try (OutputStream out = ServiceManager.getFileService().write(metaXmlUri)) {
+                ServiceManager.getMetsService().save(workpiece, out);
+                logger.info("Renamed " + numberOfRenamedFiles + " media files for process " + process.getId());
+            }
+        } catch (IOException | URISyntaxException e) {
+            logger.error(e.getMessage());
+            String nameDetailMessage = processIds.size()
+                    + " " + Helper.getString(LocaleHelper.getCurrentLocale(), PROCESSES)
+                    + " (" + Helper.getString(LocaleHelper.getCurrentLocale(), ERRORS_OCCURRED_KEY) + ")";
+            this.setNameDetail(nameDetailMessage);
+            if (Objects.nonNull(workpiece)) {
+                ServiceManager.getFileService().revertRenaming(renamingMap.inverseBidiMap(), workpiece);
+            }
+        }
+        MetadataLock.setFree(processId);
+        numberOfProcessesDone++;
+        setProgress(100 * numberOfProcessesDone / processIds.size());
+    }
+
+    @Override
+    public TaskType getTaskType() {
+        return TaskType.IMAGE;
+    }
 }
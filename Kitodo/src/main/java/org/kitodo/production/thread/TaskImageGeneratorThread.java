@@ -14,6 +14,7 @@ package org.kitodo.production.thread;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.production.helper.tasks.EmptyTask;
+import org.kitodo.production.helper.tasks.TaskType;
 import org.kitodo.production.services.image.ImageGenerator;
 
 /**
@@ -81,4 +82,9 @@ public class TaskImageGeneratorThread extends EmptyTask {
     public TaskImageGeneratorThread replace() {
         return new TaskImageGeneratorThread(this);
     }
+
+    @Override
+    public TaskType getTaskType() {
+        return TaskType.IMAGE;
+    }
 }
@@ -18,8 +18,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-import org.camunda.bpm.model.bpmn.instance.ScriptTask;
-import org.camunda.bpm.model.bpmn.instance.Task;
 import org.kitodo.data.database.beans.Template;
 import org.kitodo.data.database.beans.WorkflowCondition;
 import org.kitodo.data.database.enums.TaskEditType;
@@ -36,9 +34,12 @@ public class Converter {
 
     private final Reader reader;
 
+    private final WorkflowModelCache.CachedWorkflow cachedWorkflow;
+
     /**
-     * Constructor with diagram name as parameter. It sets up reader for xml file
-     * with given name.
+     * Constructor with diagram name as parameter. It takes the workflow of the
+     * xml file with given name from the cache, which reads the file if it has
+     * not been read yet or has changed since.
      *
      * @param diagramName
      *            as String
@@ -46,7 +47,8 @@ public class Converter {
      *             in case if file for given name doesn't exist
      */
     public Converter(String diagramName) throws IOException {
-        reader = new Reader(diagramName);
+        reader = null;
+        cachedWorkflow = WorkflowModelCache.get(diagramName);
     }
 
     /**
@@ -60,6 +62,7 @@ public class Converter {
      */
     public Converter(InputStream diagramXmlContent) throws IOException {
         reader = new Reader(diagramXmlContent);
+        cachedWorkflow = null;
     }
 
     /**
@@ -83,22 +86,25 @@ public class Converter {
      * @return list of Task objects
      */
     public List<org.kitodo.data.database.beans.Task> validateWorkflowTaskList() throws WorkflowException {
-        reader.readWorkflowTasks();
-
-        Map<Task, TaskInfo> tasks = reader.getTasks();
+        Map<KitodoTask, TaskInfo> tasks;
+        if (Objects.nonNull(cachedWorkflow)) {
+            tasks = cachedWorkflow.getTasks();
+        } else {
+            reader.readWorkflowTasks();
+            tasks = reader.getKitodoTasks();
+        }
 
         List<org.kitodo.data.database.beans.Task> taskBeans = new ArrayList<>();
-        for (Map.Entry<Task, TaskInfo> entry : tasks.entrySet()) {
+        for (Map.Entry<KitodoTask, TaskInfo> entry : tasks.entrySet()) {
             taskBeans.add(getTask(entry.getKey(), entry.getValue()));
         }
 
         return taskBeans;
     }
 
-    private org.kitodo.data.database.beans.Task getTask(Task workflowTask, TaskInfo taskInfo)
+    private org.kitodo.data.database.beans.Task getTask(KitodoTask kitodoTask, TaskInfo taskInfo)
             throws WorkflowException {
         org.kitodo.data.database.beans.Task task = new org.kitodo.data.database.beans.Task();
-        KitodoTask kitodoTask = new KitodoTask(workflowTask);
         task.setWorkflowId(kitodoTask.getWorkflowId());
         task.setTitle(kitodoTask.getTitle());
         task.setOrdering(taskInfo.getOrdering());
@@ -138,8 +144,8 @@ public class Converter {
                 task.getTitle()));
         }
 
-        if (workflowTask instanceof ScriptTask) {
-            KitodoScriptTask kitodoScriptTask = new KitodoScriptTask((ScriptTask) workflowTask);
+        if (kitodoTask instanceof KitodoScriptTask) {
+            KitodoScriptTask kitodoScriptTask = (KitodoScriptTask) kitodoTask;
             task.setScriptName(kitodoScriptTask.getScriptName());
             task.setScriptPath(kitodoScriptTask.getScriptPath());
         }
@@ -13,6 +13,7 @@ package org.kitodo.production.workflow.model;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -26,12 +27,15 @@ import org.camunda.bpm.model.bpmn.instance.EndEvent;
 import org.camunda.bpm.model.bpmn.instance.FlowNode;
 import org.camunda.bpm.model.bpmn.instance.Gateway;
 import org.camunda.bpm.model.bpmn.instance.Process;
+import org.camunda.bpm.model.bpmn.instance.ScriptTask;
 import org.camunda.bpm.model.bpmn.instance.StartEvent;
 import org.camunda.bpm.model.bpmn.instance.Task;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.exceptions.WorkflowException;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.workflow.model.beans.KitodoScriptTask;
+import org.kitodo.production.workflow.model.beans.KitodoTask;
 import org.kitodo.production.workflow.model.beans.TaskInfo;
 
 public class Reader {
@@ -49,8 +53,7 @@ public class Reader {
      *             in case if file for given name doesn't exist
      */
     public Reader(String diagramName) throws IOException {
-        String diagramPath = ConfigCore.getKitodoDiagramDirectory() + diagramName + ".bpmn20.xml";
-        loadProcess(ServiceManager.getFileService().read(Paths.get(diagramPath).toUri()));
+        loadProcess(ServiceManager.getFileService().read(getDiagramPath(diagramName).toUri()));
     }
 
     /**
@@ -98,6 +101,34 @@ public class Reader {
         this.tasks = tasks;
     }
 
+    /**
+     * Returns the path of the XML file of the diagram with the given name.
+     *
+     * @param diagramName
+     *            name of the diagram
+     * @return path of the diagram file
+     */
+    static Path getDiagramPath(String diagramName) {
+        return Paths.get(ConfigCore.getKitodoDiagramDirectory() + diagramName + ".bpmn20.xml");
+    }
+
+    /**
+     * Returns the read workflow tasks with their attributes taken over from
+     * the diagram, so that they can be used without accessing the diagram
+     * again.
+     *
+     * @return the workflow tasks in the order they were read
+     */
+    Map<KitodoTask, TaskInfo> getKitodoTasks() {
+        Map<KitodoTask, TaskInfo> kitodoTasks = new LinkedHashMap<>();
+        for (Map.Entry<Task, TaskInfo> entry : tasks.entrySet()) {
+            Task task = entry.getKey();
+            kitodoTasks.put(task instanceof ScriptTask ? new KitodoScriptTask((ScriptTask) task) : new KitodoTask(task),
+                entry.getValue());
+        }
+        return kitodoTasks;
+    }
+
     void readWorkflowTasks() throws WorkflowException {
         tasks = new LinkedHashMap<>();
 
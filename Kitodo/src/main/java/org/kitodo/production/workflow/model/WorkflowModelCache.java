@@ -0,0 +1,120 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.workflow.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.kitodo.exceptions.WorkflowException;
+import org.kitodo.production.workflow.model.beans.KitodoTask;
+import org.kitodo.production.workflow.model.beans.TaskInfo;
+
+/**
+ * Process-wide cache of the workflows read from the diagram directory. A
+ * diagram file is parsed once, and its tasks are read and validated once, as
+ * long as the file is not changed. A file is considered changed if its
+ * modification time or size differs from when it was read.
+ */
+class WorkflowModelCache {
+
+    private static final Map<Path, CachedWorkflow> workflows = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private WorkflowModelCache() {
+    }
+
+    /**
+     * Returns the workflow of the diagram with the given name. The diagram
+     * file is read if it has not been read yet or has changed since.
+     *
+     * @param diagramName
+     *            name of the diagram
+     * @return the workflow
+     * @throws IOException
+     *             if the diagram file doesn't exist or contains no BPMN
+     *             process
+     */
+    static CachedWorkflow get(String diagramName) throws IOException {
+        Path diagramPath = Reader.getDiagramPath(diagramName);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(diagramPath, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            workflows.remove(diagramPath);
+            throw e;
+        }
+        CachedWorkflow cachedWorkflow = workflows.get(diagramPath);
+        if (Objects.nonNull(cachedWorkflow) && cachedWorkflow.isReadFrom(attributes)) {
+            return cachedWorkflow;
+        }
+        try (InputStream diagramXmlContent = Files.newInputStream(diagramPath)) {
+            cachedWorkflow = new CachedWorkflow(new Reader(diagramXmlContent), attributes);
+        }
+        workflows.put(diagramPath, cachedWorkflow);
+        return cachedWorkflow;
+    }
+
+    /**
+     * A workflow read from a diagram file.
+     */
+    static class CachedWorkflow {
+        private final FileTime lastModified;
+        private final long size;
+
+        /**
+         * The reader holding the parsed diagram. It is released as soon as the
+         * tasks have been read successfully.
+         */
+        private Reader reader;
+
+        private Map<KitodoTask, TaskInfo> tasks;
+
+        private CachedWorkflow(Reader reader, BasicFileAttributes attributes) {
+            this.reader = reader;
+            this.lastModified = attributes.lastModifiedTime();
+            this.size = attributes.size();
+        }
+
+        private boolean isReadFrom(BasicFileAttributes attributes) {
+            return lastModified.equals(attributes.lastModifiedTime()) && size == attributes.size();
+        }
+
+        /**
+         * Returns the tasks of the workflow in the order of the workflow. On
+         * the first call, the tasks are read from the diagram. If the diagram
+         * is invalid, the exception is thrown on every call.
+         *
+         * @return the tasks of the workflow with their ordering information
+         * @throws WorkflowException
+         *             if the diagram does not describe a valid workflow
+         */
+        synchronized Map<KitodoTask, TaskInfo> getTasks() throws WorkflowException {
+            if (Objects.isNull(tasks)) {
+                reader.readWorkflowTasks();
+                tasks = Collections.unmodifiableMap(reader.getKitodoTasks());
+                reader = null;
+            }
+            return tasks;
+        }
+    }
+}
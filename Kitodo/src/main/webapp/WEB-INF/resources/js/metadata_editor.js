@@ -585,7 +585,57 @@ metadataEditor.gallery = {
         }
     },
 
-    /** 
+    /**
+     * Renders further thumbnails of the structured view or of the thumbnail list of the detail view when the user
+     * scrolls near its end.
+     */
+    window: {
+        /**
+         * The scrolled field, to recognize when it was rendered again.
+         */
+        field: null,
+
+        /**
+         * Whether further thumbnails are currently requested.
+         */
+        loading: false,
+
+        /**
+         * Whether all thumbnails of the field are rendered.
+         */
+        allRendered: false,
+
+        /**
+         * Handler for scroll event of the structured view or of the thumbnail list of the detail view.
+         *
+         * @param event the scroll event
+         * @param showMore the remoteCommand rendering further thumbnails of the scrolled field
+         */
+        handleScroll(event, showMore) {
+            let field = event.target;
+            if (field !== this.field) {
+                this.field = field;
+                this.allRendered = false;
+            }
+            if (!this.loading && !this.allRendered
+                    && field.scrollTop + 2 * field.clientHeight >= field.scrollHeight) {
+                this.loading = true;
+                showMore();
+            }
+        },
+
+        /**
+         * Handler for completion of the remoteCommand rendering further thumbnails.
+         *
+         * @param args the callback parameters of the remoteCommand
+         */
+        handleComplete(args) {
+            this.loading = false;
+            this.allRendered = Boolean(args && args.allMediaRendered);
+        },
+    },
+
+    /**
      * Event handlers methods related to gallery stripes
      */
     stripes: {
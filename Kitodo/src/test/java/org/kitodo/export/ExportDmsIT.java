@@ -12,6 +12,7 @@
 package org.kitodo.export;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -26,6 +27,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.kitodo.MockDatabase;
 import org.kitodo.TreeDeleter;
+import org.kitodo.config.ConfigCore;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.production.services.ServiceManager;
 
@@ -125,4 +127,21 @@ public class ExportDmsIT {
         float mbps = totalBytes / tookNanos * 1953125 / 2048;
         assertTrue(mbps > 50, "It should have been copied >50 MB/s (was: " + mbps + " MB/s)");
     }
+
+    @Test
+    public void shouldDownloadImages() throws Exception {
+        Process process = ServiceManager.getProcessService().getById(processId);
+        URI tifDirectory = ServiceManager.getProcessService().getImagesTifDirectory(true, process.getId(),
+            process.getTitle(), process.getProcessBaseUri());
+        makeDirectoryWithSomeFiles(new File(ConfigCore.getKitodoDataDirectory(), tifDirectory.getPath()), 3,
+            "%08d.tif", 1024);
+        downloadDir.mkdirs();
+
+        new ExportDms().imageDownload(process, downloadDir.toURI(), "ppn", "_tif");
+
+        File images = new File(downloadDir, "ppn_tif");
+        assertEquals(3, images.list((directory, filename) -> filename.endsWith(".tif")).length,
+            "ppn_tif should contain 3 TIFFs!");
+        assertFalse(ExportFileCopier.isIncomplete(images.toURI()), "Image download was not completed!");
+    }
 }
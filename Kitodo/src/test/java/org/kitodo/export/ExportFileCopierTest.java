@@ -0,0 +1,140 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ExportFileCopierTest {
+
+    private static final File BASE_DIRECTORY = new File("src/test/resources/exportFileCopier").getAbsoluteFile();
+    private static final File SOURCE_DIRECTORY = new File(BASE_DIRECTORY, "source");
+    private static final File TARGET_DIRECTORY = new File(BASE_DIRECTORY, "target");
+    private static final int NUMBER_OF_FILES = 20;
+
+    @BeforeEach
+    public void createFiles() throws IOException {
+        Files.createDirectories(SOURCE_DIRECTORY.toPath());
+        Files.createDirectories(TARGET_DIRECTORY.toPath());
+        for (int i = 0; i < NUMBER_OF_FILES; i++) {
+            Files.writeString(SOURCE_DIRECTORY.toPath().resolve(String.format("%08d.txt", i)), "file " + i);
+        }
+    }
+
+    @AfterEach
+    public void deleteFiles() throws IOException {
+        FileUtils.deleteDirectory(BASE_DIRECTORY);
+    }
+
+    @Test
+    public void shouldCopyAllFiles() throws Exception {
+        ExportFileCopier copier = createCopier(4, false, "");
+        copier.copy(null, TARGET_DIRECTORY.toURI());
+
+        File[] copies = TARGET_DIRECTORY.listFiles();
+        assertEquals(NUMBER_OF_FILES, copies.length, "Not all files were copied!");
+        assertFalse(ExportFileCopier.isIncomplete(TARGET_DIRECTORY.toURI()), "Export is marked as incomplete!");
+        assertEquals("file 7", Files.readString(TARGET_DIRECTORY.toPath().resolve("00000007.txt")),
+            "File content was not copied!");
+    }
+
+    @Test
+    public void shouldKeepUpToDateFiles() throws Exception {
+        Path target = TARGET_DIRECTORY.toPath().resolve("00000003.txt");
+        Files.writeString(target, "kept 3");
+        Files.setLastModifiedTime(target,
+            Files.getLastModifiedTime(SOURCE_DIRECTORY.toPath().resolve("00000003.txt")));
+
+        createCopier(2, false, "").copy(null, TARGET_DIRECTORY.toURI());
+
+        assertEquals("kept 3", Files.readString(target), "Up-to-date file was copied again!");
+    }
+
+    @Test
+    public void shouldReplaceOutdatedFiles() throws Exception {
+        Path target = TARGET_DIRECTORY.toPath().resolve("00000003.txt");
+        Files.writeString(target, "old");
+        Files.setLastModifiedTime(target, FileTime.fromMillis(0));
+
+        createCopier(2, false, "").copy(null, TARGET_DIRECTORY.toURI());
+
+        assertEquals("file 3", Files.readString(target), "Outdated file was not replaced!");
+    }
+
+    @Test
+    public void shouldDeleteFilesNotInSource() throws Exception {
+        Path subdirectory = Files.createDirectories(TARGET_DIRECTORY.toPath().resolve("ocr"));
+        Path removedFile = Files.writeString(subdirectory.resolve("00000099.txt"), "removed");
+
+        createCopier(2, false, "").copy(null, TARGET_DIRECTORY.toURI());
+
+        assertFalse(Files.exists(removedFile), "File not in source was kept!");
+        assertEquals(NUMBER_OF_FILES, TARGET_DIRECTORY.listFiles(File::isFile).length, "Copied file was deleted!");
+    }
+
+    @Test
+    public void shouldKeepMarkerIfCopyingFails() throws Exception {
+        ExportFileCopier copier = createCopier(2, false, "");
+        copier.add(SOURCE_DIRECTORY.toPath().resolve("missing.txt").toUri(), TARGET_DIRECTORY.toURI());
+
+        assertThrows(IOException.class, () -> copier.copy(null, TARGET_DIRECTORY.toURI()));
+        assertTrue(ExportFileCopier.isIncomplete(TARGET_DIRECTORY.toURI()), "Export is not marked as incomplete!");
+    }
+
+    @Test
+    public void shouldLinkFiles() throws Exception {
+        createCopier(2, true, "").copy(null, TARGET_DIRECTORY.toURI());
+
+        Path target = TARGET_DIRECTORY.toPath().resolve("00000005.txt");
+        assertEquals("file 5", Files.readString(target), "File content was not linked!");
+    }
+
+    @Test
+    public void shouldWriteManifest() throws Exception {
+        ExportFileCopier copier = createCopier(4, false, "SHA-256");
+        copier.copy(null, TARGET_DIRECTORY.toURI());
+
+        List<String> manifest = Files.readAllLines(TARGET_DIRECTORY.toPath().resolve("manifest-sha256.txt"),
+            StandardCharsets.UTF_8);
+        assertEquals(NUMBER_OF_FILES, manifest.size(), "Manifest has wrong number of lines!");
+        assertTrue(manifest.get(0).endsWith("  00000000.txt"), "Manifest line has wrong path!");
+        assertEquals(64, manifest.get(0).indexOf(' '), "Manifest line has no SHA-256 checksum!");
+    }
+
+    @Test
+    public void shouldRejectUnknownChecksumAlgorithm() {
+        assertThrows(IllegalArgumentException.class, () -> new ExportFileCopier(1, false, "NO-SUCH-DIGEST"));
+    }
+
+    private static ExportFileCopier createCopier(int threads, boolean linkFiles, String checksumAlgorithm) {
+        ExportFileCopier copier = new ExportFileCopier(threads, linkFiles, checksumAlgorithm);
+        for (File file : SOURCE_DIRECTORY.listFiles()) {
+            copier.add(file.toURI(), TARGET_DIRECTORY.toURI());
+        }
+        return copier;
+    }
+}
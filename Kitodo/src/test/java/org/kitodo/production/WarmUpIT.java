@@ -0,0 +1,69 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kitodo.MockDatabase;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.utils.JAXBContextCache;
+import org.kitodo.utils.XsltTemplatesCache;
+
+public class WarmUpIT {
+
+    @BeforeAll
+    public static void prepareDatabase() throws Exception {
+        MockDatabase.startNode();
+        MockDatabase.insertClients();
+        MockDatabase.insertRulesets();
+        MockDatabase.insertDockets();
+        MockDatabase.insertMappingFiles();
+    }
+
+    @AfterAll
+    public static void cleanDatabase() throws Exception {
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+    }
+
+    @Test
+    public void shouldBeReadyAfterWarmUp() {
+        new WarmUp().run();
+        assertTrue(WarmUp.isReady(), "Application is not ready after warm-up!");
+    }
+
+    @Test
+    public void shouldCompileDocketStylesheet() {
+        new WarmUp().run();
+        File docket = Paths.get(ConfigCore.getParameter(ParameterCore.DIR_XSLT), "docket.xsl").toFile();
+        assertTrue(XsltTemplatesCache.isCached(docket), "Docket stylesheet was not compiled!");
+    }
+
+    @Test
+    public void shouldCacheRulesets() throws Exception {
+        new WarmUp().run();
+        File ruleset = Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS),
+            ServiceManager.getRulesetService().getById(1).getFile()).toFile();
+        assertTrue(JAXBContextCache.isUnmarshalled(ruleset), "Ruleset was not cached!");
+        File exportStylesheet = Paths.get(ConfigCore.getParameter(ParameterCore.DIR_XSLT), "ruleset_test.xsl")
+                .toFile();
+        assertTrue(XsltTemplatesCache.isCached(exportStylesheet), "Export stylesheet of ruleset was not compiled!");
+    }
+}
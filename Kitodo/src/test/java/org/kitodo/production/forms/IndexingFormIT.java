@@ -31,6 +31,7 @@ import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
 import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.enums.IndexAction;
+import org.kitodo.data.elasticsearch.index.IndexRestClient;
 import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.services.ServiceManager;
 
@@ -64,6 +65,25 @@ public class IndexingFormIT {
         assertTrue(indexingForm.indexExists());
     }
 
+    @Test
+    public void shouldDetectOutdatedMapping() throws Exception {
+        if (!indexingForm.indexExists()) {
+            indexingForm.createMapping(false);
+        }
+        IndexRestClient indexRestClient = IndexRestClient.getInstance();
+        try {
+            assertFalse(ServiceManager.getIndexingService().checkMapping(), "Current mapping is reported as outdated!");
+            assertFalse(indexingForm.isMappingOutdated(), "Current mapping is shown as outdated!");
+
+            indexRestClient.deleteIndex("process");
+            indexRestClient.createIndex("{\"mappings\":{\"properties\":{\"id\":{\"type\":\"long\"}}}}", "process");
+            assertTrue(ServiceManager.getIndexingService().checkMapping(), "Outdated mapping is not detected!");
+            assertTrue(indexingForm.isMappingOutdated(), "Outdated mapping is not shown!");
+        } finally {
+            indexRestClient.deleteAllIndexes();
+        }
+    }
+
     @Test
     @Disabled("Not working due to CDI injection problems")
     public void indexingAll() throws Exception {
@@ -0,0 +1,82 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.forms.dataeditor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.kitodo.api.dataformat.LogicalDivision;
+import org.kitodo.api.dataformat.PhysicalDivision;
+
+public class MediaSelectionTest {
+
+    @Test
+    public void shouldFindSelectedMedia() {
+        PhysicalDivision page = new PhysicalDivision();
+        LogicalDivision chapter = new LogicalDivision();
+        LogicalDivision otherChapter = new LogicalDivision();
+
+        MediaSelection selection = new MediaSelection();
+        selection.add(new ImmutablePair<>(page, chapter));
+
+        assertTrue(selection.contains(new ImmutablePair<>(page, chapter)), "Selected media was not found!");
+        assertFalse(selection.contains(new ImmutablePair<>(page, otherChapter)),
+            "Media selected in other structure was found!");
+    }
+
+    @Test
+    public void shouldForgetRemovedMedia() {
+        PhysicalDivision firstPage = new PhysicalDivision();
+        PhysicalDivision secondPage = new PhysicalDivision();
+        LogicalDivision chapter = new LogicalDivision();
+        Pair<PhysicalDivision, LogicalDivision> first = new ImmutablePair<>(firstPage, chapter);
+        Pair<PhysicalDivision, LogicalDivision> second = new ImmutablePair<>(secondPage, chapter);
+
+        MediaSelection selection = new MediaSelection(List.of(first, second));
+        selection.remove(0);
+
+        assertFalse(selection.contains(first), "Removed media was found!");
+        assertTrue(selection.contains(second), "Remaining media was not found!");
+        assertSame(second, selection.get(0), "Remaining media is not at first position!");
+
+        selection.clear();
+        assertFalse(selection.contains(second), "Media was found after clearing!");
+        assertEquals(0, selection.size(), "Selection is not empty after clearing!");
+    }
+
+    @Test
+    public void shouldLookUpMediaByIdentity() {
+        PhysicalDivision page = new PhysicalDivision();
+        PhysicalDivision equalPage = new PhysicalDivision();
+        LogicalDivision chapter = new LogicalDivision();
+        Pair<PhysicalDivision, LogicalDivision> equal = new ImmutablePair<>(equalPage, chapter);
+        Pair<PhysicalDivision, LogicalDivision> selected = new ImmutablePair<>(page, chapter);
+        assertEquals(equal, selected, "Test requires equal pages!");
+
+        MediaSelection selection = new MediaSelection(List.of(equal, selected));
+
+        assertEquals(1, selection.indexOf(new ImmutablePair<>(page, chapter)), "Equal media was found!");
+        assertEquals(1, selection.lastIndexOf(new ImmutablePair<>(page, chapter)), "Equal media was found!");
+        assertTrue(selection.remove(new ImmutablePair<>(page, chapter)), "Selected media was not removed!");
+        assertSame(equal, selection.get(0), "Equal media was removed!");
+        assertFalse(selection.contains(selected), "Removed media was found!");
+        assertEquals(-1, selection.indexOf(selected), "Removed media has a position!");
+        assertFalse(selection.remove(selected), "Removed media was removed again!");
+    }
+}
@@ -12,6 +12,7 @@
 package org.kitodo.production.forms.dataeditor;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Field;
@@ -64,6 +65,46 @@ public class StructurePanelTest {
         assertTrue(((StructureTreeNode) result.getChildren().get(0).getData()).isLinked());
     }
 
+    @Test
+    public void shouldIndexTreeNodesByDivision() throws Exception {
+        DataEditorForm dummyDataEditorForm = new DataEditorForm();
+        Process process = new Process();
+        Template template = new Template();
+        template.setWorkflow(new Workflow());
+        process.setTemplate(template);
+        dummyDataEditorForm.setProcess(process);
+        Field ruleset = DataEditorForm.class.getDeclaredField("ruleset");
+        ruleset.setAccessible(true);
+        ruleset.set(dummyDataEditorForm, new DummyRulesetManagement());
+        final StructurePanel underTest = new StructurePanel(dummyDataEditorForm);
+        underTest.setHideMediaInLogicalTree(true);
+
+        LinkedMetsResource link = new LinkedMetsResource();
+        link.setUri(URI.create("database://?process.id=42"));
+        LogicalDivision structure = new LogicalDivision();
+        structure.setLink(link);
+        LogicalDivision firstChild = new LogicalDivision();
+        firstChild.setLink(link);
+        LogicalDivision secondChild = new LogicalDivision();
+        secondChild.setLink(link);
+        structure.getChildren().add(firstChild);
+        structure.getChildren().add(secondChild);
+        TreeNode result = new DefaultTreeNode();
+
+        Method buildStructureTreeRecursively = StructurePanel.class.getDeclaredMethod("buildStructureTreeRecursively",
+            LogicalDivision.class, TreeNode.class, Map.class, Map.class);
+        buildStructureTreeRecursively.setAccessible(true);
+        buildStructureTreeRecursively.invoke(underTest, structure, result, new HashMap<>(), new HashMap<>());
+
+        Field logicalTreeNodes = StructurePanel.class.getDeclaredField("logicalTreeNodes");
+        logicalTreeNodes.setAccessible(true);
+        Map<?, ?> treeNodes = (Map<?, ?>) logicalTreeNodes.get(underTest);
+        TreeNode rootNode = result.getChildren().get(0);
+        assertSame(rootNode, treeNodes.get(structure), "Tree node of root division was not indexed!");
+        assertSame(rootNode.getChildren().get(1), treeNodes.get(secondChild),
+            "Tree node of equal child division was not found by identity!");
+    }
+
     @Test
     public void preventNullPointerExceptionInIsSeparateMediaOnNotFullInitializedDataEditorForm() {
         DataEditorForm dummyDataEditorForm = new DataEditorForm();
@@ -0,0 +1,105 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper;
+
+import static org.awaitility.Awaitility.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kitodo.MockDatabase;
+import org.kitodo.SecurityTestUtils;
+import org.kitodo.data.database.beans.User;
+import org.kitodo.production.enums.ObjectType;
+import org.kitodo.production.helper.tasks.SearchResultExportTask;
+import org.kitodo.production.services.ServiceManager;
+
+public class SearchResultGenerationIT {
+
+    @BeforeAll
+    public static void prepareDatabase() throws Exception {
+        MockDatabase.startNode();
+        MockDatabase.insertProcessesFull();
+        MockDatabase.setUpAwaitility();
+        SecurityTestUtils.addUserDataToSecurityContext(ServiceManager.getUserService().getById(1), 1);
+        given().ignoreExceptions().await()
+                .until(() -> Objects.nonNull(ServiceManager.getProcessService().findById(1, true)));
+    }
+
+    @AfterAll
+    public static void cleanDatabase() throws Exception {
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+        SecurityTestUtils.cleanSecurityContext();
+    }
+
+    @Test
+    public void shouldWriteAllProcessesToWorkbook() throws Exception {
+        SearchResultGeneration searchResultGeneration = new SearchResultGeneration("", true, true);
+        long expectedProcesses = ServiceManager.getProcessService()
+                .count(searchResultGeneration.getQueryForFilter(ObjectType.PROCESS));
+
+        try (SXSSFWorkbook workbook = searchResultGeneration.getResult()) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(expectedProcesses + 1, sheet.getLastRowNum(), "Incorrect number of rows!");
+            Row firstProcess = sheet.getRow(2);
+            assertEquals(1, (int) firstProcess.getCell(1).getNumericCellValue(), "Processes are not sorted by id!");
+            assertEquals(ServiceManager.getProcessService().getById(1).getTitle(),
+                firstProcess.getCell(0).getStringCellValue(), "Incorrect process title!");
+        }
+    }
+
+    @Test
+    public void shouldWriteResultAsPdf() throws Exception {
+        SearchResultGeneration searchResultGeneration = new SearchResultGeneration("", true, true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        searchResultGeneration.writeResultAsPdf(out);
+        assertTrue(out.toString("ISO-8859-1").startsWith("%PDF"), "Result is not a PDF document!");
+    }
+
+    @Test
+    public void shouldExportResultInBackground() throws Exception {
+        Path directory = Files.createTempDirectory("searchResultExport");
+        Path destination = directory.resolve("search_20240101-120000-000.pdf");
+        User user = ServiceManager.getUserService().getById(1);
+        SearchResultExportTask task = new SearchResultExportTask(destination.getFileName().toString(), "", true,
+                true, true, destination.toUri(), user, ServiceManager.getClientService().getById(1));
+        try {
+            task.run();
+
+            assertNull(task.getException(), "Export failed!");
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(Collections.singletonList(destination), files.collect(Collectors.toList()),
+                    "Incomplete export was not renamed!");
+            }
+            assertTrue(new String(Files.readAllBytes(destination), "ISO-8859-1").startsWith("%PDF"),
+                "Result is not a PDF document!");
+        } finally {
+            Files.deleteIfExists(destination);
+            Files.deleteIfExists(directory);
+        }
+    }
+}
@@ -59,7 +59,7 @@ public class HierarchyMigrationTaskIT {
         project = ServiceManager.getProjectService().getById(1);
         moveMetaFileAway(2, "meta_MigrationTaskIT.tmp");
         moveMetaFileAway(4, "meta_MigrationTaskIT_4.tmp");
-        createTestMetafile();
+        createTestMetafile("meta.xml");
         createTestMetaAnchorfile();
     }
 
@@ -93,7 +93,7 @@ public class HierarchyMigrationTaskIT {
         assertEquals("4", documentId, "DocumentId not set");
     }
 
-    private static void createTestMetaAnchorfile() throws Exception {
+    static void createTestMetaAnchorfile() throws Exception {
         List<String> lines = Collections.singletonList("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
                 + "<mets:mets xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" xmlns:kitodo=\"http://meta.kitodo.org/v1/\" xmlns:mets=\"http://www.loc.gov/METS/\">\n"
                 + "    <mets:metsHdr CREATEDATE=\"2019-09-11T05:02:04\">\n"
@@ -120,7 +120,7 @@ public class HierarchyMigrationTaskIT {
         FileUtils.writeLines(new File(processHome, "meta_anchor.xml"), "UTF-8", lines);
     }
 
-    private static void createTestMetafile() throws Exception {
+    static void createTestMetafile(String fileName) throws Exception {
         List<String> lines = Collections.singletonList("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
                 + "<mets:mets xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" xmlns:kitodo=\"http://meta.kitodo.org/v1/\" xmlns:mets=\"http://www.loc.gov/METS/\">\n"
                 + "    <mets:metsHdr CREATEDATE=\"2019-09-11T05:02:04\">\n"
@@ -158,10 +158,10 @@ public class HierarchyMigrationTaskIT {
                 + "                <mets:div ID=\"LOG_0011\" DMDID=\"DMDLOG_0008\" TYPE=\"Article\"/>\n"
                 + "            </mets:div>\n" + "        </mets:div>\n" + "    </mets:structMap>\n" + "</mets:mets>\n");
         File processHome = new File(ConfigCore.getKitodoDataDirectory(), "2");
-        FileUtils.writeLines(new File(processHome, "meta.xml"), "UTF-8", lines);
+        FileUtils.writeLines(new File(processHome, fileName), "UTF-8", lines);
     }
 
-    private static void cleanUp() {
+    static void cleanUp() {
         File processHome = new File(ConfigCore.getKitodoDataDirectory(), "2");
         File originalMeta = new File(processHome, "meta_MigrationTaskIT.tmp");
         if (originalMeta.exists()) {
@@ -180,7 +180,7 @@ public class HierarchyMigrationTaskIT {
         new File("src/test/resources/metadata/2/meta_anchor.migrated").delete();
     }
 
-    private static void moveMetaFileAway(int recordNumber, String tempFileName) throws Exception {
+    static void moveMetaFileAway(int recordNumber, String tempFileName) throws Exception {
         File processHome = new File(ConfigCore.getKitodoDataDirectory(), Integer.toString(recordNumber));
         new File(processHome, "meta.xml").renameTo(new File(processHome, tempFileName));
     }
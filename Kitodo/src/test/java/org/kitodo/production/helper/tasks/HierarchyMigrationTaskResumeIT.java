@@ -0,0 +1,179 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kitodo.ExecutionPermission;
+import org.kitodo.MockDatabase;
+import org.kitodo.api.dataformat.LogicalDivision;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Project;
+import org.kitodo.production.services.ServiceManager;
+
+/**
+ * Tests that a hierarchy migration which crashed continues from its journal
+ * without creating a second parent process or converting a child twice.
+ */
+public class HierarchyMigrationTaskResumeIT {
+
+    private static final File script = new File(ConfigCore.getParameter(ParameterCore.SCRIPT_CREATE_DIR_META));
+    private static final File processHome = new File(ConfigCore.getKitodoDataDirectory(), "2");
+    private static final String PARENT_RECORD_ID = "404810993";
+
+    private static Project project;
+    private static File journal;
+    private static long numberOfProcesses;
+
+    /**
+     * Prepares the database and migrates the test process once.
+     */
+    @BeforeAll
+    public static void prepareDatabase() throws Exception {
+        if (!SystemUtils.IS_OS_WINDOWS) {
+            ExecutionPermission.setExecutePermission(script);
+        }
+        MockDatabase.startNode();
+        MockDatabase.insertProcessesFull();
+
+        project = ServiceManager.getProjectService().getById(1);
+        journal = HierarchyMigrationTask.getJournalPath(Collections.singletonList(project)).toFile();
+        HierarchyMigrationTaskIT.moveMetaFileAway(2, "meta_MigrationTaskIT.tmp");
+        HierarchyMigrationTaskIT.moveMetaFileAway(4, "meta_MigrationTaskIT_4.tmp");
+        HierarchyMigrationTaskIT.createTestMetafile("meta.xml");
+        HierarchyMigrationTaskIT.createTestMetaAnchorfile();
+
+        HierarchyMigrationTask hierarchyMigrationTask = new HierarchyMigrationTask(Collections.singletonList(project));
+        hierarchyMigrationTask.run();
+        assertNull(hierarchyMigrationTask.getException(), "Migration failed!");
+        numberOfProcesses = ServiceManager.getProcessService().countDatabaseRows();
+    }
+
+    /**
+     * Cleans the database.
+     */
+    @AfterAll
+    public static void cleanDatabase() throws Exception {
+        if (!SystemUtils.IS_OS_WINDOWS) {
+            ExecutionPermission.setNoExecutePermission(script);
+        }
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+        HierarchyMigrationTaskIT.cleanUp();
+        Files.deleteIfExists(journal.toPath());
+        Files.deleteIfExists(new File(processHome, "meta_unlinked.bak").toPath());
+    }
+
+    @Test
+    public void shouldCompleteParentCreatedBeforeCrash() throws Exception {
+        simulateCrash("EXAMINED\t2\t" + PARENT_RECORD_ID, "CREATING\t" + PARENT_RECORD_ID,
+            "PARENT\t" + PARENT_RECORD_ID + "\t4");
+
+        resumeMigration();
+    }
+
+    @Test
+    public void shouldCompleteParentCreatedBeforeItsIdWasRecorded() throws Exception {
+        simulateCrash("EXAMINED\t2\t" + PARENT_RECORD_ID, "CREATING\t" + PARENT_RECORD_ID);
+        Process parent = ServiceManager.getProcessService().getById(4);
+        parent.setTitle("hierarchyMigration_" + PARENT_RECORD_ID);
+        ServiceManager.getProcessService().saveToDatabase(parent);
+
+        resumeMigration();
+    }
+
+    @Test
+    public void shouldRenameAnchorOfLinkedChildAfterCrash() throws Exception {
+        simulateCrash("EXAMINED\t2\t" + PARENT_RECORD_ID, "CREATING\t" + PARENT_RECORD_ID,
+            "PARENT\t" + PARENT_RECORD_ID + "\t4", "CONVERTED\t2\t19130000", "CREATED\t" + PARENT_RECORD_ID,
+            "LINKED\t" + PARENT_RECORD_ID + "\t2");
+
+        resumeMigration();
+    }
+
+    @Test
+    public void shouldKeyJournalByProjects() throws Exception {
+        Project otherProject = ServiceManager.getProjectService().getById(2);
+        assertEquals(HierarchyMigrationTask.getJournalPath(Arrays.asList(project, otherProject)),
+            HierarchyMigrationTask.getJournalPath(Arrays.asList(otherProject, project)),
+            "Journal depends on the order of the projects!");
+        assertNotEquals(journal.toPath(), HierarchyMigrationTask.getJournalPath(Arrays.asList(project, otherProject)),
+            "Migrations of different projects share a journal!");
+    }
+
+    /**
+     * Restores the files of the migrated process as they are after a crash:
+     * the anchor file is not renamed and the copy of the original metadata
+     * file still exists. Then, the journal is written, after the header of
+     * the migration of the project, unless the entries start with a header.
+     */
+    private static void simulateCrash(String... journalEntries) throws Exception {
+        File anchorFile = new File(processHome, "meta_anchor.xml");
+        if (!anchorFile.exists()) {
+            new File(processHome, "meta_anchor.migrated").renameTo(anchorFile);
+        }
+        HierarchyMigrationTaskIT.createTestMetafile("meta_unlinked.bak");
+        List<String> lines = new ArrayList<>(Arrays.asList(journalEntries));
+        if (!lines.get(0).startsWith("PROJECTS")) {
+            lines.add(0, "PROJECTS\t" + project.getId());
+        }
+        FileUtils.writeLines(journal, StandardCharsets.UTF_8.name(), lines);
+    }
+
+    private static void resumeMigration() throws Exception {
+        HierarchyMigrationTask hierarchyMigrationTask = new HierarchyMigrationTask(Collections.singletonList(project));
+        hierarchyMigrationTask.run();
+
+        assertNull(hierarchyMigrationTask.getException(), "Resumed migration failed!");
+        assertEquals(numberOfProcesses, (long) ServiceManager.getProcessService().countDatabaseRows(),
+            "A second parent process was created!");
+        assertEquals("JahrdeDeG_" + PARENT_RECORD_ID, ServiceManager.getProcessService().getById(4).getTitle(),
+            "Parent process was not completed!");
+        assertEquals(4, (int) ServiceManager.getProcessService().getById(2).getParent().getId(),
+            "Child process is not linked with its parent!");
+        Workpiece child = loadWorkpiece(2);
+        assertEquals("PeriodicalVolume", child.getLogicalStructure().getType(),
+            "Child metadata file was converted twice!");
+        List<LogicalDivision> links = loadWorkpiece(4).getLogicalStructure().getChildren();
+        assertEquals(1, links.size(), "Child process was linked twice in the parent!");
+        assertTrue(new File(processHome, "meta_anchor.migrated").exists(), "Anchor file was not renamed!");
+        assertFalse(new File(processHome, "meta_unlinked.bak").exists(), "Copy of metadata file was not deleted!");
+        assertFalse(journal.exists(), "Journal was not deleted!");
+    }
+
+    private static Workpiece loadWorkpiece(int processId) throws Exception {
+        URI metadataFileUri = ServiceManager.getProcessService()
+                .getMetadataFileUri(ServiceManager.getProcessService().getById(processId));
+        return ServiceManager.getMetsService().loadWorkpiece(metadataFileUri);
+    }
+}
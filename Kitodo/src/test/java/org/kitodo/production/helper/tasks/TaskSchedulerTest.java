@@ -0,0 +1,102 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskSchedulerTest {
+
+    @Test
+    public void shouldStartHighPriorityTasksFirst() {
+        EmptyTask image = new TestTask(TaskType.IMAGE, null);
+        EmptyTask other = new TestTask(TaskType.OTHER, null);
+        EmptyTask export = new TestTask(TaskType.EXPORT, null);
+
+        List<EmptyTask> selected = new TaskScheduler(4, Collections.emptyList())
+                .select(Arrays.asList(image, other, export), 2);
+
+        assertEquals(Arrays.asList(export, other), selected, "Tasks were not selected by priority!");
+    }
+
+    @Test
+    public void shouldKeepLastSlotFromLowPriorityTasks() {
+        EmptyTask firstImage = new TestTask(TaskType.IMAGE, null);
+        EmptyTask secondImage = new TestTask(TaskType.IMAGE, null);
+
+        List<EmptyTask> selected = new TaskScheduler(2, Collections.emptyList())
+                .select(Arrays.asList(firstImage, secondImage), 2);
+
+        assertEquals(Collections.singletonList(firstImage), selected, "Low priority task took the last slot!");
+    }
+
+    @Test
+    public void shouldRespectLimitPerType() {
+        EmptyTask runningMigration = new TestTask(TaskType.INDEX, null);
+        EmptyTask waitingMigration = new TestTask(TaskType.INDEX, null);
+
+        List<EmptyTask> selected = new TaskScheduler(8, Collections.singletonList(runningMigration))
+                .select(Collections.singletonList(waitingMigration), 7);
+
+        assertEquals(Collections.emptyList(), selected, "Limit of indexing tasks was exceeded!");
+    }
+
+    @Test
+    public void shouldShareFairlyAmongUsers() {
+        EmptyTask running = new TestTask(TaskType.IMPORT, "alice");
+        EmptyTask waitingOfAlice = new TestTask(TaskType.IMPORT, "alice");
+        EmptyTask waitingOfBob = new TestTask(TaskType.IMPORT, "bob");
+
+        List<EmptyTask> selected = new TaskScheduler(4, Collections.singletonList(running))
+                .select(Arrays.asList(waitingOfAlice, waitingOfBob), 1);
+
+        assertEquals(Collections.singletonList(waitingOfBob), selected, "User without running tasks was not preferred!");
+    }
+
+    @Test
+    public void shouldUseExplicitPriority() {
+        EmptyTask export = new TestTask(TaskType.EXPORT, null);
+        EmptyTask urgentImport = new TestTask(TaskType.IMPORT, null);
+        urgentImport.setTaskPriority(TaskPriority.HIGH);
+
+        List<EmptyTask> selected = new TaskScheduler(4, Collections.emptyList())
+                .select(Arrays.asList(urgentImport, export), 1);
+
+        assertEquals(Collections.singletonList(urgentImport), selected, "Explicit priority was ignored!");
+    }
+
+    private static class TestTask extends EmptyTask {
+        private final TaskType type;
+        private final String owner;
+
+        TestTask(TaskType type, String owner) {
+            super(type.toString());
+            this.type = type;
+            this.owner = owner;
+        }
+
+        @Override
+        public TaskType getTaskType() {
+            return type;
+        }
+
+        @Override
+        public String getOwner() {
+            return owner;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.ldap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.naming.CommunicationException;
+import javax.naming.NamingException;
+
+import org.junit.jupiter.api.Test;
+
+public class LdapCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1000);
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    private String lookUp() {
+        return "/home/user" + lookups.incrementAndGet();
+    }
+
+    @Test
+    public void shouldCacheUntilExpired() throws NamingException, IOException {
+        LdapCache<String> cache = new LdapCache<>(60_000, now::get);
+        assertEquals("/home/user1", cache.get("1:uid=user", this::lookUp), "Wrong value looked up!");
+        now.addAndGet(59_999);
+        assertEquals("/home/user1", cache.get("1:uid=user", this::lookUp), "Value was not cached!");
+        now.addAndGet(1);
+        assertEquals("/home/user2", cache.get("1:uid=user", this::lookUp), "Value did not expire!");
+        assertEquals(2, lookups.get(), "Wrong number of lookups!");
+    }
+
+    @Test
+    public void shouldInvalidateEntries() throws NamingException, IOException {
+        LdapCache<String> cache = new LdapCache<>(60_000, now::get);
+        cache.get("1:uid=user", this::lookUp);
+        cache.get("2:uid=other", this::lookUp);
+        cache.invalidateIf(key -> key.startsWith("1:"));
+        assertEquals("/home/user3", cache.get("1:uid=user", this::lookUp), "Entry was not invalidated!");
+        assertEquals("/home/user2", cache.get("2:uid=other", this::lookUp), "Wrong entry was invalidated!");
+        cache.invalidateAll();
+        assertEquals("/home/user4", cache.get("2:uid=other", this::lookUp), "Entries were not invalidated!");
+    }
+
+    @Test
+    public void shouldNotCacheFailedLookups() throws NamingException, IOException {
+        LdapCache<String> cache = new LdapCache<>(60_000, now::get);
+        assertThrows(CommunicationException.class, () -> cache.get("1:uid=user", () -> {
+            throw new CommunicationException("Connection closed");
+        }), "Exception was not passed on!");
+        assertEquals("/home/user1", cache.get("1:uid=user", this::lookUp), "Failed lookup was cached!");
+    }
+
+    @Test
+    public void shouldNotCacheWithoutTimeToLive() throws NamingException, IOException {
+        LdapCache<String> cache = new LdapCache<>(0, now::get);
+        cache.get("1:uid=user", this::lookUp);
+        assertEquals("/home/user2", cache.get("1:uid=user", this::lookUp), "Value was cached!");
+    }
+}
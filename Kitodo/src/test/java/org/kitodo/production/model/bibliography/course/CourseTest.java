@@ -12,11 +12,16 @@
 package org.kitodo.production.model.bibliography.course;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collections;
 
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -51,4 +56,66 @@ public class CourseTest {
         assertEquals("", clonedCourse.getYearName());
         assertNotEquals(course.getYearName(), clonedCourse.getYearName());
     }
+
+    @Test
+    public void shouldCountIndividualIssuesOfLongCourse() {
+        Course course = new Course();
+        Block block = new Block(course);
+        block.setPublicationPeriod(LocalDate.of(1850, 1, 1), LocalDate.of(1999, 12, 31));
+        course.add(block);
+        Issue morning = block.addIssue();
+        morning.setMonday(true);
+        morning.setWednesday(true);
+        morning.setSunday(true);
+        morning.addExclusion(LocalDate.of(1850, 1, 6));
+        morning.addExclusion(LocalDate.of(1850, 1, 7));
+        morning.addAddition(LocalDate.of(1850, 1, 7));
+        morning.addAddition(LocalDate.of(1850, 1, 8));
+        morning.addAddition(LocalDate.of(2000, 1, 4));
+        Issue evening = block.addIssue();
+        evening.setSaturday(true);
+
+        long individualIssues = 0;
+        long sundays = 0;
+        for (LocalDate day = block.getFirstAppearance(); !day.isAfter(block.getLastAppearance()); day = day
+                .plusDays(1)) {
+            for (Issue issue : block.getIssues()) {
+                if (issue.isMatch(day)) {
+                    individualIssues++;
+                    if (day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                        sundays++;
+                    }
+                }
+            }
+        }
+        assertEquals(individualIssues, course.countIndividualIssues(), "Wrong number of individual issues!");
+        assertEquals(individualIssues, course.getIndividualIssues().size(), "Wrong individual issues!");
+        assertEquals((individualIssues - sundays) * 40 + sundays * 240, course.guessTotalNumberOfPages(),
+            "Wrong guessed number of pages!");
+    }
+
+    @Test
+    public void shouldRecalculateRegularityOfIssues() {
+        Course course = new Course();
+        Block block = new Block(course);
+        block.setPublicationPeriod(LocalDate.of(1900, 1, 1), LocalDate.of(1900, 12, 31));
+        course.add(block);
+        Issue issue = block.addIssue();
+        for (LocalDate day = block.getFirstAppearance(); !day.isAfter(block.getLastAppearance()); day = day
+                .plusDays(1)) {
+            if (day.getDayOfWeek() == DayOfWeek.TUESDAY && !day.equals(LocalDate.of(1900, 5, 1))
+                    || day.equals(LocalDate.of(1900, 6, 2))) {
+                issue.addAddition(day);
+            }
+        }
+        long individualIssues = course.countIndividualIssues();
+
+        course.recalculateRegularityOfIssues();
+
+        assertTrue(issue.isTuesday(), "Regular day of appearance was not recognized!");
+        assertFalse(issue.isSaturday(), "Single addition was taken as regular day of appearance!");
+        assertEquals(Collections.singleton(LocalDate.of(1900, 5, 1)), issue.getExclusions(), "Wrong exclusions!");
+        assertEquals(Collections.singleton(LocalDate.of(1900, 6, 2)), issue.getAdditions(), "Wrong additions!");
+        assertEquals(individualIssues, course.countIndividualIssues(), "Number of individual issues changed!");
+    }
 }
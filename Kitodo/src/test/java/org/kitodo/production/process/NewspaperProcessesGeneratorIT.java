@@ -41,6 +41,7 @@ import org.kitodo.api.MetadataEntry;
 import org.kitodo.api.dataformat.LogicalDivision;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.config.ConfigCore;
+import org.kitodo.config.KitodoConfig;
 import org.kitodo.config.enums.KitodoConfigFile;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
@@ -144,6 +145,24 @@ public class NewspaperProcessesGeneratorIT {
      */
     @Test
     public void shouldGenerateNewspaperProcesses() throws Exception {
+        generateNewspaperProcesses();
+    }
+
+    /**
+     * Performs the test with the issue processes generated in bulk.
+     */
+    @Test
+    public void shouldGenerateNewspaperProcessesInBulk() throws Exception {
+        String key = ParameterCore.NEWSPAPER_BULK_GENERATION.getParameter().getKey();
+        KitodoConfig.getConfig().setProperty(key, true);
+        try {
+            generateNewspaperProcesses();
+        } finally {
+            KitodoConfig.getConfig().clearProperty(key);
+        }
+    }
+
+    private void generateNewspaperProcesses() throws Exception {
         Process completeEdition = ServiceManager.getProcessService().getById(newspaperTestProcessId);
         Course course = NewspaperCourse.getCourse();
         course.splitInto(Granularity.DAYS);
@@ -156,6 +175,8 @@ public class NewspaperProcessesGeneratorIT {
         assertEquals("NewspaperOverallProcess", readProcessTitleFromMetadata(newspaperTestProcessId, false), "Process title missing in newspaper's meta.xml");
         assertEquals("NewspaperOverallProcess_1703", readProcessTitleFromMetadata(newspaperTestProcessId + 1, false), "Process title missing in year's meta.xml");
         assertEquals("NewspaperOverallProcess_17050127", readProcessTitleFromMetadata(maxId, true), "Process title missing in issue's meta.xml");
+        assertEquals("NewspaperOverallProcess_17050127", processService.findById(maxId).getTitle(),
+            "Issue process was not indexed!");
     }
 
     private int getChildProcessWithLargestId(Process process, int maxId) {
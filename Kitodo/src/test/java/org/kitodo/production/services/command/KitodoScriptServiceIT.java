@@ -11,6 +11,7 @@
 
 package org.kitodo.production.services.command;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -19,9 +20,11 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.SystemUtils;
 import org.junit.jupiter.api.AfterAll;
@@ -45,6 +48,7 @@ import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
+import org.kitodo.exceptions.KitodoScriptExecutionException;
 import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetsModsDigitalDocumentHelper;
 import org.kitodo.production.helper.tasks.EmptyTask;
@@ -173,6 +177,18 @@ public class KitodoScriptServiceIT {
         assertEquals("/some/new/path", task.getScriptPath(), "Script was not added to task - incorrect path!");
     }
 
+    @Test
+    public void shouldExecuteScriptForProcessIds() throws Exception {
+        KitodoScriptService kitodoScript = ServiceManager.getKitodoScriptService();
+
+        String script = "action:addShellScriptToStep \"tasktitle:Progress\" \"label:idScript\" \"script:/some/id/path\"";
+        kitodoScript.executeForProcessIds(Collections.singletonList(1), script);
+
+        Task task = ServiceManager.getTaskService().getById(8);
+        assertEquals("idScript", task.getScriptName(), "Script was not added to task - incorrect name!");
+        assertEquals("/some/id/path", task.getScriptPath(), "Script was not added to task - incorrect path!");
+    }
+
     @Test
     public void shouldExecuteSetPropertyTaskScript() throws Exception {
         KitodoScriptService kitodoScript = ServiceManager.getKitodoScriptService();
@@ -249,6 +265,39 @@ public class KitodoScriptServiceIT {
         assertEquals(1, processByMetadataAfter.size(), "does not contain metadata");
     }
 
+    @Test
+    public void shouldAddDataInTaskManager() throws Exception {
+        String metadataKey = "LegalNoteAndTermsOfUse";
+        HashMap<String, String> metadataSearchMap = new HashMap<>();
+        metadataSearchMap.put(metadataKey, "PDM1.0");
+
+        String script = "action:addData " + "key:" + metadataKey + " value:PDM1.0";
+        int missingProcessId = Integer.MAX_VALUE;
+        KitodoScriptTask task = new KitodoScriptTask(List.of(kitodoScriptTestProcessId, missingProcessId), script);
+        task.run();
+
+        await().pollInSameThread().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(1,
+            ServiceManager.getProcessService().findByMetadata(metadataSearchMap).size(), "does not contain metadata"));
+        assertEquals(2, task.getResults().size(), "Wrong number of results!");
+        assertEquals(1, task.getFailures().size(), "Wrong number of failures!");
+        assertEquals(missingProcessId, task.getFailures().get(0).getProcessId(), "Wrong process failed!");
+        assertTrue(task.getException() instanceof KitodoScriptExecutionException, "Failure was not reported!");
+
+        KitodoScriptTask retry = task.replace();
+        retry.run();
+        assertEquals(1, retry.getResults().size(), "Retry did not run on failed process only!");
+    }
+
+    @Test
+    public void shouldReportMissingTaskInTaskManager() throws Exception {
+        String script = "action:setStepStatus \"tasktitle:Missing\" status:3";
+        KitodoScriptTask task = new KitodoScriptTask(List.of(kitodoScriptTestProcessId), script);
+        task.run();
+
+        assertEquals(1, task.getFailures().size(), "Process without the task was not reported!");
+        assertTrue(task.getException() instanceof KitodoScriptExecutionException, "Failure was not reported!");
+    }
+
     @Test
     public void shouldAddDataWithType() throws Exception {
         Process process = ServiceManager.getProcessService().getById(kitodoScriptTestProcessId);
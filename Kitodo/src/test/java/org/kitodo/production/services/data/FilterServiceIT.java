@@ -13,12 +13,15 @@ package org.kitodo.production.services.data;
 
 import static org.awaitility.Awaitility.given;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.index.query.QueryBuilders.matchQuery;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -27,7 +30,9 @@ import org.junit.jupiter.api.Test;
 import org.kitodo.MockDatabase;
 import org.kitodo.SecurityTestUtils;
 import org.kitodo.data.database.beans.Filter;
+import org.kitodo.data.elasticsearch.index.type.enums.TaskTypeField;
 import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.dto.TaskDTO;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.services.ServiceManager;
@@ -175,6 +180,46 @@ public class FilterServiceIT {
         assertEquals(2, processService.findByQuery(thirdQuery, true).size(), "Incorrect amount of processes for batch with not id 1 or 2!");
     }
 
+    @Test
+    public void shouldBuildQueryAndFindByTaskServiceByBatchId() throws Exception {
+        Set<Integer> processIds = ServiceManager.getProcessService()
+                .findByQuery(filterService.queryBuilder("\"batch:1\"", ObjectType.PROCESS, false, false), true)
+                .stream().map(ProcessDTO::getId).collect(Collectors.toSet());
+        TaskService taskService = ServiceManager.getTaskService();
+        List<Integer> expected = taskService
+                .findByQuery(filterService.queryBuilder("", ObjectType.TASK, false, false), false).stream()
+                .filter(taskDTO -> processIds.contains(taskDTO.getProcess().getId())).map(TaskDTO::getId)
+                .sorted().collect(Collectors.toList());
+
+        QueryBuilder query = filterService.queryBuilder("\"batch:1\"", ObjectType.TASK, false, false);
+        List<Integer> taskIds = taskService.findByQuery(query, true).stream().map(TaskDTO::getId).sorted()
+                .collect(Collectors.toList());
+        assertFalse(taskIds.isEmpty(), "No tasks for batch with id 1 were found!");
+        assertEquals(expected, taskIds, "Incorrect tasks for batch with id 1!");
+    }
+
+    @Test
+    public void shouldBuildQueryAndFindByProcessServiceByAutomaticTasks() throws Exception {
+        Set<Integer> expected = ServiceManager.getTaskService()
+                .findByQuery(matchQuery(TaskTypeField.TYPE_AUTOMATIC.getKey(), false), false).stream()
+                .filter(taskDTO -> Objects.nonNull(taskDTO.getProcess())).map(taskDTO -> taskDTO.getProcess().getId())
+                .collect(Collectors.toSet());
+
+        QueryBuilder query = filterService.queryBuilder("\"stepautomatic:false\"", ObjectType.PROCESS, false, false);
+        Set<Integer> processIds = ServiceManager.getProcessService().findByQuery(query, true).stream()
+                .map(ProcessDTO::getId).collect(Collectors.toSet());
+        assertFalse(processIds.isEmpty(), "No processes with non-automatic tasks were found!");
+        assertEquals(expected, processIds, "Incorrect processes with non-automatic tasks!");
+    }
+
+    @Test
+    public void shouldReuseParsedFilters() throws Exception {
+        String filter = "\"project:First\" \"stepopen:Open | -id:2\"";
+        assertEquals(filterService.queryBuilder(filter, ObjectType.PROCESS, false, false).toString(),
+            filterService.queryBuilder(filter, ObjectType.PROCESS, false, false).toString(),
+            "Cached filter did not result in the same query!");
+    }
+
     @Test
     public void shouldBuildQueryAndFindByTitle() throws DataException {
         ProcessService processService = ServiceManager.getProcessService();
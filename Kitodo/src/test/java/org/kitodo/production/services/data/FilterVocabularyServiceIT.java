@@ -0,0 +1,116 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kitodo.MockDatabase;
+import org.kitodo.SecurityTestUtils;
+import org.kitodo.data.database.beans.Task;
+import org.kitodo.data.database.beans.User;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.FilterVocabularyService.Vocabulary;
+
+public class FilterVocabularyServiceIT {
+
+    private static final FilterVocabularyService filterVocabularyService = ServiceManager
+            .getFilterVocabularyService();
+
+    @BeforeAll
+    public static void prepareDatabase() throws Exception {
+        MockDatabase.startNode();
+        MockDatabase.insertProcessesFull();
+        MockDatabase.setUpAwaitility();
+        SecurityTestUtils.addUserDataToSecurityContext(ServiceManager.getUserService().getById(1), 1);
+        await().untilAsserted(() -> assertEquals(Long.valueOf(13), ServiceManager.getTaskService().count(),
+            "Tasks were not indexed!"));
+    }
+
+    @AfterAll
+    public static void cleanDatabase() throws Exception {
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+        SecurityTestUtils.cleanSecurityContext();
+    }
+
+    @Test
+    public void shouldGetTaskTitlesOfClient() throws Exception {
+        filterVocabularyService.invalidate(Vocabulary.TASK_TITLES);
+        List<String> taskTitles = filterVocabularyService.getValues(Vocabulary.TASK_TITLES);
+        assertEquals(ServiceManager.getTaskService().findTaskTitlesDistinct(1, 10000), taskTitles,
+            "Incorrect task titles of client!");
+        assertTrue(taskTitles.contains("closed"), "Task title is missing!");
+    }
+
+    @Test
+    public void shouldFindTaskTitlesByPrefix() throws Exception {
+        List<String> taskTitles = filterVocabularyService.findByPrefix(Vocabulary.TASK_TITLES, "Cl", 100);
+        assertFalse(taskTitles.isEmpty(), "No task titles were found by prefix!");
+        assertTrue(taskTitles.stream().allMatch(title -> title.startsWith("cl")),
+            "Task titles not matching the prefix were found!");
+        assertTrue(filterVocabularyService.findByPrefix(Vocabulary.TASK_TITLES, "xyz", 100).isEmpty(),
+            "Task titles were found for unknown prefix!");
+    }
+
+    @Test
+    public void shouldAddTaskTitleOfSavedTask() throws Exception {
+        filterVocabularyService.getValues(Vocabulary.TASK_TITLES);
+        Task task = ServiceManager.getTaskService().getById(1);
+        String title = task.getTitle();
+        task.setTitle("Vocabulary Test");
+        ServiceManager.getTaskService().save(task);
+        assertTrue(filterVocabularyService.getValues(Vocabulary.TASK_TITLES).contains("vocabulary test"),
+            "Title of saved task was not added!");
+
+        task.setTitle(title);
+        ServiceManager.getTaskService().save(task);
+    }
+
+    @Test
+    public void shouldFindProcessPropertyTitlesByPrefix() throws Exception {
+        List<String> propertyTitles = filterVocabularyService.getValues(Vocabulary.PROCESS_PROPERTY_TITLES);
+        assertEquals(ServiceManager.getPropertyService().findDistinctTitles().size(), propertyTitles.size(),
+            "Incorrect number of process property titles!");
+        assertEquals(propertyTitles, filterVocabularyService.findByPrefix(Vocabulary.PROCESS_PROPERTY_TITLES, "", 100),
+            "Empty prefix did not find all process property titles!");
+    }
+
+    @Test
+    public void shouldReadProjectsAgainWhenUserIsSaved() throws Exception {
+        User user = ServiceManager.getUserService().getById(1);
+        // the projects are read from the user of the security context, which is not attached to the session
+        Hibernate.initialize(user.getProjects());
+        SecurityTestUtils.addUserDataToSecurityContext(user, 1);
+        List<String> projects = filterVocabularyService.getValues(Vocabulary.PROJECTS);
+        assertSame(projects, filterVocabularyService.getValues(Vocabulary.PROJECTS), "Projects were not cached!");
+
+        ServiceManager.getUserService().saveToDatabase(ServiceManager.getUserService().getById(2));
+        assertSame(projects, filterVocabularyService.getValues(Vocabulary.PROJECTS),
+            "Projects were read again when another user was saved!");
+
+        ServiceManager.getUserService().saveToDatabase(user);
+        List<String> projectsAfterSave = filterVocabularyService.getValues(Vocabulary.PROJECTS);
+        assertNotSame(projects, projectsAfterSave, "Projects were not read again when the user was saved!");
+        assertEquals(projects, projectsAfterSave, "Incorrect projects of user!");
+    }
+}
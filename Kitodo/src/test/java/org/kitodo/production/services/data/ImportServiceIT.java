@@ -44,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -63,6 +64,7 @@ import org.kitodo.api.schemaconverter.ExemplarRecord;
 import org.kitodo.api.schemaconverter.FileFormat;
 import org.kitodo.api.schemaconverter.MetadataFormat;
 import org.kitodo.config.ConfigCore;
+import org.kitodo.config.KitodoConfig;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Client;
 import org.kitodo.data.database.beans.ImportConfiguration;
@@ -102,6 +104,7 @@ public class ImportServiceIT {
     private static final ProcessService processService = ServiceManager.getProcessService();
     private static final ImportService importService = ServiceManager.getImportService();
     private static StubServer server;
+    private static Project eadProject;
     private static final String TEST_FILE_PATH = "src/test/resources/sruTestRecord.xml";
     private static final String EAD_COLLECTION_FILE = "importRecords/eadCollection.xml";
     private static final String TEST_FILE_PATH_NUMBER_OF_HITS = "src/test/resources/importRecords/sruResponseNumberOfHits.xml";
@@ -569,15 +572,7 @@ public class ImportServiceIT {
     public void shouldImportEadCollection() throws Exception {
         User user = ServiceManager.getUserService().getById(1);
         Client client = ServiceManager.getClientService().getById(1);
-        Project eadProject = MockDatabase.insertProjectForEadImport(user, client);
-        Template eadTemplate = eadProject.getTemplates().get(0);
-        CreateProcessForm createProcessForm = new CreateProcessForm();
-        createProcessForm.setProject(eadProject);
-        createProcessForm.setTemplate(eadTemplate);
-        createProcessForm.setSelectedEadLevel(FILE);
-        createProcessForm.setSelectedParentEadLevel(COLLECTION);
-        createProcessForm.setCurrentImportConfiguration(eadProject.getDefaultImportConfiguration());
-        createProcessForm.updateRulesetAndDocType(eadTemplate.getRuleset());
+        CreateProcessForm createProcessForm = createEadProcessForm(user, client);
         File script = new File(ConfigCore.getParameter(ParameterCore.SCRIPT_CREATE_DIR_META));
         List<Integer> allIds = ServiceManager.getProcessService().findAllIDs();
         if (!SystemUtils.IS_OS_WINDOWS) {
@@ -609,6 +604,84 @@ public class ImportServiceIT {
         }
     }
 
+    /**
+     * Test EAD import with several workers creating the processes of the files
+     * at the same time.
+     *
+     * @throws Exception when something goes wrong
+     */
+    @Test
+    public void shouldImportEadCollectionWithSeveralWorkers() throws Exception {
+        User user = ServiceManager.getUserService().getById(1);
+        Client client = ServiceManager.getClientService().getById(1);
+        CreateProcessForm createProcessForm = createEadProcessForm(user, client);
+        try (InputStream inputStream = Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream(EAD_COLLECTION_FILE)) {
+            createProcessForm.setXmlString(IOUtils.toString(Objects.requireNonNull(inputStream),
+                StandardCharsets.UTF_8));
+        }
+        File script = new File(ConfigCore.getParameter(ParameterCore.SCRIPT_CREATE_DIR_META));
+        String threadsKey = ParameterCore.EAD_IMPORT_THREADS.getParameter().getKey();
+        List<Integer> allIds = ServiceManager.getProcessService().findAllIDs();
+        if (!SystemUtils.IS_OS_WINDOWS) {
+            ExecutionPermission.setExecutePermission(script);
+        }
+        KitodoConfig.getConfig().setProperty(threadsKey, 3);
+        try {
+            new ImportEadProcessesThread(createProcessForm, user, client).run();
+        } finally {
+            KitodoConfig.getConfig().clearProperty(threadsKey);
+            if (!SystemUtils.IS_OS_WINDOWS) {
+                ExecutionPermission.setNoExecutePermission(script);
+            }
+        }
+        List<Integer> newIds = ServiceManager.getProcessService().findAllIDs();
+        newIds.removeAll(allIds);
+        try {
+            assertEquals(6, newIds.size(), "EAD import did not create one collection and 5 files!");
+            List<Process> processes = ServiceManager.getProcessService().getByIds(newIds);
+            List<Process> collections = processes.stream().filter(process -> Objects.isNull(process.getParent()))
+                    .collect(Collectors.toList());
+            assertEquals(1, collections.size(), "Files are not linked to the collection!");
+            Process collection = collections.get(0);
+            for (Process process : processes) {
+                if (!process.equals(collection)) {
+                    assertEquals(collection, process.getParent(), "File is not linked to the collection!");
+                }
+            }
+            assertEquals(5, collection.getChildren().size(), "Collection does not contain all files!");
+            Workpiece workpiece = ServiceManager.getMetsService()
+                    .loadWorkpiece(processService.getMetadataFileUri(collection));
+            List<Integer> linkedIds = workpiece.getLogicalStructure().getChildren().stream()
+                    .map(child -> processService.processIdFromUri(child.getLink().getUri()))
+                    .collect(Collectors.toList());
+            assertEquals(collection.getChildren().stream().map(Process::getId).collect(Collectors.toSet()),
+                new HashSet<>(linkedIds),
+                "Collection's metadata does not link the files once each!");
+            assertEquals(5, linkedIds.size(), "Collection's metadata does not link the files once each!");
+        } finally {
+            for (int processId : newIds) {
+                ProcessTestUtils.removeTestProcess(processId);
+            }
+        }
+    }
+
+    private static CreateProcessForm createEadProcessForm(User user, Client client) throws DAOException, DataException,
+            IOException {
+        if (Objects.isNull(eadProject)) {
+            eadProject = MockDatabase.insertProjectForEadImport(user, client);
+        }
+        Template eadTemplate = eadProject.getTemplates().get(0);
+        CreateProcessForm createProcessForm = new CreateProcessForm();
+        createProcessForm.setProject(eadProject);
+        createProcessForm.setTemplate(eadTemplate);
+        createProcessForm.setSelectedEadLevel(FILE);
+        createProcessForm.setSelectedParentEadLevel(COLLECTION);
+        createProcessForm.setCurrentImportConfiguration(eadProject.getDefaultImportConfiguration());
+        createProcessForm.updateRulesetAndDocType(eadTemplate.getRuleset());
+        return createProcessForm;
+    }
+
     private String getProcessDetailByMetadataId(String metadataId, List<ProcessDetail> processDetails) {
         for (ProcessDetail processDetail : processDetails) {
             if (Objects.equals(processDetail.getMetadataID(), metadataId) && processDetail instanceof ProcessTextMetadata) {
@@ -27,9 +27,12 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.OptionalInt;
 
 import org.apache.commons.lang3.SystemUtils;
@@ -53,11 +56,13 @@ import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.elasticsearch.index.converter.ProcessConverter;
+import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.enums.ProcessState;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetsModsDigitalDocumentHelper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyPrefsHelper;
+import org.kitodo.production.helper.tasks.EmptyTask;
 import org.kitodo.production.metadata.MetadataLock;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.dataformat.MetsService;
@@ -326,6 +331,23 @@ public class ProcessServiceIT {
         assertTrue(condition, "Blocked user doesn't match to given user!");
     }
 
+    @Test
+    public void shouldWriteDocketOfSeveralProcesses() throws Exception {
+        List<Process> processes = processService.getByIds(
+            Arrays.asList(testProcessIds.get(MockDatabase.HIERARCHY_CHILD_TO_KEEP),
+                testProcessIds.get(MockDatabase.HIERARCHY_CHILD_TO_REMOVE)));
+        File docket = File.createTempFile("batch_docket", ".pdf");
+        try {
+            EmptyTask task = new EmptyTask("docket");
+            processService.writeDocket(processes, Paths.get("src/main/resources/docket_multipage.xsl").toUri(),
+                docket.toURI(), task);
+            assertTrue(docket.length() > 0, "Docket was not written!");
+            assertEquals(50, task.getProgress(), "Progress was not reported for each process!");
+        } finally {
+            Files.deleteIfExists(docket.toPath());
+        }
+    }
+
     @Test
     public void shouldGetImagesTifDirectory() throws Exception {
         Process process = processService.getById(1);
@@ -641,6 +663,63 @@ public class ProcessServiceIT {
         assertEquals(2, allIDs.size(), "Wrong amount of id's in index");
     }
 
+    @Test
+    public void shouldGetProcessesByIds() throws Exception {
+        List<Process> processes = processService.getByIds(Arrays.asList(2, 1, Integer.MAX_VALUE));
+        assertEquals(2, processes.size(), "Wrong amount of processes loaded!");
+        assertEquals(Integer.valueOf(2), processes.get(0).getId(), "Processes are not in order of the ids!");
+        assertEquals(firstProcess, processes.get(1).getTitle(), "Wrong process loaded!");
+        assertEquals(processService.getById(1).getTasks().size(), processes.get(1).getTasks().size(),
+            "Tasks of loaded process cannot be read!");
+    }
+
+    @Test
+    public void shouldCountProcessesByCurrentTask() throws Exception {
+        List<Integer> processIds = processService.findAllIDs();
+        Map<String, Integer> expectedTaskStates = new LinkedHashMap<>();
+        for (Integer processId : processIds) {
+            Task currentTask = processService.getCurrentTask(processService.getById(processId));
+            if (Objects.nonNull(currentTask)) {
+                expectedTaskStates.merge(currentTask.getTitle(), 1, Integer::sum);
+            }
+        }
+
+        Map<String, Integer> taskStates = processService.getProcessTaskStates(processIds);
+        assertFalse(taskStates.isEmpty(), "No current tasks were counted!");
+        assertEquals(expectedTaskStates, taskStates, "Processes were not counted by current task correctly!");
+    }
+
+    @Test
+    public void shouldFindAllDocumentsByQuery() throws Exception {
+        List<Map<String, Object>> documents = processService.findAllDocumentsByQuery(
+            processService.createSetQueryForIds(Arrays.asList(1, 2)), "title");
+        assertEquals(2, documents.size(), "Wrong amount of documents found!");
+        assertEquals(firstProcess, documents.get(0).get("title"), "Documents are not sorted by id!");
+        assertNull(documents.get(0).get("wikiField"), "Field was read although not requested!");
+    }
+
+    @Test
+    public void shouldSumMetadataStatistic() throws Exception {
+        QueryBuilder query = processService.createSetQueryForIds(processService.findAllIDs());
+        Map<ProcessTypeField, Integer> expectedSums = new EnumMap<>(ProcessTypeField.class);
+        for (ProcessTypeField field : Arrays.asList(ProcessTypeField.NUMBER_OF_IMAGES,
+            ProcessTypeField.NUMBER_OF_STRUCTURES, ProcessTypeField.NUMBER_OF_METADATA)) {
+            expectedSums.put(field, 0);
+            for (Map<String, Object> document : processService.findAllDocumentsByQuery(query, field.getKey())) {
+                expectedSums.merge(field, field.getIntValue(document), Integer::sum);
+            }
+        }
+        assertEquals(expectedSums, processService.sumMetadataStatistic(query), "Statistic was not summed up correctly!");
+    }
+
+    @Test
+    public void shouldFindDocumentsPage() throws Exception {
+        List<Map<String, Object>> documents = processService.findDocumentsPage(
+            processService.createSetQueryForIds(Arrays.asList(1, 2, 3)), 1, 1);
+        assertEquals(1, documents.size(), "Wrong amount of documents found!");
+        assertEquals("2", String.valueOf(documents.get(0).get("id")), "Wrong page of documents found!");
+    }
+
     @Test
     public void testCountMetadata() throws DAOException, IOException, DataException {
         int testProcessId = MockDatabase.insertTestProcess(TEST_PROCESS_TITLE, 1, 1, 1);
@@ -22,8 +22,8 @@ import java.net.URI;
 import java.nio.channels.FileLock;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -137,14 +137,12 @@ public class FileServiceIT {
         mediaRenamingSecondProcessId = MockDatabase.insertTestProcessIntoSecondProject(RENAME_MEDIA_PROCESS_2);
         ProcessTestUtils.copyTestFiles(mediaRenamingFirstProcessId, TEST_RENAME_MEDIA_FILE);
         ProcessTestUtils.copyTestFiles(mediaRenamingSecondProcessId, TEST_RENAME_MEDIA_FILE);
-        List<Process> testProcesses = new LinkedList<>();
-        testProcesses.add(ServiceManager.getProcessService().getById(mediaRenamingFirstProcessId));
-        testProcesses.add(ServiceManager.getProcessService().getById(mediaRenamingSecondProcessId));
         // 1. check filename & order values of both processes _before_ renaming
         assertFalse(mediaFilesNamedAccordingToOrderAttribute(mediaRenamingFirstProcessId));
         assertFalse(mediaFilesNamedAccordingToOrderAttribute(mediaRenamingSecondProcessId));
         // 2. perform media renaming
-        RenameMediaThread renameMediaThread = new RenameMediaThread(testProcesses);
+        RenameMediaThread renameMediaThread = new RenameMediaThread(Arrays.asList(mediaRenamingFirstProcessId,
+            mediaRenamingSecondProcessId));
         renameMediaThread.start();
         renameMediaThread.join(3000);
         // 3. check filename & order values of both processes _after_ renaming
@@ -166,8 +164,7 @@ public class FileServiceIT {
         List<URI> scanURIsBeforeRenaming = ServiceManager.getFileService().getSubUris(ImageHelper.dataFilter,
                 processScansDir.toUri()).stream().sorted().collect(Collectors.toList());
         // 3. perform failing media renaming
-        Process process = ServiceManager.getProcessService().getById(revertMediaRenamingProcessId);
-        RenameMediaThread renameMediaThread = new RenameMediaThread(Collections.singletonList(process));
+        RenameMediaThread renameMediaThread = new RenameMediaThread(Collections.singletonList(revertMediaRenamingProcessId));
         renameMediaThread.start();
         renameMediaThread.join(3000);
         // 4. determine filenames after failed media renaming attempt
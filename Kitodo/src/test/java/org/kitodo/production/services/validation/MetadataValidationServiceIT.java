@@ -20,7 +20,9 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
@@ -61,6 +63,22 @@ public class MetadataValidationServiceIT {
         assertEquals(State.ERROR, result.getState(), WRONG_STATE_MESSAGE);
     }
 
+    @Test
+    public void shouldValidateSeveralMetadataFilesByURI() {
+        URI testMetaUri = Paths.get(TEST_META).toUri();
+        URI kalliopeParentUri = Paths.get(TEST_KALLIOPE_PARENT).toUri();
+        URI rulesetUri = Paths.get(TestConstants.TEST_RULESET).toUri();
+        Map<URI, ValidationResult> results = ServiceManager.getMetadataValidationService()
+                .validate(Arrays.asList(testMetaUri, kalliopeParentUri), rulesetUri);
+        assertEquals(2, results.size(), WRONG_NUMBER_MESSAGE);
+        assertEquals(getValidationResultByURI(TEST_META).getResultMessages(),
+            results.get(testMetaUri).getResultMessages(), WRONG_VALIDATION_MESSAGE);
+        assertEquals(State.WARNING, results.get(testMetaUri).getState(), WRONG_STATE_MESSAGE);
+        assertEquals(getValidationResultByURI(TEST_KALLIOPE_PARENT).getResultMessages(),
+            results.get(kalliopeParentUri).getResultMessages(), WRONG_VALIDATION_MESSAGE);
+        assertEquals(State.ERROR, results.get(kalliopeParentUri).getState(), WRONG_STATE_MESSAGE);
+    }
+
     @Test
     public void shouldValidateMetadataByWorkpieceAndWarnAboutMissingMediaAndID() throws IOException, DAOException {
         URI metsUri = Paths.get(TEST_META).toUri();
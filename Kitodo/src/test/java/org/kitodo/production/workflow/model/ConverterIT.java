@@ -13,9 +13,14 @@ package org.kitodo.production.workflow.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -92,6 +97,24 @@ public class ConverterIT {
         assertTrue(tasks.get(4).isLast(), "Process definition - workflow's task last property were determined incorrectly!");
     }
 
+    @Test
+    public void shouldReuseWorkflowUntilDiagramChanges() throws Exception {
+        WorkflowModelCache.CachedWorkflow workflow = WorkflowModelCache.get("gateway-test1");
+        assertSame(workflow, WorkflowModelCache.get("gateway-test1"), "Unchanged workflow was read again!");
+        assertSame(workflow.getTasks(), workflow.getTasks(), "Tasks of workflow were read again!");
+
+        Path diagramPath = Reader.getDiagramPath("gateway-test1");
+        FileTime lastModified = Files.getLastModifiedTime(diagramPath);
+        try {
+            Files.setLastModifiedTime(diagramPath, FileTime.fromMillis(lastModified.toMillis() + 60_000));
+            WorkflowModelCache.CachedWorkflow changedWorkflow = WorkflowModelCache.get("gateway-test1");
+            assertNotSame(workflow, changedWorkflow, "Changed workflow was not read again!");
+            assertEquals(5, changedWorkflow.getTasks().size(), "Changed workflow was read incorrectly!");
+        } finally {
+            Files.setLastModifiedTime(diagramPath, lastModified);
+        }
+    }
+
     @Test
     public void shouldNotConvertConditionalWorkflowToTemplate() throws Exception {
         Converter converter = new Converter("gateway-test2");